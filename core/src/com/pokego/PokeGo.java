@@ -5,24 +5,48 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.pokego.leaderboard.LeaderboardService;
 import com.pokego.states.GameStateManager;
 import com.pokego.states.TitleState;
+import com.pokego.utility.GameAssetRegistry;
+import com.pokego.utility.FixedTimestep;
 import com.pokego.utility.GameAudioManager;
+import com.pokego.utility.GameDataCatalog;
+import com.pokego.utility.GameFontRegistry;
+import com.pokego.utility.SoundBank;
 import com.pokego.utility.Utility;
 
 /**
- * The main game class. Uses the GameStateManager to control States, GameAudioManager to control audio.
+ * The main game class. Uses the GameStateManager to control States, GameAudioManager to control music and the SoundBank to play sound effects. Game logic runs at a fixed tick rate with a FixedTimestep, separately from the frame rate of the monitor.
  */
 public class PokeGo extends ApplicationAdapter {
 	public static final int WIDTH = 1000;
 	public static final int HEIGHT = 800;
 	public static final String TITLE = "Poke Go";
+	public static final int DEFAULT_TICK_RATE = 60;
+	public static final int MAX_STEPS_PER_FRAME = 5;
 
 
 	private SpriteBatch batch;
 	private ShapeRenderer sr;
 	private GameStateManager gsm;
-	public static GameAudioManager m1, s1;
+	private FixedTimestep timestep;
+	public static GameAudioManager m1;
+
+	/**
+	 * Constructs the game with the default tick rate.
+	 */
+	public PokeGo() {
+		this(DEFAULT_TICK_RATE);
+	}
+
+	/**
+	 * Constructs the game.
+	 * @param tickRate Number of game logic steps per second.
+	 */
+	public PokeGo(int tickRate) {
+		timestep = new FixedTimestep(tickRate, MAX_STEPS_PER_FRAME);
+	}
 
 	/**
 	 * Creates the initial configuration of the game. Function is run once when the game is launched.
@@ -33,9 +57,14 @@ public class PokeGo extends ApplicationAdapter {
 		sr = new ShapeRenderer();
 		gsm = new GameStateManager();
 
-		//initialise sound to keep a global volume
-		s1 = new GameAudioManager();
+		// Parse Character and Move data once, so that no data files are read during the game
+		GameDataCatalog.getInstance();
+
+		// Open the scoreboard on its writer thread, so that it is ready before the first match ends
+		LeaderboardService.getInstance();
 
+		// Load every sound effect once, so that playing them never reads a file
+		SoundBank.getInstance().load();
 
 		// set initial looping music
 		m1 = new GameAudioManager();
@@ -52,22 +81,35 @@ public class PokeGo extends ApplicationAdapter {
 	}
 
 	/**
-	 * Updates and renders the current State in the GameStateManager. Function is run once every frame.
+	 * Updates and renders the current State in the GameStateManager. Function is run once every frame. Input is handled once per frame, then game logic catches up in fixed steps, then the State is rendered between the last two steps.
 	 */
 	@Override
 	public void render() {
 		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT); // Sets screen back to black
 		Utility.enableShapeRendererBlend();
-		gsm.update(Gdx.graphics.getDeltaTime());
-		gsm.render(batch, sr);
+
+		float dt = Gdx.graphics.getDeltaTime();
+		gsm.update(dt);
+		int steps = timestep.advance(dt);
+		for (int i = 0; i < steps; i++) {
+			gsm.fixedUpdate(timestep.getStep());
+		}
+		gsm.render(batch, sr, timestep.getAlpha());
+
 		Utility.disableShapeRendererBlend();
 	}
 
 	/**
-	 * Dispose the SpriteBatch after closing the game.
+	 * Dispose the SpriteBatch, shared textures, shared fonts and sound effects after closing the game. Waits until every recorded result is synced to disk.
 	 */
 	@Override
 	public void dispose () {
 		batch.dispose();
+		LeaderboardService.disposeInstance();
+		GameDataCatalog.getInstance().dispose();
+		GameAssetRegistry.getInstance().printStats();
+		GameAssetRegistry.getInstance().dispose();
+		GameFontRegistry.getInstance().dispose();
+		SoundBank.getInstance().dispose();
 	}
 }
@@ -3,9 +3,10 @@ package com.pokego.datamodel;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
+import com.pokego.utility.GameAssetRegistry;
 
 /**
- * GameAnimation is a wrapper object used to render animations. Each animation consists of a TextureRegion (the image file that you wish to render), the frameCount (number of frames in the animation), and cycleTime (how long each frame is displayed in seconds). Animations are found in the "./assets/animations" folder.
+ * GameAnimation is a wrapper object used to render animations. Each animation consists of a TextureRegion (the image file that you wish to render), the frameCount (number of frames in the animation), and cycleTime (how long each frame is displayed in seconds). The texture is shared by many animations. It is either acquired from the GameAssetRegistry by the animation, or held by whoever passed in the TextureRegion. Animations are found in the "./assets/animations" folder.
  */
 public class GameAnimation extends GameSpriteGroup {
     private Array<TextureRegion> frames;
@@ -17,6 +18,31 @@ public class GameAnimation extends GameSpriteGroup {
     private float width;
     private float height;
 
+    private String textureLocation; // Set if the texture was acquired from the GameAssetRegistry.
+
+    /**
+     * Constructs the GameAnimation object with a (x, y) position, from an image file acquired from the GameAssetRegistry.
+     * @param x The x position to display animation.
+     * @param y The y position to display animation.
+     * @param textureLocation Location of the image file to animate.
+     * @param frameCount The number of frames in the animation.
+     * @param cycleTime How long each frame is displayed in seconds.
+     */
+    public GameAnimation(int x, int y, String textureLocation, int frameCount, float cycleTime) {
+        this(x, y, GameAssetRegistry.getInstance().acquireRegion(textureLocation), frameCount, cycleTime);
+        this.textureLocation = textureLocation;
+    }
+
+    /**
+     * Constructs the GameAnimation object with a (0, 0) position, from an image file acquired from the GameAssetRegistry.
+     * @param textureLocation Location of the image file to animate.
+     * @param frameCount The number of frames in the animation.
+     * @param cycleTime How long each frame is displayed in seconds.
+     */
+    public GameAnimation(String textureLocation, int frameCount, float cycleTime) {
+        this(0, 0, textureLocation, frameCount, cycleTime);
+    }
+
     /**
      * Constructs the GameAnimation object with a (x, y) position.
      * @param x The x position to display animation.
@@ -95,13 +121,23 @@ public class GameAnimation extends GameSpriteGroup {
     }
 
     /**
-     * Frees up memory by disposing texture regions from SpriteBatch.
+     * Draw currently selected frame between the previous and the current fixed step.
+     * @param sb SpriteBatch
+     * @param alpha How far the time is into the next fixed step, between 0 and 1.
+     */
+    public void draw(SpriteBatch sb, float alpha) {
+        sb.draw(getFrame(), getX(alpha), getY(alpha), getWidth(), getHeight());
+    }
+
+    /**
+     * Frees up memory used by the animation. The texture is released to the GameAssetRegistry if the animation acquired it.
      */
     @Override
     public void dispose() {
-        // Dispose all texture regions
-        for(TextureRegion textureRegion : frames) {
-            textureRegion.getTexture().dispose();
+        frames.clear();
+        if (textureLocation != null) {
+            GameAssetRegistry.getInstance().release(textureLocation);
+            textureLocation = null;
         }
     }
 
@@ -2,8 +2,9 @@ package com.pokego.datamodel;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.pokego.PokeGo;
 import com.pokego.states.ButtonClass;
+import com.pokego.utility.SoundBank;
+import com.pokego.utility.SoundEffect;
 
 /**
  * GameButton is used to represent a clickable button. It contains a hovered and static GameSprite. When the mouse is hovered over the button, it will display the hovered state. Else, it displays the static state.
@@ -78,8 +79,7 @@ public class GameButton extends GameSprite{
         if(cursorX > getX() && cursorX < getX() + getWidth()) {
             if ((cursorY > getY()) && cursorY < (getY()+ getHeight())){
                 if (Enter == false){
-                    PokeGo.s1.setSound("./audio/hover.wav");
-                    PokeGo.s1.playSound();
+                    SoundBank.getInstance().play(SoundEffect.HOVER);
                     Enter = true;
                 }
                 return true;
@@ -103,8 +103,7 @@ public class GameButton extends GameSprite{
     public boolean clicked(float cursorX, float cursorY) {
         if (Gdx.input.justTouched()) {
             if (hovered(cursorX, cursorY)) {
-                PokeGo.s1.setSound("./audio/click.wav");
-                PokeGo.s1.playSound();
+                SoundBank.getInstance().play(SoundEffect.CLICK);
                 return true;
             }
         }
@@ -112,6 +111,15 @@ public class GameButton extends GameSprite{
         return false;
     }
 
+    /**
+     * Releases the textures of both button states.
+     */
+    @Override
+    public void dispose() {
+        super.dispose();
+        secondaryBtn.dispose();
+    }
+
     /**
      * Returns the type of button the GameButton is.
      * @return Returns the type of button the GameButton is.
@@ -86,6 +86,15 @@ public class GameCheckbox extends GameButton {
         return false;
     }
 
+    /**
+     * Releases the textures of all checkbox states.
+     */
+    @Override
+    public void dispose() {
+        super.dispose();
+        untickedSprite.dispose();
+    }
+
     /**
      * Gets the current status of checkbox (Ticked or unticked)
      * @return  Returns the current status of checkbox (Ticked or unticked)
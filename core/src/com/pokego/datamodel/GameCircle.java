@@ -39,13 +39,26 @@ public class GameCircle extends GameShapeGroup {
      */
     @Override
     public void draw(ShapeRenderer sr) {
-        Utility.enableShapeRendererBlend();
-        sr.begin(ShapeRenderer.ShapeType.Filled);
+        // Add to the current pass if there is one
+        if (sr.isDrawing()) {
+            drawFilled(sr);
+            return;
+        }
+
+        Utility.beginShapes(sr);
+        drawFilled(sr);
+        Utility.endShapes(sr);
+    }
+
+    /**
+     * Draws the border and inner circle into the current ShapeRenderer pass.
+     * @param sr ShapeRenderer
+     */
+    private void drawFilled(ShapeRenderer sr) {
+        sr.set(ShapeRenderer.ShapeType.Filled);
         drawBorder(sr);
         sr.setColor(color);
         sr.circle(getX(), getY(), radius - (borderThickness / 2));
-        sr.end();
-        Utility.disableShapeRendererBlend();
     }
 
     /**
@@ -0,0 +1,311 @@
+package com.pokego.datamodel;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Vector2;
+
+import java.util.List;
+
+/**
+ * GameListWidget represents a scrollable list of text rows in a GameRectangle. The list is virtualized: only the visible rows are read from the ListDataSource, one page at a time, and only when the list scrolls or is refreshed, so drawing a frame costs the same however many rows the list has.
+ * The widget keeps one GameText per visible row and recycles them while scrolling. Row r is always shown by the GameText at r % visibleRows, so scrolling by one row only lays out the row that comes into view.
+ */
+public class GameListWidget implements IMovable {
+    public static final float DEFAULT_PADDING = 20f;
+
+    private Vector2 position;
+    private GameRectangle rectangle;
+    private float padding;
+    private float breadth;
+    private float length;
+    private float rowHeight;
+
+    private ListDataSource dataSource;
+    private int rowCount;
+    private int firstRow;
+    private int visibleRows;
+
+    private GameText header;
+    private GameText[] rowTexts; // Recycled row objects, row r is shown by rowTexts[r % visibleRows].
+    private int[] boundRows; // Row shown by each row object, -1 if none.
+
+    /**
+     * Constructs an empty GameListWidget at position (0,0) with a default padding.
+     * @param breadth The breadth of the GameListWidget.
+     * @param length The length of the GameListWidget.
+     * @param visibleRows Number of rows shown at once, below the header.
+     * @param textScale Size of the text of every row.
+     */
+    public GameListWidget(float breadth, float length, int visibleRows, float textScale) {
+        position = new Vector2(0, 0);
+        this.breadth = breadth;
+        this.length = length;
+        this.visibleRows = Math.max(1, visibleRows);
+        padding = DEFAULT_PADDING;
+        rowHeight = (breadth - padding - padding) / (this.visibleRows + 1);
+
+        rectangle = new GameRectangle(breadth, length, 10f);
+
+        header = new GameText();
+        header.scale(textScale);
+        rowTexts = new GameText[this.visibleRows];
+        boundRows = new int[this.visibleRows];
+        for (int i = 0; i < this.visibleRows; i++) {
+            rowTexts[i] = new GameText();
+            rowTexts[i].scale(textScale);
+            boundRows[i] = -1;
+        }
+        reposition(0, 0);
+    }
+
+    /**
+     * Sets the ListDataSource of the list, and scrolls back to the first row.
+     * @param dataSource ListDataSource giving the rows.
+     */
+    public void setDataSource(ListDataSource dataSource) {
+        this.dataSource = dataSource;
+        firstRow = 0;
+        refresh();
+    }
+
+    /**
+     * Reads the number of rows and the visible rows again from the ListDataSource, when its rows have changed.
+     */
+    public void refresh() {
+        if (dataSource == null) {
+            return;
+        }
+        header.setText(dataSource.getHeader());
+        rowCount = Math.max(0, dataSource.getRowCount());
+        for (int i = 0; i < visibleRows; i++) {
+            boundRows[i] = -1;
+        }
+        firstRow = clampFirstRow(firstRow);
+        bindVisibleRows();
+    }
+
+    /**
+     * Scrolls the list by a number of rows.
+     * @param rows Number of rows to scroll, positive to scroll down.
+     */
+    public void scrollBy(int rows) {
+        scrollTo(firstRow + rows);
+    }
+
+    /**
+     * Scrolls the list so that a row is the first visible row, as far as the list allows.
+     * @param row Index of the row.
+     */
+    public void scrollTo(int row) {
+        int newFirstRow = clampFirstRow(row);
+        if (newFirstRow == firstRow) {
+            return;
+        }
+        firstRow = newFirstRow;
+        bindVisibleRows();
+    }
+
+    /**
+     * Scrolls up by one page of visible rows.
+     */
+    public void pageUp() {
+        scrollBy(-visibleRows);
+    }
+
+    /**
+     * Scrolls down by one page of visible rows.
+     */
+    public void pageDown() {
+        scrollBy(visibleRows);
+    }
+
+    /**
+     * Helper function to keep the first visible row inside the list.
+     * @param row Index of the row.
+     * @return Returns the index of the row, between 0 and the last full page.
+     */
+    private int clampFirstRow(int row) {
+        return Math.max(0, Math.min(row, rowCount - visibleRows));
+    }
+
+    /**
+     * Helper function to show the visible rows. Only the rows not shown yet are read from the ListDataSource, as one page, and laid out.
+     */
+    private void bindVisibleRows() {
+        int lastRow = Math.min(rowCount, firstRow + visibleRows) - 1;
+
+        // The rows coming into view are always next to each other, at the top or the bottom.
+        int firstMissing = -1;
+        int lastMissing = -1;
+        for (int row = firstRow; row <= lastRow; row++) {
+            if (boundRows[row % visibleRows] != row) {
+                if (firstMissing == -1) {
+                    firstMissing = row;
+                }
+                lastMissing = row;
+            }
+        }
+
+        if (firstMissing != -1) {
+            List<String> page = dataSource.getRows(firstMissing, lastMissing - firstMissing + 1);
+            for (int row = firstMissing; row <= lastMissing; row++) {
+                int slot = row % visibleRows;
+                int index = row - firstMissing;
+                rowTexts[slot].setText(index < page.size() ? page.get(index) : "");
+                boundRows[slot] = row;
+            }
+        }
+        positionRows();
+    }
+
+    /**
+     * Helper function to move the header and every visible row to its line in the widget.
+     */
+    private void positionRows() {
+        float top = getY() + breadth - padding;
+        header.reposition(getX() + padding, top);
+        for (int row = firstRow; row < Math.min(rowCount, firstRow + visibleRows); row++) {
+            rowTexts[row % visibleRows].reposition(getX() + padding, top - (row - firstRow + 1) * rowHeight);
+        }
+    }
+
+    /**
+     * Gets the index of the first visible row.
+     * @return Returns the index of the first visible row.
+     */
+    public int getFirstRow() {
+        return firstRow;
+    }
+
+    /**
+     * Gets the number of rows shown at once.
+     * @return Returns the number of rows shown at once.
+     */
+    public int getVisibleRows() {
+        return visibleRows;
+    }
+
+    /**
+     * Gets the number of rows in the list, as of the last refresh.
+     * @return Returns the number of rows in the list.
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Gets the x position of the GameListWidget
+     * @return Returns the x position of the GameListWidget
+     */
+    public float getX() {
+        return position.x;
+    }
+
+    /**
+     * Gets the y position of the GameListWidget
+     * @return Returns the y position of the GameListWidget
+     */
+    public float getY() {
+        return position.y;
+    }
+
+    /**
+     * Gets the width of the GameListWidget.
+     * @return Returns the width of the GameListWidget.
+     */
+    public float getWidth() {
+        return length;
+    }
+
+    /**
+     * Gets the height of the GameListWidget.
+     * @return Returns the height of the GameListWidget.
+     */
+    public float getHeight() {
+        return breadth;
+    }
+
+    /**
+     * Repositions the object from any point to the point (x, y).
+     * @param x The distance of the point along the x-axis
+     * @param y The distance of the point along the y-axis
+     */
+    @Override
+    public void reposition(float x, float y) {
+        position.x = Math.max(0, x);
+        position.y = Math.max(0, y);
+        rectangle.reposition(getX(), getY());
+        positionRows();
+    }
+
+    /**
+     * Moves the object to the right by a specified amount.
+     * @param amount The amount to move the point along the x-axis by
+     */
+    @Override
+    public void moveRight(int amount) {
+        reposition(getX() + amount, getY());
+    }
+
+    /**
+     * Moves the object to the left by a specified amount.
+     * @param amount The amount to move the point along the x-axis by
+     */
+    @Override
+    public void moveLeft(int amount) {
+        reposition(getX() - amount, getY());
+    }
+
+    /**
+     * Moves the object up by a specified amount.
+     * @param amount The amount to move the point along the y-axis by
+     */
+    @Override
+    public void moveUp(int amount) {
+        reposition(getX(), getY() + amount);
+    }
+
+    /**
+     * Moves the object down by a specified amount.
+     * @param amount The amount to move the point along the y-axis by
+     */
+    @Override
+    public void moveDown(int amount) {
+        reposition(getX(), getY() - amount);
+    }
+
+    /**
+     * Sets the rectangle fill color of the GameListWidget.
+     * @param color The rectangle fill color of the GameListWidget.
+     */
+    public void setColor(Color color) {
+        rectangle.setColor(color);
+    }
+
+    /**
+     * Draw list widget using LibGDX's engine. Only the visible rows are drawn.
+     * @param sb SpriteBatch
+     * @param sr ShapeRenderer
+     */
+    public void draw(SpriteBatch sb, ShapeRenderer sr) {
+        rectangle.draw(sr);
+
+        sb.begin();
+        header.draw(sb);
+        for (int row = firstRow; row < Math.min(rowCount, firstRow + visibleRows); row++) {
+            rowTexts[row % visibleRows].draw(sb);
+        }
+        sb.end();
+    }
+
+    /**
+     * Frees up memory by disposing the GameTexts of the header and the rows.
+     */
+    public void dispose() {
+        header.dispose();
+        for (GameText rowText : rowTexts) {
+            rowText.dispose();
+        }
+    }
+}
@@ -5,13 +5,24 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.pokego.utility.Utility;
 
 /**
- * GameRectangle is used to represent a rendered rectangle. Rendered using LibGDX's ShapeRenderer. It contains 2 rectangle drawn on top of each other - the inner rectangle and the outer rectangle. The outer rectangle is used to represent the border of the rectangle.
+ * GameRectangle is used to represent a rendered rectangle. Rendered using LibGDX's ShapeRenderer. It contains 2 rectangle drawn on top of each other - the inner rectangle and the outer rectangle. The outer rectangle is used to represent the border of the rectangle. The geometry of both rectangles is computed only when the position or size changes, so drawing allocates nothing.
  */
 public class GameRectangle extends GameShapeGroup {
+    // Each rounded rectangle is made of 5 rectangles (x, y, width, height) and 4 arcs (centre x, centre y).
+    private final static int RECTS_SIZE = 5 * 4;
+    private final static int ARCS_SIZE = 4 * 2;
+    private final static float[] ARC_START_ANGLES = {180f, 270f, 0f, 90f};
+
     private float breadth;
     private float length;
     private float borderRadius;
 
+    private final float[] outerRects = new float[RECTS_SIZE];
+    private final float[] outerArcs = new float[ARCS_SIZE];
+    private final float[] innerRects = new float[RECTS_SIZE];
+    private final float[] innerArcs = new float[ARCS_SIZE];
+    private boolean geometryDirty = true;
+
     /**
      * Constructs the GameRectangle object at position (0, 0) using default color, default border color, default border thickness, default borderRadius and specified breadth and length.
      * @param breadth The breadth of the GameRectangle.
@@ -21,6 +32,7 @@ public class GameRectangle extends GameShapeGroup {
         super();
         this.breadth = breadth;
         this.length = length;
+        geometryDirty = true;
     }
 
     /**
@@ -62,46 +74,124 @@ public class GameRectangle extends GameShapeGroup {
     }
 
     /**
-     * Draw currently rendered GameRectangle using LibGDX's engine.
+     * Draw currently rendered GameRectangle using LibGDX's engine. If the ShapeRenderer is already drawing, the rectangle is added to the current pass.
      * @param sr ShapeRenderer
      */
     @Override
     public void draw(ShapeRenderer sr) {
-        Utility.enableShapeRendererBlend();
-        sr.begin(ShapeRenderer.ShapeType.Filled);
-        drawRoundedRectangle(sr); // draw outer rectangle
-
-        sr.setColor(Color.WHITE);
-        // draw inner rectangle
-        GameRectangle innerRect = new GameRectangle(breadth - borderThickness, length - borderThickness, color, color, 0, borderRadius);
-        innerRect.setColor(Color.WHITE);
-        innerRect.reposition(getX() + borderThickness/2, getY() + borderThickness/2);
-        innerRect.drawRoundedRectangle(sr);
-        sr.end();
-        Utility.disableShapeRendererBlend();
+        if (geometryDirty) {
+            computeGeometry();
+        }
+
+        // Add to the current pass if there is one
+        if (sr.isDrawing()) {
+            drawFilled(sr);
+            return;
+        }
+
+        Utility.beginShapes(sr);
+        drawFilled(sr);
+        Utility.endShapes(sr);
     }
 
     /**
-     * Draws a rounded rectangle using LibGDX's engine.
+     * Draws the outer (border) and inner rectangle into the current ShapeRenderer pass.
      * @param sr ShapeRenderer
      */
-    private void drawRoundedRectangle(ShapeRenderer sr) {
+    private void drawFilled(ShapeRenderer sr) {
+        sr.set(ShapeRenderer.ShapeType.Filled);
+
         sr.setColor(borderColor);
+        drawRoundedRectangle(sr, outerRects, outerArcs);
+
+        sr.setColor(color);
+        drawRoundedRectangle(sr, innerRects, innerArcs);
+    }
+
+    /**
+     * Draws a precomputed rounded rectangle using LibGDX's engine.
+     * @param sr ShapeRenderer
+     * @param rects The 5 precomputed rectangles.
+     * @param arcs The 4 precomputed arc centres.
+     */
+    private void drawRoundedRectangle(ShapeRenderer sr, float[] rects, float[] arcs) {
+        for (int i = 0; i < RECTS_SIZE; i += 4) {
+            sr.rect(rects[i], rects[i + 1], rects[i + 2], rects[i + 3]);
+        }
+        for (int i = 0; i < ARCS_SIZE; i += 2) {
+            sr.arc(arcs[i], arcs[i + 1], borderRadius, ARC_START_ANGLES[i / 2], 90f);
+        }
+    }
+
+    /**
+     * Helper function to compute the geometry of the outer and inner rectangle.
+     */
+    private void computeGeometry() {
+        computeRoundedRectangle(getX(), getY(), length, breadth, outerRects, outerArcs);
+
+        // Inner rectangle is inset by half the border thickness, and clamped to the screen like reposition().
+        float innerX = Math.max(0, getX() + borderThickness/2);
+        float innerY = Math.max(0, getY() + borderThickness/2);
+        computeRoundedRectangle(innerX, innerY, length - borderThickness, breadth - borderThickness, innerRects, innerArcs);
+
+        geometryDirty = false;
+    }
+
+    /**
+     * Helper function to compute the rectangles and arc centres of a rounded rectangle.
+     * @param x The x position of the rounded rectangle.
+     * @param y The y position of the rounded rectangle.
+     * @param length The length of the rounded rectangle.
+     * @param breadth The breadth of the rounded rectangle.
+     * @param rects Array to store the 5 rectangles in.
+     * @param arcs Array to store the 4 arc centres in.
+     */
+    private void computeRoundedRectangle(float x, float y, float length, float breadth, float[] rects, float[] arcs) {
+        float r = borderRadius;
 
         // main rectangle
-        sr.rect(getX() + borderRadius, getY() + borderRadius, getLength() - 2*borderRadius, getBreadth() - 2*borderRadius);
+        setRect(rects, 0, x + r, y + r, length - 2*r, breadth - 2*r);
 
         // side rectangles, clockwise
-        sr.rect(getX() + borderRadius, getY(), getLength() - 2*borderRadius, borderRadius);
-        sr.rect(getX() + getLength() - borderRadius, getY() + borderRadius, borderRadius, getBreadth() - 2*borderRadius);
-        sr.rect(getX() + borderRadius, getY() + getBreadth() - borderRadius, getLength() - 2*borderRadius, borderRadius);
-        sr.rect(getX(), getY() + borderRadius, borderRadius, getBreadth() - 2*borderRadius);
+        setRect(rects, 1, x + r, y, length - 2*r, r);
+        setRect(rects, 2, x + length - r, y + r, r, breadth - 2*r);
+        setRect(rects, 3, x + r, y + breadth - r, length - 2*r, r);
+        setRect(rects, 4, x, y + r, r, breadth - 2*r);
 
         // arches, clockwise
-        sr.arc(getX() + borderRadius, getY() + borderRadius, borderRadius, 180f, 90f);
-        sr.arc(getX() + getLength() - borderRadius, getY() + borderRadius, borderRadius, 270f, 90f);
-        sr.arc(getX() + getLength() - borderRadius, getY() + getBreadth() - borderRadius, borderRadius, 0f, 90f);
-        sr.arc(getX() + borderRadius, getY() + getBreadth() - borderRadius, borderRadius, 90f, 90f);
+        arcs[0] = x + r;
+        arcs[1] = y + r;
+        arcs[2] = x + length - r;
+        arcs[3] = y + r;
+        arcs[4] = x + length - r;
+        arcs[5] = y + breadth - r;
+        arcs[6] = x + r;
+        arcs[7] = y + breadth - r;
+    }
+
+    /**
+     * Helper function to store a rectangle in a geometry array.
+     * @param rects Geometry array.
+     * @param index Index of the rectangle.
+     * @param x The x position of the rectangle.
+     * @param y The y position of the rectangle.
+     * @param width The width of the rectangle.
+     * @param height The height of the rectangle.
+     */
+    private static void setRect(float[] rects, int index, float x, float y, float width, float height) {
+        int i = index * 4;
+        rects[i] = x;
+        rects[i + 1] = y;
+        rects[i + 2] = width;
+        rects[i + 3] = height;
+    }
+
+    /**
+     * Marks the geometry to be recomputed before the next draw.
+     */
+    @Override
+    protected void geometryChanged() {
+        geometryDirty = true;
     }
 
     /**
@@ -118,6 +208,7 @@ public class GameRectangle extends GameShapeGroup {
      */
     public void setBreadth(float breadth) {
         this.breadth = breadth;
+        geometryDirty = true;
     }
 
     /**
@@ -134,6 +225,7 @@ public class GameRectangle extends GameShapeGroup {
      */
     public void setLength(float length) {
         this.length = length;
+        geometryDirty = true;
     }
 
     /**
@@ -142,5 +234,6 @@ public class GameRectangle extends GameShapeGroup {
      */
     public void setBorderRadius(float borderRadius) {
         this.borderRadius = borderRadius;
+        geometryDirty = true;
     }
 }
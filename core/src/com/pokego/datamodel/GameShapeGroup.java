@@ -6,7 +6,7 @@ import com.badlogic.gdx.math.Vector2;
 import com.pokego.PokeGo;
 
 /**
- * Classes that inherit from GameShapeGroup uses LibGDX's ShapeRenderer to draw them. It also specifies default colors, border colors, and border thickness of the different shapes to be rendered.
+ * Classes that inherit from GameShapeGroup uses LibGDX's ShapeRenderer to draw them. It also specifies default colors, border colors, and border thickness of the different shapes to be rendered. If the ShapeRenderer is already drawing when draw() is called, the shape is added to the current pass, so that all shapes of a frame can be drawn between a single Utility.beginShapes() and Utility.endShapes().
  */
 public abstract class GameShapeGroup implements IMovable {
     public final static Color DEFAULT_COLOR = Color.WHITE;
@@ -52,6 +52,7 @@ public abstract class GameShapeGroup implements IMovable {
     public void reposition(float x, float y) {
         position.x = Math.max(0, x);
         position.y = Math.max(0, y);
+        geometryChanged();
     }
 
     /**
@@ -61,6 +62,7 @@ public abstract class GameShapeGroup implements IMovable {
     @Override
     public void moveRight(int amount) {
         position.x = Math.min(PokeGo.WIDTH, position.x + amount);
+        geometryChanged();
     }
 
     /**
@@ -70,6 +72,7 @@ public abstract class GameShapeGroup implements IMovable {
     @Override
     public void moveLeft(int amount) {
         position.x = Math.max(0, position.x - amount);
+        geometryChanged();
     }
 
     /**
@@ -79,6 +82,7 @@ public abstract class GameShapeGroup implements IMovable {
     @Override
     public void moveUp(int amount) {
         position.y = Math.min(PokeGo.HEIGHT, position.y + amount);
+        geometryChanged();
     }
 
     /**
@@ -88,6 +92,13 @@ public abstract class GameShapeGroup implements IMovable {
     @Override
     public void moveDown(int amount) {
         position.y = Math.max(0, position.y - amount);
+        geometryChanged();
+    }
+
+    /**
+     * Called whenever the position or size of the shape changes. Shapes that precompute their geometry override this to recompute it before the next draw.
+     */
+    protected void geometryChanged() {
     }
 
     /**
@@ -152,5 +163,6 @@ public abstract class GameShapeGroup implements IMovable {
      */
     public void setBorderThickness(int borderThickness) {
         this.borderThickness = borderThickness;
+        geometryChanged();
     }
 }
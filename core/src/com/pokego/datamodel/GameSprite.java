@@ -3,12 +3,14 @@ package com.pokego.datamodel;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.pokego.utility.GameAssetRegistry;
 
 /**
- * GameSprite is a wrapper object used to render sprites. It incorporates LibGDX's Texture and Sprite class to render sprites to the screen. Sprite paths are found in the "./assets" folder.
+ * GameSprite is a wrapper object used to render sprites. It incorporates LibGDX's Texture and Sprite class to render sprites to the screen. Images are acquired from the GameAssetRegistry as regions of the packed texture atlas, so GameSprites of the same path share one texture and different sprites can be drawn without switching textures. Sprite paths are found in the "./assets" folder.
  */
 public class GameSprite extends GameSpriteGroup {
-    private Texture texture;
+    private TextureRegion region;
     private Sprite sprite;
     private String textureLocation;
     private float width;
@@ -17,6 +19,8 @@ public class GameSprite extends GameSpriteGroup {
     private float scaleX;
     private float scaleY;
 
+    private boolean acquired; // True while the image is held from the GameAssetRegistry.
+
     /**
      * Constructs the GameSprite with a (0,0) position.
      * @param textureLocation Location of sprite to render.
@@ -32,10 +36,30 @@ public class GameSprite extends GameSpriteGroup {
      * @param textureLocation Location of sprite to render.
      */
     public GameSprite(int x, int y, String textureLocation) {
-        super(x, y);
+        this(x, y, GameAssetRegistry.getInstance().acquireRegion(textureLocation), true);
         this.textureLocation = textureLocation;
-        texture = new Texture(textureLocation);
-        sprite = new Sprite(texture);
+    }
+
+    /**
+     * Constructs the GameSprite with a (0,0) position, using a region held by another object. The region is not released by the GameSprite.
+     * @param region Shared region to render.
+     */
+    public GameSprite(TextureRegion region) {
+        this(0, 0, region, false);
+    }
+
+    /**
+     * Helper constructor to create the GameSprite from a region.
+     * @param x The x position to display sprite.
+     * @param y The y position to display sprite.
+     * @param region Region to render, either a whole texture or a region of the texture atlas.
+     * @param acquired True if the region was acquired from the GameAssetRegistry, and must be released by the GameSprite.
+     */
+    private GameSprite(int x, int y, TextureRegion region, boolean acquired) {
+        super(x, y);
+        this.region = region;
+        this.acquired = acquired;
+        sprite = new Sprite(region);
 
         width = sprite.getWidth();
         height = sprite.getHeight();
@@ -61,11 +85,14 @@ public class GameSprite extends GameSpriteGroup {
     }
 
     /**
-     * Frees up memory by disposing sprites from SpriteBatch.
+     * Releases the image back to the GameAssetRegistry. Calling dispose more than once has no further effect.
      */
     @Override
     public void dispose() {
-        texture.dispose();
+        if (acquired) {
+            GameAssetRegistry.getInstance().release(textureLocation);
+            acquired = false;
+        }
     }
 
     /**
@@ -112,11 +139,19 @@ public class GameSprite extends GameSpriteGroup {
     }
 
     /**
-     * Gets the Texture object of the GameSprite
+     * Gets the Texture object of the GameSprite. If the image was packed, this is the whole atlas page.
      * @return Returns the Texture object of the GameSprite
      */
     public Texture getTexture() {
-        return texture;
+        return region.getTexture();
+    }
+
+    /**
+     * Gets the TextureRegion of the GameSprite
+     * @return Returns the TextureRegion of the GameSprite
+     */
+    public TextureRegion getRegion() {
+        return region;
     }
 
     /**
@@ -5,11 +5,12 @@ import com.badlogic.gdx.math.Vector2;
 import com.pokego.PokeGo;
 
 /**
- * Classes that inherit from GameSpriteGroup uses LibGDX's SpriteBatch to draw them.
+ * Classes that inherit from GameSpriteGroup uses LibGDX's SpriteBatch to draw them. Objects moved by fixed logic steps can store their previous position, so that they can be drawn between the last two steps.
  */
 public abstract class GameSpriteGroup implements IMovable {
     private float scale = 1f;
     private Vector2 position;
+    private Vector2 previousPosition;
 
     /**
      * Creates GameShapeGroup object at position (x,y).
@@ -18,6 +19,7 @@ public abstract class GameSpriteGroup implements IMovable {
      */
     public GameSpriteGroup(int x, int y) {
         position = new Vector2(x, y);
+        previousPosition = new Vector2(x, y);
     }
 
     /**
@@ -29,6 +31,14 @@ public abstract class GameSpriteGroup implements IMovable {
     public void reposition(float x, float y) {
         position.x = Math.max(0, x);
         position.y = Math.max(0, y);
+        previousPosition.set(position);
+    }
+
+    /**
+     * Stores the current position as the position of the previous fixed step. Called before moving the object in a fixed step.
+     */
+    public void storePreviousPosition() {
+        previousPosition.set(position);
     }
 
     /**
@@ -83,6 +93,24 @@ public abstract class GameSpriteGroup implements IMovable {
         return position.y;
     }
 
+    /**
+     * Gets the x position of the GameSpriteGroup between the previous and the current fixed step.
+     * @param alpha How far the time is into the next fixed step, between 0 and 1.
+     * @return Returns the interpolated x position of the GameSpriteGroup
+     */
+    public float getX(float alpha) {
+        return previousPosition.x + (position.x - previousPosition.x) * alpha;
+    }
+
+    /**
+     * Gets the y position of the GameSpriteGroup between the previous and the current fixed step.
+     * @param alpha How far the time is into the next fixed step, between 0 and 1.
+     * @return Returns the interpolated y position of the GameSpriteGroup
+     */
+    public float getY(float alpha) {
+        return previousPosition.y + (position.y - previousPosition.y) * alpha;
+    }
+
     /**
      * Gets the scale of the GameSpriteGroup
      * @return Returns the scale of the GameSpriteGroup
@@ -1,14 +1,16 @@
 package com.pokego.datamodel;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Align;
 import com.pokego.utility.Font;
+import com.pokego.utility.GameFontRegistry;
 
 /**
- * GameText represents text that is rendered by LibGDX's engine. The GameText is implemented using BitmapFonts and GlyphLayouts. The available fonts are specified by the Font enum. Font paths are found in the "./assets/fonts" folder. New .fnt files can be generated using Hiero.
+ * GameText represents text that is rendered by LibGDX's engine. The GameText is implemented using BitmapFonts, BitmapFontCaches and GlyphLayouts. The BitmapFont of each Font is shared through the GameFontRegistry, while the scale and color of each GameText are kept in its own BitmapFontCache. The available fonts are specified by the Font enum. Font paths are found in the "./assets/fonts" folder. New .fnt files can be generated using Hiero.
  */
 public class GameText extends GameSpriteGroup {
     public final static Font DEFAULT_FONT = Font.VERDANA;
@@ -18,12 +20,20 @@ public class GameText extends GameSpriteGroup {
 
     private Font font;
     private Color color;
-    private float scale;
+    private float scaleX;
+    private float scaleY;
 
-    private BitmapFont bmFont;
-    private String fontPath;
+    private BitmapFont bmFont; // Shared font, always kept at a scale of 1.
+    private BitmapFontCache cache; // Glyphs of the text, with this GameText's scale and color.
     private GlyphLayout layout;
 
+    // Layout the cache was built with, rebuilt when any of them change.
+    private boolean cacheDirty;
+    private float cacheTargetWidth;
+    private int cacheAlignment;
+    private boolean cacheWrap;
+    private int glyphCount; // Number of glyphs laid out in the cache.
+
     /**
      * Constructs the GameText with a (0,0) position. Uses the default font and default font color.
      */
@@ -60,18 +70,16 @@ public class GameText extends GameSpriteGroup {
         super(x, y);
         this.text = "";
         this.color = color;
-        this.scale = scale;
+        this.scaleX = scale;
+        this.scaleY = scale;
         this.font = font;
 
-        // Link font to .ttf file in assets folder
-        setFontPath(font);
-
-        // Create LibGDX font objects
-        bmFont = new BitmapFont(Gdx.files.internal(fontPath));
+        // Get shared font, create per-instance LibGDX font objects
+        bmFont = GameFontRegistry.getInstance().getFont(font);
+        cache = new BitmapFontCache(bmFont, bmFont.usesIntegerPositions());
         layout = new GlyphLayout();
 
-        bmFont.setColor(color);
-
+        cacheDirty = true;
     }
 
     /**
@@ -80,7 +88,7 @@ public class GameText extends GameSpriteGroup {
      */
     @Override
     public void draw(SpriteBatch sb) {
-        bmFont.draw(sb, text, getX(), getY());
+        draw(sb, 0, Align.left, false);
     }
 
     /**
@@ -93,15 +101,70 @@ public class GameText extends GameSpriteGroup {
     public void draw(SpriteBatch sb, float targetWidth, int alignment, boolean wrap) {
         // Use Align util to set alignment
         // Target width = text width until wrap
-        bmFont.draw(sb, text, getX(), getY(), targetWidth, alignment, wrap);
+        layout(targetWidth, alignment, wrap);
+        cache.setPosition(getX(), getY());
+        cache.draw(sb);
+    }
+
+    /**
+     * Draws only the first glyphs of the text, with specific alignment. Used to reveal text one glyph at a time from the cached layout.
+     * @param sb SpriteBatch
+     * @param targetWidth How large the text grows before wrapping. To wrap at end of screen, put screen width.
+     * @param alignment Align left, center or right. Uses LibGDX's Align util.
+     * @param wrap Specifies whether to wrap text. True to wrap, False otherwise.
+     * @param visibleGlyphs Number of glyphs to draw, from the start of the text.
+     */
+    public void draw(SpriteBatch sb, float targetWidth, int alignment, boolean wrap, int visibleGlyphs) {
+        layout(targetWidth, alignment, wrap);
+        cache.setPosition(getX(), getY());
+        cache.draw(sb, 0, Math.min(visibleGlyphs, glyphCount));
     }
 
     /**
-     * Frees up memory by disposing sprites from SpriteBatch.
+     * Lays out the text with specific alignment, if it is not laid out that way already.
+     * @param targetWidth How large the text grows before wrapping.
+     * @param alignment Align left, center or right. Uses LibGDX's Align util.
+     * @param wrap Specifies whether to wrap text. True to wrap, False otherwise.
+     * @return Returns the number of glyphs in the layout. Spaces are glyphs, line breaks are not.
+     */
+    public int layout(float targetWidth, int alignment, boolean wrap) {
+        if (cacheDirty || targetWidth != cacheTargetWidth || alignment != cacheAlignment || wrap != cacheWrap) {
+            updateCache(targetWidth, alignment, wrap);
+        }
+        return glyphCount;
+    }
+
+    /**
+     * Helper function to lay out the glyphs of the text into the cache, using the scale and color of this GameText.
+     * @param targetWidth How large the text grows before wrapping.
+     * @param alignment Align left, center or right. Uses LibGDX's Align util.
+     * @param wrap Specifies whether to wrap text. True to wrap, False otherwise.
+     */
+    private void updateCache(float targetWidth, int alignment, boolean wrap) {
+        // Scale shared font only while laying out, then restore it for other GameTexts
+        bmFont.getData().setScale(scaleX, scaleY);
+        cache.setColor(color);
+        cache.setText(text, 0, 0, targetWidth, alignment, wrap);
+        bmFont.getData().setScale(1f);
+
+        // Each glyph is one quad of 20 vertex floats, on one of the font pages.
+        glyphCount = 0;
+        for (int page = 0; page < bmFont.getRegions().size; page++) {
+            glyphCount += cache.getVertexCount(page) / 20;
+        }
+
+        cacheTargetWidth = targetWidth;
+        cacheAlignment = alignment;
+        cacheWrap = wrap;
+        cacheDirty = false;
+    }
+
+    /**
+     * Frees up memory used by the GameText. The shared font is disposed by the GameFontRegistry.
      */
     @Override
     public void dispose() {
-        bmFont.dispose();
+        cache.clear();
     }
 
     /**
@@ -110,8 +173,7 @@ public class GameText extends GameSpriteGroup {
      */
     @Override
     public void scale(float scale) {
-        this.scale = scale;
-        bmFont.getData().setScale(scale);
+        scale(scale, scale);
     }
 
     /**
@@ -121,27 +183,9 @@ public class GameText extends GameSpriteGroup {
      */
     @Override
     public void scale(float scaleX, float scaleY) {
-        this.scale = scale;
-        bmFont.getData().setScale(scaleX, scaleY);
-    }
-
-    /**
-     * Helper function to set font path when constructing GameText.
-     * @param font
-     */
-    private void setFontPath(Font font) {
-        this.font = font;
-        switch(font) {
-            case VERDANA:
-                fontPath = "./fonts/verdana.fnt";
-                break;
-            case LUCIDA_SANS:
-                fontPath = "./fonts/lucida_sans.fnt";
-                break;
-            case NONE:
-                fontPath = "";
-                break;
-        }
+        this.scaleX = scaleX;
+        this.scaleY = scaleY;
+        cacheDirty = true;
     }
 
     /**
@@ -158,7 +202,10 @@ public class GameText extends GameSpriteGroup {
      */
     public void setText(String text) {
         this.text = text;
+        bmFont.getData().setScale(scaleX, scaleY);
         layout.setText(bmFont, text);
+        bmFont.getData().setScale(1f);
+        cacheDirty = true;
     }
 
     /**
@@ -175,7 +222,7 @@ public class GameText extends GameSpriteGroup {
      */
     public void setColor(Color color) {
         this.color = color;
-        bmFont.setColor(color);
+        cacheDirty = true;
     }
 
     /**
@@ -6,11 +6,12 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Align;
 import com.pokego.PokeGo;
+import com.pokego.utility.TweenTarget;
 
 /**
- * GameTextWidget represents a text box. It is made up of a GameRectangle and GameText. It also contains a padding element, allowing to pad the GameText in the GameRectangle. The text can also be set to scroll according to a scrolling duration.
+ * GameTextWidget represents a text box. It is made up of a GameRectangle and GameText. It also contains a padding element, allowing to pad the GameText in the GameRectangle. The text can also be set to scroll according to a scrolling duration. When scrolling, the full text is laid out once by setText(), and each frame only advances the number of visible glyphs. The scroll can also be played by a Timeline, as a TweenTarget whose value is the scroll progress from 0 to 1.
  */
-public class GameTextWidget implements IMovable {
+public class GameTextWidget implements IMovable, TweenTarget {
     public static final float DEFAULT_PADDING = 20f;
     public static final float DEFAULT_SCROLLING_DURATION = 4.5f;
 
@@ -32,6 +33,9 @@ public class GameTextWidget implements IMovable {
 
     private boolean scroll;
 
+    private int glyphCount; // Number of glyphs in the laid out text.
+    private int visibleGlyphs; // Number of glyphs currently revealed when scrolling.
+
     /**
      * Constructs a GameTextWidget at position (0,0) with a default padding and no scroll.
      * @param breadth The breadth of the GameTextWidget.
@@ -234,39 +238,45 @@ public class GameTextWidget implements IMovable {
     }
 
     /**
-     * Sets the text inside the GameTextWidget
+     * Sets the text inside the GameTextWidget. The text is laid out here once, scrolling only reveals more of it.
      * @param text The text of GameTextWidget
      */
     public void setText(String text) {
         timeElapsed = 0f;
+        this.text = text;
+        currText.setText(text);
+        currText.reposition(getX() + padding, (getY() + breadth - padding));
+
+        layoutText();
+    }
+
+    /**
+     * Helper function to lay out the full text once, and reveal it according to the time elapsed if scrolling.
+     */
+    private void layoutText() {
+        glyphCount = currText.layout(getTextWidth(), Align.left, true);
         if (scroll) {
-            this.text = text;
+            updateVisibleGlyphs();
         } else {
-            currText.setText(text);
-            currText.reposition(getX() + padding, (getY() + breadth - padding));
+            visibleGlyphs = glyphCount;
         }
     }
 
     /**
-     * Helper function to set current display text of GameTextWidget according to delta time.
+     * Helper function to set the number of visible glyphs according to the time elapsed.
      */
-    private void setDisplayText(String text) {
-        currText.setText(getDisplayText());
-        currText.reposition(getX() + padding, (getY() + breadth - padding));
+    private void updateVisibleGlyphs() {
+        // visible glyphs = (elapsedTime / duration) * glyphCount, at least the first glyph
+        float progressPrc = timeElapsed / scrollDuration;
+        visibleGlyphs = Math.min((int)(progressPrc * glyphCount) + 1, glyphCount);
     }
 
     /**
-     * Helper function to get current display text of GameTextWidget according to delta time.
+     * Helper function to get the width the text wraps at.
+     * @return Returns the width the text wraps at.
      */
-    private String getDisplayText() {
-        // curr output text index = (elapsedTime / duration) * strLen
-        float progressPrc = timeElapsed / scrollDuration;
-        int textIndexToDisplay = (int)(progressPrc * text.length());
-        if (textIndexToDisplay >= text.length() - 1) {
-            textIndexToDisplay = text.length() - 1;
-        }
-
-        return text.substring(0, textIndexToDisplay + 1);
+    private float getTextWidth() {
+        return rectangle.getLength() - padding - padding;
     }
 
     /**
@@ -284,6 +294,9 @@ public class GameTextWidget implements IMovable {
      */
     public void setTextScale(float scale) {
         currText.scale(scale);
+
+        // Wrapping may change with the scale, so lay out again
+        layoutText();
     }
 
     /**
@@ -292,8 +305,17 @@ public class GameTextWidget implements IMovable {
      */
     public void updateTextScroll(float dt) {
         incrementTimeElapsed(dt);
-        String textOut = getDisplayText();
-        setDisplayText(textOut);
+        updateVisibleGlyphs();
+    }
+
+    /**
+     * Sets the text scroll to a progress, when played by a Timeline.
+     * @param progress Scroll progress, from 0 to 1.
+     */
+    @Override
+    public void onTweenUpdate(float progress) {
+        timeElapsed = Math.max(0, Math.min(1, progress)) * scrollDuration;
+        updateVisibleGlyphs();
     }
 
     /**
@@ -301,7 +323,7 @@ public class GameTextWidget implements IMovable {
      * @return True if scroll has finished, False otherwise.
      */
     public boolean displayedFinish() {
-        return getDisplayText().equals(text);
+        return visibleGlyphs >= glyphCount;
     }
 
     /**
@@ -313,10 +335,30 @@ public class GameTextWidget implements IMovable {
         rectangle.draw(sr);
 
         sb.begin();
-        currText.draw(sb, rectangle.getLength() - padding - padding, Align.left, true);
+        drawText(sb);
         sb.end();
     }
 
+    /**
+     * Draw the text box of the widget into the current ShapeRenderer pass.
+     * @param sr ShapeRenderer
+     */
+    public void drawShapes(ShapeRenderer sr) {
+        rectangle.draw(sr);
+    }
+
+    /**
+     * Draw the text of the widget into the current SpriteBatch pass.
+     * @param sb SpriteBatch
+     */
+    public void drawText(SpriteBatch sb) {
+        if (scroll) {
+            currText.draw(sb, getTextWidth(), Align.left, true, visibleGlyphs);
+        } else {
+            currText.draw(sb, getTextWidth(), Align.left, true);
+        }
+    }
+
     /**
      * Gets GameText object.
      * @return Returns GameText object.
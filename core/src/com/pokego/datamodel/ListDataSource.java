@@ -0,0 +1,29 @@
+package com.pokego.datamodel;
+
+import java.util.List;
+
+/**
+ * The ListDataSource gives the rows of a GameListWidget one page at a time, so that the widget never reads more rows than it shows.
+ */
+public interface ListDataSource {
+
+    /**
+     * Gets the header row of the list.
+     * @return Returns the header row, drawn above the rows.
+     */
+    String getHeader();
+
+    /**
+     * Gets the number of rows in the list.
+     * @return Returns the number of rows in the list.
+     */
+    int getRowCount();
+
+    /**
+     * Gets a page of rows.
+     * @param offset Index of the first row of the page.
+     * @param limit Highest number of rows in the page.
+     * @return Returns up to limit rows, from the row at offset.
+     */
+    List<String> getRows(int offset, int limit);
+}
@@ -6,7 +6,8 @@ package com.pokego.errors;
 public enum Error {
     LONG_NAME(0, "Player name cannot be more than 25 characters."),
     FIELD_EMPTY(1, "Player name cannot be empty"),
-    FIELD_SAME(2, "Players cannot have the same name.");
+    FIELD_SAME(2, "Players cannot have the same name."),
+    NO_REPLAY(3, "There is no recorded match to replay.");
 
     private final int code;
     private final String description;
@@ -0,0 +1,63 @@
+package com.pokego.game.game_controller;
+
+import com.badlogic.gdx.Gdx;
+import com.pokego.game.game_engine.BattleEngine;
+
+/**
+ * The KeyboardController lets a local Player choose moves with 4 keys, one for each move slot. The last key pressed before the round ends is used.
+ */
+public class KeyboardController implements PlayerController {
+    private int[] keys; // Indexed by move slot.
+
+    /**
+     * Constructs the KeyboardController.
+     * @param fireKey Key of the fire Type move, from LibGDX's Input.Keys.
+     * @param waterKey Key of the water Type move.
+     * @param grassKey Key of the grass Type move.
+     * @param defenseKey Key of the DefenseMove.
+     */
+    public KeyboardController(int fireKey, int waterKey, int grassKey, int defenseKey) {
+        keys = new int[BattleEngine.MOVE_COUNT];
+        keys[BattleEngine.MOVE_FIRE] = fireKey;
+        keys[BattleEngine.MOVE_WATER] = waterKey;
+        keys[BattleEngine.MOVE_GRASS] = grassKey;
+        keys[BattleEngine.MOVE_DEFENSE] = defenseKey;
+    }
+
+    /**
+     * Nothing to prepare, moves are read from the keyboard.
+     * @param engine BattleEngine holding the current state of the battle.
+     * @param player BattleEngine.PLAYER_ONE or PLAYER_TWO, the side the controller plays.
+     */
+    @Override
+    public void startRound(BattleEngine engine, int player) {
+    }
+
+    /**
+     * Reads the keys pressed this frame.
+     * @return Returns the move slot of the key pressed this frame, BattleEngine.MOVE_NONE if none was pressed.
+     */
+    @Override
+    public int pollMove() {
+        for (int move = 0; move < keys.length; move++) {
+            if (Gdx.input.isKeyJustPressed(keys[move])) {
+                return move;
+            }
+        }
+        return BattleEngine.MOVE_NONE;
+    }
+
+    /**
+     * Nothing to stop, moves are read from the keyboard.
+     */
+    @Override
+    public void endRound() {
+    }
+
+    /**
+     * Nothing to dispose.
+     */
+    @Override
+    public void dispose() {
+    }
+}
@@ -0,0 +1,118 @@
+package com.pokego.game.game_controller;
+
+import com.pokego.game.game_engine.BattleEngine;
+import com.pokego.game.game_engine.MctsSearch;
+import com.pokego.states.GameState;
+import com.pokego.utility.GameRandom;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * The MctsController is a bot that chooses its moves with Monte Carlo Tree Search. Every round, a copy of the battle is searched on a background worker thread, so the render thread never waits: it only checks whether the search has finished. The search stops at its iteration budget or its time budget, whichever comes first, and the time budget is kept below GameState.TIME_BETWEEN_ROUNDS so that the move is ready before the round ends.
+ */
+public class MctsController implements PlayerController {
+    public final static int DEFAULT_MAX_ITERATIONS = 50000;
+    public final static float DEFAULT_TIME_BUDGET = GameState.TIME_BETWEEN_ROUNDS / 2;
+
+    private int maxIterations;
+    private float timeBudget;
+
+    private ExecutorService worker;
+    private MctsSearch search;
+    private Future<Integer> result;
+    private boolean moveCommitted;
+
+    /**
+     * Constructs the MctsController with the default budgets.
+     * @param seed Seed of the random playouts.
+     */
+    public MctsController(long seed) {
+        this(DEFAULT_MAX_ITERATIONS, DEFAULT_TIME_BUDGET, seed);
+    }
+
+    /**
+     * Constructs the MctsController.
+     * @param maxIterations Highest number of search iterations per round.
+     * @param timeBudget Highest search time per round in seconds, capped below GameState.TIME_BETWEEN_ROUNDS.
+     * @param seed Seed of the random playouts.
+     */
+    public MctsController(int maxIterations, float timeBudget, long seed) {
+        this.maxIterations = maxIterations;
+        this.timeBudget = Math.min(timeBudget, GameState.TIME_BETWEEN_ROUNDS * 0.9f);
+        search = new MctsSearch(maxIterations + 1, new GameRandom(seed));
+
+        worker = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "mcts-worker");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Starts searching a copy of the battle on the worker thread.
+     * @param engine BattleEngine holding the current state of the battle.
+     * @param player BattleEngine.PLAYER_ONE or PLAYER_TWO, the side the controller plays.
+     */
+    @Override
+    public void startRound(BattleEngine engine, final int player) {
+        endRound();
+        moveCommitted = false;
+
+        final BattleEngine root = new BattleEngine(engine);
+        final long deadline = System.nanoTime() + (long) (timeBudget * 1e9);
+        result = worker.submit(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                return search.search(root, player, maxIterations, deadline);
+            }
+        });
+    }
+
+    /**
+     * Checks whether the search has finished, without waiting for it.
+     * @return Returns the move slot found by the search the first time it is polled after finishing, BattleEngine.MOVE_NONE otherwise.
+     */
+    @Override
+    public int pollMove() {
+        if (moveCommitted || result == null || !result.isDone()) {
+            return BattleEngine.MOVE_NONE;
+        }
+
+        moveCommitted = true;
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        } catch (ExecutionException e) {
+            e.printStackTrace();
+        }
+        return BattleEngine.MOVE_NONE;
+    }
+
+    /**
+     * Stops the search if it is still running.
+     */
+    @Override
+    public void endRound() {
+        if (result != null && !result.isDone()) {
+            result.cancel(true);
+        }
+    }
+
+    /**
+     * Stops the worker thread.
+     */
+    @Override
+    public void dispose() {
+        endRound();
+        worker.shutdownNow();
+    }
+}
@@ -0,0 +1,32 @@
+package com.pokego.game.game_controller;
+
+import com.pokego.game.game_engine.BattleEngine;
+
+/**
+ * The PlayerController chooses the moves of one side of the GameState. The RoundStartPhase starts every round on both controllers, then polls them once every frame until the GameRoundTimer ends. A controller can be a local Player on the keyboard, or a bot.
+ */
+public interface PlayerController {
+
+    /**
+     * Called when a new round starts.
+     * @param engine BattleEngine holding the current state of the battle. Must not be changed, or kept after the call.
+     * @param player BattleEngine.PLAYER_ONE or PLAYER_TWO, the side the controller plays.
+     */
+    void startRound(BattleEngine engine, int player);
+
+    /**
+     * Called once every frame while the round is running. Must return immediately.
+     * @return Returns the move slot chosen since the last call, BattleEngine.MOVE_NONE if no new move was chosen.
+     */
+    int pollMove();
+
+    /**
+     * Called when the GameRoundTimer ends. Moves chosen after this call are ignored.
+     */
+    void endRound();
+
+    /**
+     * Frees up any resources held by the controller.
+     */
+    void dispose();
+}
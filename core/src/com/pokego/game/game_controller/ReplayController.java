@@ -0,0 +1,57 @@
+package com.pokego.game.game_controller;
+
+import com.pokego.game.game_engine.BattleEngine;
+import com.pokego.game.game_engine.MatchRecord;
+
+/**
+ * The ReplayController plays back the moves stored in a MatchRecord, so that a recorded match can be watched again in the GameState. The recorded move is chosen on the first frame of every round.
+ */
+public class ReplayController implements PlayerController {
+    private MatchRecord record;
+    private int move;
+
+    /**
+     * Constructs the ReplayController.
+     * @param record MatchRecord holding the recorded moves.
+     */
+    public ReplayController(MatchRecord record) {
+        this.record = record;
+        move = BattleEngine.MOVE_NONE;
+    }
+
+    /**
+     * Looks up the move recorded for the new round.
+     * @param engine BattleEngine holding the current state of the battle.
+     * @param player BattleEngine.PLAYER_ONE or PLAYER_TWO, the side the controller plays.
+     */
+    @Override
+    public void startRound(BattleEngine engine, int player) {
+        move = record.getMove(player, engine.getRound());
+    }
+
+    /**
+     * Gives the recorded move once.
+     * @return Returns the recorded move slot the first time it is polled in a round, BattleEngine.MOVE_NONE otherwise.
+     */
+    @Override
+    public int pollMove() {
+        int polledMove = move;
+        move = BattleEngine.MOVE_NONE;
+        return polledMove;
+    }
+
+    /**
+     * Nothing to stop, the move was given at the start of the round.
+     */
+    @Override
+    public void endRound() {
+        move = BattleEngine.MOVE_NONE;
+    }
+
+    /**
+     * Nothing to dispose.
+     */
+    @Override
+    public void dispose() {
+    }
+}
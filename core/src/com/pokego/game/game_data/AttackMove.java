@@ -1,27 +1,22 @@
 package com.pokego.game.game_data;
 
-import com.pokego.datamodel.GameAnimation;
 import com.pokego.game.game_ui.PlayerNumber;
 
 /**
- * AttackMoves are Moves which deal damage. Their damage blocked is set to 0.
+ * AttackMoves are Moves which deal damage. Their damage blocked is set to 0. Their animation flies towards the other Character at a fixed speed.
  */
 public class AttackMove extends Move {
     private final static MoveClass moveClass = MoveClass.ATTACK;
-    private int baseDamage;
-    private PlayerNumber castTowards;
+    private final static float ANIMATION_SPEED = 300f; // Pixels per second.
+
+    private float distanceLeft; // Distance not moved yet, the animation moves by whole pixels.
 
     /**
      * Constructs an AttackMove.
-     * @param name Name of AttackMove.
-     * @param moveType Type of AttackMove, defined by the Type enum.
-     * @param animation GameAnimation of AttackMove.
-     * @param baseDamage Base damage of AttackMove.
+     * @param definition MoveDefinition of the AttackMove.
      */
-    public AttackMove(String name, Type moveType, GameAnimation animation, int baseDamage) {
-        super(name, moveType, animation);
-        this.baseDamage = baseDamage;
-        castTowards = null;
+    public AttackMove(MoveDefinition definition) {
+        super(definition);
     }
 
     /**
@@ -39,79 +34,43 @@ public class AttackMove extends Move {
      */
     @Override
     public int getBaseDamage() {
-        return baseDamage;
-    }
-
-    /**
-     * Gets the player that the move is casted towards.
-     * @return Returns the player that the move is casted towards.
-     */
-    @Override
-    public PlayerNumber getCastTowards() {
-        return castTowards;
+        return definition.getBaseDamage();
     }
 
     /**
-     * Set the move to cast towards the specified player.
+     * Cast the move and start the animation from a whole pixel.
      * @param castTowards The specified player to cast the move towards.
      */
     @Override
-    public void setCastTowards(PlayerNumber castTowards) {
-        this.castTowards = castTowards;
-    }
-
-    /**
-     * Cast the move and start the animation. If move is casted towards player 1, flip the move.
-     * @param castTowards
-     */
-    @Override
     public void castMove(PlayerNumber castTowards) {
-        this.castTowards = castTowards;
-        // run once
-        System.out.printf("Player has casted %s.\n", getName());
-        animating = true;
-        if (this.castTowards == PlayerNumber.PLAYER_ONE) {
-            System.out.println("flipped");
-            animation.flip();
-        }
+        super.castMove(castTowards);
+        distanceLeft = 0;
     }
 
     /**
-     * Animate the move according to delta time.
-     * @param dt delta time
+     * Animate the move by one fixed step. The animation moves ANIMATION_SPEED pixels per second whatever the tick rate.
+     * @param dt Duration of the step.
      */
     @Override
     public void animate(float dt){
         if (animating) {
             animation.update(dt);
+            animation.storePreviousPosition();
+
+            distanceLeft += ANIMATION_SPEED * dt;
+            int distance = (int) distanceLeft;
+            distanceLeft -= distance;
 
             // move animation
             // If player one casts, move animation right, else move left
             if (castTowards == PlayerNumber.PLAYER_TWO) {
-                animation.moveRight(5);
+                animation.moveRight(distance);
             } else if (castTowards == PlayerNumber.PLAYER_ONE){
-                animation.moveLeft(5);
+                animation.moveLeft(distance);
             }
         }
     }
 
-    /**
-     * Returns whether the move is animating, if animating True, False otherwise.
-     * @return Returns whether the move is animating, if animating True, False otherwise.
-     */
-    @Override
-    public boolean isAnimating() {
-        return animating;
-    }
-
-    /**
-     * Stop the animation of the move.
-     */
-    @Override
-    public void stopAnimating() {
-        animating = false;
-    }
-
     /**
      * Get the move class, ie. Attack or Defense.
      * @return Returns the move class, ie. Attack or Defense.
@@ -2,43 +2,36 @@ package com.pokego.game.game_data;
 
 import com.pokego.datamodel.GameAnimation;
 import com.pokego.datamodel.GameSprite;
+import com.pokego.game.game_engine.BattleEngine;
 import com.pokego.game.game_ui.PlayerNumber;
 
 import java.util.ArrayList;
 
 /**
- * The Character is a creature in the game. It starts with some health points. When the HP reaches 0, it wil faint and be unusable thoroughout the rest of the game. It also comes with a specified type and 4 moves (3 attack, 1 defense). The image files of Characters can be found in the "./assets/characters" folder.
+ * The Character is a creature in the game. It starts with some health points. When the HP reaches 0, it wil faint and be unusable thoroughout the rest of the game. It also comes with a specified type and 4 moves (3 attack, 1 defense). The static data of the Character is held by a shared CharacterDefinition. The image files of Characters can be found in the "./assets/characters" folder.
  */
 public class Character implements ICollides {
-    public final static int CHARACTER_STARTING_HP = 100;
+    public final static int CHARACTER_STARTING_HP = BattleEngine.STARTING_HP;
 
-    private String name;
+    private CharacterDefinition definition;
     private GameSprite sprite;
-    private Type characterType;
     private int healthPoints;
     private ArrayList<Move> moves;
 
     /**
-     * Constructs a Character.
-     * @param name Name of Character.
-     * @param characterType Type of Character, specified by Type enum.
-     * @param spriteLocation Image file location of sprite. Found in the "./assets/characters" folder.
-     * @param fireMove The fire Type move of the Character.
-     * @param waterMove The water Type move of the Character.
-     * @param grassMove The grass Type move of the Character.
-     * @param defenseMove The DefenseMove of the Character.
+     * Constructs a Character from its CharacterDefinition. The sprite uses the shared texture of the CharacterDefinition, and a new Move is created for each MoveDefinition.
+     * @param definition CharacterDefinition of the Character.
      */
-    public Character(String name, Type characterType, String spriteLocation, Move fireMove, Move waterMove, Move grassMove, Move defenseMove) {
-        this.name = name;
-        this.characterType = characterType;
+    public Character(CharacterDefinition definition) {
+        this.definition = definition;
 
-        sprite = new GameSprite(spriteLocation);
+        sprite = new GameSprite(definition.getTextureRegion());
 
         moves = new ArrayList<Move>();
-        moves.add(fireMove);
-        moves.add(waterMove);
-        moves.add(grassMove);
-        moves.add(defenseMove);
+        moves.add(Move.create(definition.getFireMove()));
+        moves.add(Move.create(definition.getWaterMove()));
+        moves.add(Move.create(definition.getGrassMove()));
+        moves.add(Move.create(definition.getDefenseMove()));
 
         healthPoints = CHARACTER_STARTING_HP;
     }
@@ -56,7 +49,15 @@ public class Character implements ICollides {
      * @return Returns the name of the Character.
      */
     public String getName() {
-        return name;
+        return definition.getName();
+    }
+
+    /**
+     * Gets the CharacterDefinition of the Character.
+     * @return Returns the CharacterDefinition of the Character.
+     */
+    public CharacterDefinition getDefinition() {
+        return definition;
     }
 
     /**
@@ -72,7 +73,7 @@ public class Character implements ICollides {
      * @return Returns the Type of the Character.
      */
     public Type getCharacterType() {
-        return characterType;
+        return definition.getCharacterType();
     }
 
     /**
@@ -115,6 +116,30 @@ public class Character implements ICollides {
         return moves.get(3);
     }
 
+    /**
+     * Gets the move in a move slot, as used by the BattleEngine.
+     * @param moveSlot BattleEngine.MOVE_FIRE, MOVE_WATER, MOVE_GRASS or MOVE_DEFENSE.
+     * @return Returns the move in the move slot, null for BattleEngine.MOVE_NONE.
+     */
+    public Move getMove(int moveSlot) {
+        if (moveSlot == BattleEngine.MOVE_NONE) {
+            return null;
+        }
+        return moves.get(moveSlot);
+    }
+
+    /**
+     * Gets the move slot of one of the Character's moves, as used by the BattleEngine.
+     * @param move Move of the Character.
+     * @return Returns BattleEngine.MOVE_FIRE, MOVE_WATER, MOVE_GRASS or MOVE_DEFENSE, MOVE_NONE if the move is null or not one of the Character's moves.
+     */
+    public int getMoveSlot(Move move) {
+        if (move == null) {
+            return BattleEngine.MOVE_NONE;
+        }
+        return moves.indexOf(move);
+    }
+
     /**
      * Decrement the health points of the Character by a specified amount
      * @param amount amount of health points to decrement.
@@ -0,0 +1,127 @@
+package com.pokego.game.game_data;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.pokego.utility.GameAssetRegistry;
+
+/**
+ * A CharacterDefinition holds the static data of a Character, as read from the "./assets/data/characters.csv" file. Its moves are resolved to MoveDefinitions by the GameDataCatalog when the data is loaded. The sprite texture is loaded once on first use and shared by every Character created from this definition.
+ */
+public class CharacterDefinition {
+    private final int characterID;
+    private final String name;
+    private final Type characterType;
+    private final String spriteLocation;
+    private final MoveDefinition fireMove;
+    private final MoveDefinition waterMove;
+    private final MoveDefinition grassMove;
+    private final MoveDefinition defenseMove;
+
+    private TextureRegion textureRegion;
+
+    /**
+     * Constructs a CharacterDefinition.
+     * @param characterID ID of the Character in the .csv file.
+     * @param name Name of the Character.
+     * @param characterType Type of the Character, specified by the Type enum.
+     * @param spriteLocation Image file location of the sprite. Found in the "./assets/characters" folder.
+     * @param fireMove The fire Type move of the Character.
+     * @param waterMove The water Type move of the Character.
+     * @param grassMove The grass Type move of the Character.
+     * @param defenseMove The DefenseMove of the Character.
+     */
+    public CharacterDefinition(int characterID, String name, Type characterType, String spriteLocation, MoveDefinition fireMove, MoveDefinition waterMove, MoveDefinition grassMove, MoveDefinition defenseMove) {
+        this.characterID = characterID;
+        this.name = name;
+        this.characterType = characterType;
+        this.spriteLocation = spriteLocation;
+        this.fireMove = fireMove;
+        this.waterMove = waterMove;
+        this.grassMove = grassMove;
+        this.defenseMove = defenseMove;
+    }
+
+    /**
+     * Gets the ID of the Character.
+     * @return Returns the ID of the Character.
+     */
+    public int getCharacterID() {
+        return characterID;
+    }
+
+    /**
+     * Gets the name of the Character.
+     * @return Returns the name of the Character.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the Type of the Character.
+     * @return Returns the Type of the Character.
+     */
+    public Type getCharacterType() {
+        return characterType;
+    }
+
+    /**
+     * Gets the image file location of the sprite.
+     * @return Returns the image file location of the sprite.
+     */
+    public String getSpriteLocation() {
+        return spriteLocation;
+    }
+
+    /**
+     * Gets the fire Type move of the Character.
+     * @return Returns the fire Type move of the Character.
+     */
+    public MoveDefinition getFireMove() {
+        return fireMove;
+    }
+
+    /**
+     * Gets the water Type move of the Character.
+     * @return Returns the water Type move of the Character.
+     */
+    public MoveDefinition getWaterMove() {
+        return waterMove;
+    }
+
+    /**
+     * Gets the grass Type move of the Character.
+     * @return Returns the grass Type move of the Character.
+     */
+    public MoveDefinition getGrassMove() {
+        return grassMove;
+    }
+
+    /**
+     * Gets the DefenseMove of the Character.
+     * @return Returns the DefenseMove of the Character.
+     */
+    public MoveDefinition getDefenseMove() {
+        return defenseMove;
+    }
+
+    /**
+     * Gets the shared sprite TextureRegion of the Character. The region is acquired from the GameAssetRegistry on the first call.
+     * @return Returns the shared sprite TextureRegion of the Character.
+     */
+    public TextureRegion getTextureRegion() {
+        if (textureRegion == null) {
+            textureRegion = GameAssetRegistry.getInstance().acquireRegion(spriteLocation);
+        }
+        return textureRegion;
+    }
+
+    /**
+     * Releases the shared texture back to the GameAssetRegistry, if it was acquired.
+     */
+    public void dispose() {
+        if (textureRegion != null) {
+            GameAssetRegistry.getInstance().release(spriteLocation);
+            textureRegion = null;
+        }
+    }
+}
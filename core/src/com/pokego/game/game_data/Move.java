@@ -4,27 +4,48 @@ import com.pokego.datamodel.GameAnimation;
 import com.pokego.game.game_ui.PlayerNumber;
 
 /**
- * Defines the base class for a Move. Each character comes with a set of 4 moves, and they can either be AttackMove or DefenseMove. The move has a specific move type as well, and are made up of GameAnimations.
+ * Defines the base class for a Move. Each character comes with a set of 4 moves, and they can either be AttackMove or DefenseMove. The static data of the move is held by a shared MoveDefinition, while the Move itself only stores the state of the move in the current battle.
  */
 public abstract class Move {
-    protected String name;
-    protected Type moveType;
+    protected MoveDefinition definition;
     protected GameAnimation animation;
 
     protected boolean animating;
+    protected PlayerNumber castTowards;
 
     /**
-     * Constructs a Move, using a name, specified type, and GameAnimation.
-     * @param name Name of the move.
-     * @param moveType Type of the move, specified by the Type enum.
-     * @param animation GameAnimation of the move.
+     * Constructs a Move from its MoveDefinition. The GameAnimation is created from the shared texture of the MoveDefinition.
+     * @param definition MoveDefinition of the move.
      */
-    public Move(String name, Type moveType, GameAnimation animation) {
-        this.name = name;
-        this.moveType = moveType;
-        this.animation = animation;
+    public Move(MoveDefinition definition) {
+        this.definition = definition;
+        this.animation = new GameAnimation(definition.getTextureRegion(), definition.getFrameCount(), definition.getFrameDuration());
 
         animating = false;
+        castTowards = null;
+    }
+
+    /**
+     * Creates a new Move from a MoveDefinition, according to its move class.
+     * @param definition MoveDefinition of the move.
+     * @return Returns an AttackMove or DefenseMove, null if the move class is not supported.
+     */
+    public static Move create(MoveDefinition definition) {
+        switch (definition.getMoveClass()) {
+            case ATTACK:
+                return new AttackMove(definition);
+            case DEFENSE:
+                return new DefenseMove(definition);
+        }
+        return null;
+    }
+
+    /**
+     * Gets the MoveDefinition of the move.
+     * @return Returns the MoveDefinition of the move.
+     */
+    public MoveDefinition getDefinition() {
+        return definition;
     }
 
     /**
@@ -32,7 +53,7 @@ public abstract class Move {
      * @return Returns the name of the move.
      */
     public String getName(){
-        return name;
+        return definition.getName();
     }
 
     /**
@@ -40,7 +61,7 @@ public abstract class Move {
      * @return Returns the type of the move.
      */
     public Type getMoveType(){
-        return moveType;
+        return definition.getMoveType();
     }
 
     /**
@@ -51,13 +72,54 @@ public abstract class Move {
         return animation;
     }
 
-    abstract public void castMove(PlayerNumber castTowards);
+    /**
+     * Gets the player that the move is casted towards.
+     * @return Returns the player that the move is casted towards.
+     */
+    public PlayerNumber getCastTowards() {
+        return castTowards;
+    }
+
+    /**
+     * Set the move to cast towards the specified player.
+     * @param castTowards The specified player to cast the move towards.
+     */
+    public void setCastTowards(PlayerNumber castTowards) {
+        this.castTowards = castTowards;
+    }
+
+    /**
+     * Returns whether the move is animating, if animating True, False otherwise.
+     * @return Returns whether the move is animating, if animating True, False otherwise.
+     */
+    public boolean isAnimating() {
+        return animating;
+    }
+
+    /**
+     * Stop the animation of the move.
+     */
+    public void stopAnimating() {
+        animating = false;
+    }
+
+    /**
+     * Cast the move and start the animation. If move is casted towards player 1, flip the move.
+     * @param castTowards The specified player to cast the move towards.
+     */
+    public void castMove(PlayerNumber castTowards) {
+        this.castTowards = castTowards;
+        // run once
+        System.out.printf("Player has casted %s.\n", getName());
+        animating = true;
+        if (this.castTowards == PlayerNumber.PLAYER_ONE) {
+            System.out.println("flipped");
+            animation.flip();
+        }
+    }
+
     abstract public void animate(float dt);
-    abstract public boolean isAnimating();
-    abstract public void stopAnimating();
     abstract public MoveClass getMoveClass();
     abstract public int getBaseDamage();
     abstract public int getDamageBlocked();
-    abstract public PlayerNumber getCastTowards();
-    abstract public void setCastTowards(PlayerNumber castTowards);
 }
@@ -0,0 +1,149 @@
+package com.pokego.game.game_data;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.pokego.utility.GameAssetRegistry;
+
+/**
+ * A MoveDefinition holds the static data of a Move, as read from the "./assets/data/moves.csv" file. It is parsed once by the GameDataCatalog and never changes afterwards. The animation texture is loaded once on first use and shared by every Move created from this definition.
+ */
+public class MoveDefinition {
+    private final int moveID;
+    private final String name;
+    private final Type moveType;
+    private final MoveClass moveClass;
+    private final String spriteLocation;
+    private final int baseDamage;
+    private final int damageBlocked;
+    private final int pp;
+    private final int frameCount;
+    private final float frameDuration;
+
+    private TextureRegion textureRegion;
+
+    /**
+     * Constructs a MoveDefinition.
+     * @param moveID ID of the move in the .csv file.
+     * @param name Name of the move.
+     * @param moveType Type of the move, specified by the Type enum.
+     * @param moveClass Class of the move, specified by the MoveClass enum.
+     * @param spriteLocation Image file location of the move animation. Found in the "./assets/animations" folder.
+     * @param baseDamage Base damage of the move.
+     * @param damageBlocked Damage blocked by the move.
+     * @param pp Power points of the move.
+     * @param frameCount Number of frames in the move animation.
+     * @param frameDuration Duration of one full cycle of the move animation, in seconds.
+     */
+    public MoveDefinition(int moveID, String name, Type moveType, MoveClass moveClass, String spriteLocation, int baseDamage, int damageBlocked, int pp, int frameCount, float frameDuration) {
+        this.moveID = moveID;
+        this.name = name;
+        this.moveType = moveType;
+        this.moveClass = moveClass;
+        this.spriteLocation = spriteLocation;
+        this.baseDamage = baseDamage;
+        this.damageBlocked = damageBlocked;
+        this.pp = pp;
+        this.frameCount = frameCount;
+        this.frameDuration = frameDuration;
+    }
+
+    /**
+     * Gets the ID of the move.
+     * @return Returns the ID of the move.
+     */
+    public int getMoveID() {
+        return moveID;
+    }
+
+    /**
+     * Gets the name of the move.
+     * @return Returns the name of the move.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the type of the move.
+     * @return Returns the type of the move.
+     */
+    public Type getMoveType() {
+        return moveType;
+    }
+
+    /**
+     * Gets the move class, ie. Attack or Defense.
+     * @return Returns the move class, ie. Attack or Defense.
+     */
+    public MoveClass getMoveClass() {
+        return moveClass;
+    }
+
+    /**
+     * Gets the image file location of the move animation.
+     * @return Returns the image file location of the move animation.
+     */
+    public String getSpriteLocation() {
+        return spriteLocation;
+    }
+
+    /**
+     * Gets the base damage of the move.
+     * @return Returns the base damage of the move.
+     */
+    public int getBaseDamage() {
+        return baseDamage;
+    }
+
+    /**
+     * Gets the damage blocked by the move.
+     * @return Returns the damage blocked by the move.
+     */
+    public int getDamageBlocked() {
+        return damageBlocked;
+    }
+
+    /**
+     * Gets the power points of the move.
+     * @return Returns the power points of the move.
+     */
+    public int getPP() {
+        return pp;
+    }
+
+    /**
+     * Gets the number of frames in the move animation.
+     * @return Returns the number of frames in the move animation.
+     */
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Gets the duration of one full cycle of the move animation, in seconds.
+     * @return Returns the duration of one full cycle of the move animation, in seconds.
+     */
+    public float getFrameDuration() {
+        return frameDuration;
+    }
+
+    /**
+     * Gets the shared TextureRegion of the move animation. The texture is acquired from the GameAssetRegistry on the first call.
+     * @return Returns the shared TextureRegion of the move animation.
+     */
+    public TextureRegion getTextureRegion() {
+        if (textureRegion == null) {
+            textureRegion = GameAssetRegistry.getInstance().acquireRegion(spriteLocation);
+        }
+        return textureRegion;
+    }
+
+    /**
+     * Releases the shared texture back to the GameAssetRegistry, if it was acquired.
+     */
+    public void dispose() {
+        if (textureRegion != null) {
+            GameAssetRegistry.getInstance().release(spriteLocation);
+            textureRegion = null;
+        }
+    }
+}
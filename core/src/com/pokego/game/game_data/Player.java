@@ -50,6 +50,18 @@ public class Player {
         return characters;
     }
 
+    /**
+     * Gets the CharacterDefinitions of the Characters that are still alive, in the order they are sent out.
+     * @return Returns the CharacterDefinitions of the Characters that are still alive.
+     */
+    public CharacterDefinition[] getCharacterDefinitions() {
+        CharacterDefinition[] definitions = new CharacterDefinition[characters.size()];
+        for (int i = 0; i < definitions.length; i++) {
+            definitions[i] = characters.get(i).getDefinition();
+        }
+        return definitions;
+    }
+
     /**
      * Gets the name of the Player.
      * @return Returns the name of the Player.
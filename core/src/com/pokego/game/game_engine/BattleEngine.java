@@ -0,0 +1,338 @@
+package com.pokego.game.game_engine;
+
+import com.pokego.game.game_data.CharacterDefinition;
+import com.pokego.game.game_data.MoveDefinition;
+import com.pokego.game.game_phase.PlayerWinner;
+import com.pokego.utility.GameDataCatalog;
+
+/**
+ * The BattleEngine holds the rules of a battle between two teams of Characters. It only works on CharacterDefinitions and plain numbers, never on sprites, animations or any other LibGDX object, so that battles can be resolved without a window. The damage multipliers between Types come from a TypeChart, and the numbers it needs are precomputed for every move of every Character. Each round, resolveRound() applies the damage of both moves, faints and replaces Characters, and decides the winner. The Phases of the GameState only animate what the engine decided.
+ */
+public class BattleEngine {
+    public final static int PLAYER_ONE = 0;
+    public final static int PLAYER_TWO = 1;
+
+    // Move slots of a Character, in the same order as its moves.
+    public final static int MOVE_NONE = -1;
+    public final static int MOVE_FIRE = 0;
+    public final static int MOVE_WATER = 1;
+    public final static int MOVE_GRASS = 2;
+    public final static int MOVE_DEFENSE = 3;
+    public final static int MOVE_COUNT = 4;
+
+    public final static int STARTING_HP = 100;
+
+    private CharacterDefinition[][] teams; // [player][team slot]
+    private MoveDefinition[][][] moves; // [player][team slot][move slot]
+    private TypeChart typeChart;
+
+    // Precomputed for the damage calculation, move slots are shifted by 1 so that MOVE_NONE is index 0.
+    private int[][] characterTypes; // [player][team slot]
+    private int[][][] attackDamage; // [player][team slot][move slot + 1]
+    private int[][][] damageBlocked; // [player][team slot][move slot + 1]
+    private int[][][] moveTypes; // [player][team slot][move slot + 1]
+
+    private int[][] healthPoints; // [player][team slot]
+    private int[] current; // Team slot of the current Character of each player.
+    private int[] charactersLeft;
+    private int round;
+
+    private RoundResult result;
+
+    /**
+     * Constructs the BattleEngine with the TypeChart of the GameDataCatalog. Both teams start with full health, and send out their first Character.
+     * @param playerOneTeam Characters of player 1, in the order they are sent out.
+     * @param playerTwoTeam Characters of player 2, in the order they are sent out.
+     */
+    public BattleEngine(CharacterDefinition[] playerOneTeam, CharacterDefinition[] playerTwoTeam) {
+        this(GameDataCatalog.getInstance().getTypeChart(), playerOneTeam, playerTwoTeam);
+    }
+
+    /**
+     * Constructs the BattleEngine. Both teams start with full health, and send out their first Character.
+     * @param typeChart TypeChart holding the damage multipliers between Types.
+     * @param playerOneTeam Characters of player 1, in the order they are sent out.
+     * @param playerTwoTeam Characters of player 2, in the order they are sent out.
+     */
+    public BattleEngine(TypeChart typeChart, CharacterDefinition[] playerOneTeam, CharacterDefinition[] playerTwoTeam) {
+        this.typeChart = typeChart;
+        teams = new CharacterDefinition[2][];
+        moves = new MoveDefinition[2][][];
+        characterTypes = new int[2][];
+        attackDamage = new int[2][][];
+        damageBlocked = new int[2][][];
+        moveTypes = new int[2][][];
+        healthPoints = new int[2][];
+        current = new int[2];
+        charactersLeft = new int[2];
+        result = new RoundResult();
+
+        setTeams(playerOneTeam, playerTwoTeam);
+    }
+
+    /**
+     * Constructs a copy of a BattleEngine, with the same teams and the same state of the battle. The copy does not share any array with the source, so both can be used on different threads.
+     * @param source BattleEngine to copy.
+     */
+    public BattleEngine(BattleEngine source) {
+        this(source.typeChart, source.teams[PLAYER_ONE], source.teams[PLAYER_TWO]);
+        copyStateFrom(source);
+    }
+
+    /**
+     * Copies the state of the battle from another BattleEngine with the same teams, without allocating. Used to restart searches and playouts from the same state many times.
+     * @param source BattleEngine with the same teams to copy the state from.
+     */
+    public void copyStateFrom(BattleEngine source) {
+        for (int player = 0; player < 2; player++) {
+            System.arraycopy(source.healthPoints[player], 0, healthPoints[player], 0, healthPoints[player].length);
+            current[player] = source.current[player];
+            charactersLeft[player] = source.charactersLeft[player];
+        }
+        round = source.round;
+    }
+
+    /**
+     * Replaces both teams and restarts the battle. Arrays are reused when the team sizes stay the same, so that many matches can be played on one BattleEngine without allocating.
+     * @param playerOneTeam Characters of player 1, in the order they are sent out.
+     * @param playerTwoTeam Characters of player 2, in the order they are sent out.
+     */
+    public void setTeams(CharacterDefinition[] playerOneTeam, CharacterDefinition[] playerTwoTeam) {
+        setTeam(PLAYER_ONE, playerOneTeam);
+        setTeam(PLAYER_TWO, playerTwoTeam);
+        reset();
+    }
+
+    /**
+     * Helper function to store the team of a player, and precompute the numbers needed by the damage calculation.
+     * @param player PLAYER_ONE or PLAYER_TWO.
+     * @param team Characters of the player, in the order they are sent out.
+     */
+    private void setTeam(int player, CharacterDefinition[] team) {
+        if (teams[player] == null || teams[player].length != team.length) {
+            teams[player] = new CharacterDefinition[team.length];
+            moves[player] = new MoveDefinition[team.length][MOVE_COUNT];
+            characterTypes[player] = new int[team.length];
+            attackDamage[player] = new int[team.length][MOVE_COUNT + 1];
+            damageBlocked[player] = new int[team.length][MOVE_COUNT + 1];
+            moveTypes[player] = new int[team.length][MOVE_COUNT + 1];
+            healthPoints[player] = new int[team.length];
+        }
+
+        for (int slot = 0; slot < team.length; slot++) {
+            CharacterDefinition character = team[slot];
+            teams[player][slot] = character;
+            moves[player][slot][MOVE_FIRE] = character.getFireMove();
+            moves[player][slot][MOVE_WATER] = character.getWaterMove();
+            moves[player][slot][MOVE_GRASS] = character.getGrassMove();
+            moves[player][slot][MOVE_DEFENSE] = character.getDefenseMove();
+
+            characterTypes[player][slot] = character.getCharacterType().ordinal();
+            for (int moveSlot = 0; moveSlot < MOVE_COUNT; moveSlot++) {
+                MoveDefinition move = moves[player][slot][moveSlot];
+                attackDamage[player][slot][moveSlot + 1] = TypeChart.getAttackDamage(move);
+                damageBlocked[player][slot][moveSlot + 1] = TypeChart.getDamageBlocked(move);
+                moveTypes[player][slot][moveSlot + 1] = move.getMoveType().ordinal();
+            }
+        }
+    }
+
+    /**
+     * Restarts the battle with the same teams.
+     */
+    public void reset() {
+        for (int player = 0; player < 2; player++) {
+            for (int slot = 0; slot < healthPoints[player].length; slot++) {
+                healthPoints[player][slot] = STARTING_HP;
+            }
+            current[player] = 0;
+            charactersLeft[player] = teams[player].length;
+        }
+        round = 0;
+    }
+
+    /**
+     * Resolves one round. Both moves hit at the same time, then every Character that fainted is replaced by the next Character of its team, and the game ends once a team has no Characters left. The returned RoundResult is reused by the next call.
+     * @param playerOneMove Move slot used by player 1, MOVE_NONE if no move was chosen.
+     * @param playerTwoMove Move slot used by player 2, MOVE_NONE if no move was chosen.
+     * @return Returns the outcome of the round.
+     */
+    public RoundResult resolveRound(int playerOneMove, int playerTwoMove) {
+        round++;
+
+        int playerOneDamage = calculateDamage(PLAYER_ONE, playerOneMove, playerTwoMove);
+        int playerTwoDamage = calculateDamage(PLAYER_TWO, playerTwoMove, playerOneMove);
+
+        int playerOneHealth = lowerHealth(PLAYER_ONE, playerOneDamage);
+        int playerTwoHealth = lowerHealth(PLAYER_TWO, playerTwoDamage);
+        result.set(round, playerOneDamage, playerTwoDamage, playerOneHealth, playerTwoHealth);
+
+        boolean playerOneSentNext = result.isPlayerOneFainted() && faint(PLAYER_ONE);
+        boolean playerTwoSentNext = result.isPlayerTwoFainted() && faint(PLAYER_TWO);
+        result.setSentNext(playerOneSentNext, playerTwoSentNext);
+        result.setWinner(getWinner());
+
+        return result;
+    }
+
+    /**
+     * Helper function to lower the health points of a player's current Character.
+     * @param player PLAYER_ONE or PLAYER_TWO.
+     * @param damage Damage received.
+     * @return Returns the health points left, never below 0.
+     */
+    private int lowerHealth(int player, int damage) {
+        int slot = current[player];
+        healthPoints[player][slot] = Math.max(0, healthPoints[player][slot] - damage);
+        return healthPoints[player][slot];
+    }
+
+    /**
+     * Helper function to remove the fainted current Character of a player, and send out the next Character if there is one.
+     * @param player PLAYER_ONE or PLAYER_TWO.
+     * @return Returns true if the next Character was sent out. False if the player has no Characters left.
+     */
+    private boolean faint(int player) {
+        charactersLeft[player]--;
+        if (charactersLeft[player] == 0) {
+            // The fainted Character stays the current Character, like the Player does.
+            return false;
+        }
+        current[player]++;
+        return true;
+    }
+
+    /**
+     * Calculate damage to be received by a player's current Character, using the numbers precomputed for both current Characters. Does not change the battle, so it can also be used to look ahead.
+     * @param receiver PLAYER_ONE or PLAYER_TWO, the player receiving damage.
+     * @param moveUsed Move slot used by the receiving player.
+     * @param moveReceived Move slot used by the opponent.
+     * @return Returns damage taken by the Character.
+     */
+    public int calculateDamage(int receiver, int moveUsed, int moveReceived) {
+        int user = 1 - receiver;
+        int receiverSlot = current[receiver];
+        int userSlot = current[user];
+        return typeChart.calculateDamage(
+                attackDamage[user][userSlot][moveReceived + 1],
+                moveTypes[user][userSlot][moveReceived + 1],
+                characterTypes[user][userSlot],
+                characterTypes[receiver][receiverSlot],
+                damageBlocked[receiver][receiverSlot][moveUsed + 1],
+                moveTypes[receiver][receiverSlot][moveUsed + 1]);
+    }
+
+    /**
+     * Gets the TypeChart holding the damage multipliers between Types.
+     * @return Returns the TypeChart holding the damage multipliers between Types.
+     */
+    public TypeChart getTypeChart() {
+        return typeChart;
+    }
+
+    /**
+     * Gets the MoveDefinition in a move slot of a player's current Character.
+     * @param player PLAYER_ONE or PLAYER_TWO.
+     * @param moveSlot MOVE_FIRE, MOVE_WATER, MOVE_GRASS, MOVE_DEFENSE or MOVE_NONE.
+     * @return Returns the MoveDefinition in the move slot, null for MOVE_NONE.
+     */
+    public MoveDefinition getMove(int player, int moveSlot) {
+        if (moveSlot == MOVE_NONE) {
+            return null;
+        }
+        return moves[player][current[player]][moveSlot];
+    }
+
+    /**
+     * Gets the current Character of a player.
+     * @param player PLAYER_ONE or PLAYER_TWO.
+     * @return Returns the CharacterDefinition of the current Character of the player.
+     */
+    public CharacterDefinition getCurrentCharacter(int player) {
+        return teams[player][current[player]];
+    }
+
+    /**
+     * Gets the team slot of the current Character of a player.
+     * @param player PLAYER_ONE or PLAYER_TWO.
+     * @return Returns the team slot of the current Character of the player.
+     */
+    public int getCurrentSlot(int player) {
+        return current[player];
+    }
+
+    /**
+     * Gets the health points of the current Character of a player.
+     * @param player PLAYER_ONE or PLAYER_TWO.
+     * @return Returns the health points of the current Character of the player.
+     */
+    public int getCurrentHealth(int player) {
+        return healthPoints[player][current[player]];
+    }
+
+    /**
+     * Gets the number of Characters of a player that are still alive.
+     * @param player PLAYER_ONE or PLAYER_TWO.
+     * @return Returns the number of Characters of the player that are still alive.
+     */
+    public int getCharactersLeft(int player) {
+        return charactersLeft[player];
+    }
+
+    /**
+     * Gets the number of Characters in a player's team.
+     * @param player PLAYER_ONE or PLAYER_TWO.
+     * @return Returns the number of Characters in the player's team.
+     */
+    public int getTeamSize(int player) {
+        return teams[player].length;
+    }
+
+    /**
+     * Returns true if a player has no Characters left. False otherwise.
+     * @param player PLAYER_ONE or PLAYER_TWO.
+     * @return Returns true if the player has no Characters left. False otherwise.
+     */
+    public boolean isDefeated(int player) {
+        return charactersLeft[player] == 0;
+    }
+
+    /**
+     * Returns true if any player has no Characters left. False otherwise.
+     * @return Returns true if any player has no Characters left. False otherwise.
+     */
+    public boolean isGameOver() {
+        return isDefeated(PLAYER_ONE) || isDefeated(PLAYER_TWO);
+    }
+
+    /**
+     * Gets the winner of the game. Possible values defined by PlayerWinner enum.
+     * @return Returns the winner of the game, null if the game is not over.
+     */
+    public PlayerWinner getWinner() {
+        if (isDefeated(PLAYER_ONE) && isDefeated(PLAYER_TWO)) {
+            return PlayerWinner.DRAW;
+        } else if (isDefeated(PLAYER_ONE)) {
+            return PlayerWinner.PLAYER_TWO;
+        } else if (isDefeated(PLAYER_TWO)) {
+            return PlayerWinner.PLAYER_ONE;
+        }
+        return null;
+    }
+
+    /**
+     * Gets the number of rounds resolved so far.
+     * @return Returns the number of rounds resolved so far.
+     */
+    public int getRound() {
+        return round;
+    }
+
+    /**
+     * Gets the result of the last resolved round.
+     * @return Returns the result of the last resolved round.
+     */
+    public RoundResult getLastResult() {
+        return result;
+    }
+}
@@ -0,0 +1,28 @@
+package com.pokego.game.game_engine;
+
+/**
+ * The GreedyMoveStrategy chooses the attack move that deals the most damage to the opponent's current Character, assuming the opponent does not defend.
+ */
+public class GreedyMoveStrategy implements MoveStrategy {
+
+    /**
+     * Chooses the attack move that deals the most damage.
+     * @param engine BattleEngine holding the current state of the battle.
+     * @param player PLAYER_ONE or PLAYER_TWO, the player choosing the move.
+     * @return Returns the move slot of the strongest attack move.
+     */
+    @Override
+    public int chooseMove(BattleEngine engine, int player) {
+        int opponent = 1 - player;
+        int bestMove = BattleEngine.MOVE_FIRE;
+        int bestDamage = -1;
+        for (int move = BattleEngine.MOVE_FIRE; move < BattleEngine.MOVE_DEFENSE; move++) {
+            int damage = engine.calculateDamage(opponent, BattleEngine.MOVE_NONE, move);
+            if (damage > bestDamage) {
+                bestDamage = damage;
+                bestMove = move;
+            }
+        }
+        return bestMove;
+    }
+}
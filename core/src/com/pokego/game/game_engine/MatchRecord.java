@@ -0,0 +1,176 @@
+package com.pokego.game.game_engine;
+
+import com.pokego.game.game_phase.PlayerWinner;
+
+import java.io.IOException;
+
+/**
+ * The MatchRecord holds everything needed to play a match again: the seed of the GameRng, the names and characterIDs of both teams, the move slots chosen by both Players and the HP they lost every round, and the winner. The GameState records every match to "./assets/replays/last_match.replay", and the desktop "replay" task or a ReplayController can play it back.
+ * The file is a binary replay file written by the ReplayWriter, see ReplayFormat. Long matches or many matches can be streamed with the ReplayWriter and ReplayReader directly, without a MatchRecord.
+ */
+public class MatchRecord {
+    public final static String DEFAULT_PATH = "./replays/last_match.replay";
+
+    private long seed;
+    private String[] names;
+    private int[][] teams;
+
+    private int[] playerOneMoves;
+    private int[] playerTwoMoves;
+    private int[] playerOneDeltas;
+    private int[] playerTwoDeltas;
+    private int rounds;
+    private PlayerWinner winner;
+
+    /**
+     * Constructs an empty MatchRecord.
+     * @param seed Seed of the GameRng at the start of the match.
+     * @param playerOneName Player 1's name.
+     * @param playerTwoName Player 2's name.
+     * @param playerOneTeam CharacterIDs of player 1's team, in order.
+     * @param playerTwoTeam CharacterIDs of player 2's team, in order.
+     */
+    public MatchRecord(long seed, String playerOneName, String playerTwoName, int[] playerOneTeam, int[] playerTwoTeam) {
+        this.seed = seed;
+        names = new String[] {playerOneName, playerTwoName};
+        teams = new int[][] {playerOneTeam, playerTwoTeam};
+        playerOneMoves = new int[64];
+        playerTwoMoves = new int[64];
+        playerOneDeltas = new int[64];
+        playerTwoDeltas = new int[64];
+    }
+
+    /**
+     * Records the moves of one round.
+     * @param playerOneMove Move slot chosen by player 1, BattleEngine.MOVE_NONE if no move was chosen.
+     * @param playerTwoMove Move slot chosen by player 2, BattleEngine.MOVE_NONE if no move was chosen.
+     * @param playerOneDelta HP lost by player 1's current Character.
+     * @param playerTwoDelta HP lost by player 2's current Character.
+     */
+    public void addRound(int playerOneMove, int playerTwoMove, int playerOneDelta, int playerTwoDelta) {
+        if (rounds == playerOneMoves.length) {
+            playerOneMoves = grow(playerOneMoves);
+            playerTwoMoves = grow(playerTwoMoves);
+            playerOneDeltas = grow(playerOneDeltas);
+            playerTwoDeltas = grow(playerTwoDeltas);
+        }
+        playerOneMoves[rounds] = playerOneMove;
+        playerTwoMoves[rounds] = playerTwoMove;
+        playerOneDeltas[rounds] = playerOneDelta;
+        playerTwoDeltas[rounds] = playerTwoDelta;
+        rounds++;
+    }
+
+    /**
+     * Helper function to double the size of a move array.
+     * @param moves Move array to grow.
+     * @return Returns a copy of the array with twice the length.
+     */
+    private static int[] grow(int[] moves) {
+        int[] grown = new int[moves.length * 2];
+        System.arraycopy(moves, 0, grown, 0, moves.length);
+        return grown;
+    }
+
+    /**
+     * Writes the MatchRecord to a binary replay file with the ReplayWriter.
+     * @param filePath File path to write to.
+     * @throws IOException If the file cannot be written.
+     */
+    public void save(String filePath) throws IOException {
+        try (ReplayWriter writer = new ReplayWriter(filePath, seed, names[0], names[1], teams[0], teams[1])) {
+            for (int round = 0; round < rounds; round++) {
+                writer.writeRound(playerOneMoves[round], playerTwoMoves[round], playerOneDeltas[round], playerTwoDeltas[round]);
+            }
+            writer.finish(winner);
+        }
+    }
+
+    /**
+     * Reads a whole binary replay file written by save() or a ReplayWriter.
+     * @param filePath File path to read from.
+     * @return Returns the MatchRecord.
+     * @throws IOException If the file cannot be read or is not a replay file.
+     */
+    public static MatchRecord load(String filePath) throws IOException {
+        try (ReplayReader reader = new ReplayReader(filePath)) {
+            return reader.toMatchRecord();
+        }
+    }
+
+    /**
+     * Sets the winner of the recorded match.
+     * @param winner Winner of the match, null if it did not end.
+     */
+    public void setWinner(PlayerWinner winner) {
+        this.winner = winner;
+    }
+
+    /**
+     * Gets the winner of the recorded match.
+     * @return Returns the winner of the match, null if it did not end.
+     */
+    public PlayerWinner getWinner() {
+        return winner;
+    }
+
+    /**
+     * Gets the seed of the GameRng at the start of the match.
+     * @return Returns the seed of the match.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the name of a Player.
+     * @param player BattleEngine.PLAYER_ONE or PLAYER_TWO.
+     * @return Returns the name of the Player.
+     */
+    public String getName(int player) {
+        return names[player];
+    }
+
+    /**
+     * Gets the team of a Player.
+     * @param player BattleEngine.PLAYER_ONE or PLAYER_TWO.
+     * @return Returns the characterIDs of the team, in order.
+     */
+    public int[] getTeam(int player) {
+        return teams[player];
+    }
+
+    /**
+     * Gets the move slot chosen by a Player in a round.
+     * @param player BattleEngine.PLAYER_ONE or PLAYER_TWO.
+     * @param round Index of the round, starting at 0.
+     * @return Returns the move slot, BattleEngine.MOVE_NONE if no move was chosen or the round was not recorded.
+     */
+    public int getMove(int player, int round) {
+        if (round < 0 || round >= rounds) {
+            return BattleEngine.MOVE_NONE;
+        }
+        return player == BattleEngine.PLAYER_ONE ? playerOneMoves[round] : playerTwoMoves[round];
+    }
+
+    /**
+     * Gets the HP lost by a Player's current Character in a round.
+     * @param player BattleEngine.PLAYER_ONE or PLAYER_TWO.
+     * @param round Index of the round, starting at 0.
+     * @return Returns the HP lost, 0 if the round was not recorded.
+     */
+    public int getHpDelta(int player, int round) {
+        if (round < 0 || round >= rounds) {
+            return 0;
+        }
+        return player == BattleEngine.PLAYER_ONE ? playerOneDeltas[round] : playerTwoDeltas[round];
+    }
+
+    /**
+     * Gets the number of recorded rounds.
+     * @return Returns the number of recorded rounds.
+     */
+    public int getRounds() {
+        return rounds;
+    }
+}
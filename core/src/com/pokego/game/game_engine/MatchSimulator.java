@@ -0,0 +1,142 @@
+package com.pokego.game.game_engine;
+
+import com.pokego.game.game_phase.PlayerWinner;
+
+/**
+ * The MatchSimulator plays whole matches on a BattleEngine without rendering. It follows the same round flow as the GameState, from RoundStartPhase to RoundEndPhase, but both moves are chosen at once by MoveStrategies and the timer, text scrolling and animations are skipped, so a match only takes microseconds. The damage of every round is logged, so that character data can be balance tested over thousands of matches.
+ */
+public class MatchSimulator {
+    public final static int DEFAULT_MAX_ROUNDS = 1000;
+
+    private BattleEngine engine;
+    private MoveStrategy playerOneStrategy;
+    private MoveStrategy playerTwoStrategy;
+    private int maxRounds;
+
+    // Damage log of the last match, indexed by round - 1.
+    private int[] playerOneDamage;
+    private int[] playerTwoDamage;
+    private int rounds;
+    private PlayerWinner winner;
+
+    /**
+     * Constructs the MatchSimulator with the default round limit.
+     * @param engine BattleEngine holding both teams.
+     * @param playerOneStrategy MoveStrategy choosing the moves of player 1.
+     * @param playerTwoStrategy MoveStrategy choosing the moves of player 2.
+     */
+    public MatchSimulator(BattleEngine engine, MoveStrategy playerOneStrategy, MoveStrategy playerTwoStrategy) {
+        this(engine, playerOneStrategy, playerTwoStrategy, DEFAULT_MAX_ROUNDS);
+    }
+
+    /**
+     * Constructs the MatchSimulator.
+     * @param engine BattleEngine holding both teams.
+     * @param playerOneStrategy MoveStrategy choosing the moves of player 1.
+     * @param playerTwoStrategy MoveStrategy choosing the moves of player 2.
+     * @param maxRounds Number of rounds after which a match is stopped without a winner, e.g. when both players only defend.
+     */
+    public MatchSimulator(BattleEngine engine, MoveStrategy playerOneStrategy, MoveStrategy playerTwoStrategy, int maxRounds) {
+        this.engine = engine;
+        this.playerOneStrategy = playerOneStrategy;
+        this.playerTwoStrategy = playerTwoStrategy;
+        this.maxRounds = maxRounds;
+
+        playerOneDamage = new int[Math.min(maxRounds, 64)];
+        playerTwoDamage = new int[playerOneDamage.length];
+    }
+
+    /**
+     * Plays one match from the start. The BattleEngine is reset first, so the same MatchSimulator can play any number of matches.
+     * @return Returns the winner of the match, null if it was stopped at the round limit.
+     */
+    public PlayerWinner run() {
+        engine.reset();
+        rounds = 0;
+        winner = null;
+
+        while (winner == null && rounds < maxRounds) {
+            // RoundStartPhase: both players choose their move.
+            int playerOneMove = playerOneStrategy.chooseMove(engine, BattleEngine.PLAYER_ONE);
+            int playerTwoMove = playerTwoStrategy.chooseMove(engine, BattleEngine.PLAYER_TWO);
+
+            // RoundLowerHpPhase to RoundEndPhase: the engine decides everything the phases animate.
+            RoundResult result = engine.resolveRound(playerOneMove, playerTwoMove);
+            logRound(result);
+            winner = result.getWinner();
+        }
+        return winner;
+    }
+
+    /**
+     * Helper function to store the damage of a round in the damage log.
+     * @param result Result of the round.
+     */
+    private void logRound(RoundResult result) {
+        if (rounds == playerOneDamage.length) {
+            int capacity = Math.min(maxRounds, rounds * 2);
+            int[] newPlayerOneDamage = new int[capacity];
+            int[] newPlayerTwoDamage = new int[capacity];
+            System.arraycopy(playerOneDamage, 0, newPlayerOneDamage, 0, rounds);
+            System.arraycopy(playerTwoDamage, 0, newPlayerTwoDamage, 0, rounds);
+            playerOneDamage = newPlayerOneDamage;
+            playerTwoDamage = newPlayerTwoDamage;
+        }
+        playerOneDamage[rounds] = result.getPlayerOneDamage();
+        playerTwoDamage[rounds] = result.getPlayerTwoDamage();
+        rounds++;
+    }
+
+    /**
+     * Gets the BattleEngine used by the MatchSimulator.
+     * @return Returns the BattleEngine used by the MatchSimulator.
+     */
+    public BattleEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Gets the winner of the last match. Possible values defined by PlayerWinner enum.
+     * @return Returns the winner of the last match, null if it was stopped at the round limit.
+     */
+    public PlayerWinner getWinner() {
+        return winner;
+    }
+
+    /**
+     * Gets the number of rounds played in the last match.
+     * @return Returns the number of rounds played in the last match.
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Gets the damage received by player 1 in a round of the last match.
+     * @param round Number of the round, starting from 1.
+     * @return Returns the damage received by player 1 in the round.
+     */
+    public int getPlayerOneDamage(int round) {
+        return playerOneDamage[round - 1];
+    }
+
+    /**
+     * Gets the damage received by player 2 in a round of the last match.
+     * @param round Number of the round, starting from 1.
+     * @return Returns the damage received by player 2 in the round.
+     */
+    public int getPlayerTwoDamage(int round) {
+        return playerTwoDamage[round - 1];
+    }
+
+    /**
+     * Prints the damage log of the last match to the console.
+     */
+    public void printLog() {
+        for (int round = 1; round <= rounds; round++) {
+            System.out.println("Round " + round + ": player 1 took " + getPlayerOneDamage(round)
+                    + ", player 2 took " + getPlayerTwoDamage(round));
+        }
+        System.out.println("Winner: " + (winner == null ? "none, stopped after " + rounds + " rounds" : winner) + ", " + rounds + " rounds");
+    }
+}
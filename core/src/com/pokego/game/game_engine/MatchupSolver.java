@@ -0,0 +1,330 @@
+package com.pokego.game.game_engine;
+
+import com.pokego.game.game_data.CharacterDefinition;
+import com.pokego.game.game_data.MoveDefinition;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The MatchupSolver solves every 1 vs 1 matchup between two Characters exactly. Damage only depends on the two moves chosen, so a matchup is a zero-sum game played over (hp1, hp2) states, worth 1 when the first Character wins, -1 when it loses and 0 for a draw. HP only goes down, so states are solved from the lowest HP upwards, each by solving its 4 x 4 matrix game with the MatrixGameSolver. Rounds in which nobody takes damage lead back to the same state, so those states are solved by value iteration. Only HP values that can actually be reached from full health are stored, and states are kept in primitive arrays indexed by HP level. All matchups are solved in parallel, and written to a MatchupTable file.
+ */
+public class MatchupSolver {
+    private final static double TOLERANCE = 1e-9;
+    private final static int MAX_ITERATIONS = 10000;
+
+    private TypeChart typeChart;
+    private CharacterDefinition[] characters;
+
+    private int[] hpLevels; // Reachable HP values, ascending, starting at 0.
+    private int[] hpIndex; // HP level index of every HP value from 0 to STARTING_HP.
+
+    // Results, indexed like the MatchupTable.
+    private short[] values;
+    private byte[] strategies;
+
+    /**
+     * Constructs the MatchupSolver and finds the HP values reachable with the damage of the given Characters.
+     * @param typeChart TypeChart holding the damage multipliers between Types.
+     * @param characters Characters to solve, in the order they are stored.
+     */
+    public MatchupSolver(TypeChart typeChart, List<CharacterDefinition> characters) {
+        this.typeChart = typeChart;
+        this.characters = characters.toArray(new CharacterDefinition[characters.size()]);
+        findHpLevels();
+
+        int states = this.characters.length * this.characters.length * hpLevels.length * hpLevels.length;
+        values = new short[states];
+        strategies = new byte[states * BattleEngine.MOVE_COUNT];
+    }
+
+    /**
+     * Helper function to find every HP value reachable from full health, with any damage dealt between the Characters.
+     */
+    private void findHpLevels() {
+        TreeSet<Integer> damages = new TreeSet<Integer>();
+        int[][] damageToFirst = new int[BattleEngine.MOVE_COUNT][BattleEngine.MOVE_COUNT];
+        int[][] damageToSecond = new int[BattleEngine.MOVE_COUNT][BattleEngine.MOVE_COUNT];
+        for (CharacterDefinition first : characters) {
+            for (CharacterDefinition second : characters) {
+                calculateDamage(first, second, damageToFirst, damageToSecond);
+                for (int[] row : damageToFirst) {
+                    for (int damage : row) {
+                        damages.add(damage);
+                    }
+                }
+            }
+        }
+
+        TreeSet<Integer> levels = new TreeSet<Integer>();
+        levels.add(BattleEngine.STARTING_HP);
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Integer hp : levels.toArray(new Integer[levels.size()])) {
+                for (Integer damage : damages) {
+                    changed |= levels.add(Math.max(0, hp - damage));
+                }
+            }
+        }
+
+        hpLevels = new int[levels.size()];
+        int i = 0;
+        for (Integer hp : levels) {
+            hpLevels[i++] = hp;
+        }
+        hpIndex = MatchupTable.createHpIndex(hpLevels);
+    }
+
+    /**
+     * Helper function to calculate the damage of every pair of moves between two Characters.
+     * @param first First Character, choosing the row move.
+     * @param second Second Character, choosing the column move.
+     * @param damageToFirst Array to fill with the damage received by the first Character, [row move][column move].
+     * @param damageToSecond Array to fill with the damage received by the second Character, [row move][column move].
+     */
+    private void calculateDamage(CharacterDefinition first, CharacterDefinition second, int[][] damageToFirst, int[][] damageToSecond) {
+        MoveDefinition[] firstMoves = getMoves(first);
+        MoveDefinition[] secondMoves = getMoves(second);
+        for (int i = 0; i < BattleEngine.MOVE_COUNT; i++) {
+            for (int j = 0; j < BattleEngine.MOVE_COUNT; j++) {
+                damageToFirst[i][j] = typeChart.calculateDamage(first.getCharacterType(), second.getCharacterType(), secondMoves[j], firstMoves[i]);
+                damageToSecond[i][j] = typeChart.calculateDamage(second.getCharacterType(), first.getCharacterType(), firstMoves[i], secondMoves[j]);
+            }
+        }
+    }
+
+    /**
+     * Helper function to get the moves of a Character in move slot order.
+     * @param character Character to get the moves from.
+     * @return Returns the MoveDefinitions of the Character, indexed by move slot.
+     */
+    private static MoveDefinition[] getMoves(CharacterDefinition character) {
+        return new MoveDefinition[] {
+                character.getFireMove(),
+                character.getWaterMove(),
+                character.getGrassMove(),
+                character.getDefenseMove()
+        };
+    }
+
+    /**
+     * Solves every matchup, spread across the workers of a ForkJoinPool.
+     * @param pool ForkJoinPool solving the matchups.
+     */
+    public void solveAll(ForkJoinPool pool) {
+        pool.invoke(new SolveTask(0, characters.length * characters.length));
+    }
+
+    /**
+     * Solves the matchups of a range of pairs, splitting it in halves across the workers.
+     */
+    private class SolveTask extends RecursiveAction {
+        private final static long serialVersionUID = 1L;
+
+        private int from;
+        private int to;
+
+        /**
+         * Constructs the SolveTask.
+         * @param from First pair index to solve.
+         * @param to Pair index after the last pair to solve.
+         */
+        SolveTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Solves the pairs, or splits them between two SolveTasks.
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= characters.length) {
+                PairSolver solver = new PairSolver();
+                for (int pair = from; pair < to; pair++) {
+                    solver.solve(pair / characters.length, pair % characters.length);
+                }
+                return;
+            }
+            int middle = (from + to) / 2;
+            invokeAll(new SolveTask(from, middle), new SolveTask(middle, to));
+        }
+    }
+
+    /**
+     * Holds the scratch arrays of one worker, so that solving the states of a matchup does not allocate.
+     */
+    private class PairSolver {
+        private MatrixGameSolver matrixSolver = new MatrixGameSolver(BattleEngine.MOVE_COUNT, BattleEngine.MOVE_COUNT);
+        private double[][] payoff = new double[BattleEngine.MOVE_COUNT][BattleEngine.MOVE_COUNT];
+        private double[] strategy = new double[BattleEngine.MOVE_COUNT];
+        private int[][] damageToFirst = new int[BattleEngine.MOVE_COUNT][BattleEngine.MOVE_COUNT];
+        private int[][] damageToSecond = new int[BattleEngine.MOVE_COUNT][BattleEngine.MOVE_COUNT];
+        private double[] stateValues = new double[hpLevels.length * hpLevels.length]; // [hp1 level][hp2 level]
+
+        /**
+         * Solves every state of a matchup, from the lowest HP upwards, and stores the results.
+         * @param first Index of the first Character.
+         * @param second Index of the second Character.
+         */
+        void solve(int first, int second) {
+            calculateDamage(characters[first], characters[second], damageToFirst, damageToSecond);
+            int levels = hpLevels.length;
+
+            for (int i = 0; i < levels; i++) {
+                for (int j = 0; j < levels; j++) {
+                    int state = i * levels + j;
+                    for (int move = 0; move < BattleEngine.MOVE_COUNT; move++) {
+                        strategy[move] = 0;
+                    }
+
+                    if (i == 0 || j == 0) {
+                        // Terminal state: a Character has fainted.
+                        stateValues[state] = (j == 0 ? 1 : 0) - (i == 0 ? 1 : 0);
+                    } else {
+                        stateValues[state] = solveState(i, j);
+                    }
+                    store(first, second, i, j, stateValues[state], strategy);
+                }
+            }
+        }
+
+        /**
+         * Helper function to solve a state whose lower HP states are already solved.
+         * @param i HP level index of the first Character.
+         * @param j HP level index of the second Character.
+         * @return Returns the value of the state to the first Character, the optimal strategy is left in the strategy array.
+         */
+        private double solveState(int i, int j) {
+            int levels = hpLevels.length;
+            boolean selfLoop = false;
+            for (int a = 0; a < BattleEngine.MOVE_COUNT; a++) {
+                for (int b = 0; b < BattleEngine.MOVE_COUNT; b++) {
+                    if (isSelfLoop(a, b)) {
+                        selfLoop = true; // Filled in by value iteration.
+                    } else {
+                        int nextI = hpIndex[Math.max(0, hpLevels[i] - damageToFirst[a][b])];
+                        int nextJ = hpIndex[Math.max(0, hpLevels[j] - damageToSecond[a][b])];
+                        payoff[a][b] = stateValues[nextI * levels + nextJ];
+                    }
+                }
+            }
+
+            if (!selfLoop) {
+                return matrixSolver.solve(payoff, BattleEngine.MOVE_COUNT, BattleEngine.MOVE_COUNT, strategy);
+            }
+
+            // Value iteration: rounds without damage are worth the value of the state itself. Starting from 0, endless rounds without damage count as a draw.
+            double value = 0;
+            for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+                double next = matrixSolver.solve(withSelfValue(value), BattleEngine.MOVE_COUNT, BattleEngine.MOVE_COUNT, strategy);
+                if (Math.abs(next - value) < TOLERANCE) {
+                    return next;
+                }
+                value = next;
+            }
+            return value;
+        }
+
+        /**
+         * Helper function to fill the payoff of the rounds without damage with the current value of the state.
+         * @param value Current value of the state.
+         * @return Returns a payoff matrix without unknown entries.
+         */
+        private double[][] withSelfValue(double value) {
+            for (int a = 0; a < BattleEngine.MOVE_COUNT; a++) {
+                for (int b = 0; b < BattleEngine.MOVE_COUNT; b++) {
+                    if (isSelfLoop(a, b)) {
+                        payoff[a][b] = value;
+                    }
+                }
+            }
+            return payoff;
+        }
+
+        /**
+         * Helper function to check if a pair of moves deals no damage at all.
+         * @param a Move of the first Character.
+         * @param b Move of the second Character.
+         * @return Returns true if neither Character takes damage. False otherwise.
+         */
+        private boolean isSelfLoop(int a, int b) {
+            return damageToFirst[a][b] == 0 && damageToSecond[a][b] == 0;
+        }
+    }
+
+    /**
+     * Helper function to quantise and store the result of a state.
+     * @param first Index of the first Character.
+     * @param second Index of the second Character.
+     * @param i HP level index of the first Character.
+     * @param j HP level index of the second Character.
+     * @param value Value of the state to the first Character.
+     * @param strategy Optimal strategy of the first Character.
+     */
+    private void store(int first, int second, int i, int j, double value, double[] strategy) {
+        int state = MatchupTable.stateIndex(characters.length, hpLevels.length, first, second, i, j);
+        values[state] = MatchupTable.encodeValue(value);
+        for (int move = 0; move < BattleEngine.MOVE_COUNT; move++) {
+            strategies[state * BattleEngine.MOVE_COUNT + move] = MatchupTable.encodeProbability(strategy[move]);
+        }
+    }
+
+    /**
+     * Writes the solved matchups to a MatchupTable file.
+     * @param filePath File path of the MatchupTable file.
+     * @throws IOException If the file cannot be written.
+     */
+    public void write(String filePath) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(filePath)))) {
+            out.writeInt(MatchupTable.MAGIC);
+            out.writeInt(MatchupTable.VERSION);
+            out.writeInt(characters.length);
+            for (CharacterDefinition character : characters) {
+                out.writeInt(character.getCharacterID());
+            }
+            out.writeInt(hpLevels.length);
+            for (int hp : hpLevels) {
+                out.writeInt(hp);
+            }
+            for (short value : values) {
+                out.writeShort(value);
+            }
+            out.write(strategies);
+        }
+    }
+
+    /**
+     * Gets the value of a solved matchup at full health.
+     * @param first Index of the first Character.
+     * @param second Index of the second Character.
+     * @return Returns the value to the first Character, between -1 and 1.
+     */
+    public float getValue(int first, int second) {
+        int top = hpLevels.length - 1;
+        return MatchupTable.decodeValue(values[MatchupTable.stateIndex(characters.length, hpLevels.length, first, second, top, top)]);
+    }
+
+    /**
+     * Gets the Characters of the MatchupSolver.
+     * @return Returns the Characters of the MatchupSolver, in the order they are stored.
+     */
+    public CharacterDefinition[] getCharacters() {
+        return characters;
+    }
+
+    /**
+     * Gets the number of reachable HP values.
+     * @return Returns the number of reachable HP values, including 0.
+     */
+    public int getHpLevelCount() {
+        return hpLevels.length;
+    }
+}
@@ -0,0 +1,192 @@
+package com.pokego.game.game_engine;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * The MatchupTable holds the 1 vs 1 matchups solved by the MatchupSolver, read from the "./assets/data/matchups.bin" file written by the desktop "solveMatchups" task. For every pair of Characters and every reachable (hp1, hp2) state, it stores the value of the state to the first Character and its optimal mixed strategy. All lookups are array reads, so they can be used by the AI every round.
+ * The file holds, in big endian: the magic number and version, the number of Characters and their characterIDs, the number of HP levels and their HP values, then a short value and 4 byte probabilities for every state, ordered by first Character, second Character, first HP level and second HP level.
+ */
+public class MatchupTable {
+    public final static String DEFAULT_PATH = "./data/matchups.bin";
+    public final static int MAGIC = 0x50474D54; // "PGMT"
+    public final static int VERSION = 1;
+
+    private final static float VALUE_SCALE = Short.MAX_VALUE;
+    private final static float PROBABILITY_SCALE = 255f;
+
+    private int characterCount;
+    private int[] characterIndex; // Index of every characterID, -1 if the Character was not solved.
+    private int[] hpLevels;
+    private int[] hpIndex;
+
+    private short[] values;
+    private byte[] strategies;
+
+    /**
+     * Constructs the MatchupTable from a file written by the MatchupSolver.
+     * @param filePath File path of the MatchupTable file.
+     * @throws IOException If the file cannot be read or is not a MatchupTable file.
+     */
+    public MatchupTable(String filePath) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(filePath)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a matchup table: " + filePath);
+            }
+
+            characterCount = in.readInt();
+            int[] characterIDs = new int[characterCount];
+            int maxCharacterID = 0;
+            for (int i = 0; i < characterCount; i++) {
+                characterIDs[i] = in.readInt();
+                maxCharacterID = Math.max(maxCharacterID, characterIDs[i]);
+            }
+            characterIndex = new int[maxCharacterID + 1];
+            for (int i = 0; i < characterIndex.length; i++) {
+                characterIndex[i] = -1;
+            }
+            for (int i = 0; i < characterCount; i++) {
+                characterIndex[characterIDs[i]] = i;
+            }
+
+            hpLevels = new int[in.readInt()];
+            for (int i = 0; i < hpLevels.length; i++) {
+                hpLevels[i] = in.readInt();
+            }
+            hpIndex = createHpIndex(hpLevels);
+
+            int states = characterCount * characterCount * hpLevels.length * hpLevels.length;
+            values = new short[states];
+            for (int i = 0; i < states; i++) {
+                values[i] = in.readShort();
+            }
+            strategies = new byte[states * BattleEngine.MOVE_COUNT];
+            in.readFully(strategies);
+        }
+    }
+
+    /**
+     * Gets the value of a state to the first Character. 1 means the first Character always wins, -1 that it always loses.
+     * @param firstID CharacterID of the first Character.
+     * @param secondID CharacterID of the second Character.
+     * @param firstHp Health points of the first Character.
+     * @param secondHp Health points of the second Character.
+     * @return Returns the value of the state, between -1 and 1.
+     */
+    public float getValue(int firstID, int secondID, int firstHp, int secondHp) {
+        return decodeValue(values[getState(firstID, secondID, firstHp, secondHp)]);
+    }
+
+    /**
+     * Gets the probability of a move in the optimal mixed strategy of the first Character.
+     * @param firstID CharacterID of the first Character.
+     * @param secondID CharacterID of the second Character.
+     * @param firstHp Health points of the first Character.
+     * @param secondHp Health points of the second Character.
+     * @param moveSlot BattleEngine.MOVE_FIRE, MOVE_WATER, MOVE_GRASS or MOVE_DEFENSE.
+     * @return Returns the probability of the move, between 0 and 1.
+     */
+    public float getMoveProbability(int firstID, int secondID, int firstHp, int secondHp, int moveSlot) {
+        int state = getState(firstID, secondID, firstHp, secondHp);
+        return (strategies[state * BattleEngine.MOVE_COUNT + moveSlot] & 0xFF) / PROBABILITY_SCALE;
+    }
+
+    /**
+     * Helper function to find the index of a state.
+     * @param firstID CharacterID of the first Character.
+     * @param secondID CharacterID of the second Character.
+     * @param firstHp Health points of the first Character.
+     * @param secondHp Health points of the second Character.
+     * @return Returns the index of the state.
+     */
+    private int getState(int firstID, int secondID, int firstHp, int secondHp) {
+        return stateIndex(characterCount, hpLevels.length, characterIndex[firstID], characterIndex[secondID],
+                hpIndex[clampHp(firstHp)], hpIndex[clampHp(secondHp)]);
+    }
+
+    /**
+     * Helper function to keep health points inside the table.
+     * @param hp Health points.
+     * @return Returns the health points between 0 and the starting HP.
+     */
+    private static int clampHp(int hp) {
+        return Math.max(0, Math.min(BattleEngine.STARTING_HP, hp));
+    }
+
+    /**
+     * Returns true if a Character was solved. False otherwise.
+     * @param characterID CharacterID of the Character.
+     * @return Returns true if a Character was solved. False otherwise.
+     */
+    public boolean contains(int characterID) {
+        return characterID >= 0 && characterID < characterIndex.length && characterIndex[characterID] != -1;
+    }
+
+    /**
+     * Gets the number of reachable HP values.
+     * @return Returns the number of reachable HP values, including 0.
+     */
+    public int getHpLevelCount() {
+        return hpLevels.length;
+    }
+
+    /**
+     * Computes the index of a state in the value array. Shared with the MatchupSolver so that both use the same layout.
+     * @param characterCount Number of Characters in the table.
+     * @param levelCount Number of HP levels in the table.
+     * @param first Index of the first Character.
+     * @param second Index of the second Character.
+     * @param firstLevel HP level index of the first Character.
+     * @param secondLevel HP level index of the second Character.
+     * @return Returns the index of the state.
+     */
+    static int stateIndex(int characterCount, int levelCount, int first, int second, int firstLevel, int secondLevel) {
+        return ((first * characterCount + second) * levelCount + firstLevel) * levelCount + secondLevel;
+    }
+
+    /**
+     * Maps every HP value from 0 to the starting HP to the highest HP level at or below it.
+     * @param hpLevels HP levels, ascending, starting at 0.
+     * @return Returns the HP level index of every HP value.
+     */
+    static int[] createHpIndex(int[] hpLevels) {
+        int[] hpIndex = new int[BattleEngine.STARTING_HP + 1];
+        int level = 0;
+        for (int hp = 0; hp < hpIndex.length; hp++) {
+            while (level + 1 < hpLevels.length && hpLevels[level + 1] <= hp) {
+                level++;
+            }
+            hpIndex[hp] = level;
+        }
+        return hpIndex;
+    }
+
+    /**
+     * Quantises a value between -1 and 1 into a short.
+     * @param value Value to quantise.
+     * @return Returns the quantised value.
+     */
+    static short encodeValue(double value) {
+        return (short) Math.round(Math.max(-1, Math.min(1, value)) * VALUE_SCALE);
+    }
+
+    /**
+     * Restores a value quantised by encodeValue().
+     * @param value Quantised value.
+     * @return Returns the value between -1 and 1.
+     */
+    static float decodeValue(short value) {
+        return value / VALUE_SCALE;
+    }
+
+    /**
+     * Quantises a probability into an unsigned byte.
+     * @param probability Probability between 0 and 1.
+     * @return Returns the quantised probability.
+     */
+    static byte encodeProbability(double probability) {
+        return (byte) Math.round(Math.max(0, Math.min(1, probability)) * PROBABILITY_SCALE);
+    }
+}
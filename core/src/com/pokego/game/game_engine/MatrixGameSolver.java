@@ -0,0 +1,149 @@
+package com.pokego.game.game_engine;
+
+/**
+ * The MatrixGameSolver finds the value and an optimal mixed strategy of a zero-sum game in which both players choose a move at the same time. It solves the game's linear program with the simplex method on a preallocated tableau, so solving does not allocate. It is not thread-safe, each thread must use its own MatrixGameSolver.
+ */
+public class MatrixGameSolver {
+    private final static double EPSILON = 1e-12;
+
+    private int maxRows;
+    private int maxColumns;
+    private double[][] tableau;
+    private int[] basis;
+
+    /**
+     * Constructs the MatrixGameSolver.
+     * @param maxRows Highest number of moves of the row player.
+     * @param maxColumns Highest number of moves of the column player.
+     */
+    public MatrixGameSolver(int maxRows, int maxColumns) {
+        this.maxRows = maxRows;
+        this.maxColumns = maxColumns;
+        tableau = new double[maxRows + 1][maxColumns + maxRows + 1];
+        basis = new int[maxRows];
+    }
+
+    /**
+     * Solves a zero-sum game. The row player wants the payoff as high as possible, the column player as low as possible.
+     * @param payoff Payoff to the row player for every pair of moves, [row move][column move].
+     * @param rows Number of moves of the row player, at most maxRows.
+     * @param columns Number of moves of the column player, at most maxColumns.
+     * @param rowStrategy Array to fill with the probability of each row move in an optimal mixed strategy.
+     * @return Returns the value of the game to the row player.
+     */
+    public double solve(double[][] payoff, int rows, int columns, double[] rowStrategy) {
+        // The linear program needs positive payoffs, so every payoff is shifted by the same amount.
+        double shift = 1 - minimum(payoff, rows, columns);
+        int rhs = columns + rows;
+
+        // Column player's program: maximise the sum of q, such that payoff * q <= 1 and q >= 0.
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                tableau[i][j] = payoff[i][j] + shift;
+            }
+            for (int s = 0; s < rows; s++) {
+                tableau[i][columns + s] = s == i ? 1 : 0;
+            }
+            tableau[i][rhs] = 1;
+            basis[i] = columns + i;
+        }
+        for (int j = 0; j < rhs; j++) {
+            tableau[rows][j] = j < columns ? -1 : 0;
+        }
+        tableau[rows][rhs] = 0;
+
+        while (true) {
+            // Bland's rule: lowest entering and leaving indices, so the simplex never cycles.
+            int entering = -1;
+            for (int j = 0; j < rhs; j++) {
+                if (tableau[rows][j] < -EPSILON) {
+                    entering = j;
+                    break;
+                }
+            }
+            if (entering == -1) {
+                break;
+            }
+
+            int leaving = -1;
+            double bestRatio = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < rows; i++) {
+                if (tableau[i][entering] > EPSILON) {
+                    double ratio = tableau[i][rhs] / tableau[i][entering];
+                    if (ratio < bestRatio - EPSILON || (ratio < bestRatio + EPSILON && basis[i] < basis[leaving])) {
+                        bestRatio = ratio;
+                        leaving = i;
+                    }
+                }
+            }
+            pivot(leaving, entering, rows, rhs);
+        }
+
+        // The sum of q is 1 / (value + shift). The row player's strategy is read from the dual values of the slacks.
+        double total = tableau[rows][rhs];
+        for (int i = 0; i < rows; i++) {
+            rowStrategy[i] = tableau[rows][columns + i] / total;
+        }
+        return 1 / total - shift;
+    }
+
+    /**
+     * Helper function to pivot the tableau on an entry.
+     * @param row Row of the leaving variable.
+     * @param column Column of the entering variable.
+     * @param rows Number of constraint rows.
+     * @param rhs Column of the right hand side.
+     */
+    private void pivot(int row, int column, int rows, int rhs) {
+        double[] pivotRow = tableau[row];
+        double pivotValue = pivotRow[column];
+        for (int j = 0; j <= rhs; j++) {
+            pivotRow[j] /= pivotValue;
+        }
+        for (int i = 0; i <= rows; i++) {
+            if (i == row) {
+                continue;
+            }
+            double factor = tableau[i][column];
+            if (factor != 0) {
+                for (int j = 0; j <= rhs; j++) {
+                    tableau[i][j] -= factor * pivotRow[j];
+                }
+            }
+        }
+        basis[row] = column;
+    }
+
+    /**
+     * Helper function to find the lowest payoff of a game.
+     * @param payoff Payoff to the row player for every pair of moves.
+     * @param rows Number of moves of the row player.
+     * @param columns Number of moves of the column player.
+     * @return Returns the lowest payoff.
+     */
+    private static double minimum(double[][] payoff, int rows, int columns) {
+        double minimum = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                minimum = Math.min(minimum, payoff[i][j]);
+            }
+        }
+        return minimum;
+    }
+
+    /**
+     * Gets the highest number of moves of the row player.
+     * @return Returns the highest number of moves of the row player.
+     */
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    /**
+     * Gets the highest number of moves of the column player.
+     * @return Returns the highest number of moves of the column player.
+     */
+    public int getMaxColumns() {
+        return maxColumns;
+    }
+}
@@ -0,0 +1,237 @@
+package com.pokego.game.game_engine;
+
+import com.pokego.game.game_phase.PlayerWinner;
+import com.pokego.utility.GameRandom;
+
+/**
+ * The MctsSearch chooses a move with Monte Carlo Tree Search. Both players choose their moves at the same time, so every node keeps separate statistics for the moves of each player, and each player picks its own move with UCB1 (decoupled UCT). Each iteration copies the root state into a scratch BattleEngine, walks down the tree, adds one node, and finishes the match with random moves. The tree is stored in arrays allocated once, and the playouts only use the BattleEngine and GameRandom, so iterations do not allocate. It is not thread-safe, and one MctsSearch must only be used for battles between the same teams.
+ */
+public class MctsSearch {
+    private final static int JOINT_MOVES = BattleEngine.MOVE_COUNT * BattleEngine.MOVE_COUNT;
+    private final static int STATS_PER_NODE = 2 * BattleEngine.MOVE_COUNT;
+    private final static double EXPLORATION = Math.sqrt(2);
+    private final static int MAX_PLAYOUT_ROUNDS = 200;
+    private final static int MAX_DEPTH = 256;
+    private final static int DEADLINE_CHECK_INTERVAL = 64;
+
+    private GameRandom random;
+    private int capacity;
+    private int nodeCount;
+
+    private int[] visits; // [node]
+    private int[] moveVisits; // [node][player][move]
+    private double[] moveRewards; // [node][player][move], reward of each player, 1 for a win, 0.5 for a draw.
+    private int[] children; // [node][player one move][player two move], 0 if not expanded. The root is never a child.
+
+    private BattleEngine state;
+    private int[] pathNodes;
+    private int[] pathMoves;
+
+    private int iterations;
+
+    /**
+     * Constructs the MctsSearch.
+     * @param maxNodes Highest number of nodes in the tree. Searches keep running once it is full, without growing the tree.
+     * @param random GameRandom used by the playouts.
+     */
+    public MctsSearch(int maxNodes, GameRandom random) {
+        this.random = random;
+        capacity = Math.max(1, maxNodes);
+        visits = new int[capacity];
+        moveVisits = new int[capacity * STATS_PER_NODE];
+        moveRewards = new double[capacity * STATS_PER_NODE];
+        children = new int[capacity * JOINT_MOVES];
+        pathNodes = new int[MAX_DEPTH];
+        pathMoves = new int[MAX_DEPTH];
+    }
+
+    /**
+     * Searches for the best move of a player, until the iteration budget or the deadline is reached, or the thread is interrupted.
+     * @param root State of the battle to search from. Must not be changed during the search.
+     * @param player PLAYER_ONE or PLAYER_TWO, the player to choose a move for.
+     * @param maxIterations Highest number of iterations.
+     * @param deadlineNanos Value of System.nanoTime() at which the search stops.
+     * @return Returns the move slot most visited at the root.
+     */
+    public int search(BattleEngine root, int player, int maxIterations, long deadlineNanos) {
+        if (state == null) {
+            state = new BattleEngine(root);
+        }
+        nodeCount = 0;
+        newNode();
+
+        for (iterations = 0; iterations < maxIterations; iterations++) {
+            if (iterations % DEADLINE_CHECK_INTERVAL == 0
+                    && (System.nanoTime() >= deadlineNanos || Thread.currentThread().isInterrupted())) {
+                break;
+            }
+            state.copyStateFrom(root);
+            iterate();
+        }
+
+        return getMostVisitedMove(player);
+    }
+
+    /**
+     * Helper function to run one iteration: selection, expansion, playout and backpropagation.
+     */
+    private void iterate() {
+        int node = 0;
+        int depth = 0;
+        boolean expanded = false;
+
+        // Selection and expansion.
+        while (!state.isGameOver() && depth < MAX_DEPTH) {
+            int playerOneMove = selectMove(node, BattleEngine.PLAYER_ONE);
+            int playerTwoMove = selectMove(node, BattleEngine.PLAYER_TWO);
+            int jointMove = playerOneMove * BattleEngine.MOVE_COUNT + playerTwoMove;
+            pathNodes[depth] = node;
+            pathMoves[depth] = jointMove;
+            depth++;
+
+            state.resolveRound(playerOneMove, playerTwoMove);
+            int child = children[node * JOINT_MOVES + jointMove];
+            if (child == 0) {
+                if (!expanded && nodeCount < capacity) {
+                    child = newNode();
+                    children[node * JOINT_MOVES + jointMove] = child;
+                    expanded = true;
+                    node = child;
+                }
+                break;
+            }
+            node = child;
+        }
+
+        // Playout with random moves.
+        int playoutRounds = 0;
+        while (!state.isGameOver() && playoutRounds < MAX_PLAYOUT_ROUNDS) {
+            state.resolveRound(random.nextInt(BattleEngine.MOVE_COUNT), random.nextInt(BattleEngine.MOVE_COUNT));
+            playoutRounds++;
+        }
+        double reward = getPlayerOneReward(state.getWinner());
+
+        // Backpropagation.
+        if (expanded) {
+            visits[node]++;
+        }
+        for (int i = 0; i < depth; i++) {
+            int pathNode = pathNodes[i];
+            visits[pathNode]++;
+            addReward(pathNode, BattleEngine.PLAYER_ONE, pathMoves[i] / BattleEngine.MOVE_COUNT, reward);
+            addReward(pathNode, BattleEngine.PLAYER_TWO, pathMoves[i] % BattleEngine.MOVE_COUNT, 1 - reward);
+        }
+    }
+
+    /**
+     * Helper function to choose the move of a player at a node with UCB1. Moves never tried are chosen first.
+     * @param node Index of the node.
+     * @param player PLAYER_ONE or PLAYER_TWO.
+     * @return Returns the chosen move slot.
+     */
+    private int selectMove(int node, int player) {
+        int offset = statIndex(node, player, 0);
+        double logVisits = Math.log(Math.max(1, visits[node]));
+        int bestMove = 0;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int move = 0; move < BattleEngine.MOVE_COUNT; move++) {
+            int count = moveVisits[offset + move];
+            if (count == 0) {
+                return move;
+            }
+            double score = moveRewards[offset + move] / count + EXPLORATION * Math.sqrt(logVisits / count);
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+            }
+        }
+        return bestMove;
+    }
+
+    /**
+     * Helper function to add the reward of an iteration to a move.
+     * @param node Index of the node.
+     * @param player PLAYER_ONE or PLAYER_TWO.
+     * @param move Move slot chosen by the player.
+     * @param reward Reward of the player.
+     */
+    private void addReward(int node, int player, int move, double reward) {
+        int index = statIndex(node, player, move);
+        moveVisits[index]++;
+        moveRewards[index] += reward;
+    }
+
+    /**
+     * Helper function to add an empty node to the tree.
+     * @return Returns the index of the new node.
+     */
+    private int newNode() {
+        int node = nodeCount++;
+        visits[node] = 0;
+        for (int i = 0; i < STATS_PER_NODE; i++) {
+            moveVisits[node * STATS_PER_NODE + i] = 0;
+            moveRewards[node * STATS_PER_NODE + i] = 0;
+        }
+        for (int i = 0; i < JOINT_MOVES; i++) {
+            children[node * JOINT_MOVES + i] = 0;
+        }
+        return node;
+    }
+
+    /**
+     * Helper function to find the statistics of a move.
+     * @param node Index of the node.
+     * @param player PLAYER_ONE or PLAYER_TWO.
+     * @param move Move slot.
+     * @return Returns the index of the move in the statistics arrays.
+     */
+    private static int statIndex(int node, int player, int move) {
+        return node * STATS_PER_NODE + player * BattleEngine.MOVE_COUNT + move;
+    }
+
+    /**
+     * Helper function to score the end of a playout for player 1.
+     * @param winner Winner of the playout, null if it was stopped before the end.
+     * @return Returns 1 if player 1 won, 0 if player 2 won, 0.5 otherwise.
+     */
+    private static double getPlayerOneReward(PlayerWinner winner) {
+        if (winner == PlayerWinner.PLAYER_ONE) {
+            return 1;
+        } else if (winner == PlayerWinner.PLAYER_TWO) {
+            return 0;
+        }
+        return 0.5;
+    }
+
+    /**
+     * Gets the move of a player that was visited the most at the root.
+     * @param player PLAYER_ONE or PLAYER_TWO.
+     * @return Returns the most visited move slot.
+     */
+    public int getMostVisitedMove(int player) {
+        int offset = statIndex(0, player, 0);
+        int bestMove = 0;
+        for (int move = 1; move < BattleEngine.MOVE_COUNT; move++) {
+            if (moveVisits[offset + move] > moveVisits[offset + bestMove]) {
+                bestMove = move;
+            }
+        }
+        return bestMove;
+    }
+
+    /**
+     * Gets the number of iterations run by the last search.
+     * @return Returns the number of iterations run by the last search.
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Gets the number of nodes in the tree of the last search.
+     * @return Returns the number of nodes in the tree of the last search.
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+}
@@ -0,0 +1,15 @@
+package com.pokego.game.game_engine;
+
+/**
+ * A MoveStrategy chooses the move of a player every round when a match is resolved by the BattleEngine without a real Player, for example in the MatchSimulator.
+ */
+public interface MoveStrategy {
+
+    /**
+     * Chooses the move of a player for the next round.
+     * @param engine BattleEngine holding the current state of the battle. Must not be changed.
+     * @param player PLAYER_ONE or PLAYER_TWO, the player choosing the move.
+     * @return Returns BattleEngine.MOVE_FIRE, MOVE_WATER, MOVE_GRASS, MOVE_DEFENSE or MOVE_NONE.
+     */
+    int chooseMove(BattleEngine engine, int player);
+}
@@ -0,0 +1,29 @@
+package com.pokego.game.game_engine;
+
+import java.util.Random;
+
+/**
+ * The RandomMoveStrategy chooses any of the 4 moves of the current Character with equal chance.
+ */
+public class RandomMoveStrategy implements MoveStrategy {
+    private Random random;
+
+    /**
+     * Constructs the RandomMoveStrategy.
+     * @param random Random used to choose the moves.
+     */
+    public RandomMoveStrategy(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Chooses a random move of the current Character.
+     * @param engine BattleEngine holding the current state of the battle.
+     * @param player PLAYER_ONE or PLAYER_TWO, the player choosing the move.
+     * @return Returns a random move slot.
+     */
+    @Override
+    public int chooseMove(BattleEngine engine, int player) {
+        return random.nextInt(BattleEngine.MOVE_COUNT);
+    }
+}
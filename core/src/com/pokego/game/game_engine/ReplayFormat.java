@@ -0,0 +1,113 @@
+package com.pokego.game.game_engine;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Constants and encoding helpers shared by the ReplayWriter and ReplayReader. All numbers are big endian.
+ * A replay file holds a header, one record per round, and a footer:
+ * - Header: MAGIC, VERSION, the seed, then for each player the name (varint length and UTF-8 bytes) and the team (varint size and varint characterIDs).
+ * - Record: one byte holding both move slots and two flags, then the HP lost by each player as a varint, only if its flag is set. Most rounds take 1 to 3 bytes.
+ * - Footer: the winner, the sparse index (the file offset of every INDEX_INTERVAL-th round), then the number of rounds, the offset of the footer and FOOTER_MAGIC.
+ */
+final class ReplayFormat {
+    final static int MAGIC = 0x50475250; // "PGRP"
+    final static int FOOTER_MAGIC = 0x50474958; // "PGIX"
+    final static int VERSION = 1;
+
+    final static int INDEX_INTERVAL = 32;
+    final static int BUFFER_SIZE = 64 * 1024;
+    final static int TAIL_SIZE = 4 + 8 + 4; // Rounds, footer offset and footer magic.
+    final static int MAX_RECORD_SIZE = 1 + 5 + 5;
+
+    final static int NO_WINNER = -1;
+
+    private final static int MOVE_VALUES = BattleEngine.MOVE_COUNT + 1; // Move slots and MOVE_NONE.
+    private final static int MOVES_MASK = 0x1F;
+    private final static int PLAYER_ONE_DELTA_FLAG = 0x20;
+    private final static int PLAYER_TWO_DELTA_FLAG = 0x40;
+
+    /**
+     * Not used, ReplayFormat only holds static members.
+     */
+    private ReplayFormat() {
+    }
+
+    /**
+     * Encodes the first byte of a record.
+     * @param playerOneMove Move slot of player 1, BattleEngine.MOVE_NONE if no move was chosen.
+     * @param playerTwoMove Move slot of player 2, BattleEngine.MOVE_NONE if no move was chosen.
+     * @param playerOneDelta HP lost by player 1.
+     * @param playerTwoDelta HP lost by player 2.
+     * @return Returns the first byte of the record.
+     */
+    static int encodeRoundByte(int playerOneMove, int playerTwoMove, int playerOneDelta, int playerTwoDelta) {
+        int moves = (playerOneMove + 1) * MOVE_VALUES + (playerTwoMove + 1);
+        return moves | (playerOneDelta != 0 ? PLAYER_ONE_DELTA_FLAG : 0) | (playerTwoDelta != 0 ? PLAYER_TWO_DELTA_FLAG : 0);
+    }
+
+    /**
+     * Decodes player 1's move slot from the first byte of a record.
+     * @param roundByte First byte of the record.
+     * @return Returns the move slot, BattleEngine.MOVE_NONE if no move was chosen.
+     */
+    static int decodePlayerOneMove(int roundByte) {
+        return (roundByte & MOVES_MASK) / MOVE_VALUES - 1;
+    }
+
+    /**
+     * Decodes player 2's move slot from the first byte of a record.
+     * @param roundByte First byte of the record.
+     * @return Returns the move slot, BattleEngine.MOVE_NONE if no move was chosen.
+     */
+    static int decodePlayerTwoMove(int roundByte) {
+        return (roundByte & MOVES_MASK) % MOVE_VALUES - 1;
+    }
+
+    /**
+     * Returns true if the record stores the HP lost by player 1. False if it was 0.
+     * @param roundByte First byte of the record.
+     * @return Returns true if the record stores the HP lost by player 1. False if it was 0.
+     */
+    static boolean hasPlayerOneDelta(int roundByte) {
+        return (roundByte & PLAYER_ONE_DELTA_FLAG) != 0;
+    }
+
+    /**
+     * Returns true if the record stores the HP lost by player 2. False if it was 0.
+     * @param roundByte First byte of the record.
+     * @return Returns true if the record stores the HP lost by player 2. False if it was 0.
+     */
+    static boolean hasPlayerTwoDelta(int roundByte) {
+        return (roundByte & PLAYER_TWO_DELTA_FLAG) != 0;
+    }
+
+    /**
+     * Writes an unsigned varint, 7 bits per byte, lowest bits first.
+     * @param buffer Buffer to write to.
+     * @param value Value to write, never negative.
+     */
+    static void putVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Reads an unsigned varint written by putVarint().
+     * @param buffer Buffer to read from.
+     * @return Returns the value read.
+     */
+    static int getVarint(ByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+}
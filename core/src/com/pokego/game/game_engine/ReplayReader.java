@@ -0,0 +1,295 @@
+package com.pokego.game.game_engine;
+
+import com.pokego.game.game_phase.PlayerWinner;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The ReplayReader streams a binary replay file written by the ReplayWriter. The header and footer are read when the file is opened, then nextRound() decodes one record at a time from a direct buffer into plain fields, so reading a round never allocates. seek() jumps to any round through the sparse index, reading at most ReplayFormat.INDEX_INTERVAL records.
+ */
+public class ReplayReader implements Closeable {
+    private final static Charset UTF_8 = Charset.forName("UTF-8");
+
+    private FileChannel channel;
+    private ByteBuffer buffer;
+
+    private long seed;
+    private String[] names;
+    private int[][] teams;
+
+    private int rounds;
+    private PlayerWinner winner;
+    private int[] indexRounds;
+    private long[] indexOffsets;
+
+    // Last record read.
+    private int round;
+    private int playerOneMove;
+    private int playerTwoMove;
+    private int playerOneDelta;
+    private int playerTwoDelta;
+
+    /**
+     * Opens a replay file and reads its header and footer.
+     * @param filePath File path of the replay file.
+     * @throws IOException If the file cannot be read or is not a replay file.
+     */
+    public ReplayReader(String filePath) throws IOException {
+        channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ);
+        try {
+            buffer = ByteBuffer.allocateDirect(ReplayFormat.BUFFER_SIZE);
+            readFooter(filePath);
+            readHeader(filePath);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e instanceof IOException ? (IOException) e : new IOException("Not a replay: " + filePath, e);
+        }
+    }
+
+    /**
+     * Helper function to read the header, leaving the buffer at the first record.
+     * @param filePath File path of the replay file, for error messages.
+     * @throws IOException If the file cannot be read or is not a replay file.
+     */
+    private void readHeader(String filePath) throws IOException {
+        channel.position(0);
+        buffer.clear();
+        buffer.limit(0);
+        fill();
+        if (buffer.remaining() < 16 || buffer.getInt() != ReplayFormat.MAGIC || buffer.getInt() != ReplayFormat.VERSION) {
+            throw new IOException("Not a replay: " + filePath);
+        }
+        seed = buffer.getLong();
+
+        names = new String[2];
+        teams = new int[2][];
+        for (int player = 0; player < 2; player++) {
+            byte[] nameBytes = new byte[ReplayFormat.getVarint(buffer)];
+            buffer.get(nameBytes);
+            names[player] = new String(nameBytes, UTF_8);
+
+            teams[player] = new int[ReplayFormat.getVarint(buffer)];
+            for (int i = 0; i < teams[player].length; i++) {
+                teams[player][i] = ReplayFormat.getVarint(buffer);
+            }
+        }
+        round = 0;
+    }
+
+    /**
+     * Helper function to read the footer holding the winner and the sparse index.
+     * @param filePath File path of the replay file, for error messages.
+     * @throws IOException If the file cannot be read or is not a replay file.
+     */
+    private void readFooter(String filePath) throws IOException {
+        long size = channel.size();
+        if (size < ReplayFormat.TAIL_SIZE) {
+            throw new IOException("Not a replay: " + filePath);
+        }
+        ByteBuffer tail = readAt(size - ReplayFormat.TAIL_SIZE, ReplayFormat.TAIL_SIZE);
+        rounds = tail.getInt();
+        long footerOffset = tail.getLong();
+        if (tail.getInt() != ReplayFormat.FOOTER_MAGIC || footerOffset < 0 || footerOffset > size - ReplayFormat.TAIL_SIZE) {
+            throw new IOException("Replay has no footer, it was not finished: " + filePath);
+        }
+
+        ByteBuffer footer = readAt(footerOffset, (int) (size - ReplayFormat.TAIL_SIZE - footerOffset));
+        int winnerOrdinal = footer.get();
+        winner = winnerOrdinal == ReplayFormat.NO_WINNER ? null : PlayerWinner.values()[winnerOrdinal];
+        int indexSize = footer.getInt();
+        indexRounds = new int[indexSize];
+        indexOffsets = new long[indexSize];
+        for (int i = 0; i < indexSize; i++) {
+            indexRounds[i] = footer.getInt();
+            indexOffsets[i] = footer.getLong();
+        }
+    }
+
+    /**
+     * Helper function to read a part of the file into the buffer, used only when the file is opened.
+     * @param offset File offset to read from.
+     * @param length Number of bytes to read, at most the buffer size.
+     * @return Returns the buffer, ready to be read.
+     * @throws IOException If the file cannot be read.
+     */
+    private ByteBuffer readAt(long offset, int length) throws IOException {
+        ByteBuffer part = length <= buffer.capacity() ? buffer : ByteBuffer.allocate(length);
+        part.clear();
+        part.limit(length);
+        channel.position(offset);
+        while (part.hasRemaining()) {
+            if (channel.read(part) < 0) {
+                throw new IOException("Unexpected end of replay");
+            }
+        }
+        part.flip();
+        return part;
+    }
+
+    /**
+     * Helper function to move the unread bytes to the start of the buffer and read more of the file after them.
+     * @throws IOException If the file cannot be read.
+     */
+    private void fill() throws IOException {
+        buffer.compact();
+        while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+            // Keep reading until the buffer is full or the file ends.
+        }
+        buffer.flip();
+    }
+
+    /**
+     * Reads the record of the next round. Its moves and HP deltas can then be read with the getters.
+     * @return Returns true if a round was read. False if all rounds were read.
+     * @throws IOException If the file cannot be read.
+     */
+    public boolean nextRound() throws IOException {
+        if (round >= rounds) {
+            return false;
+        }
+        if (buffer.remaining() < ReplayFormat.MAX_RECORD_SIZE) {
+            fill();
+        }
+
+        int roundByte = buffer.get() & 0xFF;
+        playerOneMove = ReplayFormat.decodePlayerOneMove(roundByte);
+        playerTwoMove = ReplayFormat.decodePlayerTwoMove(roundByte);
+        playerOneDelta = ReplayFormat.hasPlayerOneDelta(roundByte) ? ReplayFormat.getVarint(buffer) : 0;
+        playerTwoDelta = ReplayFormat.hasPlayerTwoDelta(roundByte) ? ReplayFormat.getVarint(buffer) : 0;
+        round++;
+        return true;
+    }
+
+    /**
+     * Moves to a round, so that the next call to nextRound() reads it. Jumps to the closest indexed round before it, then skips the records in between.
+     * @param targetRound Number of the round, starting from 1.
+     * @throws IOException If the file cannot be read.
+     */
+    public void seek(int targetRound) throws IOException {
+        targetRound = Math.max(1, Math.min(targetRound, rounds + 1));
+
+        // Binary search for the last indexed round at or before the target.
+        int low = 0;
+        int high = indexRounds.length - 1;
+        int entry = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (indexRounds[middle] <= targetRound) {
+                entry = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        if (entry == -1) {
+            return; // No rounds recorded.
+        }
+        if (targetRound < round + 1 || indexRounds[entry] > round + 1) {
+            channel.position(indexOffsets[entry]);
+            buffer.clear();
+            buffer.limit(0);
+            round = indexRounds[entry] - 1;
+        }
+        while (round + 1 < targetRound) {
+            nextRound();
+        }
+    }
+
+    /**
+     * Reads all remaining rounds into a MatchRecord.
+     * @return Returns the MatchRecord holding the header, the winner and the rounds from the current position.
+     * @throws IOException If the file cannot be read.
+     */
+    public MatchRecord toMatchRecord() throws IOException {
+        MatchRecord record = new MatchRecord(seed, names[0], names[1], teams[0], teams[1]);
+        while (nextRound()) {
+            record.addRound(playerOneMove, playerTwoMove, playerOneDelta, playerTwoDelta);
+        }
+        record.setWinner(winner);
+        return record;
+    }
+
+    /**
+     * Gets the seed of the GameRng at the start of the match.
+     * @return Returns the seed of the match.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the name of a Player.
+     * @param player BattleEngine.PLAYER_ONE or PLAYER_TWO.
+     * @return Returns the name of the Player.
+     */
+    public String getName(int player) {
+        return names[player];
+    }
+
+    /**
+     * Gets the team of a Player.
+     * @param player BattleEngine.PLAYER_ONE or PLAYER_TWO.
+     * @return Returns the characterIDs of the team, in order.
+     */
+    public int[] getTeam(int player) {
+        return teams[player];
+    }
+
+    /**
+     * Gets the number of rounds in the file.
+     * @return Returns the number of rounds in the file.
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Gets the winner of the match.
+     * @return Returns the winner of the match, null if it did not end.
+     */
+    public PlayerWinner getWinner() {
+        return winner;
+    }
+
+    /**
+     * Gets the number of the last round read.
+     * @return Returns the number of the last round read, starting from 1. 0 if no round was read.
+     */
+    public int getRound() {
+        return round;
+    }
+
+    /**
+     * Gets the move slot chosen by a Player in the last round read.
+     * @param player BattleEngine.PLAYER_ONE or PLAYER_TWO.
+     * @return Returns the move slot, BattleEngine.MOVE_NONE if no move was chosen.
+     */
+    public int getMove(int player) {
+        return player == BattleEngine.PLAYER_ONE ? playerOneMove : playerTwoMove;
+    }
+
+    /**
+     * Gets the HP lost by a Player's current Character in the last round read.
+     * @param player BattleEngine.PLAYER_ONE or PLAYER_TWO.
+     * @return Returns the HP lost in the last round read.
+     */
+    public int getHpDelta(int player) {
+        return player == BattleEngine.PLAYER_ONE ? playerOneDelta : playerTwoDelta;
+    }
+
+    /**
+     * Closes the file.
+     * @throws IOException If the file cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,187 @@
+package com.pokego.game.game_engine;
+
+import com.pokego.game.game_phase.PlayerWinner;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The ReplayWriter streams a match to a binary replay file, in the format described by ReplayFormat. Records are encoded into one direct buffer that is written to the FileChannel when full, so writing a round never allocates. The file offset of every ReplayFormat.INDEX_INTERVAL-th round is kept for the sparse index, written with the footer by finish().
+ */
+public class ReplayWriter implements Closeable {
+    private final static Charset UTF_8 = Charset.forName("UTF-8");
+
+    private FileChannel channel;
+    private ByteBuffer buffer;
+    private long flushedBytes;
+
+    private int rounds;
+    private int[] indexRounds;
+    private long[] indexOffsets;
+    private int indexSize;
+    private boolean finished;
+
+    /**
+     * Creates the replay file and writes its header. Missing folders are created.
+     * @param filePath File path to write to.
+     * @param seed Seed of the GameRng at the start of the match.
+     * @param playerOneName Player 1's name.
+     * @param playerTwoName Player 2's name.
+     * @param playerOneTeam CharacterIDs of player 1's team, in order.
+     * @param playerTwoTeam CharacterIDs of player 2's team, in order.
+     * @throws IOException If the file cannot be written.
+     */
+    public ReplayWriter(String filePath, long seed, String playerOneName, String playerTwoName, int[] playerOneTeam, int[] playerTwoTeam) throws IOException {
+        File file = new File(filePath);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        buffer = ByteBuffer.allocateDirect(ReplayFormat.BUFFER_SIZE);
+        indexRounds = new int[16];
+        indexOffsets = new long[16];
+
+        buffer.putInt(ReplayFormat.MAGIC);
+        buffer.putInt(ReplayFormat.VERSION);
+        buffer.putLong(seed);
+        putPlayer(playerOneName, playerOneTeam);
+        putPlayer(playerTwoName, playerTwoTeam);
+    }
+
+    /**
+     * Helper function to write the name and team of a player to the header.
+     * @param name Name of the player.
+     * @param team CharacterIDs of the team, in order.
+     * @throws IOException If the file cannot be written.
+     */
+    private void putPlayer(String name, int[] team) throws IOException {
+        byte[] nameBytes = name.getBytes(UTF_8);
+        ensureSpace(5 + nameBytes.length + 5 * (team.length + 1));
+        ReplayFormat.putVarint(buffer, nameBytes.length);
+        buffer.put(nameBytes);
+        ReplayFormat.putVarint(buffer, team.length);
+        for (int characterID : team) {
+            ReplayFormat.putVarint(buffer, characterID);
+        }
+    }
+
+    /**
+     * Writes the record of one round.
+     * @param playerOneMove Move slot chosen by player 1, BattleEngine.MOVE_NONE if no move was chosen.
+     * @param playerTwoMove Move slot chosen by player 2, BattleEngine.MOVE_NONE if no move was chosen.
+     * @param playerOneDelta HP lost by player 1's current Character.
+     * @param playerTwoDelta HP lost by player 2's current Character.
+     * @throws IOException If the file cannot be written.
+     */
+    public void writeRound(int playerOneMove, int playerTwoMove, int playerOneDelta, int playerTwoDelta) throws IOException {
+        ensureSpace(ReplayFormat.MAX_RECORD_SIZE);
+        if (rounds % ReplayFormat.INDEX_INTERVAL == 0) {
+            addIndexEntry(rounds + 1, flushedBytes + buffer.position());
+        }
+
+        buffer.put((byte) ReplayFormat.encodeRoundByte(playerOneMove, playerTwoMove, playerOneDelta, playerTwoDelta));
+        if (playerOneDelta != 0) {
+            ReplayFormat.putVarint(buffer, playerOneDelta);
+        }
+        if (playerTwoDelta != 0) {
+            ReplayFormat.putVarint(buffer, playerTwoDelta);
+        }
+        rounds++;
+    }
+
+    /**
+     * Helper function to add an entry to the sparse index. The index doubles in size when full, so it only grows every few thousand rounds.
+     * @param round Number of the round, starting from 1.
+     * @param offset File offset of the record of the round.
+     */
+    private void addIndexEntry(int round, long offset) {
+        if (indexSize == indexRounds.length) {
+            int[] newRounds = new int[indexSize * 2];
+            long[] newOffsets = new long[indexSize * 2];
+            System.arraycopy(indexRounds, 0, newRounds, 0, indexSize);
+            System.arraycopy(indexOffsets, 0, newOffsets, 0, indexSize);
+            indexRounds = newRounds;
+            indexOffsets = newOffsets;
+        }
+        indexRounds[indexSize] = round;
+        indexOffsets[indexSize] = offset;
+        indexSize++;
+    }
+
+    /**
+     * Writes the footer holding the winner and the sparse index. No rounds can be written afterwards.
+     * @param winner Winner of the match, null if it did not end.
+     * @throws IOException If the file cannot be written.
+     */
+    public void finish(PlayerWinner winner) throws IOException {
+        if (finished) {
+            return;
+        }
+        finished = true;
+
+        ensureSpace(1);
+        long footerOffset = flushedBytes + buffer.position();
+        buffer.put((byte) (winner == null ? ReplayFormat.NO_WINNER : winner.ordinal()));
+        ensureSpace(4);
+        buffer.putInt(indexSize);
+        for (int i = 0; i < indexSize; i++) {
+            ensureSpace(4 + 8);
+            buffer.putInt(indexRounds[i]);
+            buffer.putLong(indexOffsets[i]);
+        }
+        ensureSpace(ReplayFormat.TAIL_SIZE);
+        buffer.putInt(rounds);
+        buffer.putLong(footerOffset);
+        buffer.putInt(ReplayFormat.FOOTER_MAGIC);
+        flush();
+    }
+
+    /**
+     * Helper function to write the buffer to the file if it has less free space than needed.
+     * @param bytes Number of bytes about to be put in the buffer.
+     * @throws IOException If the file cannot be written.
+     */
+    private void ensureSpace(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    /**
+     * Helper function to write the whole buffer to the file.
+     * @throws IOException If the file cannot be written.
+     */
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            flushedBytes += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Gets the number of rounds written.
+     * @return Returns the number of rounds written.
+     */
+    public int getRounds() {
+        return rounds;
+    }
+
+    /**
+     * Finishes the file without a winner if finish() was not called, then closes it.
+     * @throws IOException If the file cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            finish(null);
+        } finally {
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.pokego.game.game_engine;
+
+import com.pokego.game.game_phase.PlayerWinner;
+
+/**
+ * The RoundResult holds everything the BattleEngine decided in one round: the damage received by each Player's Character, whose Character fainted, whose next Character was sent out, and the winner once the game is over. The BattleEngine reuses the same RoundResult every round, so it must be read before the next round is resolved.
+ */
+public class RoundResult {
+    private int round;
+
+    private int playerOneDamage;
+    private int playerTwoDamage;
+    private int playerOneHealth;
+    private int playerTwoHealth;
+
+    private boolean playerOneFainted;
+    private boolean playerTwoFainted;
+    private boolean playerOneSentNext;
+    private boolean playerTwoSentNext;
+
+    private PlayerWinner winner;
+
+    /**
+     * Helper function for the BattleEngine to store the outcome of a round.
+     * @param round Number of the round, starting from 1.
+     * @param playerOneDamage Damage received by player 1's Character.
+     * @param playerTwoDamage Damage received by player 2's Character.
+     * @param playerOneHealth Health points of player 1's Character after the damage.
+     * @param playerTwoHealth Health points of player 2's Character after the damage.
+     */
+    void set(int round, int playerOneDamage, int playerTwoDamage, int playerOneHealth, int playerTwoHealth) {
+        this.round = round;
+        this.playerOneDamage = playerOneDamage;
+        this.playerTwoDamage = playerTwoDamage;
+        this.playerOneHealth = playerOneHealth;
+        this.playerTwoHealth = playerTwoHealth;
+        playerOneFainted = playerOneHealth == 0;
+        playerTwoFainted = playerTwoHealth == 0;
+        playerOneSentNext = false;
+        playerTwoSentNext = false;
+        winner = null;
+    }
+
+    /**
+     * Helper function for the BattleEngine to store which Players sent out their next Character.
+     * @param playerOneSentNext True if player 1 sent out their next Character. False otherwise.
+     * @param playerTwoSentNext True if player 2 sent out their next Character. False otherwise.
+     */
+    void setSentNext(boolean playerOneSentNext, boolean playerTwoSentNext) {
+        this.playerOneSentNext = playerOneSentNext;
+        this.playerTwoSentNext = playerTwoSentNext;
+    }
+
+    /**
+     * Helper function for the BattleEngine to store the winner of the game.
+     * @param winner Winner of the game, null if the game is not over.
+     */
+    void setWinner(PlayerWinner winner) {
+        this.winner = winner;
+    }
+
+    /**
+     * Gets the number of the round, starting from 1.
+     * @return Returns the number of the round, starting from 1.
+     */
+    public int getRound() {
+        return round;
+    }
+
+    /**
+     * Gets the damage received by player 1's Character this round.
+     * @return Returns the damage received by player 1's Character this round.
+     */
+    public int getPlayerOneDamage() {
+        return playerOneDamage;
+    }
+
+    /**
+     * Gets the damage received by player 2's Character this round.
+     * @return Returns the damage received by player 2's Character this round.
+     */
+    public int getPlayerTwoDamage() {
+        return playerTwoDamage;
+    }
+
+    /**
+     * Gets the health points of player 1's Character after this round's damage.
+     * @return Returns the health points of player 1's Character after this round's damage.
+     */
+    public int getPlayerOneHealth() {
+        return playerOneHealth;
+    }
+
+    /**
+     * Gets the health points of player 2's Character after this round's damage.
+     * @return Returns the health points of player 2's Character after this round's damage.
+     */
+    public int getPlayerTwoHealth() {
+        return playerTwoHealth;
+    }
+
+    /**
+     * Returns true if player 1's Character fainted this round. False otherwise.
+     * @return Returns true if player 1's Character fainted this round. False otherwise.
+     */
+    public boolean isPlayerOneFainted() {
+        return playerOneFainted;
+    }
+
+    /**
+     * Returns true if player 2's Character fainted this round. False otherwise.
+     * @return Returns true if player 2's Character fainted this round. False otherwise.
+     */
+    public boolean isPlayerTwoFainted() {
+        return playerTwoFainted;
+    }
+
+    /**
+     * Returns true if any Character fainted this round. False otherwise.
+     * @return Returns true if any Character fainted this round. False otherwise.
+     */
+    public boolean isAnyFainted() {
+        return playerOneFainted || playerTwoFainted;
+    }
+
+    /**
+     * Returns true if player 1 sent out their next Character after this round. False otherwise.
+     * @return Returns true if player 1 sent out their next Character after this round. False otherwise.
+     */
+    public boolean isPlayerOneSentNext() {
+        return playerOneSentNext;
+    }
+
+    /**
+     * Returns true if player 2 sent out their next Character after this round. False otherwise.
+     * @return Returns true if player 2 sent out their next Character after this round. False otherwise.
+     */
+    public boolean isPlayerTwoSentNext() {
+        return playerTwoSentNext;
+    }
+
+    /**
+     * Returns true if the game ended this round. False otherwise.
+     * @return Returns true if the game ended this round. False otherwise.
+     */
+    public boolean isGameOver() {
+        return winner != null;
+    }
+
+    /**
+     * Gets the winner of the game. Possible values defined by PlayerWinner enum.
+     * @return Returns the winner of the game, null if the game is not over.
+     */
+    public PlayerWinner getWinner() {
+        return winner;
+    }
+}
@@ -0,0 +1,45 @@
+package com.pokego.game.game_engine;
+
+import java.util.Random;
+
+/**
+ * The TeamDrafter holds the rules for drafting a team at the start of a game. Character IDs are drawn at random between 1 and the number of Characters, and IDs already drawn are drawn again, until the team is full. The GameStartState, the MatchSimulator and the tournaments all draft with these rules.
+ */
+public class TeamDrafter {
+
+    /**
+     * Drafts a team of distinct Character IDs.
+     * @param random Random used to draw the IDs.
+     * @param charsAvailable Number of Characters to draw from, IDs 1 to charsAvailable.
+     * @param team Array to fill with the drafted IDs, its length is the team size. Must not be larger than charsAvailable.
+     * @return Returns the filled team array, in draft order.
+     */
+    public static int[] draft(Random random, int charsAvailable, int[] team) {
+        int drafted = 0;
+        while (drafted != team.length) {
+            int charID = random.nextInt(charsAvailable) + 1;
+            // If charID was not drafted yet, add to team
+            if (!contains(team, drafted, charID)) {
+                team[drafted] = charID;
+                drafted++;
+            }
+        }
+        return team;
+    }
+
+    /**
+     * Helper function to check if an ID was already drafted.
+     * @param team Team being drafted.
+     * @param drafted Number of IDs drafted so far.
+     * @param charID ID to check.
+     * @return Returns true if the ID is one of the drafted IDs. False otherwise.
+     */
+    private static boolean contains(int[] team, int drafted, int charID) {
+        for (int i = 0; i < drafted; i++) {
+            if (team[i] == charID) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,177 @@
+package com.pokego.game.game_engine;
+
+import com.pokego.game.game_data.CharacterDefinition;
+import com.pokego.game.game_data.Player;
+import com.pokego.game.game_phase.PlayerWinner;
+import com.pokego.utility.GameDataCatalog;
+import com.pokego.utility.GameRandom;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The TournamentRunner plays a large number of matches between randomly drafted teams, spread across all cores with a ForkJoinPool. Teams are drafted by the TeamDrafter like in the GameStartState, and both players choose random moves. The matches are split into batches, and each batch gets its own BattleEngine, MatchSimulator, TournamentStats and a GameRandom split from the tournament seed, so workers share nothing while playing. The same seed always gives the same results, whatever the number of cores.
+ */
+public class TournamentRunner {
+    public final static int DEFAULT_BATCH_SIZE = 4096;
+
+    private GameDataCatalog catalog;
+    private ForkJoinPool pool;
+    private int batchSize;
+
+    private long elapsedNanos;
+
+    /**
+     * Constructs the TournamentRunner with one worker per core.
+     * @param catalog GameDataCatalog holding all Characters.
+     */
+    public TournamentRunner(GameDataCatalog catalog) {
+        this(catalog, new ForkJoinPool(), DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructs the TournamentRunner.
+     * @param catalog GameDataCatalog holding all Characters.
+     * @param pool ForkJoinPool running the matches.
+     * @param batchSize Number of matches played by a worker before it merges its counters.
+     */
+    public TournamentRunner(GameDataCatalog catalog, ForkJoinPool pool, int batchSize) {
+        this.catalog = catalog;
+        this.pool = pool;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Plays a tournament and waits for it to finish.
+     * @param matches Number of matches to play.
+     * @param seed Seed of the tournament.
+     * @return Returns the merged TournamentStats of all matches.
+     */
+    public TournamentStats run(long matches, long seed) {
+        long start = System.nanoTime();
+        TournamentStats stats = pool.invoke(new TournamentTask(matches, new GameRandom(seed)));
+        elapsedNanos = System.nanoTime() - start;
+        return stats;
+    }
+
+    /**
+     * Gets the time taken by the last tournament.
+     * @return Returns the time taken by the last tournament in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Gets the number of matches played per second in the last tournament.
+     * @param stats TournamentStats of the last tournament.
+     * @return Returns the number of matches played per second.
+     */
+    public double getMatchesPerSecond(TournamentStats stats) {
+        return elapsedNanos == 0 ? 0 : stats.getMatches() * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Gets the number of workers of the ForkJoinPool.
+     * @return Returns the number of workers of the ForkJoinPool.
+     */
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    /**
+     * Shuts down the workers of the ForkJoinPool.
+     */
+    public void dispose() {
+        pool.shutdown();
+    }
+
+    /**
+     * Plays a range of matches, splitting it in halves until it fits in a batch. The GameRandom is split before forking, so every batch gets the same generator whichever worker runs it.
+     */
+    private class TournamentTask extends RecursiveTask<TournamentStats> {
+        private final static long serialVersionUID = 1L;
+
+        private long matches;
+        private GameRandom random;
+
+        /**
+         * Constructs the TournamentTask.
+         * @param matches Number of matches to play.
+         * @param random GameRandom owned by the task.
+         */
+        TournamentTask(long matches, GameRandom random) {
+            this.matches = matches;
+            this.random = random;
+        }
+
+        /**
+         * Plays the matches, or splits them between two TournamentTasks.
+         * @return Returns the TournamentStats of the matches.
+         */
+        @Override
+        protected TournamentStats compute() {
+            if (matches <= batchSize) {
+                return playBatch();
+            }
+
+            long half = matches / 2;
+            TournamentTask left = new TournamentTask(half, random.split());
+            TournamentTask right = new TournamentTask(matches - half, random.split());
+            left.fork();
+            TournamentStats stats = right.compute();
+            stats.merge(left.join());
+            return stats;
+        }
+
+        /**
+         * Helper function to play all matches of the task on one BattleEngine.
+         * @return Returns the TournamentStats of the matches.
+         */
+        private TournamentStats playBatch() {
+            int charsAvailable = catalog.getCharacterCount();
+            TournamentStats stats = new TournamentStats(charsAvailable);
+
+            int[] playerOneIDs = new int[Player.DEFAULT_NO_CHARACTERS];
+            int[] playerTwoIDs = new int[Player.DEFAULT_NO_CHARACTERS];
+            int[] playerOneTypes = new int[Player.DEFAULT_NO_CHARACTERS];
+            int[] playerTwoTypes = new int[Player.DEFAULT_NO_CHARACTERS];
+            CharacterDefinition[] playerOneTeam = new CharacterDefinition[Player.DEFAULT_NO_CHARACTERS];
+            CharacterDefinition[] playerTwoTeam = new CharacterDefinition[Player.DEFAULT_NO_CHARACTERS];
+
+            MoveStrategy strategy = new RandomMoveStrategy(random);
+            BattleEngine engine = null;
+            MatchSimulator simulator = null;
+
+            for (long match = 0; match < matches; match++) {
+                draftTeam(playerOneIDs, playerOneTypes, playerOneTeam);
+                draftTeam(playerTwoIDs, playerTwoTypes, playerTwoTeam);
+
+                if (engine == null) {
+                    engine = new BattleEngine(catalog.getTypeChart(), playerOneTeam, playerTwoTeam);
+                    simulator = new MatchSimulator(engine, strategy, strategy);
+                } else {
+                    engine.setTeams(playerOneTeam, playerTwoTeam);
+                }
+
+                PlayerWinner winner = simulator.run();
+                stats.record(winner, simulator.getRounds(), playerOneIDs, playerOneTypes, playerTwoIDs, playerTwoTypes);
+            }
+            return stats;
+        }
+
+        /**
+         * Helper function to draft a team into reused arrays.
+         * @param ids Array to fill with the CharacterIDs.
+         * @param types Array to fill with the Type ordinals.
+         * @param team Array to fill with the CharacterDefinitions.
+         */
+        private void draftTeam(int[] ids, int[] types, CharacterDefinition[] team) {
+            TeamDrafter.draft(random, catalog.getCharacterCount(), ids);
+            for (int i = 0; i < ids.length; i++) {
+                team[i] = catalog.getCharacterDefinition(ids[i]);
+                types[i] = team[i].getCharacterType().ordinal();
+            }
+        }
+    }
+}
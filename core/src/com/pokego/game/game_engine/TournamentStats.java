@@ -0,0 +1,151 @@
+package com.pokego.game.game_engine;
+
+import com.pokego.game.game_data.Type;
+import com.pokego.game.game_phase.PlayerWinner;
+
+/**
+ * The TournamentStats counts the results of the matches played by one tournament worker. Each worker owns its TournamentStats, so counting needs no locks, and the counters of all workers are merged once the tournament ends. Character counters are indexed by characterID, Type counters by Type ordinal.
+ */
+public class TournamentStats {
+    private long matches;
+    private long rounds;
+    private long draws;
+
+    private long[] characterGames;
+    private long[] characterWins;
+    private long[] typeGames;
+    private long[] typeWins;
+
+    /**
+     * Constructs the TournamentStats with all counters at 0.
+     * @param maxCharacterID Highest characterID that can be drafted.
+     */
+    public TournamentStats(int maxCharacterID) {
+        characterGames = new long[maxCharacterID + 1];
+        characterWins = new long[maxCharacterID + 1];
+        typeGames = new long[Type.values().length];
+        typeWins = new long[Type.values().length];
+    }
+
+    /**
+     * Counts the result of a match.
+     * @param winner Winner of the match, DRAW or null if no team won.
+     * @param matchRounds Number of rounds played.
+     * @param playerOneIDs CharacterIDs of player 1's team.
+     * @param playerOneTypes Type ordinals of player 1's team.
+     * @param playerTwoIDs CharacterIDs of player 2's team.
+     * @param playerTwoTypes Type ordinals of player 2's team.
+     */
+    public void record(PlayerWinner winner, int matchRounds, int[] playerOneIDs, int[] playerOneTypes, int[] playerTwoIDs, int[] playerTwoTypes) {
+        matches++;
+        rounds += matchRounds;
+        if (winner != PlayerWinner.PLAYER_ONE && winner != PlayerWinner.PLAYER_TWO) {
+            draws++;
+        }
+        recordTeam(playerOneIDs, playerOneTypes, winner == PlayerWinner.PLAYER_ONE);
+        recordTeam(playerTwoIDs, playerTwoTypes, winner == PlayerWinner.PLAYER_TWO);
+    }
+
+    /**
+     * Helper function to count a match for every Character of a team.
+     * @param ids CharacterIDs of the team.
+     * @param types Type ordinals of the team.
+     * @param won True if the team won the match. False otherwise.
+     */
+    private void recordTeam(int[] ids, int[] types, boolean won) {
+        int win = won ? 1 : 0;
+        for (int i = 0; i < ids.length; i++) {
+            characterGames[ids[i]]++;
+            characterWins[ids[i]] += win;
+            typeGames[types[i]]++;
+            typeWins[types[i]] += win;
+        }
+    }
+
+    /**
+     * Adds the counters of another TournamentStats to this one.
+     * @param other TournamentStats to add.
+     */
+    public void merge(TournamentStats other) {
+        matches += other.matches;
+        rounds += other.rounds;
+        draws += other.draws;
+        for (int i = 0; i < characterGames.length; i++) {
+            characterGames[i] += other.characterGames[i];
+            characterWins[i] += other.characterWins[i];
+        }
+        for (int i = 0; i < typeGames.length; i++) {
+            typeGames[i] += other.typeGames[i];
+            typeWins[i] += other.typeWins[i];
+        }
+    }
+
+    /**
+     * Gets the number of matches played.
+     * @return Returns the number of matches played.
+     */
+    public long getMatches() {
+        return matches;
+    }
+
+    /**
+     * Gets the number of matches that no team won.
+     * @return Returns the number of draws and matches stopped at the round limit.
+     */
+    public long getDraws() {
+        return draws;
+    }
+
+    /**
+     * Gets the average number of rounds per match.
+     * @return Returns the average number of rounds per match, 0 if no match was played.
+     */
+    public double getAverageRounds() {
+        return matches == 0 ? 0 : (double) rounds / matches;
+    }
+
+    /**
+     * Gets the highest characterID counted by the TournamentStats.
+     * @return Returns the highest characterID counted by the TournamentStats.
+     */
+    public int getMaxCharacterID() {
+        return characterGames.length - 1;
+    }
+
+    /**
+     * Gets the number of matches a Character played in.
+     * @param characterID CharacterID of the Character.
+     * @return Returns the number of matches the Character played in.
+     */
+    public long getCharacterGames(int characterID) {
+        return characterGames[characterID];
+    }
+
+    /**
+     * Gets the fraction of its matches a Character's team won.
+     * @param characterID CharacterID of the Character.
+     * @return Returns the win rate between 0 and 1, 0 if the Character played no match.
+     */
+    public double getCharacterWinRate(int characterID) {
+        return rate(characterWins[characterID], characterGames[characterID]);
+    }
+
+    /**
+     * Gets the fraction of matches won by teams, counted once for every Character of a Type in the team.
+     * @param type Type to check.
+     * @return Returns the win rate between 0 and 1, 0 if no Character of the Type played.
+     */
+    public double getTypeWinRate(Type type) {
+        return rate(typeWins[type.ordinal()], typeGames[type.ordinal()]);
+    }
+
+    /**
+     * Helper function to divide wins by games.
+     * @param wins Number of wins.
+     * @param games Number of games.
+     * @return Returns wins divided by games, 0 if there were no games.
+     */
+    private static double rate(long wins, long games) {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+}
@@ -0,0 +1,199 @@
+package com.pokego.game.game_engine;
+
+import com.pokego.game.game_data.MoveClass;
+import com.pokego.game.game_data.MoveDefinition;
+import com.pokego.game.game_data.Type;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+
+/**
+ * The TypeChart holds the damage multipliers between Types, read from the "./assets/data/typechart.csv" file. Each row of the file is a rule, a move Type, another Type and a multiplier, where "*" stands for every Type and later rows override earlier ones:
+ * EFFECTIVENESS multiplies the damage of a move Type against the Type of the Character receiving it.
+ * STAB (Same Type Attack Bonus) multiplies the damage of a move Type used by a Character of the other Type.
+ * BLOCK multiplies the damage blocked by a defense move Type against an attack move of the other Type.
+ * The multipliers are stored in dense matrices indexed by Type ordinal, so that damage is calculated without branching on Types.
+ */
+public class TypeChart {
+    private final static int TYPE_COUNT = Type.values().length;
+
+    private float[][] effectiveness; // [move type][receiver type]
+    private float[][] stab; // [move type][user type]
+    private float[][] block; // [defense move type][attack move type]
+
+    /**
+     * Constructs the TypeChart from a type chart .csv file. Pairs that no rule mentions have a multiplier of 1.
+     * @param filePath File path of the type chart .csv file.
+     */
+    public TypeChart(String filePath) {
+        effectiveness = createMatrix();
+        stab = createMatrix();
+        block = createMatrix();
+        readRules(filePath);
+    }
+
+    /**
+     * Helper function to create a matrix with a multiplier of 1 for every pair of Types.
+     * @return Returns a TYPE_COUNT x TYPE_COUNT matrix filled with 1.
+     */
+    private static float[][] createMatrix() {
+        float[][] matrix = new float[TYPE_COUNT][TYPE_COUNT];
+        for (float[] row : matrix) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = 1f;
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Reads the rules of the type chart .csv file into the matrices.
+     * @param filePath File path of the type chart .csv file.
+     */
+    private void readRules(String filePath) {
+        try (BufferedReader csvReader = new BufferedReader(new FileReader(filePath))) {
+            String row = csvReader.readLine(); // read header
+            while ((row = csvReader.readLine()) != null) {
+                if (row.trim().isEmpty()) {
+                    continue;
+                }
+                String[] data = row.split(",");
+
+                float[][] matrix = getMatrix(data[0].trim());
+                if (matrix == null) {
+                    System.out.println("Unknown type chart rule: " + data[0]);
+                    continue;
+                }
+                setMultiplier(matrix, data[1].trim(), data[2].trim(), Float.parseFloat(data[3].trim()));
+            }
+        } catch (IOException e) {
+            // If read file fails.
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Helper function to get the matrix of a rule.
+     * @param rule EFFECTIVENESS, STAB or BLOCK.
+     * @return Returns the matrix of the rule, null if the rule is unknown.
+     */
+    private float[][] getMatrix(String rule) {
+        switch (rule) {
+            case "EFFECTIVENESS":
+                return effectiveness;
+            case "STAB":
+                return stab;
+            case "BLOCK":
+                return block;
+        }
+        return null;
+    }
+
+    /**
+     * Helper function to set the multiplier of every pair of Types matched by a rule.
+     * @param matrix Matrix of the rule.
+     * @param moveType Name of the move Type, "*" for every Type.
+     * @param otherType Name of the other Type, "*" for every Type.
+     * @param multiplier Multiplier of the rule.
+     */
+    private static void setMultiplier(float[][] matrix, String moveType, String otherType, float multiplier) {
+        for (Type move : Type.values()) {
+            if (!moveType.equals("*") && !moveType.equals(move.name())) {
+                continue;
+            }
+            for (Type other : Type.values()) {
+                if (otherType.equals("*") || otherType.equals(other.name())) {
+                    matrix[move.ordinal()][other.ordinal()] = multiplier;
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculate damage to be received by a Character. All arguments are plain numbers, so that the BattleEngine can precompute them once per Character.
+     * @param attackDamage Base damage of the move received, 0 if it is not an attack move.
+     * @param attackType Type ordinal of the move received.
+     * @param userType Type ordinal of the Character using the move received.
+     * @param receiverType Type ordinal of the Character receiving damage.
+     * @param damageBlocked Damage blocked by the move used by the Character receiving damage, 0 if it is not a defense move.
+     * @param blockType Type ordinal of the move used by the Character receiving damage.
+     * @return Returns damage taken by the Character, never below 0.
+     */
+    public int calculateDamage(int attackDamage, int attackType, int userType, int receiverType, int damageBlocked, int blockType) {
+        int damage = (int) ((int) (attackDamage * stab[attackType][userType]) * effectiveness[attackType][receiverType]);
+        int blocked = (int) (damageBlocked * block[blockType][attackType]);
+        return Math.max(0, damage - blocked);
+    }
+
+    /**
+     * Calculate damage to be received by a Character after accounting for their Type, Move used, Move received, and opponent's Character Type.
+     * @param receiverType Type of the Character receiving damage.
+     * @param userType Type of the opponent Character.
+     * @param moveReceived Move received by opponent Character, null if no move was chosen.
+     * @param moveUsed Move used by the Character receiving damage, null if no move was chosen.
+     * @return Returns damage taken by the Character.
+     */
+    public int calculateDamage(Type receiverType, Type userType, MoveDefinition moveReceived, MoveDefinition moveUsed) {
+        if (moveReceived == null) {
+            return 0;
+        }
+        int blockType = moveUsed == null ? 0 : moveUsed.getMoveType().ordinal();
+        return calculateDamage(getAttackDamage(moveReceived), moveReceived.getMoveType().ordinal(), userType.ordinal(),
+                receiverType.ordinal(), getDamageBlocked(moveUsed), blockType);
+    }
+
+    /**
+     * Gets the damage a move deals, before any multiplier.
+     * @param move Move to check, may be null.
+     * @return Returns the base damage of an attack move, 0 for defense moves and null.
+     */
+    public static int getAttackDamage(MoveDefinition move) {
+        if (move == null || move.getMoveClass() != MoveClass.ATTACK) {
+            return 0;
+        }
+        return move.getBaseDamage();
+    }
+
+    /**
+     * Gets the damage a move blocks, before any multiplier.
+     * @param move Move to check, may be null.
+     * @return Returns the damage blocked by a defense move, 0 for attack moves and null.
+     */
+    public static int getDamageBlocked(MoveDefinition move) {
+        if (move == null || move.getMoveClass() != MoveClass.DEFENSE) {
+            return 0;
+        }
+        return move.getDamageBlocked();
+    }
+
+    /**
+     * Gets the effectiveness multiplier of a move Type against a Character Type.
+     * @param moveType Type of the move.
+     * @param receiverType Type of the Character receiving the move.
+     * @return Returns the effectiveness multiplier, 1 if no rule applies.
+     */
+    public float getEffectiveness(Type moveType, Type receiverType) {
+        return effectiveness[moveType.ordinal()][receiverType.ordinal()];
+    }
+
+    /**
+     * Gets the STAB multiplier of a move Type used by a Character Type.
+     * @param moveType Type of the move.
+     * @param userType Type of the Character using the move.
+     * @return Returns the STAB multiplier, 1 if no rule applies.
+     */
+    public float getStab(Type moveType, Type userType) {
+        return stab[moveType.ordinal()][userType.ordinal()];
+    }
+
+    /**
+     * Gets the block multiplier of a defense move Type against an attack move Type.
+     * @param defenseType Type of the defense move.
+     * @param attackType Type of the attack move.
+     * @return Returns the block multiplier, 1 if no rule applies.
+     */
+    public float getBlock(Type defenseType, Type attackType) {
+        return block[defenseType.ordinal()][attackType.ordinal()];
+    }
+}
@@ -2,35 +2,111 @@ package com.pokego.game.game_phase;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.pokego.utility.TweenManager;
+
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
- * The GamePhaseManager controls different Phases in the GameState. It controls what Phase is currently being rendered, updated and disposes unused GameSpriteGroup objects after the lifetime of the GamePhase is over. It also stores a PhasePacket which is used to pass data around the phases.
+ * The GamePhaseManager controls different Phases in the GameState. It controls what Phase is currently being rendered, updated and disposes unused GameSpriteGroup objects after the lifetime of the GamePhase is over. It also stores a PhasePacket which is used to pass data around the phases, and a TweenManager which plays the Timelines of the Phases. One Phase is created per GamePhase when the GamePhaseManager is created, and the same Phases are entered again every round.
  */
 public class GamePhaseManager {
 
+    private Map<GamePhase, Phase> phases;
     private Phase gamePhase;
     private PhasePacket phasePacket;
+    private TweenManager tweenManager;
     private boolean gameOver;
 
-
-    public GamePhaseManager() {
+    /**
+     * Constructs the GamePhaseManager, and creates one Phase for every GamePhase.
+     * @param phasePacket PhasePacket to transfer data between Phases.
+     */
+    public GamePhaseManager(PhasePacket phasePacket) {
+        this.phasePacket = phasePacket;
         gamePhase = null;
+        tweenManager = new TweenManager();
+
+        phases = new EnumMap<GamePhase, Phase>(GamePhase.class);
+        addPhase(new RoundStartPhase(phasePacket, this));
+        addPhase(new RoundTextMovesPhase(phasePacket, this));
+        addPhase(new RoundDisplayMovesPhase(phasePacket, this));
+        addPhase(new RoundLowerHpPhase(phasePacket, this));
+        addPhase(new RoundDisplayFaintedPhase(phasePacket, this));
+        addPhase(new RoundDisplayNextCharPhase(phasePacket, this));
+        addPhase(new RoundEndPhase(phasePacket, this));
     }
 
-    public void setPhase(Phase gamePhase) {
-        this.gamePhase = gamePhase;
+    /**
+     * Helper function to add a Phase to the phase graph, keyed by its GamePhase.
+     * @param phase Phase to add.
+     */
+    private void addPhase(Phase phase) {
+        phases.put(phase.getPhaseName(), phase);
     }
 
+    /**
+     * Exits the current Phase and enters the Phase of the specified GamePhase.
+     * @param phaseName GamePhase to change to.
+     */
+    public void setPhase(GamePhase phaseName) {
+        if (gamePhase != null) {
+            gamePhase.exit();
+        }
+        gamePhase = phases.get(phaseName);
+        gamePhase.enter();
+    }
+
+    /**
+     * Gets the current Phase.
+     * @return Returns the current Phase.
+     */
+    public Phase getPhase() {
+        return gamePhase;
+    }
+
+    /**
+     * Handles input in the current Phase, once every frame.
+     */
+    public void handleInput() {
+        gamePhase.handleInput();
+    }
+
+    /**
+     * Updates the Timelines of the Phases, then the current Phase. Function is ran once every fixed step.
+     * @param dt delta time
+     */
     public void update(float dt) {
+        tweenManager.update(dt);
         gamePhase.update(dt);
     }
 
-    public void render(SpriteBatch sb, ShapeRenderer sr) {
-        gamePhase.render(sb, sr);
+    /**
+     * Gets the TweenManager which plays the Timelines of the Phases.
+     * @return Returns the TweenManager.
+     */
+    public TweenManager getTweenManager() {
+        return tweenManager;
+    }
+
+    /**
+     * Renders the current Phase between the last two fixed steps.
+     * @param sb SpriteBatch
+     * @param sr ShapeRenderer
+     * @param alpha How far the time is into the next fixed step, between 0 and 1.
+     */
+    public void render(SpriteBatch sb, ShapeRenderer sr, float alpha) {
+        gamePhase.render(sb, sr, alpha);
     }
 
+    /**
+     * Frees up memory by disposing every Phase in the phase graph.
+     */
     public void dispose() {
-        gamePhase.dispose();
+        tweenManager.clear();
+        for (Phase phase : phases.values()) {
+            phase.dispose();
+        }
     }
 
     public void setGameOver() {
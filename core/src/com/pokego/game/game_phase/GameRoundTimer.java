@@ -3,13 +3,16 @@ package com.pokego.game.game_phase;
 import com.pokego.game.game_ui.TimerUI;
 
 /**
- * The GameRoundTimer object represents the timer in the GameState. It contains all logic for the timer in the RoundStartPhase as well as the UI of the timer.
+ * The GameRoundTimer object represents the timer in the GameState. It contains all logic for the timer in the RoundStartPhase as well as the UI of the timer. The timer is reset every round instead of being created again, and the text for every hundredth of a second is created once, so counting down allocates nothing.
  */
 public class GameRoundTimer {
     private float timeElapsed;
     private float timeBetweenRound;
     private TimerUI timerUI;
 
+    private String[] timeLabels; // Text to display, indexed by hundredths of a second left.
+    private int displayedHundredths;
+
     /**
      * Constructs a timer with a specified time allocated for the Player to key in their inputs.
      * @param timeBetweenRound the time allocated for the Player to key in their inputs.
@@ -18,6 +21,22 @@ public class GameRoundTimer {
         this.timeBetweenRound = timeBetweenRound;
 
         timerUI = new TimerUI();
+
+        timeLabels = new String[(int)Math.ceil(timeBetweenRound * 100) + 1];
+        for (int i = 0; i < timeLabels.length; i++) {
+            timeLabels[i] = String.format("%2.2f", i / 100f);
+        }
+
+        reset();
+    }
+
+    /**
+     * Restarts the timer for a new round.
+     */
+    public void reset() {
+        timeElapsed = 0f;
+        displayedHundredths = -1;
+        setDisplayedTime();
     }
 
     /**
@@ -34,7 +53,19 @@ public class GameRoundTimer {
      */
     public void updateTime(float dt) {
         timeElapsed += dt;
-        timerUI.getTimerText().setText(String.format("%2.2f",timeBetweenRound - timeElapsed));
+        setDisplayedTime();
+    }
+
+    /**
+     * Helper function to update the timer text, only when the displayed hundredths of a second change.
+     */
+    private void setDisplayedTime() {
+        int hundredths = (int)((timeBetweenRound - timeElapsed) * 100);
+        hundredths = Math.max(0, Math.min(hundredths, timeLabels.length - 1));
+        if (hundredths != displayedHundredths) {
+            displayedHundredths = hundredths;
+            timerUI.getTimerText().setText(timeLabels[hundredths]);
+        }
     }
 
     /**
@@ -3,16 +3,23 @@ package com.pokego.game.game_phase;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.pokego.datamodel.GameTextWidget;
+import com.pokego.game.game_engine.BattleEngine;
+import com.pokego.game.game_engine.RoundResult;
 import com.pokego.game.game_data.Move;
 import com.pokego.game.game_data.Player;
 import com.pokego.game.game_ui.PlayerUI;
+import com.pokego.utility.Easing;
+import com.pokego.utility.Timeline;
+import com.pokego.utility.TweenCallback;
+import com.pokego.utility.Utility;
 
 /**
- * Each Phase represents a checkpoint in the GameState where the logic changes. For example, the text in the text widget might change, HP might decrease or animations might be displayed for a certain time.
+ * Each Phase represents a checkpoint in the GameState where the logic changes. For example, the text in the text widget might change, HP might decrease or animations might be displayed for a certain time. Each Phase is created once per GameState by the GamePhaseManager, and is entered again every round, so it must not keep any state from the previous round after reset(). Timed steps, like scrolling the text and waiting before the next Phase, are scheduled on the Timeline of the Phase, which calls onTimelineEvent() when they finish.
  */
-public abstract class Phase {
+public abstract class Phase implements TweenCallback {
 
     public static final float BUFFER_TIME = 0.1f;
+    protected static final int EVENT_FINISHED = 0;
 
     protected PhasePacket phasePacket;
     protected GamePhaseManager gpm;
@@ -25,11 +32,14 @@ public abstract class Phase {
     protected GameTextWidget textWidget;
     protected Move playerOneMove;
     protected Move playerTwoMove;
+    protected BattleEngine battleEngine;
+    protected RoundResult roundResult;
 
     // Buffer time before changing to next state.
-    protected float timeElapsed;
     protected float bufferTime;
 
+    protected Timeline timeline;
+
     /**
      * Constructs the Phase object.
      * @param phasePacket PhasePacket to transfer data between Phases.
@@ -39,6 +49,46 @@ public abstract class Phase {
         this.phasePacket = phasePacket;
         this.gpm = gpm;
         bufferTime = BUFFER_TIME;
+        timeline = gpm.getTweenManager().createTimeline();
+    }
+
+    /**
+     * Called by the GamePhaseManager when the Phase becomes the current Phase. Extracts the PhasePacket and resets the Phase. Subclasses run their once per round logic here, after calling super.enter().
+     */
+    public void enter() {
+        extractPhasePacket(phasePacket);
+        reset();
+    }
+
+    /**
+     * Called by the GamePhaseManager when another Phase replaces this Phase.
+     */
+    public void exit() {
+    }
+
+    /**
+     * Resets all state of the Phase from the previous round, so that the Phase can be entered again. Subclasses that keep their own state must override this and call super.reset().
+     */
+    protected void reset() {
+        timeline.clear();
+    }
+
+    /**
+     * Helper function to scroll the text widget, wait for the buffer time, then call onTimelineEvent() with EVENT_FINISHED.
+     */
+    protected void playTextTimeline() {
+        timeline.tween(textWidget, 0, 1, textWidget.getScrollDuration(), Easing.LINEAR)
+                .delay(bufferTime)
+                .call(this, EVENT_FINISHED);
+        gpm.getTweenManager().play(timeline);
+    }
+
+    /**
+     * Called by the Timeline of the Phase when a call() step is reached.
+     * @param event Event number of the step.
+     */
+    @Override
+    public void onTimelineEvent(int event) {
     }
 
     /**
@@ -54,6 +104,30 @@ public abstract class Phase {
         textWidget = phasePacket.getTextWidget();
         playerOneMove = phasePacket.getPlayerOneMove();
         playerTwoMove = phasePacket.getPlayerTwoMove();
+        battleEngine = phasePacket.getBattleEngine();
+        roundResult = phasePacket.getRoundResult();
+    }
+
+    /**
+     * Draws the panels of both PlayerUIs and the text widget in a single ShapeRenderer pass.
+     * @param sr ShapeRenderer
+     */
+    protected void drawUIShapes(ShapeRenderer sr) {
+        Utility.beginShapes(sr);
+        playerOneUI.drawShapes(sr);
+        playerTwoUI.drawShapes(sr);
+        textWidget.drawShapes(sr);
+        Utility.endShapes(sr);
+    }
+
+    /**
+     * Draws the text of both PlayerUIs and the text widget into the current SpriteBatch pass.
+     * @param sb SpriteBatch
+     */
+    protected void drawUIText(SpriteBatch sb) {
+        playerOneUI.drawText(sb);
+        playerTwoUI.drawText(sb);
+        textWidget.drawText(sb);
     }
 
     /**
@@ -66,6 +140,22 @@ public abstract class Phase {
 
     public abstract void update(float dt);
     public abstract void render(SpriteBatch sb, ShapeRenderer sr);
+
+    /**
+     * Handles input, function is ran once every frame before the fixed steps of update(). Phases that read input must read it here, so that no key press is missed or read twice when a frame runs zero or several steps.
+     */
+    public void handleInput() {
+    }
+
+    /**
+     * Renders sprites and shapes between the last two fixed steps. Phases with moving objects override it to interpolate their positions.
+     * @param sb SpriteBatch
+     * @param sr ShapeRenderer
+     * @param alpha How far the time is into the next fixed step, between 0 and 1.
+     */
+    public void render(SpriteBatch sb, ShapeRenderer sr, float alpha) {
+        render(sb, sr);
+    }
     public abstract void dispose();
 
 }
@@ -1,13 +1,18 @@
 package com.pokego.game.game_phase;
 
 import com.pokego.datamodel.GameTextWidget;
+import com.pokego.game.game_controller.PlayerController;
+import com.pokego.game.game_engine.BattleEngine;
+import com.pokego.game.game_engine.MatchRecord;
+import com.pokego.game.game_engine.RoundResult;
 import com.pokego.game.game_data.Move;
 import com.pokego.game.game_data.Player;
 import com.pokego.game.game_ui.PlayerNumber;
 import com.pokego.game.game_ui.PlayerUI;
+import com.pokego.leaderboard.MatchStats;
 
 /**
- * The PhasePacket is used to pass data around different game phases. It can store the Player info, PlayerUI, GameTextWidgets, and which move is being used for the turn.
+ * The PhasePacket is used to pass data around different game phases. It can store the Player info, PlayerUI, GameTextWidgets, which move is being used for the turn, the PlayerControllers choosing the moves, the BattleEngine with the result of the current round, the MatchRecord logging every round, and the MatchStats counting what each Player did.
  */
 public class PhasePacket {
 
@@ -22,6 +27,13 @@ public class PhasePacket {
     private boolean playerOneWins;
     private boolean playerTwoWins;
 
+    private PlayerController playerOneController;
+    private PlayerController playerTwoController;
+    private BattleEngine battleEngine;
+    private RoundResult roundResult;
+    private MatchRecord matchRecord;
+    private MatchStats matchStats;
+
     /**
      * Constructs the PhasePacket object.
      * @param playerOne Player 1 Player object.
@@ -29,13 +41,20 @@ public class PhasePacket {
      * @param playerOneUI Player 1 PlayerUI object.
      * @param playerTwoUI Player 2 PlayerUI object.
      * @param textWidget GameTextWidget used in GameState.
+     * @param playerOneController PlayerController choosing player 1's moves.
+     * @param playerTwoController PlayerController choosing player 2's moves.
+     * @param battleEngine BattleEngine that resolves the rounds of the game.
      */
-    public PhasePacket(Player playerOne, Player playerTwo, PlayerUI playerOneUI, PlayerUI playerTwoUI, GameTextWidget textWidget) {
+    public PhasePacket(Player playerOne, Player playerTwo, PlayerUI playerOneUI, PlayerUI playerTwoUI, GameTextWidget textWidget,
+                       PlayerController playerOneController, PlayerController playerTwoController, BattleEngine battleEngine) {
         this.playerOne = playerOne;
         this.playerTwo = playerTwo;
         this.playerOneUI = playerOneUI;
         this.playerTwoUI = playerTwoUI;
         this.textWidget = textWidget;
+        this.playerOneController = playerOneController;
+        this.playerTwoController = playerTwoController;
+        this.battleEngine = battleEngine;
 
         playerOneWins = false;
         playerTwoWins = false;
@@ -129,6 +148,78 @@ public class PhasePacket {
         this.playerTwo = playerTwo;
     }
 
+    /**
+     * Gets the PlayerController choosing player 1's moves.
+     * @return Returns the PlayerController choosing player 1's moves.
+     */
+    public PlayerController getPlayerOneController() {
+        return playerOneController;
+    }
+
+    /**
+     * Gets the PlayerController choosing player 2's moves.
+     * @return Returns the PlayerController choosing player 2's moves.
+     */
+    public PlayerController getPlayerTwoController() {
+        return playerTwoController;
+    }
+
+    /**
+     * Gets the BattleEngine that resolves the rounds of the game.
+     * @return Returns the BattleEngine that resolves the rounds of the game.
+     */
+    public BattleEngine getBattleEngine() {
+        return battleEngine;
+    }
+
+    /**
+     * Stores the result of the current round, as decided by the BattleEngine.
+     * @param roundResult Result of the current round.
+     */
+    public void setRoundResult(RoundResult roundResult) {
+        this.roundResult = roundResult;
+    }
+
+    /**
+     * Gets the result of the current round, as decided by the BattleEngine.
+     * @return Returns the result of the current round, null before the first round is resolved.
+     */
+    public RoundResult getRoundResult() {
+        return roundResult;
+    }
+
+    /**
+     * Sets the MatchRecord that logs the moves of every round.
+     * @param matchRecord MatchRecord of the game.
+     */
+    public void setMatchRecord(MatchRecord matchRecord) {
+        this.matchRecord = matchRecord;
+    }
+
+    /**
+     * Gets the MatchRecord that logs the moves of every round.
+     * @return Returns the MatchRecord of the game, null if the game is not recorded.
+     */
+    public MatchRecord getMatchRecord() {
+        return matchRecord;
+    }
+
+    /**
+     * Sets the MatchStats that count the damage, knockouts, Characters and Moves of both Players.
+     * @param matchStats MatchStats of the game.
+     */
+    public void setMatchStats(MatchStats matchStats) {
+        this.matchStats = matchStats;
+    }
+
+    /**
+     * Gets the MatchStats that count the damage, knockouts, Characters and Moves of both Players.
+     * @return Returns the MatchStats of the game, null if the game is not counted.
+     */
+    public MatchStats getMatchStats() {
+        return matchStats;
+    }
+
     /**
      * Store the Player that won the game. Possible values defined by PlayerWinner enum.
      * PLAYER_ONE, PLAYER_TWO, DRAW
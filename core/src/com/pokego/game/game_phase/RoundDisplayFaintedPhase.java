@@ -8,10 +8,6 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
  */
 public class RoundDisplayFaintedPhase extends Phase {
 
-    private boolean playerOneFainted;
-    private boolean playerTwoFainted;
-
-
     /**
      * Constructs the RoundDisplayFaintedPhase object.
      * @param phasePacket PhasePacket to transfer data between Phases.
@@ -22,14 +18,28 @@ public class RoundDisplayFaintedPhase extends Phase {
 
         phaseName = GamePhase.ROUND_DISPLAY_FAINTED;
 
-        // Extract data from Phase Packet
-        extractPhasePacket(phasePacket);
-
         bufferTime = 0.5f;
+    }
+
+    /**
+     * Sets the text widget according to which Character has fainted.
+     */
+    @Override
+    public void enter() {
+        super.enter();
 
         // set text widget text according to which character has fainted.
         textWidget.setText(getFaintedText());
+        playTextTimeline();
+    }
 
+    /**
+     * Goes to the next Phase after the text widget scrolls and the buffer time passes.
+     * @param event Event number of the step.
+     */
+    @Override
+    public void onTimelineEvent(int event) {
+        gpm.setPhase(GamePhase.ROUND_DISPLAY_NEXT_CHAR);
     }
 
     /**
@@ -39,19 +49,15 @@ public class RoundDisplayFaintedPhase extends Phase {
     private String getFaintedText() {
 
         // Both fainted
-        if (!playerOne.getCurrentCharacter().isAlive() && !playerTwo.getCurrentCharacter().isAlive()) {
-            playerOneFainted = true;
-            playerTwoFainted = true;
+        if (roundResult.isPlayerOneFainted() && roundResult.isPlayerTwoFainted()) {
             return String.format("%s has fainted.\n%s has fainted.", playerOne.getCurrentCharacter().getName(), playerTwo.getCurrentCharacter().getName());
         }
         // Player One fainted
-        else if (!playerOne.getCurrentCharacter().isAlive()) {
-            playerOneFainted = true;
+        else if (roundResult.isPlayerOneFainted()) {
             return String.format("%s has fainted.", playerOne.getCurrentCharacter().getName());
         }
         // Player Two fainted
-        else if (!playerTwo.getCurrentCharacter().isAlive()) {
-            playerTwoFainted = true;
+        else if (roundResult.isPlayerTwoFainted()) {
             return String.format("%s has fainted.", playerTwo.getCurrentCharacter().getName());
         }
         // None fainted (WONT HAPPEN)
@@ -59,20 +65,11 @@ public class RoundDisplayFaintedPhase extends Phase {
     }
 
     /**
-     * Updates logic defined in Phase, function is ran once every frame.
+     * Updates logic defined in Phase, function is ran once every fixed step. The text scroll and the buffer time are played by the Timeline.
      * @param dt delta time
      */
     @Override
     public void update(float dt) {
-        timeElapsed += dt;
-
-        // Only update text widget if it hasn't finished scrolling through all text.
-        if (!textWidget.displayedFinish() && timeElapsed < textWidget.getScrollDuration()) {
-            textWidget.updateTextScroll(dt);
-        } else if (timeElapsed > textWidget.getScrollDuration() + bufferTime) {
-            // Go to new state after textWidget scrolls finish and after accounting for bufferTime.
-            gpm.setPhase(new RoundDisplayNextCharPhase(phasePacket, gpm, playerOneFainted, playerTwoFainted));
-        }
     }
 
     /**
@@ -82,13 +79,10 @@ public class RoundDisplayFaintedPhase extends Phase {
      */
     @Override
     public void render(SpriteBatch sb, ShapeRenderer sr) {
-
-
-        playerOneUI.draw(sb, sr);
-        playerTwoUI.draw(sb, sr);
-        textWidget.draw(sb, sr);
+        drawUIShapes(sr);
 
         sb.begin();
+        drawUIText(sb);
         playerOne.getCurrentCharacter().getSprite().draw(sb);
         playerTwo.getCurrentCharacter().getSprite().draw(sb);
         sb.end();
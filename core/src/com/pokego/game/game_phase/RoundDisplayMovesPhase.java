@@ -24,13 +24,17 @@ public class RoundDisplayMovesPhase extends Phase {
 
         phaseName = GamePhase.ROUND_DISPLAY_MOVES;
 
-        // Extract data from Phase Packet
-        extractPhasePacket(phasePacket);
-
-        System.out.println("Display Moves Phase.");
-
         // Set buffer time for Phase,
         bufferTime = 0.5f;
+    }
+
+    /**
+     * Positions the animations of the Moves used by both Characters.
+     */
+    @Override
+    public void enter() {
+        super.enter();
+        System.out.println("Display Moves Phase.");
 
         // Position player one and two moves according to move class.
         if (playerOneMove != null) {
@@ -47,15 +51,45 @@ public class RoundDisplayMovesPhase extends Phase {
                 playerTwoMove.getAnimation().moveLeft(DEFENSE_DISPLAY_OFFSET + PLAYER_TWO_DEFENSE_DISPLAY_OFFSET);
             }
         }
+
+        // Start interpolating from the final positions, not from the previous round
+        if (playerOneMove != null) {
+            playerOneMove.getAnimation().storePreviousPosition();
+        }
+        if (playerTwoMove != null) {
+            playerTwoMove.getAnimation().storePreviousPosition();
+        }
+
+        // The text of the moves was already scrolled, so only wait while the moves are animated.
+        timeline.delay(textWidget.getScrollDuration() + bufferTime)
+                .call(this, EVENT_FINISHED);
+        gpm.getTweenManager().play(timeline);
     }
 
     /**
-     * Updates logic defined in Phase, function is ran once every frame.
+     * Rescales the move animations back to normal and goes to the next Phase, once the moves have been animated.
+     * @param event Event number of the step.
+     */
+    @Override
+    public void onTimelineEvent(int event) {
+        // Rescale move back to normal size, reset move direction
+        if (playerOneMove != null) {
+            playerOneMove.getAnimation().scale(1/ANIMATION_SCALE);
+        }
+        if (playerTwoMove != null) {
+            playerTwoMove.getAnimation().scale(1/ANIMATION_SCALE);
+            playerTwoMove.getAnimation().flip();
+        }
+
+        gpm.setPhase(GamePhase.ROUND_LOWER_HP);
+    }
+
+    /**
+     * Updates logic defined in Phase, function is ran once every fixed step. The time the moves are shown for is played by the Timeline.
      * @param dt delta time
      */
     @Override
     public void update(float dt) {
-        timeElapsed += dt;
 
         // animate and check for playerOneMove collisions
         if (playerOneMove != null) {
@@ -78,48 +112,39 @@ public class RoundDisplayMovesPhase extends Phase {
                 }
             }
         }
-
-        // Only update text widget if it hasn't finished scrolling through all text.
-        if (!textWidget.displayedFinish() && timeElapsed < textWidget.getScrollDuration()) {
-            textWidget.updateTextScroll(dt);
-        } else if (timeElapsed > textWidget.getScrollDuration() + bufferTime) {
-
-            // Rescale move back to normal size, reset move direction
-            if (playerOneMove != null) {
-                playerOneMove.getAnimation().scale(1/ANIMATION_SCALE);
-            }
-            if (playerTwoMove != null) {
-                playerTwoMove.getAnimation().scale(1/ANIMATION_SCALE);
-                playerTwoMove.getAnimation().flip();
-            }
-
-
-            // Go to new state after textWidget scrolls finish and after accounting for bufferTime.
-            gpm.setPhase(new RoundLowerHpPhase(phasePacket, gpm));
-        }
     }
 
     /**
-     * Renders sprites and shapes, function is ran once every frame.
+     * Renders sprites and shapes at the current fixed step, function is ran once every frame.
      * @param sb SpriteBatch
      * @param sr ShapeRenderer
      */
     @Override
     public void render(SpriteBatch sb, ShapeRenderer sr) {
-        playerOneUI.draw(sb, sr);
-        playerTwoUI.draw(sb, sr);
-        textWidget.draw(sb, sr);
+        render(sb, sr, 1f);
+    }
+
+    /**
+     * Renders sprites and shapes, with the move animations between the last two fixed steps. Function is ran once every frame.
+     * @param sb SpriteBatch
+     * @param sr ShapeRenderer
+     * @param alpha How far the time is into the next fixed step, between 0 and 1.
+     */
+    @Override
+    public void render(SpriteBatch sb, ShapeRenderer sr, float alpha) {
+        drawUIShapes(sr);
 
         sb.begin();
+        drawUIText(sb);
         if (playerOneMove != null) {
             if (playerOneMove.isAnimating()) {
-                playerOneMove.getAnimation().draw(sb);
+                playerOneMove.getAnimation().draw(sb, alpha);
             }
         }
 
         if (playerTwoMove != null) {
             if (playerTwoMove.isAnimating()) {
-                playerTwoMove.getAnimation().draw(sb);
+                playerTwoMove.getAnimation().draw(sb, alpha);
             }
         }
 
@@ -129,11 +154,9 @@ public class RoundDisplayMovesPhase extends Phase {
     }
 
     /**
-     * Frees up memory by disposing sprites from SpriteBatch.
+     * Frees up memory by disposing sprites from SpriteBatch. Move animations belong to the Characters, and are reused every round.
      */
     @Override
     public void dispose() {
-        playerOneMove.getAnimation().dispose();
-        playerTwoMove.getAnimation().dispose();
     }
 }
@@ -16,43 +16,46 @@ public class RoundDisplayNextCharPhase extends Phase {
      * Constructs the RoundDisplayNextCharPhase object.
      * @param phasePacket PhasePacket to transfer data between Phases.
      * @param gpm The current GamePhaseManager being used in GameState.
-     * @param playerOneFainted True if player 1's character has fainted. False otherwise.
-     * @param playerTwoFainted True if player 2's character has fainted. False otherwise.
      */
-    public RoundDisplayNextCharPhase(PhasePacket phasePacket, GamePhaseManager gpm, boolean playerOneFainted, boolean playerTwoFainted) {
+    public RoundDisplayNextCharPhase(PhasePacket phasePacket, GamePhaseManager gpm) {
         super(phasePacket, gpm);
 
         phaseName = GamePhase.ROUND_DISPLAY_NEXT_CHAR;
 
-        // Extract data from Phase Packet
-        extractPhasePacket(phasePacket);
-
         bufferTime = 0.5f;
+    }
+
+    /**
+     * Sends out the next Character of each Player whose Character has fainted.
+     */
+    @Override
+    public void enter() {
+        super.enter();
 
-        // Get state of character from prev state.
-        this.playerOneFainted = playerOneFainted;
-        this.playerTwoFainted = playerTwoFainted;
+        // Get state of character from the BattleEngine.
+        playerOneFainted = roundResult.isPlayerOneFainted();
+        playerTwoFainted = roundResult.isPlayerTwoFainted();
 
-        // Toggle next char based on prev state.
-        if (playerOneFainted && playerOne.getCharactersLeft() > 1) {
+        // Toggle next char as decided by the BattleEngine.
+        if (roundResult.isPlayerOneSentNext()) {
             System.out.println("Player one char fainted..");
             System.out.println("Player one size: " + playerOne.getCharactersLeft());
             playerOne.killCharacter();
             playerOne.nextCharacter();
-        } else if (playerOneFainted && playerOne.getCharactersLeft() == 1) {
+        } else if (playerOneFainted) {
             System.out.println("Player one char fainted..");
             System.out.println("Player one size: " + playerOne.getCharactersLeft());
             playerOne.killCharacter();
         }
 
-        if (playerTwoFainted && playerTwo.getCharactersLeft() > 1) {
+        if (roundResult.isPlayerTwoSentNext()) {
             System.out.println("Player two char fainted..");
             System.out.println("Player two size: " + playerTwo.getCharactersLeft());
             playerTwo.killCharacter();
             playerTwo.nextCharacter();
             System.out.println("Player two size after kill: " + playerTwo.getCharactersLeft());
             System.out.println(playerTwo.getCharacters());
-        } else if (playerTwoFainted && playerTwo.getCharactersLeft() == 1) {
+        } else if (playerTwoFainted) {
             System.out.println("Player two char fainted..");
             System.out.println("Player two size: " + playerTwo.getCharactersLeft());
             playerTwo.killCharacter();
@@ -63,6 +66,31 @@ public class RoundDisplayNextCharPhase extends Phase {
         // Set text widget according to what character was sent out.
         textWidget.setText(getNextCharString());
 
+        // Update HP bars and characters remaining to latest
+        playerOneUI.updateHealth(playerOne.getCurrentCharacter().getHealthPoints());
+        playerTwoUI.updateHealth(playerTwo.getCurrentCharacter().getHealthPoints());
+
+        playerOneUI.updateCharacterName(playerOne.getCurrentCharacter().getName());
+        playerTwoUI.updateCharacterName(playerTwo.getCurrentCharacter().getName());
+
+        playerOneUI.updateCharacters(playerOne.getCharactersLeft());
+        playerTwoUI.updateCharacters(playerTwo.getCharactersLeft());
+
+        playerOneUI.updateMoves(PlayerNumber.PLAYER_ONE);
+        playerTwoUI.updateMoves(PlayerNumber.PLAYER_TWO);
+
+        playTextTimeline();
+    }
+
+    /**
+     * Goes to the next Phase after the text widget scrolls and the buffer time passes.
+     * @param event Event number of the step.
+     */
+    @Override
+    public void onTimelineEvent(int event) {
+        phasePacket.setPlayerOne(playerOne);
+        phasePacket.setPlayerTwo(playerTwo);
+        gpm.setPhase(GamePhase.ROUND_END);
     }
 
     /**
@@ -96,35 +124,11 @@ public class RoundDisplayNextCharPhase extends Phase {
     }
 
     /**
-     * Updates logic defined in Phase, function is ran once every frame.
+     * Updates logic defined in Phase, function is ran once every fixed step. The text scroll and the buffer time are played by the Timeline.
      * @param dt delta time
      */
     @Override
     public void update(float dt) {
-        timeElapsed += dt;
-
-        // Update HP bars and characters remaining to latest
-        playerOneUI.updateHealth(playerOne.getCurrentCharacter().getHealthPoints());
-        playerTwoUI.updateHealth(playerTwo.getCurrentCharacter().getHealthPoints());
-
-        playerOneUI.updateCharacterName(playerOne.getCurrentCharacter().getName());
-        playerTwoUI.updateCharacterName(playerTwo.getCurrentCharacter().getName());
-
-        playerOneUI.updateCharacters(playerOne.getCharactersLeft());
-        playerTwoUI.updateCharacters(playerTwo.getCharactersLeft());
-
-        playerOneUI.updateMoves(PlayerNumber.PLAYER_ONE);
-        playerTwoUI.updateMoves(PlayerNumber.PLAYER_TWO);
-
-        // Only update text widget if it hasn't finished scrolling through all text.
-        if (!textWidget.displayedFinish() && timeElapsed < textWidget.getScrollDuration()) {
-            textWidget.updateTextScroll(dt);
-        } else if (timeElapsed > textWidget.getScrollDuration() + bufferTime) {
-            // Go to new state after textWidget scrolls finish and after accounting for bufferTime.
-            phasePacket.setPlayerOne(playerOne);
-            phasePacket.setPlayerTwo(playerTwo);
-            gpm.setPhase(new RoundEndPhase(phasePacket, gpm));
-        }
     }
 
     /**
@@ -134,13 +138,10 @@ public class RoundDisplayNextCharPhase extends Phase {
      */
     @Override
     public void render(SpriteBatch sb, ShapeRenderer sr) {
-
-
-        playerOneUI.draw(sb, sr);
-        playerTwoUI.draw(sb, sr);
-        textWidget.draw(sb, sr);
+        drawUIShapes(sr);
 
         sb.begin();
+        drawUIText(sb);
         playerOne.getCurrentCharacter().getSprite().draw(sb);
         playerTwo.getCurrentCharacter().getSprite().draw(sb);
         sb.end();
@@ -5,7 +5,7 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.pokego.game.game_ui.PlayerNumber;
 
 /**
- * The Phase triggered at the end of each round. Checks if any Player is defeated, else goes back to RoundStartPhase. If any Player is defeated, set game to game over.
+ * The Phase triggered at the end of each round. Goes back to RoundStartPhase, unless the BattleEngine decided that the game is over. The game is then set to game over with the winner decided by the BattleEngine.
  */
 public class RoundEndPhase extends Phase {
 
@@ -19,50 +19,54 @@ public class RoundEndPhase extends Phase {
 
         phaseName = GamePhase.ROUND_END;
 
-        // Extract data from Phase Packet
-        extractPhasePacket(phasePacket);
-
         bufferTime = 0.5f;
 
         //textWidget.setText(String.format("Player one has %d characters\nPlayer two has %d characters", playerOne.getCharactersLeft(), playerTwo.getCharactersLeft()));
     }
 
     /**
-     * Updates logic defined in Phase, function is ran once every frame.
-     * @param dt delta time
+     * Waits for the text of the previous Phase to be read before ending the round.
      */
     @Override
-    public void update(float dt) {
-        timeElapsed += dt;
+    public void enter() {
+        super.enter();
 
-        // Only update text widget if it hasn't finished scrolling through all text.
-        if (!textWidget.displayedFinish() && timeElapsed < textWidget.getScrollDuration()) {
-            textWidget.updateTextScroll(dt);
-        } else if (timeElapsed > textWidget.getScrollDuration() + bufferTime) {
-            // Go to new state after textWidget scrolls finish and after accounting for bufferTime.
+        timeline.delay(textWidget.getScrollDuration() + bufferTime)
+                .call(this, EVENT_FINISHED);
+        gpm.getTweenManager().play(timeline);
+    }
 
-            // If both players still have characters remaining, repeat loop
-            if (!playerOne.isDefeated() && !playerTwo.isDefeated()) {
-                gpm.setPhase(new RoundStartPhase(phasePacket, gpm));
-            } else {
-                // Set winner in PhasePacket
-                // In case of draw
-                if (playerOne.isDefeated() && playerTwo.isDefeated()) {
-                    phasePacket.setWinner(PlayerNumber.PLAYER_ONE);
-                    phasePacket.setWinner(PlayerNumber.PLAYER_TWO);
-                }
-                else if (playerOne.isDefeated()) {
-                    phasePacket.setWinner(PlayerNumber.PLAYER_TWO);
-                } else {
-                    phasePacket.setWinner(PlayerNumber.PLAYER_ONE);
-                }
-                gpm.storePhasePacket(phasePacket);
-                gpm.setGameOver(); // ==> Go back to GameState, return phase packet.
+    /**
+     * Ends the round once the Timeline finishes. Goes back to RoundStartPhase if both players still have characters remaining, else sets the game over.
+     * @param event Event number of the step.
+     */
+    @Override
+    public void onTimelineEvent(int event) {
+        // If both players still have characters remaining, repeat loop
+        if (!roundResult.isGameOver()) {
+            gpm.setPhase(GamePhase.ROUND_START);
+        } else {
+            // Set winner in PhasePacket
+            PlayerWinner winner = roundResult.getWinner();
+            if (winner != PlayerWinner.PLAYER_TWO) {
+                phasePacket.setWinner(PlayerNumber.PLAYER_ONE);
             }
-
+            if (winner != PlayerWinner.PLAYER_ONE) {
+                phasePacket.setWinner(PlayerNumber.PLAYER_TWO);
+            }
+            gpm.storePhasePacket(phasePacket);
+            gpm.setGameOver(); // ==> Go back to GameState, return phase packet.
         }
     }
 
+    /**
+     * Updates logic defined in Phase, function is ran once every fixed step. The time before the round ends is played by the Timeline.
+     * @param dt delta time
+     */
+    @Override
+    public void update(float dt) {
+    }
+
     /**
      * Renders sprites and shapes, function is ran once every frame.
      * @param sb SpriteBatch
@@ -70,11 +74,10 @@ public class RoundEndPhase extends Phase {
      */
     @Override
     public void render(SpriteBatch sb, ShapeRenderer sr) {
-        playerOneUI.draw(sb, sr);
-        playerTwoUI.draw(sb, sr);
-        textWidget.draw(sb, sr);
+        drawUIShapes(sr);
 
         sb.begin();
+        drawUIText(sb);
         playerOne.getCurrentCharacter().getSprite().draw(sb);
         playerTwo.getCurrentCharacter().getSprite().draw(sb);
         sb.end();
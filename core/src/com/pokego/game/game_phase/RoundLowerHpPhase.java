@@ -2,16 +2,15 @@ package com.pokego.game.game_phase;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.pokego.game.game_data.Character;
-import com.pokego.game.game_data.Move;
-import com.pokego.game.game_data.MoveClass;
-import com.pokego.game.game_data.Type;
+import com.pokego.utility.Easing;
 
 /**
- * The Phase which lowers the HP of each Character, after calculating the amount of damage to be received for the current turn.
+ * The Phase which lowers the HP of each Character by the damage the BattleEngine decided for the current turn. The HP bars drain to the new HP over HP_DRAIN_DURATION, then the Phase waits for the buffer time.
  */
 public class RoundLowerHpPhase extends Phase {
 
+    private static final float HP_DRAIN_DURATION = 0.8f;
+
     /**
      * Constructs the RoundLowerHpPhase object.
      * @param phasePacket PhasePacket to transfer data between Phases.
@@ -22,52 +21,52 @@ public class RoundLowerHpPhase extends Phase {
 
         phaseName = GamePhase.ROUND_LOWER_HP;
 
-        // Extract data from Phase Packet
-        extractPhasePacket(phasePacket);
-
-        System.out.print("Round Lower HP phase.");
-
-        // Calculate damage received for each character
-        int playerOneDamageReceived =  calculateDamageReceived(playerOne.getCurrentCharacter(), playerTwo.getCurrentCharacter(), playerTwoMove, playerOneMove);
-        int playerTwoDamageReceived =  calculateDamageReceived(playerTwo.getCurrentCharacter(), playerOne.getCurrentCharacter(), playerOneMove, playerTwoMove);
-
-        // Change HP values for each character
-        playerOne.getCurrentCharacter().decreaseHealthPoints(playerOneDamageReceived);
-        playerTwo.getCurrentCharacter().decreaseHealthPoints(playerTwoDamageReceived);
-
-        // Update UIs for corresponding health.
-        playerOneUI.updateHealth(playerOne.getCurrentCharacter().getHealthPoints());
-        playerTwoUI.updateHealth(playerTwo.getCurrentCharacter().getHealthPoints());
-
         // Set buffer time for Phase,
         bufferTime = 0.5f;
     }
 
     /**
-     * Updates logic defined in Phase, function is ran once every frame.
-     * @param dt delta time
+     * Lowers the HP of both Characters according to the Moves used this round.
      */
     @Override
-    public void update(float dt) {
-        // Slowly lower hp based on time...
+    public void enter() {
+        super.enter();
+        System.out.print("Round Lower HP phase.");
 
-        timeElapsed += dt;
-        // Only update text widget if it hasn't finished scrolling through all text.
-        if (!textWidget.displayedFinish() && timeElapsed < textWidget.getScrollDuration()) {
-            textWidget.updateTextScroll(dt);
-        } else if (timeElapsed > textWidget.getScrollDuration() + bufferTime) {
-            // Go to new state after textWidget scrolls finish and after accounting for BUFFER_TIME.
+        int playerOneHealth = playerOne.getCurrentCharacter().getHealthPoints();
+        int playerTwoHealth = playerTwo.getCurrentCharacter().getHealthPoints();
 
-            // Load RoundStartPhase if both characters are still alive, else load DisplayFaintedPhase
-            if (playerOne.getCurrentCharacter().isAlive() && playerTwo.getCurrentCharacter().isAlive()) {
+        // Change HP values for each character, damage was calculated by the BattleEngine
+        playerOne.getCurrentCharacter().decreaseHealthPoints(roundResult.getPlayerOneDamage());
+        playerTwo.getCurrentCharacter().decreaseHealthPoints(roundResult.getPlayerTwoDamage());
 
-                gpm.setPhase(new RoundStartPhase(phasePacket, gpm));
-            } else {
-                gpm.setPhase(new RoundDisplayFaintedPhase(phasePacket, gpm));
-            }
+        // Drain both HP bars to the new health at the same time, then wait before the next Phase.
+        timeline.tween(playerOneUI, playerOneHealth, playerOne.getCurrentCharacter().getHealthPoints(), HP_DRAIN_DURATION, Easing.QUAD_OUT)
+                .alongside(playerTwoUI, playerTwoHealth, playerTwo.getCurrentCharacter().getHealthPoints(), HP_DRAIN_DURATION, Easing.QUAD_OUT)
+                .delay(bufferTime)
+                .call(this, EVENT_FINISHED);
+        gpm.getTweenManager().play(timeline);
+    }
 
+    /**
+     * Goes to the next Phase once the HP bars are drained and the buffer time passes. Loads RoundStartPhase if both characters are still alive, else loads DisplayFaintedPhase.
+     * @param event Event number of the step.
+     */
+    @Override
+    public void onTimelineEvent(int event) {
+        if (!roundResult.isAnyFainted()) {
+            gpm.setPhase(GamePhase.ROUND_START);
+        } else {
+            gpm.setPhase(GamePhase.ROUND_DISPLAY_FAINTED);
         }
+    }
 
+    /**
+     * Updates logic defined in Phase, function is ran once every fixed step. The HP bars are drained by the Timeline.
+     * @param dt delta time
+     */
+    @Override
+    public void update(float dt) {
     }
 
     /**
@@ -77,11 +76,10 @@ public class RoundLowerHpPhase extends Phase {
      */
     @Override
     public void render(SpriteBatch sb, ShapeRenderer sr) {
-        playerOneUI.draw(sb, sr);
-        playerTwoUI.draw(sb, sr);
-        textWidget.draw(sb, sr);
+        drawUIShapes(sr);
 
         sb.begin();
+        drawUIText(sb);
         playerOne.getCurrentCharacter().getSprite().draw(sb);
         playerTwo.getCurrentCharacter().getSprite().draw(sb);
         sb.end();
@@ -94,87 +92,4 @@ public class RoundLowerHpPhase extends Phase {
     public void dispose() {
 
     }
-
-    /**
-     * Calculate damage to be received by Character after accounting for their Type, Move used, Move received, and opponent's Character Type.
-     * @param characterReceiving Character receiving damage.
-     * @param characterUsing Opponent Character.
-     * @param moveReceived Move received by opponent Character.
-     * @param moveUsed Move used by the Character receiving damage.
-     * @return Returns damage taken by Character.
-     */
-    private int calculateDamageReceived(Character characterReceiving, Character characterUsing, Move moveReceived, Move moveUsed) {
-        int damage = 0;
-        // if received no move
-        if (moveReceived == null) {
-            return damage;
-        }
-
-        // received defense move
-        if (moveReceived.getMoveClass() == MoveClass.DEFENSE) {
-            return damage;
-        }
-
-        // received attack move and used attack move, or received attack move and used no moves
-        if ((moveReceived.getMoveClass() == MoveClass.ATTACK && moveUsed == null) || (moveReceived.getMoveClass() == MoveClass.ATTACK && moveUsed.getMoveClass() == MoveClass.ATTACK)) {
-            damage = moveReceived.getBaseDamage();
-            // Calculate base damage if STAB (Same Type Attack Bonus)
-            if (moveReceived.getMoveType() == characterUsing.getCharacterType()) {
-                damage *= 1.5;
-            }
-
-            // Calculate move effective damage
-            if (moveReceived.getMoveType() == Type.FIRE && characterReceiving.getCharacterType() == Type.GRASS) {
-                damage *= 2;
-            } else if (moveReceived.getMoveType() == Type.GRASS && characterReceiving.getCharacterType() == Type.WATER) {
-                damage *= 2;
-            } else if (moveReceived.getMoveType() == Type.WATER && characterReceiving.getCharacterType() == Type.FIRE) {
-                damage *= 2;
-            }
-
-            // Calculate move ineffective damage
-            if (moveReceived.getMoveType() == Type.FIRE && characterReceiving.getCharacterType() == Type.WATER) {
-                damage /= 2;
-            } else if (moveReceived.getMoveType() == Type.GRASS && characterReceiving.getCharacterType() == Type.FIRE) {
-                damage /= 2;
-            } else if (moveReceived.getMoveType() == Type.WATER && characterReceiving.getCharacterType() == Type.GRASS) {
-                damage /= 2;
-            }
-            return damage;
-        }
-
-        // received attack move and used defense move
-        if (moveReceived.getMoveClass() == MoveClass.ATTACK && moveUsed.getMoveClass() == MoveClass.DEFENSE) {
-            damage = moveReceived.getBaseDamage();
-            // Calculate base damage if STAB (Same Type Attack Bonus)
-            if (moveReceived.getMoveType() == characterUsing.getCharacterType()) {
-                damage *= 1.5;
-            }
-
-            // Calculate move effective damage
-            if (moveReceived.getMoveType() == Type.FIRE && characterReceiving.getCharacterType() == Type.GRASS) {
-                damage *= 2;
-            } else if (moveReceived.getMoveType() == Type.GRASS && characterReceiving.getCharacterType() == Type.WATER) {
-                damage *= 2;
-            } else if (moveReceived.getMoveType() == Type.WATER && characterReceiving.getCharacterType() == Type.FIRE) {
-                damage *= 2;
-            }
-
-            // Calculate move ineffective damage
-            if (moveReceived.getMoveType() == Type.FIRE && characterReceiving.getCharacterType() == Type.WATER) {
-                damage /= 2;
-            } else if (moveReceived.getMoveType() == Type.GRASS && characterReceiving.getCharacterType() == Type.FIRE) {
-                damage /= 2;
-            } else if (moveReceived.getMoveType() == Type.WATER && characterReceiving.getCharacterType() == Type.GRASS) {
-                damage /= 2;
-            }
-
-            // deduct damage after damageBlocked
-            int damageBlocked = moveUsed.getDamageBlocked();
-            damage -= damageBlocked;
-            return Math.max(0, damage);
-        }
-
-        return damage;
-    }
 }
@@ -1,14 +1,19 @@
 package com.pokego.game.game_phase;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.pokego.game.game_controller.PlayerController;
+import com.pokego.game.game_data.Move;
+import com.pokego.game.game_data.Player;
+import com.pokego.game.game_engine.BattleEngine;
+import com.pokego.game.game_engine.RoundResult;
 import com.pokego.game.game_ui.PlayerNumber;
+import com.pokego.leaderboard.MatchStats;
 import com.pokego.states.GameState;
+import com.pokego.utility.Easing;
 
 /**
- * The Phase which receive inputs from both Players. Displays the GameRoundTimer object.
+ * The Phase which receive the moves of both Players from their PlayerControllers. Displays the GameRoundTimer object.
  */
 public class RoundStartPhase extends Phase {
 
@@ -22,78 +27,86 @@ public class RoundStartPhase extends Phase {
     public RoundStartPhase(PhasePacket phasePacket, GamePhaseManager gpm) {
         // RUN ONCE
         super(phasePacket, gpm);
-        System.out.println("ROUND_START PHASE");
 
         phaseName = GamePhase.ROUND_START;
 
-        // Extract data from Phase Packet
-        extractPhasePacket(phasePacket);
-
-        // Start and create timer, based on time between rounds
+        // Create timer once, based on time between rounds
         timer = new GameRoundTimer(GameState.TIME_BETWEEN_ROUNDS);
-
-        // Reset moves
-        playerOneMove = null;
-        playerTwoMove = null;
-
-        textWidget.setText("Choose your move...");
     }
 
     /**
-     * Receive inputs from each Player. Q W E R for player 1, Up Down Left Right for player 2.
+     * Starts a new round. Resets the timer and moves, and asks both Players for their moves.
      */
-    private void handleInputs() {
-        // Await inputs for each player
-
-        // Player 1 inputs
-        if(Gdx.input.isKeyJustPressed(Input.Keys.Q)) {
-            playerOneMove = playerOne.getCurrentCharacter().getFireMove();
-
-        } else if (Gdx.input.isKeyJustPressed(Input.Keys.W)) {
-            playerOneMove = playerOne.getCurrentCharacter().getWaterMove();
+    @Override
+    public void enter() {
+        super.enter();
+        System.out.println("ROUND_START PHASE");
 
-        } else if (Gdx.input.isKeyJustPressed(Input.Keys.E)) {
-            playerOneMove = playerOne.getCurrentCharacter().getGrassMove();
+        textWidget.setText("Choose your move...");
+        timeline.tween(textWidget, 0, 1, textWidget.getScrollDuration(), Easing.LINEAR);
+        gpm.getTweenManager().play(timeline);
 
-        } else if (Gdx.input.isKeyJustPressed(Input.Keys.R)) {
-            playerOneMove = playerOne.getCurrentCharacter().getDefenseMove();
+        // Let both controllers start choosing, bots search in the background
+        phasePacket.getPlayerOneController().startRound(battleEngine, BattleEngine.PLAYER_ONE);
+        phasePacket.getPlayerTwoController().startRound(battleEngine, BattleEngine.PLAYER_TWO);
+    }
 
+    /**
+     * Resets the timer and the moves chosen in the previous round.
+     */
+    @Override
+    protected void reset() {
+        super.reset();
+        timer.reset();
 
+        // Reset moves
+        playerOneMove = null;
+        playerTwoMove = null;
+    }
 
+    /**
+     * Receive moves from each Player's PlayerController once every frame, until the timer ends. Q W E R for a local player 1, Up Down Left Right for a local player 2.
+     */
+    @Override
+    public void handleInput() {
+        if (timer.timerEnded()) {
+            return;
         }
+        playerOneMove = pollMove(phasePacket.getPlayerOneController(), playerOne, playerOneMove);
+        playerTwoMove = pollMove(phasePacket.getPlayerTwoController(), playerTwo, playerTwoMove);
+    }
 
-        // Player 2
-        if(Gdx.input.isKeyJustPressed(Input.Keys.UP)) {
-            playerTwoMove = playerTwo.getCurrentCharacter().getFireMove();
-
-        } else if (Gdx.input.isKeyJustPressed(Input.Keys.DOWN)) {
-            playerTwoMove = playerTwo.getCurrentCharacter().getWaterMove();
-
-        } else if (Gdx.input.isKeyJustPressed(Input.Keys.LEFT)) {
-            playerTwoMove = playerTwo.getCurrentCharacter().getGrassMove();
-
-        } else if (Gdx.input.isKeyJustPressed(Input.Keys.RIGHT)) {
-            playerTwoMove = playerTwo.getCurrentCharacter().getDefenseMove();
-
+    /**
+     * Helper function to poll a PlayerController for a new move.
+     * @param controller PlayerController to poll.
+     * @param player Player whose move is chosen.
+     * @param currentMove Move chosen so far this round.
+     * @return Returns the new move of the current Character, or the move chosen so far if the controller has no new move.
+     */
+    private Move pollMove(PlayerController controller, Player player, Move currentMove) {
+        int moveSlot = controller.pollMove();
+        if (moveSlot == BattleEngine.MOVE_NONE) {
+            return currentMove;
         }
-
-
+        return player.getCurrentCharacter().getMove(moveSlot);
     }
 
     /**
-     * Updates logic defined in Phase, function is ran once every frame.
+     * Updates logic defined in Phase, function is ran once every fixed step.
      * @param dt delta time
      */
     @Override
     public void update(float dt) {
         // If round is still ongoing, update
         if (!timer.timerEnded()) {
-            handleInputs();
-            textWidget.updateTextScroll(dt);
             timer.updateTime(dt);
             return;
         }
 
+        // Moves are locked in once the timer ends
+        phasePacket.getPlayerOneController().endRound();
+        phasePacket.getPlayerTwoController().endRound();
+
         // Cast moves after receiving inputs
         if (playerOneMove != null) {
             playerOneMove.castMove(PlayerNumber.PLAYER_TWO);
@@ -106,8 +119,40 @@ public class RoundStartPhase extends Phase {
         phasePacket.setPlayerOneMove(playerOneMove);
         phasePacket.setPlayerTwoMove(playerTwoMove);
 
-        timer.getTimerUI().dispose();
-        gpm.setPhase(new RoundTextMovesPhase(phasePacket, gpm));
+        // Let the engine decide the outcome of the round, the next Phases only animate it.
+        int playerOneSlot = playerOne.getCurrentCharacter().getMoveSlot(playerOneMove);
+        int playerTwoSlot = playerTwo.getCurrentCharacter().getMoveSlot(playerTwoMove);
+        int playerOneHealth = battleEngine.getCurrentHealth(BattleEngine.PLAYER_ONE);
+        int playerTwoHealth = battleEngine.getCurrentHealth(BattleEngine.PLAYER_TWO);
+        RoundResult result = battleEngine.resolveRound(playerOneSlot, playerTwoSlot);
+        phasePacket.setRoundResult(result);
+        int playerOneHpLost = playerOneHealth - result.getPlayerOneHealth();
+        int playerTwoHpLost = playerTwoHealth - result.getPlayerTwoHealth();
+
+        // Record the moves and HP lost, so that the match can be replayed
+        if (phasePacket.getMatchRecord() != null) {
+            phasePacket.getMatchRecord().addRound(playerOneSlot, playerTwoSlot, playerOneHpLost, playerTwoHpLost);
+        }
+
+        // Count the round in the statistics of both players
+        MatchStats matchStats = phasePacket.getMatchStats();
+        if (matchStats != null) {
+            matchStats.addRound(BattleEngine.PLAYER_ONE, playerOne.getCurrentCharacter().getName(), getMoveName(playerOneMove),
+                    playerTwoHpLost, playerOneHpLost, result.isPlayerTwoFainted());
+            matchStats.addRound(BattleEngine.PLAYER_TWO, playerTwo.getCurrentCharacter().getName(), getMoveName(playerTwoMove),
+                    playerOneHpLost, playerTwoHpLost, result.isPlayerOneFainted());
+        }
+
+        gpm.setPhase(GamePhase.ROUND_TEXT_MOVES);
+    }
+
+    /**
+     * Helper function to get the name of a Move for the MatchStats.
+     * @param move Move chosen this round, null if none.
+     * @return Returns the name of the Move, null if no Move was chosen.
+     */
+    private static String getMoveName(Move move) {
+        return move == null ? null : move.getName();
     }
 
     /**
@@ -117,11 +162,10 @@ public class RoundStartPhase extends Phase {
      */
     @Override
     public void render(SpriteBatch sb, ShapeRenderer sr) {
-        playerOneUI.draw(sb, sr);
-        playerTwoUI.draw(sb, sr);
-        textWidget.draw(sb, sr);
+        drawUIShapes(sr);
 
         sb.begin();
+        drawUIText(sb);
         timer.getTimerUI().draw(sb);
         playerOne.getCurrentCharacter().getSprite().draw(sb);
         playerTwo.getCurrentCharacter().getSprite().draw(sb);
@@ -133,7 +177,7 @@ public class RoundStartPhase extends Phase {
      */
     @Override
     public void dispose() {
-        // Remove timer as no need for timer after this.
+        // Remove timer, it is reused every round until the game ends.
         timer.getTimerUI().dispose();
     }
 }
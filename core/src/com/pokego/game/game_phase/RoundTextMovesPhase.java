@@ -15,32 +15,38 @@ public class RoundTextMovesPhase extends Phase{
      */
     public RoundTextMovesPhase(PhasePacket phasePacket, GamePhaseManager gpm) {
         super(phasePacket, gpm);
-        System.out.println("ROUND_DISPLAY_MOVES PHASE");
 
         phaseName = GamePhase.ROUND_TEXT_MOVES;
+    }
 
-        // Extract data from Phase Packet.
-        extractPhasePacket(phasePacket);
+    /**
+     * Sets the text widget according to what moves each Character has used.
+     */
+    @Override
+    public void enter() {
+        super.enter();
+        System.out.println("ROUND_DISPLAY_MOVES PHASE");
 
         // Set text widget according to what moves each character has used.
         textWidget.setText(getMoveString());
+        playTextTimeline();
     }
 
     /**
-     * Updates logic defined in Phase, function is ran once every frame.
+     * Goes to the next Phase after the text widget scrolls and the buffer time passes.
+     * @param event Event number of the step.
+     */
+    @Override
+    public void onTimelineEvent(int event) {
+        gpm.setPhase(GamePhase.ROUND_DISPLAY_MOVES);
+    }
+
+    /**
+     * Updates logic defined in Phase, function is ran once every fixed step. The text scroll and the buffer time are played by the Timeline.
      * @param dt delta time
      */
     @Override
     public void update(float dt) {
-        timeElapsed += dt;
-
-        // Only update text widget if it hasn't finished scrolling through all text.
-        if (!textWidget.displayedFinish() && timeElapsed < textWidget.getScrollDuration()) {
-            textWidget.updateTextScroll(dt);
-        } else if (timeElapsed > textWidget.getScrollDuration() + bufferTime) {
-            // Go to new state after textWidget scrolls finish and after accounting for BUFFER_TIME.
-            gpm.setPhase(new RoundDisplayMovesPhase(phasePacket, gpm));
-        }
     }
 
     /**
@@ -50,11 +56,10 @@ public class RoundTextMovesPhase extends Phase{
      */
     @Override
     public void render(SpriteBatch sb, ShapeRenderer sr) {
-        playerOneUI.draw(sb, sr);
-        playerTwoUI.draw(sb, sr);
-        textWidget.draw(sb, sr);
+        drawUIShapes(sr);
 
         sb.begin();
+        drawUIText(sb);
         playerOne.getCurrentCharacter().getSprite().draw(sb);
         playerTwo.getCurrentCharacter().getSprite().draw(sb);
         sb.end();
@@ -10,11 +10,13 @@ import com.pokego.datamodel.GameTextWidget;
 import com.pokego.game.game_data.Character;
 import com.pokego.game.game_data.Player;
 import com.pokego.utility.Font;
+import com.pokego.utility.TweenTarget;
+import com.pokego.utility.Utility;
 
 /**
- * The PlayerUI object represents a collection of Player UI elements to be displayed in GameState.
+ * The PlayerUI object represents a collection of Player UI elements to be displayed in GameState. It is also a TweenTarget, so that a Timeline can drain its health bar.
  */
-public class PlayerUI {
+public class PlayerUI implements TweenTarget {
     private final static float DEFAULT_BREADTH = 200f;
     private final static float DEFAULT_LENGTH = 400f;
     private final static float DEFAULT_BORDER_RADIUS = 10f;
@@ -25,6 +27,8 @@ public class PlayerUI {
     private final static float PLAYER_TWO_X = 600;
     private final static float PLAYER_TWO_Y = 500;
 
+    private final static Color EMPTY_HEALTH_COLOR = new Color(255/255f, 255/255f, 255/255f, 0f);
+
 
     private GameRectangle playerUIBox;
     private GameText playerName;
@@ -144,18 +148,30 @@ public class PlayerUI {
      * @param health Health of Character.
      */
     public void updateHealth(int health) {
-        currentHealth = health;
-        String healthDisplay = String.format("%d/%d", currentHealth, Character.CHARACTER_STARTING_HP);
-        playerHealth.setText(healthDisplay);
+        onTweenUpdate(health);
+    }
+
+    /**
+     * Update playerUI health bar and health value while the health is tweened. The bar follows the exact value, and the text shows it rounded.
+     * @param health Health of Character.
+     */
+    @Override
+    public void onTweenUpdate(float health) {
+        int roundedHealth = Math.round(health);
+        if (roundedHealth != currentHealth) {
+            currentHealth = roundedHealth;
+            String healthDisplay = String.format("%d/%d", currentHealth, Character.CHARACTER_STARTING_HP);
+            playerHealth.setText(healthDisplay);
+        }
 
-        if (health != 0) {
-            playerInnerHealthBar.setLength((float)currentHealth/100 * playerOuterHealthBar.getLength());
+        if (health > 0) {
+            playerInnerHealthBar.setLength(health/100 * playerOuterHealthBar.getLength());
         }
 
 
         // Change HP Bar color based on health
         if (health <= 0) {
-            playerInnerHealthBar.setColor(new Color(255/255f, 255/255f, 255/255f, 0f));
+            playerInnerHealthBar.setColor(EMPTY_HEALTH_COLOR);
         }
         else if (health <= 0.15 * Character.CHARACTER_STARTING_HP) {
             playerInnerHealthBar.setColor(Color.RED);
@@ -183,19 +199,37 @@ public class PlayerUI {
      * @param sr ShapeRenderer
      */
     public void draw(SpriteBatch sb, ShapeRenderer sr) {
+        Utility.beginShapes(sr);
+        drawShapes(sr);
+        Utility.endShapes(sr);
+
+        sb.begin();
+        drawText(sb);
+        sb.end();
+    }
+
+    /**
+     * Render the panels and health bars of the playerUI into the current ShapeRenderer pass.
+     * @param sr ShapeRenderer
+     */
+    public void drawShapes(ShapeRenderer sr) {
         playerUIBox.draw(sr);
         playerOuterHealthBar.draw(sr);
         playerInnerHealthBar.draw(sr);
-        playerHelpBox.draw(sb, sr);
-
+        playerHelpBox.drawShapes(sr);
+    }
 
-        sb.begin();
+    /**
+     * Render the text of the playerUI into the current SpriteBatch pass.
+     * @param sb SpriteBatch
+     */
+    public void drawText(SpriteBatch sb) {
+        playerHelpBox.drawText(sb);
         playerName.draw(sb);
         playerHealthLabel.draw(sb);
         playerHealth.draw(sb);
         playerCharacterLabel.draw(sb);
         playerCharacters.draw(sb);
-        sb.end();
     }
 
     /**
@@ -0,0 +1,175 @@
+package com.pokego.leaderboard;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Defines the files of the LeaderboardStore. Every file starts with a magic number and the version.
+ * The player file holds the name of every player, in the order they were first seen, so that a player's ID is the position of its name. Each entry holds the length of the name as an unsigned short, then the name in UTF-8.
+ * Match log segments hold fixed-size records: the winner's ID, the loser's ID, the timestamp in milliseconds and a CRC32 of the first 16 bytes. A record with a bad checksum, and every record after it, was torn by a crash and is ignored. The header of a segment is forced to disk when the segment is created, so only the last segment can have a torn header, and it then holds no records.
+ * The snapshot holds the first segment it does not cover and the wins and losses of every player. Since version 2, it then holds the current day and the TimeBuckets of the week: the day of each bucket, the number of players counted, and the ID, wins and losses of each of them. It ends with a CRC32 of the whole file.
+ * The stats file holds the PlayerStatsTable column by column: since version 2, the first stats log segment it does not cover, then the number of players and of StatsColumns, then every StatsColumn as one long per player. It then holds the Character and Move dictionaries, each as the number of names, then every name followed by its column of one int per player. Names are written like in the player file. It ends with a CRC32 of the whole file.
+ * Stats log segments are numbered like match log segments and hold one record per MatchStats: the length of the data, the data, then a CRC32 of the data. The data holds the ID of every player of the match, then for each player the value of every StatsColumn as an int, then the number of Characters played followed by each name and its rounds, then the number of Moves used followed by each name and its uses. Torn records and headers are handled like in match log segments.
+ */
+final class LeaderboardFormat {
+    final static int PLAYERS_MAGIC = 0x5047504C; // "PGPL"
+    final static int MATCHES_MAGIC = 0x50474D4C; // "PGML"
+    final static int SNAPSHOT_MAGIC = 0x5047534E; // "PGSN"
+    final static int STATS_MAGIC = 0x50475354; // "PGST"
+    final static int STATS_LOG_MAGIC = 0x50475344; // "PGSD"
+    final static int VERSION = 1;
+    final static int SNAPSHOT_VERSION = 2;
+    final static int STATS_VERSION = 2;
+
+    final static int HEADER_SIZE = 8;
+    final static int RECORD_SIZE = 20;
+    final static int RECORD_DATA_SIZE = 16;
+
+    final static String PLAYERS_FILE = "players.log";
+    final static String SNAPSHOT_FILE = "standings.snapshot";
+    final static String SNAPSHOT_TEMP_FILE = "standings.snapshot.tmp";
+    final static String STATS_FILE = "player-stats.bin";
+    final static String STATS_TEMP_FILE = "player-stats.bin.tmp";
+    private final static String SEGMENT_PREFIX = "matches-";
+    private final static String STATS_SEGMENT_PREFIX = "stats-";
+    private final static String SEGMENT_SUFFIX = ".log";
+    private final static Charset UTF_8 = Charset.forName("UTF-8");
+
+    /**
+     * Not instantiable, stores a collection of static functions.
+     */
+    private LeaderboardFormat() {
+    }
+
+    /**
+     * Gets the file name of a match log segment.
+     * @param segment Number of the segment.
+     * @return Returns the file name of the segment.
+     */
+    static String segmentName(int segment) {
+        return String.format("%s%06d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX);
+    }
+
+    /**
+     * Gets the file name of a stats log segment.
+     * @param segment Number of the segment.
+     * @return Returns the file name of the segment.
+     */
+    static String statsSegmentName(int segment) {
+        return String.format("%s%06d%s", STATS_SEGMENT_PREFIX, segment, SEGMENT_SUFFIX);
+    }
+
+    /**
+     * Gets the number of a match log segment from its file name.
+     * @param fileName File name to parse.
+     * @return Returns the number of the segment, -1 if the file is not a segment.
+     */
+    static int parseSegment(String fileName) {
+        return parseSegment(fileName, SEGMENT_PREFIX);
+    }
+
+    /**
+     * Gets the number of a stats log segment from its file name.
+     * @param fileName File name to parse.
+     * @return Returns the number of the segment, -1 if the file is not a stats log segment.
+     */
+    static int parseStatsSegment(String fileName) {
+        return parseSegment(fileName, STATS_SEGMENT_PREFIX);
+    }
+
+    /**
+     * Helper function to get the number of a segment from its file name.
+     * @param fileName File name to parse.
+     * @param prefix Prefix of the segment file names.
+     * @return Returns the number of the segment, -1 if the file is not a segment.
+     */
+    private static int parseSegment(String fileName, String prefix) {
+        if (!fileName.startsWith(prefix) || !fileName.endsWith(SEGMENT_SUFFIX)) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(fileName.substring(prefix.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Gets the size of a name written by putName().
+     * @param name Name to write.
+     * @return Returns the size in bytes.
+     */
+    static int getNameSize(String name) {
+        return 2 + name.getBytes(UTF_8).length;
+    }
+
+    /**
+     * Writes a name as its length, then its UTF-8 bytes.
+     * @param data Buffer to write to.
+     * @param name Name to write.
+     */
+    static void putName(ByteBuffer data, String name) {
+        byte[] nameBytes = name.getBytes(UTF_8);
+        data.putShort((short) nameBytes.length);
+        data.put(nameBytes);
+    }
+
+    /**
+     * Reads a name written by putName().
+     * @param data Buffer to read from.
+     * @return Returns the name.
+     */
+    static String getName(ByteBuffer data) {
+        int length = data.getShort() & 0xFFFF;
+        String name = new String(data.array(), data.position(), length, UTF_8);
+        data.position(data.position() + length);
+        return name;
+    }
+
+    /**
+     * Computes the CRC32 of a range of a heap buffer.
+     * @param crc CRC32 to reuse.
+     * @param buffer Heap ByteBuffer holding the data.
+     * @param offset Offset of the data in the buffer.
+     * @param length Length of the data.
+     * @return Returns the CRC32 as an int.
+     */
+    static int checksum(CRC32 crc, ByteBuffer buffer, int offset, int length) {
+        crc.reset();
+        crc.update(buffer.array(), buffer.arrayOffset() + offset, length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Writes a whole file to a temporary file, forces it to disk, then renames it over the file, so a crash leaves either the old or the new file, never a partial one.
+     * @param directory Folder of the LeaderboardStore.
+     * @param fileName Name of the file to replace.
+     * @param tempFileName Name of the temporary file.
+     * @param data Contents of the file, from its position to its limit.
+     * @throws IOException If the file cannot be written.
+     */
+    static void writeAtomically(File directory, String fileName, String tempFileName, ByteBuffer data) throws IOException {
+        File temp = new File(directory, tempFileName);
+        try (FileChannel channel = FileChannel.open(temp.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+            channel.force(true);
+        }
+
+        File file = new File(directory, fileName);
+        try {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
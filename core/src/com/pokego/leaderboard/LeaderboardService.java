@@ -0,0 +1,394 @@
+package com.pokego.leaderboard;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * The LeaderboardService lets any thread record results without waiting for the disk. recordResult() only gives the result a sequence number and queues it. A background writer thread opens the LeaderboardStore, then takes every queued result at once, appends them to the match log and syncs it once, so results recorded while the previous batch was being written share one durable flush.
+ * A result can carry the MatchStats of the match, which the writer appends to the stats log and syncs with the same batch. Draws only record their MatchStats.
+ * Every result gets a sequence number. awaitDurable() waits until a result is synced, and flush() waits for every result recorded so far, which PokeGo.dispose() uses before the game closes. A result that cannot be written is reported, and no result from it onwards counts as durable, so both return false at once instead of waiting, as they do when the store could not be opened. The ranks and pages of the scoreboard come from the LeaderboardStore, so they include every result the writer has written. Queries never wait: until the writer has opened the store, they return an empty scoreboard, which isReady() lets the caller detect.
+ */
+public class LeaderboardService {
+    public final static long DEFAULT_FLUSH_TIMEOUT_MILLIS = 5000;
+
+    private static LeaderboardService instance;
+
+    /**
+     * One result waiting to be written.
+     */
+    private static class MatchResult {
+        private String winner;
+        private String loser;
+        private MatchStats stats;
+        private long sequence;
+
+        /**
+         * Constructs the MatchResult.
+         * @param winner Name of the winner, null for a draw.
+         * @param loser Name of the loser, null for a draw.
+         * @param stats Statistics of the match, null if they were not counted.
+         * @param sequence Sequence number of the result.
+         */
+        private MatchResult(String winner, String loser, MatchStats stats, long sequence) {
+            this.winner = winner;
+            this.loser = loser;
+            this.stats = stats;
+            this.sequence = sequence;
+        }
+    }
+
+    private final static MatchResult STOP = new MatchResult(null, null, null, 0);
+
+    private String directoryPath;
+    private LeaderboardStore store;
+    private CountDownLatch storeOpened;
+
+    private LinkedBlockingQueue<MatchResult> queue;
+    private long recorded; // Guarded by queue, so that sequence numbers are queued in order.
+    private long durable; // Guarded by durableLock.
+    private long failed; // First sequence number that could not be written, 0 if none. Guarded by durableLock.
+    private final Object durableLock = new Object();
+    private boolean stopped;
+
+    private Thread writer;
+
+    /**
+     * Gets the service of the default folder. The writer thread is started on the first call only.
+     * @return Returns the service of the default folder.
+     */
+    public static synchronized LeaderboardService getInstance() {
+        if (instance == null) {
+            instance = new LeaderboardService(LeaderboardStore.DEFAULT_DIRECTORY);
+        }
+        return instance;
+    }
+
+    /**
+     * Flushes and disposes the service of the default folder, if it was started.
+     */
+    public static synchronized void disposeInstance() {
+        if (instance != null) {
+            instance.dispose();
+            instance = null;
+        }
+    }
+
+    /**
+     * Constructs the LeaderboardService and starts its writer thread, which opens the LeaderboardStore.
+     * @param directoryPath Folder of the LeaderboardStore.
+     */
+    public LeaderboardService(String directoryPath) {
+        this.directoryPath = directoryPath;
+        storeOpened = new CountDownLatch(1);
+        queue = new LinkedBlockingQueue<MatchResult>();
+
+        writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                runWriter();
+            }
+        }, "leaderboard-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Records the result of a match. Never waits for the disk.
+     * @param winner Name of the winner.
+     * @param loser Name of the loser.
+     * @return Returns the sequence number of the result, to pass to awaitDurable(). -1 if the service was disposed.
+     */
+    public long recordResult(String winner, String loser) {
+        return recordResult(winner, loser, null);
+    }
+
+    /**
+     * Records the result of a match with its statistics. Never waits for the disk.
+     * @param winner Name of the winner.
+     * @param loser Name of the loser.
+     * @param stats Statistics of the match, null if they were not counted.
+     * @return Returns the sequence number of the result, to pass to awaitDurable(). -1 if the service was disposed.
+     */
+    public long recordResult(String winner, String loser, MatchStats stats) {
+        synchronized (queue) {
+            if (stopped) {
+                return -1;
+            }
+            recorded++;
+            queue.add(new MatchResult(winner, loser, stats, recorded));
+            return recorded;
+        }
+    }
+
+    /**
+     * Records the statistics of a match without a winner, such as a draw. Never waits for the disk.
+     * @param stats Statistics of the match.
+     * @return Returns the sequence number of the statistics, to pass to awaitDurable(). -1 if the service was disposed.
+     */
+    public long recordStats(MatchStats stats) {
+        synchronized (queue) {
+            if (stopped) {
+                return -1;
+            }
+            recorded++;
+            queue.add(new MatchResult(null, null, stats, recorded));
+            return recorded;
+        }
+    }
+
+    /**
+     * Helper function running on the writer thread. Opens the store, then writes queued results in batches until the service is disposed.
+     */
+    private void runWriter() {
+        try {
+            store = new LeaderboardStore(directoryPath);
+        } catch (IOException e) {
+            e.printStackTrace();
+            store = null;
+            // Without a store no result can be written, so waiting for one fails at once.
+            markFailed(1);
+        } finally {
+            storeOpened.countDown();
+        }
+
+        List<MatchResult> batch = new ArrayList<MatchResult>();
+        boolean running = true;
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                e.printStackTrace();
+                break;
+            }
+            queue.drainTo(batch);
+            running = writeBatch(batch);
+            batch.clear();
+        }
+
+        if (store != null) {
+            store.dispose();
+        }
+    }
+
+    /**
+     * Helper function to append a batch of results to the store and sync it once. A result that cannot be written is reported and skipped, and the results after it are still written, but none of them count as durable.
+     * @param batch Results taken from the queue, in order.
+     * @return Returns false if the batch ended with the STOP marker. True otherwise.
+     */
+    private boolean writeBatch(List<MatchResult> batch) {
+        boolean running = true;
+        long firstSequence = 0;
+        long lastSequence = 0;
+        for (MatchResult result : batch) {
+            if (result == STOP) {
+                running = false;
+                continue;
+            }
+            if (firstSequence == 0) {
+                firstSequence = result.sequence;
+            }
+            lastSequence = result.sequence;
+            if (store == null) {
+                continue;
+            }
+            try {
+                if (result.winner != null) {
+                    store.append(result.winner, result.loser);
+                }
+                if (result.stats != null) {
+                    store.recordStats(result.stats);
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+                System.out.println("Could not record leaderboard result " + result.sequence + ".");
+                markFailed(result.sequence);
+            }
+        }
+        if (store == null || lastSequence == 0) {
+            return running;
+        }
+
+        try {
+            store.sync();
+        } catch (IOException e) {
+            e.printStackTrace();
+            System.out.println("Could not sync leaderboard results " + firstSequence + " to " + lastSequence + ".");
+            markFailed(firstSequence);
+            return running;
+        }
+        synchronized (durableLock) {
+            // Results after the first failure never count as durable, even once they are synced.
+            long newDurable = failed == 0 ? lastSequence : Math.min(lastSequence, failed - 1);
+            durable = Math.max(durable, newDurable);
+            durableLock.notifyAll();
+        }
+        return running;
+    }
+
+    /**
+     * Helper function to remember a result that could not be written, and wake the threads waiting for it.
+     * @param sequence Sequence number of the result. Only the first one is kept.
+     */
+    private void markFailed(long sequence) {
+        synchronized (durableLock) {
+            if (failed == 0 || sequence < failed) {
+                failed = sequence;
+            }
+            durableLock.notifyAll();
+        }
+    }
+
+    /**
+     * Waits until a result is synced to disk.
+     * @param sequence Sequence number returned by recordResult().
+     * @param timeoutMillis Longest time to wait in milliseconds.
+     * @return Returns true if the result is durable. False if the time ran out, or at once if the result, or one before it, could not be written.
+     */
+    public boolean awaitDurable(long sequence, long timeoutMillis) {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        synchronized (durableLock) {
+            while (durable < sequence) {
+                if (failed != 0 && failed <= sequence) {
+                    return false;
+                }
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    return false;
+                }
+                try {
+                    durableLock.wait(remaining);
+                } catch (InterruptedException e) {
+                    e.printStackTrace();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Waits until every result recorded so far is synced to disk.
+     * @param timeoutMillis Longest time to wait in milliseconds.
+     * @return Returns true if every result is durable. False if the time ran out, or at once if a result could not be written.
+     */
+    public boolean flush(long timeoutMillis) {
+        long sequence;
+        synchronized (queue) {
+            sequence = recorded;
+        }
+        return awaitDurable(sequence, timeoutMillis);
+    }
+
+    /**
+     * Checks if the writer thread has opened the store, so that queries return the results written so far.
+     * @return Returns true if the store is open, or could not be opened.
+     */
+    public boolean isReady() {
+        return storeOpened.getCount() == 0;
+    }
+
+    /**
+     * Helper function to get the store without waiting for the writer thread to open it.
+     * @return Returns the store, null if it is not open yet or could not be opened.
+     */
+    private LeaderboardStore getOpenedStore() {
+        if (!isReady()) {
+            return null;
+        }
+        return store;
+    }
+
+    /**
+     * Gets the rank of a player in a window, among the results written so far.
+     * @param window Window of the scoreboard.
+     * @param name Name of the player.
+     * @return Returns the rank of the player, starting from 1, or -1 if the player is not on the scoreboard.
+     */
+    public int rankOf(LeaderboardWindow window, String name) {
+        LeaderboardStore openedStore = getOpenedStore();
+        return openedStore == null ? -1 : openedStore.rankOf(window, name);
+    }
+
+    /**
+     * Gets the players with the most wins in a window, among the results written so far.
+     * @param window Window of the scoreboard.
+     * @param k Number of players.
+     * @return Returns up to k players, from the first rank.
+     */
+    public List<PlayerStanding> topK(LeaderboardWindow window, int k) {
+        return page(window, 0, k);
+    }
+
+    /**
+     * Gets a page of the scoreboard of a window, among the results written so far.
+     * @param window Window of the scoreboard.
+     * @param offset Number of players before the page.
+     * @param limit Highest number of players in the page.
+     * @return Returns the players from rank offset + 1, up to limit players.
+     */
+    public List<PlayerStanding> page(LeaderboardWindow window, int offset, int limit) {
+        LeaderboardStore openedStore = getOpenedStore();
+        if (openedStore == null) {
+            return new ArrayList<PlayerStanding>();
+        }
+        return openedStore.page(window, offset, limit);
+    }
+
+    /**
+     * Gets the number of players on the scoreboard of a window, among the results written so far.
+     * @param window Window of the scoreboard.
+     * @return Returns the number of players.
+     */
+    public int getPlayerCount(LeaderboardWindow window) {
+        LeaderboardStore openedStore = getOpenedStore();
+        return openedStore == null ? 0 : openedStore.getPlayerCount(window);
+    }
+
+    /**
+     * Gets the statistics of a player, among the matches written so far.
+     * @param name Name of the player.
+     * @return Returns the statistics of the player, null if the player has no recorded statistics.
+     */
+    public PlayerProfile getProfile(String name) {
+        LeaderboardStore openedStore = getOpenedStore();
+        return openedStore == null ? null : openedStore.getProfile(name);
+    }
+
+    /**
+     * Gets the players with the highest values of a metric, among the matches written so far.
+     * @param column Metric to rank by.
+     * @param k Number of players.
+     * @return Returns the statistics of up to k players, highest value first.
+     */
+    public List<PlayerProfile> topStats(StatsColumn column, int k) {
+        LeaderboardStore openedStore = getOpenedStore();
+        if (openedStore == null) {
+            return new ArrayList<PlayerProfile>();
+        }
+        return openedStore.topStats(column, k);
+    }
+
+    /**
+     * Stops accepting results, waits until every recorded result is durable, then stops the writer thread and closes the store.
+     */
+    public void dispose() {
+        synchronized (queue) {
+            if (stopped) {
+                return;
+            }
+            stopped = true;
+            queue.add(STOP);
+        }
+        if (!flush(DEFAULT_FLUSH_TIMEOUT_MILLIS)) {
+            System.out.println("Leaderboard results were not all synced.");
+        }
+        try {
+            writer.join(DEFAULT_FLUSH_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
+    }
+}
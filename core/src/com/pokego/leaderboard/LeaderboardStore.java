@@ -0,0 +1,536 @@
+package com.pokego.leaderboard;
+
+import com.pokego.utility.CSVHandler;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The LeaderboardStore keeps the result of every match in an append-only match log, in the "./assets/data/leaderboard" folder. Recording a result appends one fixed-size record to the current segment of the log, so it costs the same however many players there are, and a crash can only lose the records that were not synced yet. Records are forced to disk in batches of SYNC_BATCH, and when the store is disposed. Only one store may be open on a folder, the LeaderboardService owns the store of the game.
+ * The standings are rebuilt from the last snapshot plus the segments written after it. Every COMPACTION_INTERVAL records, the current segment is closed and a background thread writes a new snapshot with an atomic rename, then deletes the segments it covers. The first time the store is opened, the wins of the old "playerScores.csv" scoreboard are imported.
+ * The standings are also kept in a RankedLeaderboard, so that ranks and pages of the scoreboard are found in O(log n) without sorting. The DAILY and WEEKLY windows are ranked by a WindowedLeaderboard, whose TimeBuckets are saved in the snapshot.
+ * The statistics of every player are kept in a columnar PlayerStatsTable, indexed by the same player IDs. The MatchStats of every match are appended to a stats log segment next to the match log segment and synced with it, so recording them costs the same however many players there are. The whole table is only written to the stats file by a compaction, next to the snapshot, and when the store is disposed.
+ * Writes hold the writeLock from start to end, while the store's monitor only guards the data in memory. Every fsync happens outside the monitor, so queries from the render thread never wait for the disk.
+ */
+public class LeaderboardStore {
+    public final static String DEFAULT_DIRECTORY = "./data/leaderboard";
+    public final static int SYNC_BATCH = 16;
+    public final static int COMPACTION_INTERVAL = 256;
+
+    private final static long DISPOSE_TIMEOUT_SECONDS = 5;
+
+    private File directory;
+    private PlayerDirectory players;
+    private Standings standings;
+    private RankedLeaderboard ranking;
+    private WindowedLeaderboard windows;
+    private PlayerStatsTable stats;
+    private MatchLog log;
+    private StatsLog statsLog;
+    private int segment;
+
+    private int unsyncedRecords; // Guarded by writeLock.
+    private int recordsSinceSnapshot;
+    private boolean compacting;
+    private ExecutorService compactor;
+
+    private final Object writeLock = new Object();
+
+    /**
+     * Opens a store, creating its folder if it does not exist. Rebuilds the standings from the snapshot and the match log, and the statistics from the stats file and the stats log, then starts a new segment.
+     * @param directoryPath Folder of the store.
+     * @throws IOException If the store cannot be read or written.
+     */
+    public LeaderboardStore(String directoryPath) throws IOException {
+        directory = new File(directoryPath);
+        directory.mkdirs();
+
+        players = new PlayerDirectory(new File(directory, LeaderboardFormat.PLAYERS_FILE));
+        standings = new Standings();
+        windows = new WindowedLeaderboard(players, System.currentTimeMillis());
+        int firstSegment = StandingsSnapshot.read(directory, standings, windows);
+        boolean hasSnapshot = firstSegment != -1;
+        firstSegment = Math.max(firstSegment, 0);
+
+        // Replay the log tail written after the snapshot, segments before it were compacted.
+        int[] segments = listSegments(false);
+        int lastSegment = firstSegment - 1;
+        MatchVisitor replay = new MatchVisitor() {
+            @Override
+            public void onMatch(int winnerId, int loserId, long timestamp) {
+                standings.onMatch(winnerId, loserId, timestamp);
+                windows.onMatch(winnerId, loserId, timestamp);
+            }
+        };
+        for (int i = 0; i < segments.length; i++) {
+            int oldSegment = segments[i];
+            File file = new File(directory, LeaderboardFormat.segmentName(oldSegment));
+            if (oldSegment < firstSegment) {
+                file.delete();
+                continue;
+            }
+            int records = MatchLog.read(file, players.size(), replay);
+            if (records == -1) {
+                if (i != segments.length - 1) {
+                    throw new IOException("Not a match log segment: " + file);
+                }
+                // A crash while the last segment was created left it without a header, so it holds no records.
+                System.out.println("Ignored a torn match log segment " + file.getName());
+                file.delete();
+                break;
+            }
+            recordsSinceSnapshot += records;
+            lastSegment = oldSegment;
+        }
+        standings.ensurePlayers(players.size());
+
+        if (!hasSnapshot && segments.length == 0 && players.size() == 0) {
+            importScores(CSVHandler.readPlayerScores());
+        }
+
+        stats = new PlayerStatsTable();
+        try {
+            recordsSinceSnapshot += readStats();
+        } catch (IOException e) {
+            // The standings do not depend on the stats, so a bad stats file only loses the stats.
+            e.printStackTrace();
+            stats = new PlayerStatsTable();
+        }
+
+        ranking = new RankedLeaderboard();
+        for (int id = 0; id < standings.size(); id++) {
+            ranking.put(players.getName(id), standings.getWins(id), standings.getLosses(id));
+        }
+
+        // New records go to a new segment, so that they never follow a torn record.
+        int[] statsSegments = listSegments(true);
+        if (statsSegments.length > 0) {
+            lastSegment = Math.max(lastSegment, statsSegments[statsSegments.length - 1]);
+        }
+        segment = lastSegment + 1;
+        log = new MatchLog(new File(directory, LeaderboardFormat.segmentName(segment)));
+        statsLog = new StatsLog(new File(directory, LeaderboardFormat.statsSegmentName(segment)));
+
+        compactor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "leaderboard-compactor");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        System.out.println("Loaded " + players.size() + " players, replayed " + recordsSinceSnapshot + " records after the snapshot.");
+        if (!hasSnapshot || recordsSinceSnapshot >= COMPACTION_INTERVAL) {
+            compact();
+        }
+    }
+
+    /**
+     * Helper function to read the stats file, then replay the stats log segments written after it.
+     * @return Returns the number of stats records replayed.
+     * @throws IOException If the stats file or the stats log cannot be read.
+     */
+    private int readStats() throws IOException {
+        int firstSegment = PlayerStatsFile.read(directory, stats);
+        int[] segments = listSegments(true);
+        int records = 0;
+        for (int i = 0; i < segments.length; i++) {
+            File file = new File(directory, LeaderboardFormat.statsSegmentName(segments[i]));
+            if (segments[i] < firstSegment) {
+                file.delete();
+                continue;
+            }
+            int segmentRecords = StatsLog.read(file, players.size(), stats);
+            if (segmentRecords == -1) {
+                if (i != segments.length - 1) {
+                    throw new IOException("Not a stats log segment: " + file);
+                }
+                System.out.println("Ignored a torn stats log segment " + file.getName());
+                file.delete();
+                break;
+            }
+            records += segmentRecords;
+        }
+        return records;
+    }
+
+    /**
+     * Helper function to find every match log or stats log segment in the folder.
+     * @param statsSegments True to find the stats log segments, false for the match log segments.
+     * @return Returns the numbers of the segments, ascending.
+     */
+    private int[] listSegments(boolean statsSegments) {
+        String[] fileNames = directory.list();
+        if (fileNames == null) {
+            return new int[0];
+        }
+        int[] segments = new int[fileNames.length];
+        int count = 0;
+        for (String fileName : fileNames) {
+            int number = statsSegments ? LeaderboardFormat.parseStatsSegment(fileName) : LeaderboardFormat.parseSegment(fileName);
+            if (number != -1) {
+                segments[count++] = number;
+            }
+        }
+        segments = Arrays.copyOf(segments, count);
+        Arrays.sort(segments);
+        return segments;
+    }
+
+    /**
+     * Helper function to import the wins of the old scoreboard file. They are saved by the first snapshot.
+     * @param scores Wins of every player, by name.
+     * @throws IOException If the player file cannot be written.
+     */
+    private void importScores(Map<String, Integer> scores) throws IOException {
+        for (Map.Entry<String, Integer> score : scores.entrySet()) {
+            int id = players.getOrAdd(score.getKey());
+            standings.setPlayer(id, score.getValue(), 0);
+        }
+        System.out.println("Imported " + scores.size() + " players from the old scoreboard.");
+    }
+
+    /**
+     * Records the result of a match. Appends one record to the match log, and syncs the log once SYNC_BATCH records are waiting.
+     * @param winner Name of the winner.
+     * @param loser Name of the loser.
+     * @throws IOException If the match log cannot be written.
+     */
+    public void recordResult(String winner, String loser) throws IOException {
+        synchronized (writeLock) {
+            append(winner, loser);
+
+            unsyncedRecords++;
+            if (unsyncedRecords >= SYNC_BATCH) {
+                sync();
+            }
+        }
+    }
+
+    /**
+     * Appends the result of a match to the match log without syncing it. The caller must call sync() to make it durable, which lets a batch of results share one sync.
+     * @param winner Name of the winner.
+     * @param loser Name of the loser.
+     * @throws IOException If the match log cannot be written.
+     */
+    public void append(String winner, String loser) throws IOException {
+        synchronized (writeLock) {
+            boolean compactNow;
+            synchronized (this) {
+                int winnerId = players.getOrAdd(winner);
+                int loserId = players.getOrAdd(loser);
+                long timestamp = System.currentTimeMillis();
+                log.append(winnerId, loserId, timestamp);
+                standings.onMatch(winnerId, loserId, timestamp);
+                ranking.put(winner, standings.getWins(winnerId), standings.getLosses(winnerId));
+                ranking.put(loser, standings.getWins(loserId), standings.getLosses(loserId));
+                windows.onMatch(winnerId, loserId, timestamp);
+
+                recordsSinceSnapshot++;
+                compactNow = recordsSinceSnapshot >= COMPACTION_INTERVAL;
+            }
+            if (compactNow) {
+                compact();
+            }
+        }
+    }
+
+    /**
+     * Adds the statistics of a match to the PlayerStatsTable, and appends them to the stats log without syncing it. The caller must call sync() to make them durable.
+     * @param matchStats Statistics of the match.
+     * @throws IOException If the player file or the stats log cannot be written.
+     */
+    public void recordStats(MatchStats matchStats) throws IOException {
+        synchronized (writeLock) {
+            boolean compactNow;
+            synchronized (this) {
+                addStats(matchStats);
+
+                recordsSinceSnapshot++;
+                compactNow = recordsSinceSnapshot >= COMPACTION_INTERVAL;
+            }
+            if (compactNow) {
+                compact();
+            }
+        }
+    }
+
+    /**
+     * Helper function to append the statistics of a match to the stats log and add them to the PlayerStatsTable. Must be called while holding the store's monitor.
+     * @param matchStats Statistics of the match.
+     * @throws IOException If the player file or the stats log cannot be written.
+     */
+    private void addStats(MatchStats matchStats) throws IOException {
+        int[] ids = new int[MatchStats.PLAYER_COUNT];
+        for (int player = 0; player < MatchStats.PLAYER_COUNT; player++) {
+            ids[player] = players.getOrAdd(matchStats.getName(player));
+        }
+        statsLog.append(ids, matchStats);
+
+        for (int player = 0; player < MatchStats.PLAYER_COUNT; player++) {
+            int id = ids[player];
+            if (id >= standings.size()) {
+                // A player whose only matches were draws is still on the scoreboard, like after a restart.
+                standings.ensurePlayers(id + 1);
+                ranking.put(matchStats.getName(player), 0, 0);
+            }
+            stats.addMatch(id, matchStats, player);
+        }
+    }
+
+    /**
+     * Forces every recorded result and statistic to disk, without holding the store's monitor. Names are synced first, so that a synced record never refers to a lost name.
+     * @throws IOException If the files cannot be written.
+     */
+    public void sync() throws IOException {
+        synchronized (writeLock) {
+            MatchLog currentLog;
+            StatsLog currentStatsLog;
+            synchronized (this) {
+                currentLog = log;
+                currentStatsLog = statsLog;
+            }
+            players.sync();
+            currentLog.sync();
+            currentStatsLog.sync();
+            unsyncedRecords = 0;
+        }
+    }
+
+    /**
+     * Starts a compaction, unless one is already running. The current segments are closed and new ones are started, then a snapshot of the standings and the stats file so far are written on the background thread.
+     * @throws IOException If the segments cannot be written.
+     */
+    public void compact() throws IOException {
+        synchronized (writeLock) {
+            synchronized (this) {
+                if (compacting) {
+                    return;
+                }
+                compacting = true;
+            }
+
+            // Only writers append, so nothing is appended between the sync and the switch to the new segment.
+            sync();
+            MatchLog newLog = new MatchLog(new File(directory, LeaderboardFormat.segmentName(segment + 1)));
+            StatsLog newStatsLog = new StatsLog(new File(directory, LeaderboardFormat.statsSegmentName(segment + 1)));
+            MatchLog oldLog;
+            StatsLog oldStatsLog;
+            final int nextSegment;
+            final Standings copy;
+            final long currentDay;
+            final TimeBucket[] buckets;
+            final ByteBuffer statsData;
+            synchronized (this) {
+                oldLog = log;
+                oldStatsLog = statsLog;
+                log = newLog;
+                statsLog = newStatsLog;
+                segment++;
+                recordsSinceSnapshot = 0;
+
+                nextSegment = segment;
+                copy = standings.copy();
+                currentDay = windows.getCurrentDay();
+                buckets = windows.copyBuckets();
+                statsData = PlayerStatsFile.encode(stats, nextSegment);
+            }
+            oldLog.close();
+            oldStatsLog.close();
+            submitSnapshot(nextSegment, copy, currentDay, buckets, statsData);
+        }
+    }
+
+    /**
+     * Helper function to write a snapshot on the background thread.
+     * @param nextSegment First segment not covered by the snapshot.
+     * @param copy Standings covering every segment before nextSegment.
+     * @param currentDay Current day of the WindowedLeaderboard.
+     * @param buckets Copies of the TimeBuckets of the week.
+     * @param statsData Stats file covering every segment before nextSegment.
+     */
+    private void submitSnapshot(final int nextSegment, final Standings copy, final long currentDay, final TimeBucket[] buckets, final ByteBuffer statsData) {
+        compactor.submit(new Runnable() {
+            @Override
+            public void run() {
+                writeSnapshot(nextSegment, copy, currentDay, buckets);
+                writeStats(nextSegment, statsData);
+            }
+        });
+    }
+
+    /**
+     * Helper function to write a snapshot and delete the segments it covers. Runs on the background thread.
+     * @param nextSegment First segment not covered by the snapshot.
+     * @param copy Standings covering every segment before nextSegment.
+     * @param currentDay Current day of the WindowedLeaderboard.
+     * @param buckets Copies of the TimeBuckets of the week.
+     */
+    private void writeSnapshot(int nextSegment, Standings copy, long currentDay, TimeBucket[] buckets) {
+        try {
+            StandingsSnapshot.write(directory, nextSegment, copy, currentDay, buckets);
+            for (int oldSegment : listSegments(false)) {
+                if (oldSegment < nextSegment) {
+                    new File(directory, LeaderboardFormat.segmentName(oldSegment)).delete();
+                }
+            }
+            System.out.println("Compacted the match log into a snapshot of " + copy.size() + " players.");
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            synchronized (this) {
+                compacting = false;
+            }
+        }
+    }
+
+    /**
+     * Helper function to write the stats file and delete the stats log segments it covers. Runs on the background thread.
+     * @param nextSegment First segment not covered by the stats file.
+     * @param statsData Stats file returned by PlayerStatsFile.encode().
+     */
+    private void writeStats(int nextSegment, ByteBuffer statsData) {
+        try {
+            PlayerStatsFile.write(directory, statsData);
+            for (int oldSegment : listSegments(true)) {
+                if (oldSegment < nextSegment) {
+                    new File(directory, LeaderboardFormat.statsSegmentName(oldSegment)).delete();
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Helper function to get the ranking of a window.
+     * @param window Window of the scoreboard.
+     * @return Returns the ranking of the window at the current time.
+     */
+    private RankedLeaderboard getRanking(LeaderboardWindow window) {
+        if (window == LeaderboardWindow.ALL_TIME) {
+            return ranking;
+        }
+        return windows.getRanking(window, System.currentTimeMillis());
+    }
+
+    /**
+     * Gets the rank of a player in a window.
+     * @param window Window of the scoreboard.
+     * @param name Name of the player.
+     * @return Returns the rank of the player, starting from 1, or -1 if the player did not play in the window.
+     */
+    public synchronized int rankOf(LeaderboardWindow window, String name) {
+        return getRanking(window).rankOf(name);
+    }
+
+    /**
+     * Gets the players with the most wins in a window.
+     * @param window Window of the scoreboard.
+     * @param k Number of players.
+     * @return Returns up to k players, from the first rank.
+     */
+    public synchronized List<PlayerStanding> topK(LeaderboardWindow window, int k) {
+        return getRanking(window).topK(k);
+    }
+
+    /**
+     * Gets a page of the scoreboard of a window.
+     * @param window Window of the scoreboard.
+     * @param offset Number of players before the page.
+     * @param limit Highest number of players in the page.
+     * @return Returns the players from rank offset + 1, up to limit players.
+     */
+    public synchronized List<PlayerStanding> page(LeaderboardWindow window, int offset, int limit) {
+        return getRanking(window).page(offset, limit);
+    }
+
+    /**
+     * Gets the number of players in a window.
+     * @param window Window of the scoreboard.
+     * @return Returns the number of players who played in the window.
+     */
+    public synchronized int getPlayerCount(LeaderboardWindow window) {
+        return getRanking(window).size();
+    }
+
+    /**
+     * Gets the statistics of a player.
+     * @param name Name of the player.
+     * @return Returns the statistics of the player, null if the player has no recorded statistics.
+     */
+    public synchronized PlayerProfile getProfile(String name) {
+        int id = players.getId(name);
+        if (id == -1 || id >= stats.size() || stats.getValue(StatsColumn.MATCHES, id) == 0) {
+            return null;
+        }
+        return createProfile(id);
+    }
+
+    /**
+     * Gets the players with the highest values of a metric, such as the top 10 by damage dealt.
+     * @param column Metric to rank by.
+     * @param k Number of players.
+     * @return Returns the statistics of up to k players, highest value first.
+     */
+    public synchronized List<PlayerProfile> topStats(StatsColumn column, int k) {
+        int[] ids = stats.topK(column, k);
+        List<PlayerProfile> profiles = new ArrayList<PlayerProfile>(ids.length);
+        for (int id : ids) {
+            profiles.add(createProfile(id));
+        }
+        return profiles;
+    }
+
+    /**
+     * Helper function to copy the statistics of a player out of the PlayerStatsTable.
+     * @param id ID of the player.
+     * @return Returns the statistics of the player.
+     */
+    private PlayerProfile createProfile(int id) {
+        StatsColumn[] columns = StatsColumn.values();
+        long[] values = new long[columns.length];
+        for (StatsColumn column : columns) {
+            values[column.ordinal()] = stats.getValue(column, id);
+        }
+        return new PlayerProfile(players.getName(id), values, stats.getMostUsedCharacter(id), stats.getMostUsedMove(id));
+    }
+
+    /**
+     * Waits for a running compaction, then syncs and closes every file. The stats file is written last, so that the next open replays no stats log.
+     */
+    public void dispose() {
+        compactor.shutdown();
+        try {
+            compactor.awaitTermination(DISPOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            e.printStackTrace();
+        }
+
+        synchronized (writeLock) {
+            try {
+                sync();
+                ByteBuffer statsData;
+                synchronized (this) {
+                    statsData = PlayerStatsFile.encode(stats, segment + 1);
+                }
+                log.close();
+                statsLog.close();
+                players.close();
+                writeStats(segment + 1, statsData);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.pokego.leaderboard;
+
+/**
+ * Defines the time windows of the scoreboard. DAILY counts the matches of the current day, WEEKLY the matches of the last 7 days including today, and ALL_TIME every match.
+ */
+public enum LeaderboardWindow {
+    ALL_TIME("All-Time", 0),
+    WEEKLY("Weekly", 7),
+    DAILY("Daily", 1);
+
+    private String displayName;
+    private int days;
+
+    /**
+     * Constructs the LeaderboardWindow.
+     * @param displayName Name shown on the scoreboard.
+     * @param days Number of days in the window, 0 for every match.
+     */
+    LeaderboardWindow(String displayName, int days) {
+        this.displayName = displayName;
+        this.days = days;
+    }
+
+    /**
+     * Gets the name shown on the scoreboard.
+     * @return Returns the name shown on the scoreboard.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Gets the number of days in the window.
+     * @return Returns the number of days in the window, 0 for every match.
+     */
+    public int getDays() {
+        return days;
+    }
+
+    /**
+     * Gets the next window, to cycle through the windows on the scoreboard.
+     * @return Returns the next window.
+     */
+    public LeaderboardWindow next() {
+        LeaderboardWindow[] windows = values();
+        return windows[(ordinal() + 1) % windows.length];
+    }
+
+    /**
+     * Gets the previous window, to cycle through the windows on the scoreboard.
+     * @return Returns the previous window.
+     */
+    public LeaderboardWindow previous() {
+        LeaderboardWindow[] windows = values();
+        return windows[(ordinal() + windows.length - 1) % windows.length];
+    }
+}
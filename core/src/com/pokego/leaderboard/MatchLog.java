@@ -0,0 +1,130 @@
+package com.pokego.leaderboard;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * The MatchLog appends fixed-size match records to one segment of the match log. Appending writes one record to the end of the file with a reused buffer, so it costs the same however many players or matches there are. Records are only forced to disk by sync(), so that several matches can share one fsync.
+ */
+class MatchLog implements Closeable {
+    private FileChannel channel;
+    private ByteBuffer record;
+    private CRC32 crc;
+    private int records;
+
+    /**
+     * Creates a new segment, writes its header and forces it to disk, so that a crash never leaves a segment without its header.
+     * @param file Segment file, replaced if it exists.
+     * @throws IOException If the file cannot be written.
+     */
+    MatchLog(File file) throws IOException {
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        record = ByteBuffer.allocate(LeaderboardFormat.RECORD_SIZE);
+        crc = new CRC32();
+
+        record.putInt(LeaderboardFormat.MATCHES_MAGIC);
+        record.putInt(LeaderboardFormat.VERSION);
+        record.flip();
+        write();
+        channel.force(true);
+    }
+
+    /**
+     * Appends a match record. The record is written but not forced to disk.
+     * @param winnerId ID of the winner.
+     * @param loserId ID of the loser.
+     * @param timestamp Time the match ended, in milliseconds since the epoch.
+     * @throws IOException If the file cannot be written.
+     */
+    void append(int winnerId, int loserId, long timestamp) throws IOException {
+        record.clear();
+        record.putInt(winnerId);
+        record.putInt(loserId);
+        record.putLong(timestamp);
+        record.putInt(LeaderboardFormat.checksum(crc, record, 0, LeaderboardFormat.RECORD_DATA_SIZE));
+        record.flip();
+        write();
+        records++;
+    }
+
+    /**
+     * Helper function to write the whole record buffer to the end of the file.
+     * @throws IOException If the file cannot be written.
+     */
+    private void write() throws IOException {
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+    }
+
+    /**
+     * Gets the number of records appended to the segment.
+     * @return Returns the number of records appended.
+     */
+    int getRecords() {
+        return records;
+    }
+
+    /**
+     * Forces every appended record to disk.
+     * @throws IOException If the file cannot be written.
+     */
+    void sync() throws IOException {
+        channel.force(false);
+    }
+
+    /**
+     * Forces every appended record to disk and closes the segment.
+     * @throws IOException If the file cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Reads the records of a segment, until the end of the file or the first torn record.
+     * @param file Segment file.
+     * @param playerCount Number of players in the PlayerDirectory. A record with a larger ID refers to a name lost in a crash, and is treated as torn.
+     * @param visitor MatchVisitor receiving every valid record.
+     * @return Returns the number of valid records. -1 if the header is torn, which only a crash while the segment was created can leave.
+     * @throws IOException If the file cannot be read or is from another version.
+     */
+    static int read(File file, int playerCount, MatchVisitor visitor) throws IOException {
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        if (data.remaining() < LeaderboardFormat.HEADER_SIZE || data.getInt() != LeaderboardFormat.MATCHES_MAGIC) {
+            return -1;
+        }
+        if (data.getInt() != LeaderboardFormat.VERSION) {
+            throw new IOException("Unsupported match log segment version: " + file);
+        }
+
+        CRC32 crc = new CRC32();
+        int count = 0;
+        while (data.remaining() >= LeaderboardFormat.RECORD_SIZE) {
+            int offset = data.position();
+            int winnerId = data.getInt();
+            int loserId = data.getInt();
+            long timestamp = data.getLong();
+            int checksum = data.getInt();
+            if (checksum != LeaderboardFormat.checksum(crc, data, offset, LeaderboardFormat.RECORD_DATA_SIZE)
+                    || winnerId < 0 || winnerId >= playerCount || loserId < 0 || loserId >= playerCount) {
+                System.out.println("Ignored a torn match record in " + file.getName() + " at " + offset);
+                break;
+            }
+            visitor.onMatch(winnerId, loserId, timestamp);
+            count++;
+        }
+        return count;
+    }
+}
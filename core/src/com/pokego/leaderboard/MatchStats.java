@@ -0,0 +1,123 @@
+package com.pokego.leaderboard;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The MatchStats object counts what each player did during one match: the rounds played, the damage dealt and taken, the Characters knocked out, and how many rounds each Character and Move was used. The Phases add every round as it is resolved, then the EndGameState records it with the LeaderboardService. It is not thread-safe, but it is not changed once recorded.
+ */
+public class MatchStats {
+    public final static int PLAYER_COUNT = 2;
+
+    /**
+     * Statistics of one player in the match.
+     */
+    private static class PlayerTally {
+        private String name;
+        private int rounds;
+        private int damageDealt;
+        private int damageTaken;
+        private int knockouts;
+        private Map<String, Integer> characterRounds = new HashMap<String, Integer>();
+        private Map<String, Integer> moveUses = new HashMap<String, Integer>();
+    }
+
+    private PlayerTally[] tallies;
+
+    /**
+     * Constructs empty MatchStats.
+     * @param playerOneName Name of player 1.
+     * @param playerTwoName Name of player 2.
+     */
+    public MatchStats(String playerOneName, String playerTwoName) {
+        tallies = new PlayerTally[PLAYER_COUNT];
+        for (int player = 0; player < PLAYER_COUNT; player++) {
+            tallies[player] = new PlayerTally();
+        }
+        tallies[0].name = playerOneName;
+        tallies[1].name = playerTwoName;
+    }
+
+    /**
+     * Adds one round of a player.
+     * @param player 0 for player 1, 1 for player 2.
+     * @param characterName Name of the Character the player used this round.
+     * @param moveName Name of the Move the player used this round, null if no Move was chosen.
+     * @param damageDealt Health points lost by the other player's Character.
+     * @param damageTaken Health points lost by the player's Character.
+     * @param knockout True if the other player's Character fainted this round. False otherwise.
+     */
+    public void addRound(int player, String characterName, String moveName, int damageDealt, int damageTaken, boolean knockout) {
+        PlayerTally tally = tallies[player];
+        tally.rounds++;
+        tally.damageDealt += damageDealt;
+        tally.damageTaken += damageTaken;
+        if (knockout) {
+            tally.knockouts++;
+        }
+        increment(tally.characterRounds, characterName);
+        if (moveName != null) {
+            increment(tally.moveUses, moveName);
+        }
+    }
+
+    /**
+     * Helper function to add one use to a count.
+     * @param counts Counts, by name.
+     * @param name Name to count.
+     */
+    private static void increment(Map<String, Integer> counts, String name) {
+        Integer count = counts.get(name);
+        counts.put(name, count == null ? 1 : count + 1);
+    }
+
+    /**
+     * Gets the name of a player.
+     * @param player 0 for player 1, 1 for player 2.
+     * @return Returns the name of the player.
+     */
+    public String getName(int player) {
+        return tallies[player].name;
+    }
+
+    /**
+     * Gets the value of a metric for a player in this match.
+     * @param player 0 for player 1, 1 for player 2.
+     * @param column Metric to get.
+     * @return Returns the value of the metric, 1 for MATCHES.
+     */
+    public int getValue(int player, StatsColumn column) {
+        PlayerTally tally = tallies[player];
+        switch (column) {
+            case MATCHES:
+                return 1;
+            case ROUNDS:
+                return tally.rounds;
+            case DAMAGE_DEALT:
+                return tally.damageDealt;
+            case DAMAGE_TAKEN:
+                return tally.damageTaken;
+            case KNOCKOUTS:
+                return tally.knockouts;
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the number of rounds each Character of a player was used.
+     * @param player 0 for player 1, 1 for player 2.
+     * @return Returns the number of rounds, by Character name.
+     */
+    Map<String, Integer> getCharacterRounds(int player) {
+        return tallies[player].characterRounds;
+    }
+
+    /**
+     * Gets the number of rounds each Move of a player was used.
+     * @param player 0 for player 1, 1 for player 2.
+     * @return Returns the number of uses, by Move name.
+     */
+    Map<String, Integer> getMoveUses(int player) {
+        return tallies[player].moveUses;
+    }
+}
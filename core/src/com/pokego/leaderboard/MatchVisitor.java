@@ -0,0 +1,15 @@
+package com.pokego.leaderboard;
+
+/**
+ * Receives the records of a match log, in the order they were appended.
+ */
+interface MatchVisitor {
+
+    /**
+     * Called for every valid record of the match log.
+     * @param winnerId ID of the winner.
+     * @param loserId ID of the loser.
+     * @param timestamp Time the match ended, in milliseconds since the epoch.
+     */
+    void onMatch(int winnerId, int loserId, long timestamp);
+}
@@ -0,0 +1,158 @@
+package com.pokego.leaderboard;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The PlayerDirectory gives every player name an ID, so that match records can have a fixed size. Names are appended to the player file the first time they are seen, and never removed, so IDs never change. An entry torn by a crash is cut off when the file is opened.
+ */
+class PlayerDirectory implements Closeable {
+    private final static Charset UTF_8 = Charset.forName("UTF-8");
+    private final static int MAX_NAME_BYTES = 0xFFFF;
+
+    private FileChannel channel;
+    private ArrayList<String> names;
+    private Map<String, Integer> ids;
+
+    /**
+     * Opens the player file, creating it if it does not exist.
+     * @param file Player file.
+     * @throws IOException If the file cannot be read or written, or is not a player file.
+     */
+    PlayerDirectory(File file) throws IOException {
+        names = new ArrayList<String>();
+        ids = new HashMap<String, Integer>();
+
+        long validSize = LeaderboardFormat.HEADER_SIZE;
+        if (file.exists() && file.length() >= LeaderboardFormat.HEADER_SIZE) {
+            ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+            if (data.getInt() != LeaderboardFormat.PLAYERS_MAGIC || data.getInt() != LeaderboardFormat.VERSION) {
+                throw new IOException("Not a player file: " + file);
+            }
+            while (data.remaining() >= 2) {
+                int length = data.getShort() & 0xFFFF;
+                if (data.remaining() < length) {
+                    break;
+                }
+                String name = new String(data.array(), data.position(), length, UTF_8);
+                data.position(data.position() + length);
+                ids.put(name, names.size());
+                names.add(name);
+                validSize = data.position();
+            }
+        }
+
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (channel.size() < LeaderboardFormat.HEADER_SIZE) {
+            ByteBuffer header = ByteBuffer.allocate(LeaderboardFormat.HEADER_SIZE);
+            header.putInt(LeaderboardFormat.PLAYERS_MAGIC);
+            header.putInt(LeaderboardFormat.VERSION);
+            header.flip();
+            channel.truncate(0);
+            write(header, 0);
+            channel.force(true);
+        } else if (channel.size() > validSize) {
+            System.out.println("Cut off a torn player entry at " + validSize);
+            channel.truncate(validSize);
+        }
+        channel.position(channel.size());
+    }
+
+    /**
+     * Gets the ID of a player.
+     * @param name Name of the player.
+     * @return Returns the ID of the player, -1 if the name was never added.
+     */
+    int getId(String name) {
+        Integer id = ids.get(name);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Gets the ID of a player, adding the name to the player file if it was never seen. The entry is written but not forced to disk, sync() does that.
+     * @param name Name of the player.
+     * @return Returns the ID of the player.
+     * @throws IOException If the file cannot be written.
+     */
+    int getOrAdd(String name) throws IOException {
+        int id = getId(name);
+        if (id != -1) {
+            return id;
+        }
+
+        byte[] nameBytes = name.getBytes(UTF_8);
+        if (nameBytes.length > MAX_NAME_BYTES) {
+            throw new IOException("Player name is too long: " + name);
+        }
+        ByteBuffer entry = ByteBuffer.allocate(2 + nameBytes.length);
+        entry.putShort((short) nameBytes.length);
+        entry.put(nameBytes);
+        entry.flip();
+        write(entry, channel.position());
+
+        id = names.size();
+        ids.put(name, id);
+        names.add(name);
+        return id;
+    }
+
+    /**
+     * Helper function to write a whole buffer at a position of the file, and move the file position after it.
+     * @param buffer Buffer to write.
+     * @param position Position in the file.
+     * @throws IOException If the file cannot be written.
+     */
+    private void write(ByteBuffer buffer, long position) throws IOException {
+        channel.position(position);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Gets the name of a player.
+     * @param id ID of the player.
+     * @return Returns the name of the player.
+     */
+    String getName(int id) {
+        return names.get(id);
+    }
+
+    /**
+     * Gets the number of players.
+     * @return Returns the number of players.
+     */
+    int size() {
+        return names.size();
+    }
+
+    /**
+     * Forces every added name to disk.
+     * @throws IOException If the file cannot be written.
+     */
+    void sync() throws IOException {
+        channel.force(false);
+    }
+
+    /**
+     * Forces every added name to disk and closes the player file.
+     * @throws IOException If the file cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+}
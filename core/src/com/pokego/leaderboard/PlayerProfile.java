@@ -0,0 +1,99 @@
+package com.pokego.leaderboard;
+
+/**
+ * The PlayerProfile object holds the statistics of one player over every recorded match.
+ */
+public class PlayerProfile {
+    private String name;
+    private long[] values;
+    private String mostUsedCharacter;
+    private String mostUsedMove;
+
+    /**
+     * Constructs the PlayerProfile.
+     * @param name Name of the player.
+     * @param values Value of every StatsColumn, by ordinal.
+     * @param mostUsedCharacter Name of the Character used for the most rounds, null if none.
+     * @param mostUsedMove Name of the Move used the most, null if none.
+     */
+    PlayerProfile(String name, long[] values, String mostUsedCharacter, String mostUsedMove) {
+        this.name = name;
+        this.values = values;
+        this.mostUsedCharacter = mostUsedCharacter;
+        this.mostUsedMove = mostUsedMove;
+    }
+
+    /**
+     * Gets the name of the player.
+     * @return Returns the name of the player.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the value of a metric.
+     * @param column Metric to get.
+     * @return Returns the value of the metric.
+     */
+    public long getValue(StatsColumn column) {
+        return values[column.ordinal()];
+    }
+
+    /**
+     * Gets the number of matches played.
+     * @return Returns the number of matches played.
+     */
+    public long getMatchesPlayed() {
+        return getValue(StatsColumn.MATCHES);
+    }
+
+    /**
+     * Gets the total damage dealt to the other players' Characters.
+     * @return Returns the total damage dealt.
+     */
+    public long getDamageDealt() {
+        return getValue(StatsColumn.DAMAGE_DEALT);
+    }
+
+    /**
+     * Gets the total damage taken by the player's Characters.
+     * @return Returns the total damage taken.
+     */
+    public long getDamageTaken() {
+        return getValue(StatsColumn.DAMAGE_TAKEN);
+    }
+
+    /**
+     * Gets the number of Characters knocked out.
+     * @return Returns the number of Characters knocked out.
+     */
+    public long getKnockouts() {
+        return getValue(StatsColumn.KNOCKOUTS);
+    }
+
+    /**
+     * Gets the average number of rounds per match.
+     * @return Returns the average number of rounds per match, 0 if no match was played.
+     */
+    public float getAverageRounds() {
+        long matches = getMatchesPlayed();
+        return matches == 0 ? 0 : (float) getValue(StatsColumn.ROUNDS) / matches;
+    }
+
+    /**
+     * Gets the Character used for the most rounds.
+     * @return Returns the name of the Character, null if the player never played.
+     */
+    public String getMostUsedCharacter() {
+        return mostUsedCharacter;
+    }
+
+    /**
+     * Gets the Move used the most.
+     * @return Returns the name of the Move, null if the player never chose a Move.
+     */
+    public String getMostUsedMove() {
+        return mostUsedMove;
+    }
+}
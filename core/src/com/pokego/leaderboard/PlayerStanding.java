@@ -0,0 +1,46 @@
+package com.pokego.leaderboard;
+
+/**
+ * The PlayerStanding object holds the record of one player on the scoreboard.
+ */
+public class PlayerStanding {
+    private String name;
+    private int wins;
+    private int losses;
+
+    /**
+     * Constructs the PlayerStanding.
+     * @param name Name of the player.
+     * @param wins Number of matches won.
+     * @param losses Number of matches lost.
+     */
+    public PlayerStanding(String name, int wins, int losses) {
+        this.name = name;
+        this.wins = wins;
+        this.losses = losses;
+    }
+
+    /**
+     * Gets the name of the player.
+     * @return Returns the name of the player.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of matches won.
+     * @return Returns the number of matches won.
+     */
+    public int getWins() {
+        return wins;
+    }
+
+    /**
+     * Gets the number of matches lost.
+     * @return Returns the number of matches lost.
+     */
+    public int getLosses() {
+        return losses;
+    }
+}
@@ -0,0 +1,155 @@
+package com.pokego.leaderboard;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.zip.CRC32;
+
+/**
+ * The PlayerStatsFile reads and writes the PlayerStatsTable, in the stats file format described by LeaderboardFormat. Columns are written one after the other, so reading a column is one pass over contiguous values. The file is replaced atomically, like the snapshot, when the store compacts or is disposed. The matches after it are replayed from the stats log. Stores a collection of static functions.
+ */
+final class PlayerStatsFile {
+    /**
+     * Not instantiable, stores a collection of static functions.
+     */
+    private PlayerStatsFile() {
+    }
+
+    /**
+     * Encodes the table in the stats file format. Only touches memory, so it can be called while holding the store's monitor.
+     * @param table PlayerStatsTable to encode.
+     * @param nextSegment First stats log segment not covered by the table.
+     * @return Returns the encoded stats file, ready to be written.
+     */
+    static ByteBuffer encode(PlayerStatsTable table, int nextSegment) {
+        int players = table.size();
+        StatsColumn[] statsColumns = StatsColumn.values();
+        StatsDictionary characters = table.getCharacters();
+        StatsDictionary moves = table.getMoves();
+
+        int size = LeaderboardFormat.HEADER_SIZE + 12 + statsColumns.length * players * 8 + 8 + 4;
+        size += getDictionarySize(characters, players) + getDictionarySize(moves, players);
+
+        ByteBuffer data = ByteBuffer.allocate(size);
+        data.putInt(LeaderboardFormat.STATS_MAGIC);
+        data.putInt(LeaderboardFormat.STATS_VERSION);
+        data.putInt(nextSegment);
+        data.putInt(players);
+        data.putInt(statsColumns.length);
+        for (StatsColumn column : statsColumns) {
+            for (int id = 0; id < players; id++) {
+                data.putLong(table.getValue(column, id));
+            }
+        }
+
+        data.putInt(characters.size());
+        for (int character = 0; character < characters.size(); character++) {
+            LeaderboardFormat.putName(data, characters.getName(character));
+            for (int id = 0; id < players; id++) {
+                data.putInt(table.getCharacterRounds(character, id));
+            }
+        }
+        data.putInt(moves.size());
+        for (int move = 0; move < moves.size(); move++) {
+            LeaderboardFormat.putName(data, moves.getName(move));
+            for (int id = 0; id < players; id++) {
+                data.putInt(table.getMoveUses(move, id));
+            }
+        }
+        data.putInt(LeaderboardFormat.checksum(new CRC32(), data, 0, data.position()));
+        data.flip();
+        return data;
+    }
+
+    /**
+     * Writes an encoded table and atomically replaces the previous stats file.
+     * @param directory Folder of the LeaderboardStore.
+     * @param data Stats file returned by encode().
+     * @throws IOException If the stats file cannot be written.
+     */
+    static void write(File directory, ByteBuffer data) throws IOException {
+        LeaderboardFormat.writeAtomically(directory, LeaderboardFormat.STATS_FILE, LeaderboardFormat.STATS_TEMP_FILE, data);
+    }
+
+    /**
+     * Helper function to compute the size of a dictionary and its columns in the stats file.
+     * @param dictionary Dictionary of Character or Move names.
+     * @param players Number of players.
+     * @return Returns the size in bytes, without the count of names.
+     */
+    private static int getDictionarySize(StatsDictionary dictionary, int players) {
+        int size = 0;
+        for (int i = 0; i < dictionary.size(); i++) {
+            size += LeaderboardFormat.getNameSize(dictionary.getName(i)) + players * 4;
+        }
+        return size;
+    }
+
+    /**
+     * Reads the stats file into an empty table. Does nothing if there is no stats file yet. A version 1 stats file was rewritten after every match, so it is followed by every stats log segment.
+     * @param directory Folder of the LeaderboardStore.
+     * @param table Empty PlayerStatsTable to fill.
+     * @return Returns the first stats log segment not covered by the stats file, 0 if there is no stats file.
+     * @throws IOException If the stats file cannot be read or is corrupted.
+     */
+    static int read(File directory, PlayerStatsTable table) throws IOException {
+        File file = new File(directory, LeaderboardFormat.STATS_FILE);
+        if (!file.exists()) {
+            return 0;
+        }
+
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        if (data.remaining() < LeaderboardFormat.HEADER_SIZE + 4 || data.getInt() != LeaderboardFormat.STATS_MAGIC) {
+            throw new IOException("Not a stats file: " + file);
+        }
+        int version = data.getInt();
+        if (version < 1 || version > LeaderboardFormat.STATS_VERSION) {
+            throw new IOException("Unsupported stats file version " + version + ": " + file);
+        }
+        int checksumOffset = data.limit() - 4;
+        if (data.getInt(checksumOffset) != LeaderboardFormat.checksum(new CRC32(), data, 0, checksumOffset)) {
+            throw new IOException("Corrupted stats file: " + file);
+        }
+
+        int nextSegment = 0;
+        try {
+            if (version >= 2) {
+                nextSegment = data.getInt();
+            }
+            int players = data.getInt();
+            int columnCount = data.getInt();
+            if (players < 0 || columnCount != StatsColumn.values().length) {
+                throw new IOException("Corrupted stats file: " + file);
+            }
+            table.ensurePlayers(players);
+            for (StatsColumn column : StatsColumn.values()) {
+                for (int id = 0; id < players; id++) {
+                    table.setValue(column, id, data.getLong());
+                }
+            }
+
+            int characterCount = data.getInt();
+            for (int i = 0; i < characterCount; i++) {
+                int character = table.addCharacter(LeaderboardFormat.getName(data));
+                for (int id = 0; id < players; id++) {
+                    table.setCharacterRounds(character, id, data.getInt());
+                }
+            }
+            int moveCount = data.getInt();
+            for (int i = 0; i < moveCount; i++) {
+                int move = table.addMove(LeaderboardFormat.getName(data));
+                for (int id = 0; id < players; id++) {
+                    table.setMoveUses(move, id, data.getInt());
+                }
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Corrupted stats file: " + file, e);
+        }
+        if (data.position() != checksumOffset) {
+            throw new IOException("Corrupted stats file: " + file);
+        }
+        return nextSegment;
+    }
+}
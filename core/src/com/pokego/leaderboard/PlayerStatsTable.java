@@ -0,0 +1,304 @@
+package com.pokego.leaderboard;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * The PlayerStatsTable holds the statistics of every player in columns of primitive arrays, indexed by player ID. Each StatsColumn is one long array, and the uses of each Character and Move are one int array per name, with the names encoded by a StatsDictionary. Aggregations read one column in a single loop, without building an object per player. It is not thread-safe, the LeaderboardStore guards it.
+ */
+class PlayerStatsTable {
+    private final static int INITIAL_CAPACITY = 64;
+
+    private long[][] columns; // [StatsColumn][player]
+    private StatsDictionary characters;
+    private int[][] characterRounds; // [character][player]
+    private StatsDictionary moves;
+    private int[][] moveUses; // [move][player]
+
+    private int capacity;
+    private int size;
+
+    /**
+     * Constructs an empty PlayerStatsTable.
+     */
+    PlayerStatsTable() {
+        capacity = INITIAL_CAPACITY;
+        columns = new long[StatsColumn.values().length][capacity];
+        characters = new StatsDictionary();
+        characterRounds = new int[0][];
+        moves = new StatsDictionary();
+        moveUses = new int[0][];
+    }
+
+    /**
+     * Makes sure that the table holds at least a number of players. New players have no statistics.
+     * @param count Number of players.
+     */
+    void ensurePlayers(int count) {
+        if (count > capacity) {
+            capacity = Math.max(count, capacity * 2);
+            for (int i = 0; i < columns.length; i++) {
+                columns[i] = Arrays.copyOf(columns[i], capacity);
+            }
+            for (int i = 0; i < characterRounds.length; i++) {
+                characterRounds[i] = Arrays.copyOf(characterRounds[i], capacity);
+            }
+            for (int i = 0; i < moveUses.length; i++) {
+                moveUses[i] = Arrays.copyOf(moveUses[i], capacity);
+            }
+        }
+        size = Math.max(size, count);
+    }
+
+    /**
+     * Adds the statistics of one player in a match.
+     * @param id ID of the player.
+     * @param stats Statistics of the match.
+     * @param player Index of the player in the MatchStats.
+     */
+    void addMatch(int id, MatchStats stats, int player) {
+        ensurePlayers(id + 1);
+        for (StatsColumn column : StatsColumn.values()) {
+            columns[column.ordinal()][id] += stats.getValue(player, column);
+        }
+        for (Map.Entry<String, Integer> entry : stats.getCharacterRounds(player).entrySet()) {
+            int character = addCharacter(entry.getKey());
+            characterRounds[character][id] += entry.getValue();
+        }
+        for (Map.Entry<String, Integer> entry : stats.getMoveUses(player).entrySet()) {
+            int move = addMove(entry.getKey());
+            moveUses[move][id] += entry.getValue();
+        }
+    }
+
+    /**
+     * Gets the column of a Character, adding it if the Character is new.
+     * @param name Name of the Character.
+     * @return Returns the ID of the Character.
+     */
+    int addCharacter(String name) {
+        int character = characters.getOrAdd(name);
+        characterRounds = ensureColumn(characterRounds, character);
+        return character;
+    }
+
+    /**
+     * Gets the column of a Move, adding it if the Move is new.
+     * @param name Name of the Move.
+     * @return Returns the ID of the Move.
+     */
+    int addMove(String name) {
+        int move = moves.getOrAdd(name);
+        moveUses = ensureColumn(moveUses, move);
+        return move;
+    }
+
+    /**
+     * Helper function to add the column of a new dictionary ID.
+     * @param table Columns, indexed by dictionary ID.
+     * @param id Dictionary ID that needs a column.
+     * @return Returns the columns, with a column for the ID.
+     */
+    private int[][] ensureColumn(int[][] table, int id) {
+        if (id < table.length) {
+            return table;
+        }
+        int[][] newTable = Arrays.copyOf(table, id + 1);
+        for (int i = table.length; i < newTable.length; i++) {
+            newTable[i] = new int[capacity];
+        }
+        return newTable;
+    }
+
+    /**
+     * Gets the value of a metric for a player.
+     * @param column Metric to get.
+     * @param id ID of the player.
+     * @return Returns the value of the metric.
+     */
+    long getValue(StatsColumn column, int id) {
+        return columns[column.ordinal()][id];
+    }
+
+    /**
+     * Sets the value of a metric for a player, used when reading the stats file.
+     * @param column Metric to set.
+     * @param id ID of the player.
+     * @param value Value of the metric.
+     */
+    void setValue(StatsColumn column, int id, long value) {
+        ensurePlayers(id + 1);
+        columns[column.ordinal()][id] = value;
+    }
+
+    /**
+     * Sets the number of rounds a player used a Character, used when reading the stats file.
+     * @param character ID of the Character.
+     * @param id ID of the player.
+     * @param rounds Number of rounds.
+     */
+    void setCharacterRounds(int character, int id, int rounds) {
+        ensurePlayers(id + 1);
+        characterRounds[character][id] = rounds;
+    }
+
+    /**
+     * Sets the number of times a player used a Move, used when reading the stats file.
+     * @param move ID of the Move.
+     * @param id ID of the player.
+     * @param uses Number of uses.
+     */
+    void setMoveUses(int move, int id, int uses) {
+        ensurePlayers(id + 1);
+        moveUses[move][id] = uses;
+    }
+
+    /**
+     * Adds to the value of a metric for a player, used when replaying the stats log.
+     * @param column Metric to add to.
+     * @param id ID of the player.
+     * @param value Value to add.
+     */
+    void addValue(StatsColumn column, int id, long value) {
+        ensurePlayers(id + 1);
+        columns[column.ordinal()][id] += value;
+    }
+
+    /**
+     * Adds to the number of rounds a player used a Character, used when replaying the stats log.
+     * @param character ID of the Character.
+     * @param id ID of the player.
+     * @param rounds Number of rounds to add.
+     */
+    void addCharacterRounds(int character, int id, int rounds) {
+        ensurePlayers(id + 1);
+        characterRounds[character][id] += rounds;
+    }
+
+    /**
+     * Adds to the number of times a player used a Move, used when replaying the stats log.
+     * @param move ID of the Move.
+     * @param id ID of the player.
+     * @param uses Number of uses to add.
+     */
+    void addMoveUses(int move, int id, int uses) {
+        ensurePlayers(id + 1);
+        moveUses[move][id] += uses;
+    }
+
+    /**
+     * Gets the number of rounds a player used a Character.
+     * @param character ID of the Character.
+     * @param id ID of the player.
+     * @return Returns the number of rounds.
+     */
+    int getCharacterRounds(int character, int id) {
+        return characterRounds[character][id];
+    }
+
+    /**
+     * Gets the number of times a player used a Move.
+     * @param move ID of the Move.
+     * @param id ID of the player.
+     * @return Returns the number of uses.
+     */
+    int getMoveUses(int move, int id) {
+        return moveUses[move][id];
+    }
+
+    /**
+     * Gets the Character a player used for the most rounds.
+     * @param id ID of the player.
+     * @return Returns the name of the Character, null if the player never played.
+     */
+    String getMostUsedCharacter(int id) {
+        int character = argMax(characterRounds, id);
+        return character == -1 ? null : characters.getName(character);
+    }
+
+    /**
+     * Gets the Move a player used the most.
+     * @param id ID of the player.
+     * @return Returns the name of the Move, null if the player never chose a Move.
+     */
+    String getMostUsedMove(int id) {
+        int move = argMax(moveUses, id);
+        return move == -1 ? null : moves.getName(move);
+    }
+
+    /**
+     * Helper function to find the column with the highest value for a player. Ties go to the name seen first.
+     * @param table Columns, indexed by dictionary ID.
+     * @param id ID of the player.
+     * @return Returns the dictionary ID of the column, -1 if every value is 0.
+     */
+    private static int argMax(int[][] table, int id) {
+        int best = -1;
+        int bestValue = 0;
+        for (int i = 0; i < table.length; i++) {
+            if (table[i][id] > bestValue) {
+                bestValue = table[i][id];
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Finds the players with the highest values of a metric, among the players who played at least one match. Reads the column once, keeping the best k players in a small sorted array. Ties go to the lower ID.
+     * @param column Metric to rank by.
+     * @param k Number of players.
+     * @return Returns the IDs of up to k players, highest value first.
+     */
+    int[] topK(StatsColumn column, int k) {
+        long[] values = columns[column.ordinal()];
+        long[] matches = columns[StatsColumn.MATCHES.ordinal()];
+        int[] bestIds = new int[Math.max(0, Math.min(k, size))];
+        long[] bestValues = new long[bestIds.length];
+        int count = 0;
+        if (bestIds.length == 0) {
+            return bestIds;
+        }
+
+        for (int id = 0; id < size; id++) {
+            long value = values[id];
+            if (matches[id] == 0 || (count == bestIds.length && value <= bestValues[count - 1])) {
+                continue;
+            }
+            // Insert into the sorted top k, dropping the last one if it is full.
+            int position = count == bestIds.length ? count - 1 : count++;
+            while (position > 0 && bestValues[position - 1] < value) {
+                bestValues[position] = bestValues[position - 1];
+                bestIds[position] = bestIds[position - 1];
+                position--;
+            }
+            bestValues[position] = value;
+            bestIds[position] = id;
+        }
+        return Arrays.copyOf(bestIds, count);
+    }
+
+    /**
+     * Gets the dictionary of Character names.
+     * @return Returns the dictionary of Character names.
+     */
+    StatsDictionary getCharacters() {
+        return characters;
+    }
+
+    /**
+     * Gets the dictionary of Move names.
+     * @return Returns the dictionary of Move names.
+     */
+    StatsDictionary getMoves() {
+        return moves;
+    }
+
+    /**
+     * Gets the number of players in the table.
+     * @return Returns the number of players in the table.
+     */
+    int size() {
+        return size;
+    }
+}
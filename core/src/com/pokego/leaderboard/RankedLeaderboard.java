@@ -0,0 +1,273 @@
+package com.pokego.leaderboard;
+
+import com.pokego.utility.GameRandom;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The RankedLeaderboard keeps every player sorted by wins, most wins first, then by name. It is an indexable skip list: every link stores how many players it skips, so the rank of a player and the player at a rank are both found in O(log n). A page of the scoreboard costs O(log n) to find its first row, then one step per row, so the scoreboard never sorts or reads every player. It is not thread-safe.
+ */
+public class RankedLeaderboard {
+    private final static int MAX_LEVEL = 32;
+    private final static int LEVEL_UP_CHANCE = 4; // 1 in 4 nodes reaches the next level.
+    private final static long LEVEL_SEED = 0x5EED5EEDL;
+
+    /**
+     * One player in the skip list.
+     */
+    private static class Node {
+        private String name;
+        private int wins;
+        private int losses;
+        private Node[] next;
+        private int[] span; // Number of players skipped by each link, counting the player it links to.
+
+        /**
+         * Constructs the Node.
+         * @param name Name of the player.
+         * @param wins Number of matches won.
+         * @param losses Number of matches lost.
+         * @param level Number of links of the Node.
+         */
+        private Node(String name, int wins, int losses, int level) {
+            this.name = name;
+            this.wins = wins;
+            this.losses = losses;
+            next = new Node[level];
+            span = new int[level];
+        }
+    }
+
+    private Node head;
+    private int level;
+    private int size;
+    private Map<String, Node> nodes;
+    private GameRandom random;
+
+    // Reused by put() and remove().
+    private Node[] update;
+    private int[] rank;
+
+    /**
+     * Constructs an empty RankedLeaderboard.
+     */
+    public RankedLeaderboard() {
+        head = new Node(null, 0, 0, MAX_LEVEL);
+        level = 1;
+        nodes = new HashMap<String, Node>();
+        random = new GameRandom(LEVEL_SEED);
+        update = new Node[MAX_LEVEL];
+        rank = new int[MAX_LEVEL];
+    }
+
+    /**
+     * Adds a player, or updates its record and moves it to its new rank.
+     * @param name Name of the player.
+     * @param wins Number of matches won.
+     * @param losses Number of matches lost.
+     */
+    public void put(String name, int wins, int losses) {
+        Node existing = nodes.get(name);
+        if (existing != null) {
+            if (existing.wins == wins) {
+                existing.losses = losses; // Losses do not change the order.
+                return;
+            }
+            remove(existing);
+        }
+        insert(name, wins, losses);
+    }
+
+    /**
+     * Removes a player from the leaderboard.
+     * @param name Name of the player.
+     */
+    public void remove(String name) {
+        Node node = nodes.get(name);
+        if (node != null) {
+            remove(node);
+        }
+    }
+
+    /**
+     * Helper function to insert a new player at its rank.
+     * @param name Name of the player.
+     * @param wins Number of matches won.
+     * @param losses Number of matches lost.
+     */
+    private void insert(String name, int wins, int losses) {
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            rank[i] = i == level - 1 ? 0 : rank[i + 1];
+            while (x.next[i] != null && compare(x.next[i], wins, name) < 0) {
+                rank[i] += x.span[i];
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        int nodeLevel = randomLevel();
+        if (nodeLevel > level) {
+            for (int i = level; i < nodeLevel; i++) {
+                rank[i] = 0;
+                update[i] = head;
+                head.span[i] = size;
+            }
+            level = nodeLevel;
+        }
+
+        Node node = new Node(name, wins, losses, nodeLevel);
+        for (int i = 0; i < nodeLevel; i++) {
+            node.next[i] = update[i].next[i];
+            update[i].next[i] = node;
+            node.span[i] = update[i].span[i] - (rank[0] - rank[i]);
+            update[i].span[i] = (rank[0] - rank[i]) + 1;
+        }
+        for (int i = nodeLevel; i < level; i++) {
+            update[i].span[i]++;
+        }
+
+        nodes.put(name, node);
+        size++;
+    }
+
+    /**
+     * Helper function to unlink a player from the skip list.
+     * @param node Node of the player.
+     */
+    private void remove(Node node) {
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && compare(x.next[i], node.wins, node.name) < 0) {
+                x = x.next[i];
+            }
+            update[i] = x;
+        }
+
+        for (int i = 0; i < level; i++) {
+            if (update[i].next[i] == node) {
+                update[i].span[i] += node.span[i] - 1;
+                update[i].next[i] = node.next[i];
+            } else {
+                update[i].span[i]--;
+            }
+        }
+        while (level > 1 && head.next[level - 1] == null) {
+            level--;
+        }
+
+        nodes.remove(node.name);
+        size--;
+    }
+
+    /**
+     * Helper function to order a Node against a record.
+     * @param node Node to compare.
+     * @param wins Number of matches won of the record.
+     * @param name Name of the player of the record.
+     * @return Returns a negative number if the Node ranks above the record, 0 if it is the same player, a positive number otherwise.
+     */
+    private static int compare(Node node, int wins, String name) {
+        if (node.wins != wins) {
+            return node.wins > wins ? -1 : 1;
+        }
+        return node.name.compareTo(name);
+    }
+
+    /**
+     * Helper function to choose the number of links of a new Node.
+     * @return Returns the level of the new Node.
+     */
+    private int randomLevel() {
+        int nodeLevel = 1;
+        while (nodeLevel < MAX_LEVEL && random.nextInt(LEVEL_UP_CHANCE) == 0) {
+            nodeLevel++;
+        }
+        return nodeLevel;
+    }
+
+    /**
+     * Gets the rank of a player.
+     * @param name Name of the player.
+     * @return Returns the rank of the player, starting from 1, or -1 if the player is not on the leaderboard.
+     */
+    public int rankOf(String name) {
+        Node node = nodes.get(name);
+        if (node == null) {
+            return -1;
+        }
+
+        int traversed = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && compare(x.next[i], node.wins, node.name) <= 0) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            if (x == node) {
+                return traversed;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the players with the most wins.
+     * @param k Number of players.
+     * @return Returns up to k players, from the first rank.
+     */
+    public List<PlayerStanding> topK(int k) {
+        return page(0, k);
+    }
+
+    /**
+     * Gets a page of the leaderboard.
+     * @param offset Number of players before the page.
+     * @param limit Highest number of players in the page.
+     * @return Returns the players from rank offset + 1, up to limit players.
+     */
+    public List<PlayerStanding> page(int offset, int limit) {
+        List<PlayerStanding> rows = new ArrayList<PlayerStanding>(Math.max(0, Math.min(limit, size - offset)));
+        if (offset < 0 || offset >= size) {
+            return rows;
+        }
+
+        Node x = nodeAt(offset + 1);
+        while (x != null && rows.size() < limit) {
+            rows.add(new PlayerStanding(x.name, x.wins, x.losses));
+            x = x.next[0];
+        }
+        return rows;
+    }
+
+    /**
+     * Helper function to find the player at a rank.
+     * @param position Rank of the player, from 1 to size().
+     * @return Returns the Node of the player.
+     */
+    private Node nodeAt(int position) {
+        int traversed = 0;
+        Node x = head;
+        for (int i = level - 1; i >= 0; i--) {
+            while (x.next[i] != null && traversed + x.span[i] <= position) {
+                traversed += x.span[i];
+                x = x.next[i];
+            }
+            if (traversed == position) {
+                return x;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the number of players on the leaderboard.
+     * @return Returns the number of players.
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,100 @@
+package com.pokego.leaderboard;
+
+/**
+ * The Standings hold the wins and losses of every player, indexed by player ID. They are rebuilt from the snapshot and the match log when the LeaderboardStore is opened, then updated by every recorded match.
+ */
+class Standings implements MatchVisitor {
+    private final static int INITIAL_CAPACITY = 64;
+
+    private int[] wins;
+    private int[] losses;
+    private int size;
+
+    /**
+     * Constructs empty Standings.
+     */
+    Standings() {
+        wins = new int[INITIAL_CAPACITY];
+        losses = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Makes sure that the Standings hold at least a number of players. New players have no wins and no losses.
+     * @param count Number of players.
+     */
+    void ensurePlayers(int count) {
+        if (count > wins.length) {
+            int capacity = Math.max(count, wins.length * 2);
+            int[] newWins = new int[capacity];
+            int[] newLosses = new int[capacity];
+            System.arraycopy(wins, 0, newWins, 0, size);
+            System.arraycopy(losses, 0, newLosses, 0, size);
+            wins = newWins;
+            losses = newLosses;
+        }
+        size = Math.max(size, count);
+    }
+
+    /**
+     * Adds the result of a match.
+     * @param winnerId ID of the winner.
+     * @param loserId ID of the loser.
+     * @param timestamp Time the match ended, in milliseconds since the epoch.
+     */
+    @Override
+    public void onMatch(int winnerId, int loserId, long timestamp) {
+        ensurePlayers(Math.max(winnerId, loserId) + 1);
+        wins[winnerId]++;
+        losses[loserId]++;
+    }
+
+    /**
+     * Sets the record of a player, used when reading a snapshot.
+     * @param id ID of the player.
+     * @param playerWins Number of matches won.
+     * @param playerLosses Number of matches lost.
+     */
+    void setPlayer(int id, int playerWins, int playerLosses) {
+        ensurePlayers(id + 1);
+        wins[id] = playerWins;
+        losses[id] = playerLosses;
+    }
+
+    /**
+     * Gets the number of matches won by a player.
+     * @param id ID of the player.
+     * @return Returns the number of matches won.
+     */
+    int getWins(int id) {
+        return wins[id];
+    }
+
+    /**
+     * Gets the number of matches lost by a player.
+     * @param id ID of the player.
+     * @return Returns the number of matches lost.
+     */
+    int getLosses(int id) {
+        return losses[id];
+    }
+
+    /**
+     * Gets the number of players.
+     * @return Returns the number of players.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Copies the Standings, so that a snapshot can be written while matches are still recorded.
+     * @return Returns a copy of the Standings.
+     */
+    Standings copy() {
+        Standings copy = new Standings();
+        copy.ensurePlayers(size);
+        System.arraycopy(wins, 0, copy.wins, 0, size);
+        System.arraycopy(losses, 0, copy.losses, 0, size);
+        return copy;
+    }
+}
@@ -0,0 +1,139 @@
+package com.pokego.leaderboard;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.zip.CRC32;
+
+/**
+ * The StandingsSnapshot reads and writes the snapshot of the Standings, in the format described by LeaderboardFormat. A snapshot is written to a temporary file, forced to disk, then renamed over the previous snapshot, so a crash leaves either the old or the new snapshot, never a partial one. Stores a collection of static functions.
+ */
+final class StandingsSnapshot {
+
+    /**
+     * Not instantiable, stores a collection of static functions.
+     */
+    private StandingsSnapshot() {
+    }
+
+    /**
+     * Writes a snapshot and atomically replaces the previous one.
+     * @param directory Folder of the LeaderboardStore.
+     * @param nextSegment First match log segment not covered by the snapshot.
+     * @param standings Standings covering every segment before nextSegment.
+     * @param currentDay Current day of the WindowedLeaderboard.
+     * @param buckets TimeBuckets of the week, covering every segment before nextSegment.
+     * @throws IOException If the snapshot cannot be written.
+     */
+    static void write(File directory, int nextSegment, Standings standings, long currentDay, TimeBucket[] buckets) throws IOException {
+        int players = standings.size();
+        int size = LeaderboardFormat.HEADER_SIZE + 8 + players * 8 + 12 + 4;
+        for (TimeBucket bucket : buckets) {
+            size += 12 + bucket.getTouchedCount() * 12;
+        }
+
+        ByteBuffer data = ByteBuffer.allocate(size);
+        data.putInt(LeaderboardFormat.SNAPSHOT_MAGIC);
+        data.putInt(LeaderboardFormat.SNAPSHOT_VERSION);
+        data.putInt(nextSegment);
+        data.putInt(players);
+        for (int id = 0; id < players; id++) {
+            data.putInt(standings.getWins(id));
+            data.putInt(standings.getLosses(id));
+        }
+
+        data.putLong(currentDay);
+        data.putInt(buckets.length);
+        for (TimeBucket bucket : buckets) {
+            data.putLong(bucket.getDay());
+            data.putInt(bucket.getTouchedCount());
+            for (int i = 0; i < bucket.getTouchedCount(); i++) {
+                int id = bucket.getTouched(i);
+                data.putInt(id);
+                data.putInt(bucket.getWins(id));
+                data.putInt(bucket.getLosses(id));
+            }
+        }
+        data.putInt(LeaderboardFormat.checksum(new CRC32(), data, 0, data.position()));
+        data.flip();
+
+        LeaderboardFormat.writeAtomically(directory, LeaderboardFormat.SNAPSHOT_FILE, LeaderboardFormat.SNAPSHOT_TEMP_FILE, data);
+    }
+
+    /**
+     * Reads the snapshot into the Standings and the WindowedLeaderboard. A version 1 snapshot has no TimeBuckets, so the windows only count the matches after it.
+     * @param directory Folder of the LeaderboardStore.
+     * @param standings Empty Standings to fill.
+     * @param windows Empty WindowedLeaderboard to fill.
+     * @return Returns the first match log segment not covered by the snapshot, -1 if there is no snapshot.
+     * @throws IOException If the snapshot cannot be read or is corrupted.
+     */
+    static int read(File directory, Standings standings, WindowedLeaderboard windows) throws IOException {
+        File snapshot = new File(directory, LeaderboardFormat.SNAPSHOT_FILE);
+        if (!snapshot.exists()) {
+            return -1;
+        }
+
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(snapshot.toPath()));
+        if (data.remaining() < LeaderboardFormat.HEADER_SIZE + 12 || data.getInt() != LeaderboardFormat.SNAPSHOT_MAGIC) {
+            throw new IOException("Not a standings snapshot: " + snapshot);
+        }
+        int version = data.getInt();
+        if (version < 1 || version > LeaderboardFormat.SNAPSHOT_VERSION) {
+            throw new IOException("Unsupported standings snapshot version " + version + ": " + snapshot);
+        }
+        int checksumOffset = data.limit() - 4;
+        if (data.getInt(checksumOffset) != LeaderboardFormat.checksum(new CRC32(), data, 0, checksumOffset)) {
+            throw new IOException("Corrupted standings snapshot: " + snapshot);
+        }
+
+        int nextSegment = data.getInt();
+        int players = data.getInt();
+        if (players < 0 || checksumOffset < LeaderboardFormat.HEADER_SIZE + 8 + players * 8) {
+            throw new IOException("Corrupted standings snapshot: " + snapshot);
+        }
+        for (int id = 0; id < players; id++) {
+            standings.setPlayer(id, data.getInt(), data.getInt());
+        }
+
+        if (version >= 2) {
+            readBuckets(data, players, windows, snapshot);
+        }
+        if (data.position() != checksumOffset) {
+            throw new IOException("Corrupted standings snapshot: " + snapshot);
+        }
+        return nextSegment;
+    }
+
+    /**
+     * Helper function to read the TimeBuckets of a version 2 snapshot into the WindowedLeaderboard.
+     * @param data Snapshot, positioned after the standings.
+     * @param players Number of players in the snapshot.
+     * @param windows WindowedLeaderboard to fill.
+     * @param snapshot Snapshot file, for error messages.
+     * @throws IOException If the TimeBuckets are corrupted.
+     */
+    private static void readBuckets(ByteBuffer data, int players, WindowedLeaderboard windows, File snapshot) throws IOException {
+        try {
+            windows.advanceTo(data.getLong());
+            int bucketCount = data.getInt();
+            for (int i = 0; i < bucketCount; i++) {
+                long day = data.getLong();
+                int count = data.getInt();
+                for (int j = 0; j < count; j++) {
+                    int id = data.getInt();
+                    int wins = data.getInt();
+                    int losses = data.getInt();
+                    if (id < 0 || id >= players) {
+                        throw new IOException("Corrupted standings snapshot: " + snapshot);
+                    }
+                    windows.add(day, id, wins, losses);
+                }
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Corrupted standings snapshot: " + snapshot, e);
+        }
+    }
+}
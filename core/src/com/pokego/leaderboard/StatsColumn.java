@@ -0,0 +1,30 @@
+package com.pokego.leaderboard;
+
+/**
+ * The StatsColumn enum lists the metrics kept for every player by the PlayerStatsTable. Each metric is stored in its own column.
+ */
+public enum StatsColumn {
+    MATCHES("Matches"),
+    ROUNDS("Rounds"),
+    DAMAGE_DEALT("Damage Dealt"),
+    DAMAGE_TAKEN("Damage Taken"),
+    KNOCKOUTS("Knockouts");
+
+    private String displayName;
+
+    /**
+     * Constructs the StatsColumn.
+     * @param displayName Name of the metric shown to the players.
+     */
+    StatsColumn(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Gets the name of the metric shown to the players.
+     * @return Returns the name of the metric shown to the players.
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,54 @@
+package com.pokego.leaderboard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The StatsDictionary encodes the names of Characters and Moves as small IDs, in the order they were first seen, so that the PlayerStatsTable keeps one column per name instead of a string per row.
+ */
+class StatsDictionary {
+    private List<String> names;
+    private Map<String, Integer> ids;
+
+    /**
+     * Constructs an empty StatsDictionary.
+     */
+    StatsDictionary() {
+        names = new ArrayList<String>();
+        ids = new HashMap<String, Integer>();
+    }
+
+    /**
+     * Gets the ID of a name, adding it if it is new.
+     * @param name Name to encode.
+     * @return Returns the ID of the name.
+     */
+    int getOrAdd(String name) {
+        Integer id = ids.get(name);
+        if (id == null) {
+            id = names.size();
+            names.add(name);
+            ids.put(name, id);
+        }
+        return id;
+    }
+
+    /**
+     * Gets the name of an ID.
+     * @param id ID of the name.
+     * @return Returns the name.
+     */
+    String getName(int id) {
+        return names.get(id);
+    }
+
+    /**
+     * Gets the number of names.
+     * @return Returns the number of names.
+     */
+    int size() {
+        return names.size();
+    }
+}
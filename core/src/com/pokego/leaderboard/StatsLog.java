@@ -0,0 +1,211 @@
+package com.pokego.leaderboard;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ * The StatsLog appends the MatchStats of every match to one segment of the stats log, next to the match log segment of the same number. Appending writes one small record, so it costs the same however many players there are, and the whole PlayerStatsTable is only rewritten when the store compacts or is disposed. Like the MatchLog, records are only forced to disk by sync().
+ */
+class StatsLog implements Closeable {
+    private final static int INITIAL_BUFFER_SIZE = 256;
+
+    private FileChannel channel;
+    private ByteBuffer record;
+    private CRC32 crc;
+
+    /**
+     * Creates a new segment, writes its header and forces it to disk, so that a crash never leaves a segment without its header.
+     * @param file Segment file, replaced if it exists.
+     * @throws IOException If the file cannot be written.
+     */
+    StatsLog(File file) throws IOException {
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        record = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+        crc = new CRC32();
+
+        record.putInt(LeaderboardFormat.STATS_LOG_MAGIC);
+        record.putInt(LeaderboardFormat.VERSION);
+        record.flip();
+        write();
+        channel.force(true);
+    }
+
+    /**
+     * Appends the statistics of a match. The record is written but not forced to disk.
+     * @param ids ID of every player of the match, in the order of the MatchStats.
+     * @param stats Statistics of the match.
+     * @throws IOException If the file cannot be written.
+     */
+    void append(int[] ids, MatchStats stats) throws IOException {
+        int size = 4 + getDataSize(stats) + 4;
+        if (record.capacity() < size) {
+            record = ByteBuffer.allocate(Math.max(size, record.capacity() * 2));
+        }
+
+        record.clear();
+        record.putInt(size - 8);
+        for (int player = 0; player < MatchStats.PLAYER_COUNT; player++) {
+            record.putInt(ids[player]);
+        }
+        for (int player = 0; player < MatchStats.PLAYER_COUNT; player++) {
+            for (StatsColumn column : StatsColumn.values()) {
+                record.putInt(stats.getValue(player, column));
+            }
+            putCounts(stats.getCharacterRounds(player));
+            putCounts(stats.getMoveUses(player));
+        }
+        record.putInt(LeaderboardFormat.checksum(crc, record, 4, size - 8));
+        record.flip();
+        write();
+    }
+
+    /**
+     * Helper function to compute the size of the data of a record.
+     * @param stats Statistics of the match.
+     * @return Returns the size in bytes, without the length and the checksum.
+     */
+    private static int getDataSize(MatchStats stats) {
+        int size = MatchStats.PLAYER_COUNT * 4;
+        for (int player = 0; player < MatchStats.PLAYER_COUNT; player++) {
+            size += StatsColumn.values().length * 4;
+            size += getCountsSize(stats.getCharacterRounds(player)) + getCountsSize(stats.getMoveUses(player));
+        }
+        return size;
+    }
+
+    /**
+     * Helper function to compute the size of a map of counts written by putCounts().
+     * @param counts Counts by name.
+     * @return Returns the size in bytes.
+     */
+    private static int getCountsSize(Map<String, Integer> counts) {
+        int size = 2;
+        for (String name : counts.keySet()) {
+            size += LeaderboardFormat.getNameSize(name) + 4;
+        }
+        return size;
+    }
+
+    /**
+     * Helper function to write a map of counts as the number of names, then every name followed by its count.
+     * @param counts Counts by name.
+     */
+    private void putCounts(Map<String, Integer> counts) {
+        record.putShort((short) counts.size());
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            LeaderboardFormat.putName(record, entry.getKey());
+            record.putInt(entry.getValue());
+        }
+    }
+
+    /**
+     * Helper function to write the whole record buffer to the end of the file.
+     * @throws IOException If the file cannot be written.
+     */
+    private void write() throws IOException {
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+    }
+
+    /**
+     * Forces every appended record to disk.
+     * @throws IOException If the file cannot be written.
+     */
+    void sync() throws IOException {
+        channel.force(false);
+    }
+
+    /**
+     * Forces every appended record to disk and closes the segment.
+     * @throws IOException If the file cannot be written.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Adds the records of a segment to a PlayerStatsTable, until the end of the file or the first torn record.
+     * @param file Segment file.
+     * @param playerCount Number of players in the PlayerDirectory. A record with a larger ID refers to a name lost in a crash, and is treated as torn.
+     * @param table PlayerStatsTable receiving every valid record.
+     * @return Returns the number of valid records. -1 if the header is torn, which only a crash while the segment was created can leave.
+     * @throws IOException If the file cannot be read or is from another version.
+     */
+    static int read(File file, int playerCount, PlayerStatsTable table) throws IOException {
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        if (data.remaining() < LeaderboardFormat.HEADER_SIZE || data.getInt() != LeaderboardFormat.STATS_LOG_MAGIC) {
+            return -1;
+        }
+        if (data.getInt() != LeaderboardFormat.VERSION) {
+            throw new IOException("Unsupported stats log segment version: " + file);
+        }
+
+        CRC32 crc = new CRC32();
+        int[] ids = new int[MatchStats.PLAYER_COUNT];
+        int count = 0;
+        while (data.remaining() >= 8) {
+            int offset = data.position();
+            int length = data.getInt();
+            if (length < ids.length * 4 || length > data.remaining() - 4
+                    || data.getInt(offset + 4 + length) != LeaderboardFormat.checksum(crc, data, offset + 4, length)
+                    || !readIds(data, playerCount, ids)) {
+                System.out.println("Ignored a torn stats record in " + file.getName() + " at " + offset);
+                break;
+            }
+            try {
+                for (int player = 0; player < ids.length; player++) {
+                    for (StatsColumn column : StatsColumn.values()) {
+                        table.addValue(column, ids[player], data.getInt());
+                    }
+                    int characterCount = data.getShort() & 0xFFFF;
+                    for (int i = 0; i < characterCount; i++) {
+                        table.addCharacterRounds(table.addCharacter(LeaderboardFormat.getName(data)), ids[player], data.getInt());
+                    }
+                    int moveCount = data.getShort() & 0xFFFF;
+                    for (int i = 0; i < moveCount; i++) {
+                        table.addMoveUses(table.addMove(LeaderboardFormat.getName(data)), ids[player], data.getInt());
+                    }
+                }
+            } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+                throw new IOException("Corrupted stats log segment: " + file, e);
+            }
+            if (data.position() != offset + 4 + length) {
+                throw new IOException("Corrupted stats log segment: " + file);
+            }
+            data.getInt();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Helper function to read the player IDs at the start of a record.
+     * @param data Buffer positioned at the IDs.
+     * @param playerCount Number of players in the PlayerDirectory.
+     * @param ids Array receiving the IDs.
+     * @return Returns false if an ID refers to a name lost in a crash. True otherwise.
+     */
+    private static boolean readIds(ByteBuffer data, int playerCount, int[] ids) {
+        for (int player = 0; player < ids.length; player++) {
+            ids[player] = data.getInt();
+            if (ids[player] < 0 || ids[player] >= playerCount) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,128 @@
+package com.pokego.leaderboard;
+
+/**
+ * The TimeBucket holds the wins and losses of every player during one day, indexed by player ID. It remembers which players it counted, so that clearing it, or removing it from a window, only visits those players.
+ */
+class TimeBucket {
+    private final static int INITIAL_CAPACITY = 16;
+
+    private long day;
+    private int[] wins;
+    private int[] losses;
+    private int[] touched; // IDs of the players counted in the bucket.
+    private int touchedCount;
+
+    /**
+     * Constructs an empty TimeBucket.
+     * @param day Day of the bucket, in days since the epoch.
+     */
+    TimeBucket(long day) {
+        this.day = day;
+        wins = new int[INITIAL_CAPACITY];
+        losses = new int[INITIAL_CAPACITY];
+        touched = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Adds wins and losses to a player.
+     * @param id ID of the player.
+     * @param addedWins Number of wins to add.
+     * @param addedLosses Number of losses to add.
+     */
+    void add(int id, int addedWins, int addedLosses) {
+        if (id >= wins.length) {
+            int capacity = Math.max(id + 1, wins.length * 2);
+            wins = grow(wins, capacity);
+            losses = grow(losses, capacity);
+        }
+        if (wins[id] == 0 && losses[id] == 0) {
+            if (touchedCount == touched.length) {
+                touched = grow(touched, touched.length * 2);
+            }
+            touched[touchedCount++] = id;
+        }
+        wins[id] += addedWins;
+        losses[id] += addedLosses;
+    }
+
+    /**
+     * Helper function to copy an array into a larger one.
+     * @param array Array to copy.
+     * @param capacity Length of the new array.
+     * @return Returns the new array.
+     */
+    private static int[] grow(int[] array, int capacity) {
+        int[] newArray = new int[capacity];
+        System.arraycopy(array, 0, newArray, 0, array.length);
+        return newArray;
+    }
+
+    /**
+     * Empties the bucket and reuses it for another day. Only the players counted in the bucket are visited.
+     * @param newDay Day of the bucket, in days since the epoch.
+     */
+    void reset(long newDay) {
+        for (int i = 0; i < touchedCount; i++) {
+            wins[touched[i]] = 0;
+            losses[touched[i]] = 0;
+        }
+        touchedCount = 0;
+        day = newDay;
+    }
+
+    /**
+     * Gets the day of the bucket.
+     * @return Returns the day of the bucket, in days since the epoch.
+     */
+    long getDay() {
+        return day;
+    }
+
+    /**
+     * Gets the number of players counted in the bucket.
+     * @return Returns the number of players counted in the bucket.
+     */
+    int getTouchedCount() {
+        return touchedCount;
+    }
+
+    /**
+     * Gets the ID of a player counted in the bucket.
+     * @param index Index of the player, from 0 to getTouchedCount() - 1.
+     * @return Returns the ID of the player.
+     */
+    int getTouched(int index) {
+        return touched[index];
+    }
+
+    /**
+     * Gets the number of matches won by a player during the day.
+     * @param id ID of the player.
+     * @return Returns the number of matches won.
+     */
+    int getWins(int id) {
+        return id < wins.length ? wins[id] : 0;
+    }
+
+    /**
+     * Gets the number of matches lost by a player during the day.
+     * @param id ID of the player.
+     * @return Returns the number of matches lost.
+     */
+    int getLosses(int id) {
+        return id < losses.length ? losses[id] : 0;
+    }
+
+    /**
+     * Copies the bucket, so that a snapshot can be written while matches are still recorded.
+     * @return Returns a copy of the bucket.
+     */
+    TimeBucket copy() {
+        TimeBucket copy = new TimeBucket(day);
+        for (int i = 0; i < touchedCount; i++) {
+            int id = touched[i];
+            copy.add(id, wins[id], losses[id]);
+        }
+        return copy;
+    }
+}
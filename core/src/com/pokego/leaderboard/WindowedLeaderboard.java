@@ -0,0 +1,186 @@
+package com.pokego.leaderboard;
+
+import java.util.TimeZone;
+
+/**
+ * The WindowedLeaderboard ranks the players over the DAILY and WEEKLY windows. Matches are counted in a ring of TimeBuckets, one per day of the week, and the totals of the week are kept up to date as matches are added. When the day changes, the ring moves forward by one bucket, and only the players counted in the bucket leaving the week are subtracted, so no window is ever rebuilt from the match history. Days follow the local time zone. It is not thread-safe.
+ */
+class WindowedLeaderboard implements MatchVisitor {
+    final static long DAY_MILLIS = 24 * 60 * 60 * 1000L;
+    final static int DAYS = LeaderboardWindow.WEEKLY.getDays();
+
+    private PlayerDirectory players;
+    private TimeZone timeZone;
+
+    private TimeBucket[] buckets; // The bucket of a day is at day % DAYS.
+    private long currentDay;
+
+    // Totals of the buckets in the week, indexed by player ID.
+    private int[] weeklyWins;
+    private int[] weeklyLosses;
+
+    private RankedLeaderboard daily;
+    private RankedLeaderboard weekly;
+
+    /**
+     * Constructs an empty WindowedLeaderboard.
+     * @param players PlayerDirectory giving the names of the players.
+     * @param now Current time, in milliseconds since the epoch.
+     */
+    WindowedLeaderboard(PlayerDirectory players, long now) {
+        this.players = players;
+        timeZone = TimeZone.getDefault();
+        currentDay = dayOf(now);
+
+        buckets = new TimeBucket[DAYS];
+        for (int i = 0; i < DAYS; i++) {
+            long day = currentDay - i;
+            buckets[slot(day)] = new TimeBucket(day);
+        }
+        weeklyWins = new int[64];
+        weeklyLosses = new int[64];
+        daily = new RankedLeaderboard();
+        weekly = new RankedLeaderboard();
+    }
+
+    /**
+     * Gets the day of a time in the local time zone.
+     * @param timestamp Time, in milliseconds since the epoch.
+     * @return Returns the day, in days since the epoch.
+     */
+    long dayOf(long timestamp) {
+        return (timestamp + timeZone.getOffset(timestamp)) / DAY_MILLIS;
+    }
+
+    /**
+     * Helper function to find the bucket of a day in the ring.
+     * @param day Day, in days since the epoch.
+     * @return Returns the index of the bucket.
+     */
+    private static int slot(long day) {
+        return (int) (day % DAYS);
+    }
+
+    /**
+     * Adds a match to the bucket of its day. Matches older than the week are ignored.
+     * @param winnerId ID of the winner.
+     * @param loserId ID of the loser.
+     * @param timestamp Time the match ended, in milliseconds since the epoch.
+     */
+    @Override
+    public void onMatch(int winnerId, int loserId, long timestamp) {
+        long day = dayOf(timestamp);
+        add(day, winnerId, 1, 0);
+        add(day, loserId, 0, 1);
+    }
+
+    /**
+     * Adds wins and losses of a player to the bucket of a day, and to the totals of the windows it is in.
+     * @param day Day, in days since the epoch.
+     * @param id ID of the player.
+     * @param wins Number of wins to add.
+     * @param losses Number of losses to add.
+     */
+    void add(long day, int id, int wins, int losses) {
+        advanceTo(day);
+        if (day <= currentDay - DAYS) {
+            return;
+        }
+
+        TimeBucket bucket = buckets[slot(day)];
+        bucket.add(id, wins, losses);
+
+        ensurePlayers(id + 1);
+        weeklyWins[id] += wins;
+        weeklyLosses[id] += losses;
+        String name = players.getName(id);
+        weekly.put(name, weeklyWins[id], weeklyLosses[id]);
+        if (day == currentDay) {
+            daily.put(name, bucket.getWins(id), bucket.getLosses(id));
+        }
+    }
+
+    /**
+     * Helper function to make the weekly totals hold at least a number of players.
+     * @param count Number of players.
+     */
+    private void ensurePlayers(int count) {
+        if (count > weeklyWins.length) {
+            int capacity = Math.max(count, weeklyWins.length * 2);
+            int[] newWins = new int[capacity];
+            int[] newLosses = new int[capacity];
+            System.arraycopy(weeklyWins, 0, newWins, 0, weeklyWins.length);
+            System.arraycopy(weeklyLosses, 0, newLosses, 0, weeklyLosses.length);
+            weeklyWins = newWins;
+            weeklyLosses = newLosses;
+        }
+    }
+
+    /**
+     * Moves the ring forward to a day. Every bucket leaving the week is subtracted from the weekly totals and reused for a new day, and the daily ranking starts empty. Does nothing if the day is not after the current day.
+     * @param day Day, in days since the epoch.
+     */
+    void advanceTo(long day) {
+        if (day <= currentDay) {
+            return;
+        }
+
+        // At most DAYS buckets leave the week, however many days passed.
+        for (long newDay = Math.max(currentDay + 1, day - DAYS + 1); newDay <= day; newDay++) {
+            TimeBucket bucket = buckets[slot(newDay)];
+            expire(bucket);
+            bucket.reset(newDay);
+        }
+        currentDay = day;
+        daily = new RankedLeaderboard();
+    }
+
+    /**
+     * Helper function to subtract a bucket leaving the week from the weekly totals.
+     * @param bucket Bucket leaving the week.
+     */
+    private void expire(TimeBucket bucket) {
+        for (int i = 0; i < bucket.getTouchedCount(); i++) {
+            int id = bucket.getTouched(i);
+            weeklyWins[id] -= bucket.getWins(id);
+            weeklyLosses[id] -= bucket.getLosses(id);
+            String name = players.getName(id);
+            if (weeklyWins[id] == 0 && weeklyLosses[id] == 0) {
+                weekly.remove(name);
+            } else {
+                weekly.put(name, weeklyWins[id], weeklyLosses[id]);
+            }
+        }
+    }
+
+    /**
+     * Gets the ranking of a window at a time. The ring is moved forward first, so a new day starts with an empty daily ranking.
+     * @param window DAILY or WEEKLY.
+     * @param now Current time, in milliseconds since the epoch.
+     * @return Returns the ranking of the window.
+     */
+    RankedLeaderboard getRanking(LeaderboardWindow window, long now) {
+        advanceTo(dayOf(now));
+        return window == LeaderboardWindow.DAILY ? daily : weekly;
+    }
+
+    /**
+     * Gets the current day.
+     * @return Returns the current day, in days since the epoch.
+     */
+    long getCurrentDay() {
+        return currentDay;
+    }
+
+    /**
+     * Copies the buckets of the week, so that a snapshot can be written while matches are still recorded.
+     * @return Returns copies of the buckets, in ring order.
+     */
+    TimeBucket[] copyBuckets() {
+        TimeBucket[] copies = new TimeBucket[DAYS];
+        for (int i = 0; i < DAYS; i++) {
+            copies[i] = buckets[i].copy();
+        }
+        return copies;
+    }
+}
@@ -16,5 +16,6 @@ public enum ButtonClass {
     EXIT,
     BACK,
     MUSIC_CHECKBOX,
-    SOUND_CHECKBOX
+    SOUND_CHECKBOX,
+    BOT_CHECKBOX
 }
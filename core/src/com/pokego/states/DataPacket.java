@@ -1,13 +1,15 @@
 package com.pokego.states;
 
 import com.pokego.game.game_data.Character;
+import com.pokego.game.game_engine.MatchRecord;
 import com.pokego.game.game_phase.PlayerWinner;
 import com.pokego.game.game_ui.PlayerNumber;
+import com.pokego.leaderboard.MatchStats;
 
 import java.util.ArrayList;
 
 /**
- * The DataPacket is used to move data across different States. It contains information such as the Player's names, list of Characters, and the winner of the game.
+ * The DataPacket is used to move data across different States. It contains information such as the Player's names, list of Characters, the seed of the match, the MatchRecord being replayed, the winner of the game and its MatchStats.
  */
 public class DataPacket {
     private String playerOneName;
@@ -15,6 +17,10 @@ public class DataPacket {
     private ArrayList<Character> playerOneChars;
     private ArrayList<Character> playerTwoChars;
     private PlayerWinner winner;
+    private boolean playerTwoBot;
+    private long seed;
+    private MatchRecord replay;
+    private MatchStats matchStats;
 
 
     /**
@@ -61,6 +67,78 @@ public class DataPacket {
         }
     }
 
+    /**
+     * Sets whether player 2 is played by a bot.
+     * @param playerTwoBot True if player 2 is played by a bot. False if player 2 is a local player.
+     */
+    public void setPlayerTwoBot(boolean playerTwoBot) {
+        this.playerTwoBot = playerTwoBot;
+    }
+
+    /**
+     * Returns true if player 2 is played by a bot. False otherwise.
+     * @return Returns true if player 2 is played by a bot. False otherwise.
+     */
+    public boolean isPlayerTwoBot() {
+        return playerTwoBot;
+    }
+
+    /**
+     * Sets the seed of the GameRng for the match.
+     * @param seed Seed of the match.
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Gets the seed of the GameRng for the match.
+     * @return Returns the seed of the match.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets the MatchRecord to replay instead of a new match.
+     * @param replay MatchRecord to replay, null for a new match.
+     */
+    public void setReplay(MatchRecord replay) {
+        this.replay = replay;
+    }
+
+    /**
+     * Gets the MatchRecord being replayed.
+     * @return Returns the MatchRecord being replayed, null if the match is not a replay.
+     */
+    public MatchRecord getReplay() {
+        return replay;
+    }
+
+    /**
+     * Returns true if the match is a replay of a MatchRecord. False otherwise.
+     * @return Returns true if the match is a replay of a MatchRecord. False otherwise.
+     */
+    public boolean isReplay() {
+        return replay != null;
+    }
+
+    /**
+     * Sets the statistics of the finished match.
+     * @param matchStats MatchStats of the match.
+     */
+    public void setMatchStats(MatchStats matchStats) {
+        this.matchStats = matchStats;
+    }
+
+    /**
+     * Gets the statistics of the finished match.
+     * @return Returns the MatchStats of the match, null before the match ends.
+     */
+    public MatchStats getMatchStats() {
+        return matchStats;
+    }
+
     /**
      * Gets player 1's name.
      * @return Returns player 1's name.
@@ -9,14 +9,14 @@ import com.pokego.datamodel.GameButton;
 import com.pokego.datamodel.GameSprite;
 import com.pokego.datamodel.GameText;
 import com.pokego.game.game_phase.PlayerWinner;
-import com.pokego.utility.CSVHandler;
+import com.pokego.leaderboard.LeaderboardService;
 import com.pokego.utility.Font;
 import com.pokego.utility.Utility;
 
 import java.util.ArrayList;
 
 /**
- * The EndGameState is displayed at the end of the game. It displays the winner of the game, and updates the scoreboard using the CSVHandler object. If a draw result is derived, the scoreboard will not be updated.
+ * The EndGameState is displayed at the end of the game. It displays the winner of the game, and records the result and the MatchStats with the LeaderboardService, which writes them to disk on its own thread. If a draw result is derived, only the MatchStats are recorded. If the match was a replay, nothing is recorded.
  */
 public class EndGameState extends State {
 
@@ -52,13 +52,16 @@ public class EndGameState extends State {
         String winnerName;
         if (datapacket.getWinner() == PlayerWinner.PLAYER_ONE) {
             winnerName = data.getPlayerOneName();
-            CSVHandler.insertIntoLeaderboard(datapacket.getPlayerOneName(), datapacket.getPlayerTwoName());
+            recordResult(datapacket.getPlayerOneName(), datapacket.getPlayerTwoName());
         } else if (datapacket.getWinner() == PlayerWinner.PLAYER_TWO) {
             winnerName = data.getPlayerTwoName();
-            CSVHandler.insertIntoLeaderboard(datapacket.getPlayerTwoName(), datapacket.getPlayerOneName());
+            recordResult(datapacket.getPlayerTwoName(), datapacket.getPlayerOneName());
         } else {
             // If draw, don't update and rematch
             winnerName = "DRAW, please play again.";
+            if (!datapacket.isReplay() && datapacket.getMatchStats() != null) {
+                LeaderboardService.getInstance().recordStats(datapacket.getMatchStats());
+            }
         }
 
         winner.setText(String.format("WINNER: %s", winnerName));
@@ -81,6 +84,18 @@ public class EndGameState extends State {
 
     }
 
+    /**
+     * Helper function to record the result of the match and its MatchStats with the LeaderboardService. Does not wait for the disk. Replays were already recorded when they were played.
+     * @param winnerName Name of the winner.
+     * @param loserName Name of the loser.
+     */
+    private void recordResult(String winnerName, String loserName) {
+        if (datapacket.isReplay()) {
+            return;
+        }
+        LeaderboardService.getInstance().recordResult(winnerName, loserName, datapacket.getMatchStats());
+    }
+
     /**
      * Handle inputs in the current State.
      */
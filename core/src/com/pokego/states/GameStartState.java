@@ -10,14 +10,19 @@ import com.pokego.datamodel.GameSprite;
 import com.pokego.datamodel.GameText;
 import com.pokego.game.game_data.Character;
 import com.pokego.game.game_data.Player;
+import com.pokego.game.game_engine.BattleEngine;
+import com.pokego.game.game_engine.MatchRecord;
+import com.pokego.game.game_engine.TeamDrafter;
 import com.pokego.game.game_ui.PlayerNumber;
 import com.pokego.utility.CSVHandler;
 import com.pokego.utility.Font;
+import com.pokego.utility.GameRng;
+import com.pokego.utility.RngStream;
+import com.pokego.utility.Utility;
 import java.util.ArrayList;
-import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * The GameStartState is displayed after the PreGameState. It randomly generates a list of characters for each Player. The Character's information and Moves are retrieved from their respective CSV data files and read using the CSVHandler object. The .csv files can be found in the "./assets/data" folder.
+ * The GameStartState is displayed after the PreGameState. It starts the GameRng from the seed of the match, then randomly generates a list of characters for each Player, or takes the teams of the MatchRecord being replayed. The Character's information and Moves are retrieved from their respective CSV data files and read using the CSVHandler object. The .csv files can be found in the "./assets/data" folder.
  */
 public class GameStartState extends State {
 
@@ -47,9 +52,23 @@ public class GameStartState extends State {
         // Receive datapacket from PreGameState
         datapacket = data;
 
+        // Start the match from a new seed, or from the recorded seed of a replay
+        if (datapacket.isReplay()) {
+            datapacket.setSeed(datapacket.getReplay().getSeed());
+        } else {
+            datapacket.setSeed(GameRng.newSeed());
+        }
+        GameRng.getInstance().startMatch(datapacket.getSeed());
+        System.out.println("Match seed: " + datapacket.getSeed());
+
         // generate characters for player 1 and 2
-        playerOneChars = generateCharacters(CSVHandler.getCharacterCount());
-        playerTwoChars = generateCharacters(CSVHandler.getCharacterCount());
+        if (datapacket.isReplay()) {
+            playerOneChars = loadCharacters(datapacket.getReplay().getTeam(BattleEngine.PLAYER_ONE));
+            playerTwoChars = loadCharacters(datapacket.getReplay().getTeam(BattleEngine.PLAYER_TWO));
+        } else {
+            playerOneChars = generateCharacters(CSVHandler.getCharacterCount());
+            playerTwoChars = generateCharacters(CSVHandler.getCharacterCount());
+        }
 
         // Generate background
         background = new GameSprite("./maps/title_wallpaper.jpg");
@@ -119,36 +138,28 @@ public class GameStartState extends State {
     }
 
     /**
-     * Randomly generates a specified number of Characters into an ArrayList. Uses data from the .csv files found in the "./assets/data" folder. Uses CSVHandler to access the data.
-     * @param charsAvailable Number of characters to generate.
+     * Randomly generates a team of distinct Characters into an ArrayList, drafted by the TeamDrafter with the GameRng's draft stream. Uses data from the .csv files found in the "./assets/data" folder. Uses CSVHandler to access the data.
+     * @param charsAvailable Number of characters to draw from.
      * @return Randomly generated Character ArrayList.
      */
     private ArrayList<Character> generateCharacters(int charsAvailable) {
-        ArrayList<Integer> numbersGenerated = new ArrayList<Integer>();
-        ArrayList<Character> charactersGenerated = new ArrayList<Character>();
-        while(numbersGenerated.size() != Player.DEFAULT_NO_CHARACTERS) {
-            int charID = generateRandomInt(1, charsAvailable);
-            // If charID does not exist in array, add to array
-            if (!numbersGenerated.contains(charID)) {
-                numbersGenerated.add(charID);
-            }
-        }
-
-        for (Integer charID : numbersGenerated) {
-            charactersGenerated.add(CSVHandler.getCharacterByID(charID));
-        }
-
-        return charactersGenerated;
+        int[] numbersGenerated = TeamDrafter.draft(GameRng.getInstance().get(RngStream.DRAFT), charsAvailable, new int[Player.DEFAULT_NO_CHARACTERS]);
+        return loadCharacters(numbersGenerated);
     }
 
     /**
-     * Helper function to generate random integer. Random integer is used to select Character ID in the .csv file.
-     * @param min Lower bound of number.
-     * @param max Upper bound of number.
-     * @return Returns randomly generated integer between min and max, inclusive.
+     * Creates a team of Characters into an ArrayList from their characterIDs. Uses CSVHandler to access the data.
+     * @param characterIDs CharacterIDs of the team, in order.
+     * @return Character ArrayList of the team.
      */
-    private int generateRandomInt(int min, int max) {
-        return ThreadLocalRandom.current().nextInt(min, max + 1);
+    private ArrayList<Character> loadCharacters(int[] characterIDs) {
+        ArrayList<Character> characters = new ArrayList<Character>();
+
+        for (int charID : characterIDs) {
+            characters.add(CSVHandler.getCharacterByID(charID));
+        }
+
+        return characters;
     }
 
     /**
@@ -208,9 +219,11 @@ public class GameStartState extends State {
         background.draw(sb);
         sb.end();
 
-        //draw rectangle
+        //draw rectangles in one pass
+        Utility.beginShapes(sr);
         playerOneUI.draw(sr);
         playerTwoUI.draw(sr);
+        Utility.endShapes(sr);
 
         // Render sprites
         sb.begin();
@@ -254,5 +267,6 @@ public class GameStartState extends State {
         for (GameButton button : gamestartStateButtons) {
             button.dispose();
         }
+        background.dispose();
     }
 }
@@ -1,23 +1,35 @@
 package com.pokego.states;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.pokego.PokeGo;
 import com.pokego.datamodel.GameSprite;
 import com.pokego.datamodel.GameTextWidget;
+import com.pokego.game.game_controller.KeyboardController;
+import com.pokego.game.game_controller.MctsController;
+import com.pokego.game.game_controller.PlayerController;
+import com.pokego.game.game_controller.ReplayController;
 import com.pokego.game.game_data.Character;
 import com.pokego.game.game_data.Player;
+import com.pokego.game.game_engine.BattleEngine;
+import com.pokego.game.game_engine.MatchRecord;
+import com.pokego.game.game_phase.GamePhase;
 import com.pokego.game.game_phase.GamePhaseManager;
 import com.pokego.game.game_phase.PhasePacket;
 import com.pokego.game.game_phase.PlayerWinner;
-import com.pokego.game.game_phase.RoundStartPhase;
 import com.pokego.game.game_ui.PlayerNumber;
 import com.pokego.game.game_ui.PlayerUI;
+import com.pokego.leaderboard.MatchStats;
+import com.pokego.utility.GameRng;
+import com.pokego.utility.RngStream;
 import com.pokego.utility.Utility;
 
+import java.io.IOException;
+
 /**
- * The GameState is displayed after the GameStartState. It contains all logic of the game and a GamePhaseManager to manage the different Phases in each turn.
+ * The GameState is displayed after the GameStartState. It contains all logic of the game and a GamePhaseManager to manage the different Phases in each turn. Every match is recorded to a MatchRecord, which is saved when the game ends. A replayed match is played by ReplayControllers, and can be fast-forwarded by holding SPACE.
  */
 public class GameState extends State {
 
@@ -36,11 +48,16 @@ public class GameState extends State {
 
 
     // Phase and round elements
+    private PlayerController playerOneController;
+    private PlayerController playerTwoController;
+
     private GamePhaseManager gamePhaseManager;
     private PhasePacket phasePacket;
+    private MatchRecord matchRecord;
 
     public final static float TIME_BETWEEN_ROUNDS = 3f;
     private final static float TEXT_WIDGET_SCROLL = 1f;
+    private final static int REPLAY_FAST_FORWARD = 4; // Phase updates per fixed step while fast-forwarding.
 
     /**
      * Constructs the GameState.
@@ -91,32 +108,96 @@ public class GameState extends State {
         textWidget.setTextScale(0.8f);
         textWidget.setText("Hello, this is the main text widget for GameState.");
 
-        // Create GamePhaseManager -> handles game logic for respective phases
-        gamePhaseManager = new GamePhaseManager();
+        // Create BattleEngine -> decides the outcome of every round, the phases only animate it
+        BattleEngine battleEngine = new BattleEngine(playerOne.getCharacterDefinitions(), playerTwo.getCharacterDefinitions());
+
+        // Create PlayerControllers -> player 1 is always local, player 2 can be a bot, both replay a MatchRecord in replays
+        if (data.isReplay()) {
+            playerOneController = new ReplayController(data.getReplay());
+            playerTwoController = new ReplayController(data.getReplay());
+        } else {
+            playerOneController = new KeyboardController(Input.Keys.Q, Input.Keys.W, Input.Keys.E, Input.Keys.R);
+            if (data.isPlayerTwoBot()) {
+                playerTwoController = new MctsController(GameRng.getInstance().get(RngStream.BOT).nextLong());
+            } else {
+                playerTwoController = new KeyboardController(Input.Keys.UP, Input.Keys.DOWN, Input.Keys.LEFT, Input.Keys.RIGHT);
+            }
+        }
 
         // Create PhasePacket for StartPhase to read
-        phasePacket = new PhasePacket(playerOne, playerTwo, playerOneUI, playerTwoUI, textWidget);
+        phasePacket = new PhasePacket(playerOne, playerTwo, playerOneUI, playerTwoUI, textWidget, playerOneController, playerTwoController, battleEngine);
+
+        // Record the seed, teams and every round, so that the match can be replayed
+        matchRecord = new MatchRecord(data.getSeed(), playerOne.getName(), playerTwo.getName(),
+                getCharacterIDs(playerOne), getCharacterIDs(playerTwo));
+        phasePacket.setMatchRecord(matchRecord);
+
+        // Count the damage, knockouts, Characters and Moves of both players for their statistics
+        phasePacket.setMatchStats(new MatchStats(playerOne.getName(), playerTwo.getName()));
+
+        // Create GamePhaseManager -> handles game logic for respective phases, creates every phase once
+        gamePhaseManager = new GamePhaseManager(phasePacket);
 
         // After that, set phase to ROUND_START phase
-        gamePhaseManager.setPhase(new RoundStartPhase(phasePacket, gamePhaseManager));
+        gamePhaseManager.setPhase(GamePhase.ROUND_START);
+    }
+
+    /**
+     * Helper function to get the characterIDs of a Player's team.
+     * @param player Player whose team to read.
+     * @return Returns the characterIDs of the team, in order.
+     */
+    private static int[] getCharacterIDs(Player player) {
+        int[] characterIDs = new int[player.getCharacters().size()];
+        for (int i = 0; i < characterIDs.length; i++) {
+            characterIDs[i] = player.getCharacters().get(i).getDefinition().getCharacterID();
+        }
+        return characterIDs;
+    }
+
+    /**
+     * Helper function to save the MatchRecord of a finished match. Replays are not saved again.
+     */
+    private void saveMatchRecord() {
+        if (data.isReplay()) {
+            return;
+        }
+        try {
+            matchRecord.save(MatchRecord.DEFAULT_PATH);
+            System.out.println("Match recorded to " + MatchRecord.DEFAULT_PATH);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
     }
 
     /**
-     * Handle inputs in the current State.
+     * Handle inputs in the current State. Moves are read by the current Phase.
      */
     @Override
     protected void handleInput() {
-
+        gamePhaseManager.handleInput();
     }
 
     /**
-     * Updates the current State. Function is ran once every frame.
+     * Updates the current State. Function is ran once every frame, and only handles input.
      * @param dt delta time
      */
     @Override
     public void update(float dt) {
         handleInput();
-        gamePhaseManager.update(dt); // Update GameState according to the current Phase.
+    }
+
+    /**
+     * Updates the game logic by one fixed step. Function is ran at the tick rate of PokeGo.
+     * @param step Duration of one step in seconds.
+     */
+    @Override
+    public void fixedUpdate(float step) {
+        // Fast-forward replays while SPACE is held, by running more steps
+        int updates = data.isReplay() && Gdx.input.isKeyPressed(Input.Keys.SPACE) ? REPLAY_FAST_FORWARD : 1;
+        for (int i = 0; i < updates && !gamePhaseManager.isGameOver(); i++) {
+            gamePhaseManager.update(step); // Update GameState according to the current Phase.
+        }
 
         // If game is over... go to end game state.
         if (gamePhaseManager.isGameOver()) {
@@ -125,6 +206,9 @@ public class GameState extends State {
             PlayerWinner winner = phasePacket.getWinner();
             System.out.println(phasePacket.getWinner());
             data.setWinner(winner);
+            data.setMatchStats(phasePacket.getMatchStats());
+            matchRecord.setWinner(winner);
+            saveMatchRecord();
             gsm.push(new EndGameState(gsm, data));
         }
     }
@@ -136,8 +220,19 @@ public class GameState extends State {
      */
     @Override
     public void render(SpriteBatch sb, ShapeRenderer sr) {
+        render(sb, sr, 1f);
+    }
+
+    /**
+     * Renders the current State between the last two fixed steps. Function is ran once every frame.
+     * @param sb SpriteBatch
+     * @param sr ShapeRenderer
+     * @param alpha How far the time is into the next fixed step, between 0 and 1.
+     */
+    @Override
+    public void render(SpriteBatch sb, ShapeRenderer sr, float alpha) {
         Utility.drawBackground(sb, background);
-        gamePhaseManager.render(sb, sr); // Render GameState according to the current Phase.
+        gamePhaseManager.render(sb, sr, alpha); // Render GameState according to the current Phase.
 
         sb.begin();
 
@@ -150,8 +245,12 @@ public class GameState extends State {
      */
     @Override
     public void dispose() {
+        gamePhaseManager.dispose();
+        playerOneController.dispose();
+        playerTwoController.dispose();
         playerOneUI.dispose();
         playerTwoUI.dispose();
+        textWidget.dispose();
         background.dispose();
     }
 }
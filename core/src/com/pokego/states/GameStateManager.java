@@ -52,13 +52,22 @@ public class GameStateManager {
         states.peek().update(dt);
     }
 
+    /**
+     * Runs the current State fixedUpdate() function.
+     * @param step Duration of one fixed step in seconds.
+     */
+    public void fixedUpdate(float step) {
+        states.peek().fixedUpdate(step);
+    }
+
     /**
      * Runs the current State render() function.
      * @param sb SpriteBatch
      * @param sr ShapeRenderer
+     * @param alpha How far the time is into the next fixed step, between 0 and 1.
      */
-    public void render(SpriteBatch sb, ShapeRenderer sr) {
-        states.peek().render(sb, sr);
+    public void render(SpriteBatch sb, ShapeRenderer sr, float alpha) {
+        states.peek().render(sb, sr, alpha);
     }
 
 }
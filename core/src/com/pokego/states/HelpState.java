@@ -167,5 +167,6 @@ public class HelpState extends State {
         }
         outputWidget.dispose();
         stage.dispose();
+        background.dispose();
     }
 }
@@ -7,17 +7,21 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.utils.Align;
 import com.pokego.datamodel.GameButton;
+import com.pokego.datamodel.GameCheckbox;
 import com.pokego.datamodel.GameInputField;
 import com.pokego.datamodel.GameSprite;
 import com.pokego.datamodel.GameText;
 import com.pokego.errors.Error;
 import com.pokego.errors.GameErrorWidget;
+import com.pokego.game.game_engine.BattleEngine;
+import com.pokego.game.game_engine.MatchRecord;
 import com.pokego.utility.Utility;
 
+import java.io.IOException;
 import java.util.ArrayList;
 
 /**
- * The PreGameState displays the game start page. It contains 2 GameInputBoxes to input each Player's name. Then, it creates a DataPacket used to send data across different States.
+ * The PreGameState displays the game start page. It contains 2 GameInputBoxes to input each Player's name, and a GameCheckbox to let a bot play as player 2. Pressing F5 replays the last recorded match instead. Then, it creates a DataPacket used to send data across different States.
  */
 public class PreGameState extends State {
 
@@ -31,12 +35,19 @@ public class PreGameState extends State {
 
     private GameButton exitImg, startImg;
 
+    private GameText botCheckboxLabel;
+    private GameCheckbox botCheckbox;
+
+    private GameText replayHint;
+
     private DataPacket dataPacket;
 
     private static final float INPUT_FIELD_MARGIN = 100;
     private static final float SPACE_BETWEEN_INPUT = 80;
     private static final float INPUTFIELD1_Y_POS = 450;
     private static final float INPUTFIELD2_Y_POS = 250;
+    private static final float BOT_CHECKBOX_Y_POS = 200;
+    private static final String BOT_NAME = "Computer";
 
     private GameErrorWidget gameErrorWidget;
     private static final int MAX_CHARS_INPUT = 25;
@@ -93,6 +104,21 @@ public class PreGameState extends State {
         inputFieldLabel2.scale(1f);
         inputFieldLabel2.reposition(INPUT_FIELD_MARGIN, INPUTFIELD2_Y_POS + SPACE_BETWEEN_INPUT);
 
+        // Checkbox to play against a bot as player 2
+        botCheckboxLabel = new GameText();
+        botCheckboxLabel.setText("Vs Computer: ");
+        botCheckboxLabel.scale(1f);
+        botCheckboxLabel.reposition(INPUT_FIELD_MARGIN, BOT_CHECKBOX_Y_POS);
+
+        botCheckbox = new GameCheckbox(ButtonClass.BOT_CHECKBOX, false);
+        botCheckbox.scale(2f);
+        botCheckbox.reposition(INPUT_FIELD_MARGIN + botCheckboxLabel.getWidth(), BOT_CHECKBOX_Y_POS - botCheckboxLabel.getHeight() - botCheckbox.getHeight()/3);
+
+        // Hint to replay the last recorded match
+        replayHint = new GameText();
+        replayHint.setText("F5: Replay last match");
+        replayHint.scale(0.5f);
+        replayHint.reposition(Gdx.graphics.getWidth() - replayHint.getWidth() - 20, replayHint.getHeight() + 20);
     }
 
     /**
@@ -113,12 +139,38 @@ public class PreGameState extends State {
             }
         }
 
+        // Toggle bot checkbox
+        botCheckbox.clicked(Gdx.input.getX(), Gdx.input.getY());
+
         if (Gdx.input.isKeyJustPressed((Input.Keys.ENTER))) {
-            dataPacket = new DataPacket(inputField1.getText(), inputField2.getText());
+            dataPacket = createDataPacket();
             System.out.println("GAMESTART STATE CREATED");
             gsm.push(new GameStartState(gsm, dataPacket));
             return;
         }
+
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F5)) {
+            startReplay();
+        }
+    }
+
+    /**
+     * Helper function to replay the last recorded match. Shows an error if no match was recorded yet.
+     */
+    private void startReplay() {
+        MatchRecord record;
+        try {
+            record = MatchRecord.load(MatchRecord.DEFAULT_PATH);
+        } catch (IOException e) {
+            e.printStackTrace();
+            gameErrorWidget = new GameErrorWidget(Error.NO_REPLAY);
+            return;
+        }
+
+        dataPacket = new DataPacket(record.getName(BattleEngine.PLAYER_ONE), record.getName(BattleEngine.PLAYER_TWO));
+        dataPacket.setReplay(record);
+        System.out.println("REPLAY GAMESTART STATE CREATED");
+        gsm.push(new GameStartState(gsm, dataPacket));
     }
 
     /**
@@ -140,7 +192,7 @@ public class PreGameState extends State {
                     return;
                 }
 
-                if (inputField1.getText().length() == 0 || inputField2.getText().length() == 0) {
+                if (inputField1.getText().length() == 0 || (inputField2.getText().length() == 0 && !botCheckbox.isTicked())) {
                     System.out.println("ERROR CREATED!");
                     gameErrorWidget = new GameErrorWidget(Error.FIELD_EMPTY);
 
@@ -153,7 +205,7 @@ public class PreGameState extends State {
                     return;
                 }
                 // if input has no errors
-                dataPacket = new DataPacket(inputField1.getText(), inputField2.getText());
+                dataPacket = createDataPacket();
 
                 System.out.println("GAMESTART STATE CREATED");
                 gsm.push(new GameStartState(gsm, dataPacket));
@@ -162,6 +214,20 @@ public class PreGameState extends State {
         }
     }
 
+    /**
+     * Helper function to create the DataPacket from the input fields. When a bot plays as player 2, its name defaults to "Computer".
+     * @return Returns the DataPacket to send to the GameStartState.
+     */
+    private DataPacket createDataPacket() {
+        String playerTwoName = inputField2.getText();
+        if (botCheckbox.isTicked() && playerTwoName.length() == 0) {
+            playerTwoName = BOT_NAME;
+        }
+        DataPacket packet = new DataPacket(inputField1.getText(), playerTwoName);
+        packet.setPlayerTwoBot(botCheckbox.isTicked());
+        return packet;
+    }
+
     /**
      * Updates the current State. Function is ran once every frame.
      * @param dt delta time
@@ -200,6 +266,9 @@ public class PreGameState extends State {
         }
         inputFieldLabel1.draw(sb);
         inputFieldLabel2.draw(sb);
+        botCheckboxLabel.draw(sb);
+        botCheckbox.draw(sb);
+        replayHint.draw(sb);
         sb.end();
 
         // Draw error widgets if they exist
@@ -226,6 +295,11 @@ public class PreGameState extends State {
             button.dispose();
         }
 
+        botCheckboxLabel.dispose();
+        botCheckbox.dispose();
+        replayHint.dispose();
+
         stage.dispose();
+        background.dispose();
     }
 }
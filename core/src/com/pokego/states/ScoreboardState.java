@@ -1,20 +1,26 @@
 package com.pokego.states;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.utils.Align;
 import com.pokego.datamodel.GameButton;
+import com.pokego.datamodel.GameListWidget;
 import com.pokego.datamodel.GameSprite;
 import com.pokego.datamodel.GameText;
-import com.pokego.datamodel.GameTextWidget;
-import com.pokego.utility.CSVHandler;
+import com.pokego.datamodel.ListDataSource;
+import com.pokego.leaderboard.LeaderboardService;
+import com.pokego.leaderboard.LeaderboardWindow;
+import com.pokego.leaderboard.PlayerStanding;
 import com.pokego.utility.Utility;
 
 import java.util.ArrayList;
+import java.util.List;
 
 /**
- * The ScoreboardState displays the scoreboard. The scoreboard is read from a .csv file found in "./assets/data". It uses the CSVHandler object to read the data in, then displays the data to a GameTextWidget.
+ * The ScoreboardState displays the scoreboard in a GameListWidget. The list only reads the VISIBLE_ROWS players it shows, as one page from the LeaderboardService, so it stays fast however many players there are. UP, DOWN and the mouse wheel scroll the list, PAGE UP and PAGE DOWN scroll a page, HOME and END jump to the first and last page. The ScoreboardState only reads, it never writes the scoreboard. TAB, LEFT or RIGHT switch between the all-time, weekly and daily windows, which are all kept ranked by the LeaderboardService.
  */
 public class ScoreboardState extends State {
 
@@ -22,7 +28,21 @@ public class ScoreboardState extends State {
     private GameSprite background;
     private ArrayList<GameButton> scoreStateButtons;
     private GameButton exitImg;
-    private GameTextWidget scoreBoard;
+    private GameListWidget scoreBoard;
+    private ListDataSource leaderboardSource;
+
+    private GameText windowSelector;
+    private LeaderboardWindow window;
+
+    private GameText scrollStatus;
+    private int scrollStatusRow; // First row shown by the scroll status, -1 to update it.
+    private int wheelRows; // Rows scrolled by the mouse wheel since the last update.
+    private boolean storeLoaded; // Whether the scoreboard shows the opened store, it is empty before.
+
+    private static final int VISIBLE_ROWS = 15;
+    private static final int WHEEL_SCROLL_ROWS = 3;
+    private static final float WINDOW_SELECTOR_GAP = 10;
+    private static final String ROW_FORMAT = "%-10s%-50.10s%-25s";
 
     /**
      * Constructs the ScoreboardState.
@@ -32,9 +52,6 @@ public class ScoreboardState extends State {
         super(gsm);
         System.out.println("created ScoreBoard State");
 
-        // sort leaderboard
-        CSVHandler.sortLeaderboard();
-
         // background
         background = new GameSprite("./maps/title_wallpaper.jpg");
         background.scale(1f);
@@ -51,11 +68,95 @@ public class ScoreboardState extends State {
         scoreStateButtons = new ArrayList<GameButton>();
         scoreStateButtons.add(exitImg);
 
-        //Scoreboard
-        scoreBoard = new GameTextWidget(600, 800, true, 0.5f);
+        //Scoreboard, reads one page of the current window at a time
+        scoreBoard = new GameListWidget(600, 800, VISIBLE_ROWS, 0.6f);
         scoreBoard.reposition((Gdx.graphics.getWidth() - 800) / 2, (Gdx.graphics.getHeight() - 600) / 2);
-        scoreBoard.setText(CSVHandler.readLeaderboard());
-        scoreBoard.setTextScale(0.6f);
+        leaderboardSource = new ListDataSource() {
+            @Override
+            public String getHeader() {
+                return String.format(ROW_FORMAT, "", "Name", "Wins");
+            }
+
+            @Override
+            public int getRowCount() {
+                return LeaderboardService.getInstance().getPlayerCount(window);
+            }
+
+            @Override
+            public List<String> getRows(int offset, int limit) {
+                return readLeaderboard(offset, limit);
+            }
+        };
+
+        // Window selector and scroll status
+        windowSelector = new GameText();
+        windowSelector.scale(0.6f);
+        scrollStatus = new GameText();
+        scrollStatus.scale(0.5f);
+        setWindow(LeaderboardWindow.ALL_TIME);
+
+        // Mouse wheel scrolls the scoreboard
+        Gdx.input.setInputProcessor(new InputAdapter() {
+            @Override
+            public boolean scrolled(float amountX, float amountY) {
+                wheelRows += Math.round(amountY) * WHEEL_SCROLL_ROWS;
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Helper function to show the scoreboard of a window.
+     * @param newWindow Window of the scoreboard to show.
+     */
+    private void setWindow(LeaderboardWindow newWindow) {
+        window = newWindow;
+        scoreBoard.setDataSource(leaderboardSource);
+        scrollStatusRow = -1;
+
+        StringBuilder selector = new StringBuilder();
+        for (LeaderboardWindow option : LeaderboardWindow.values()) {
+            if (option == window) {
+                selector.append(String.format("[%s]   ", option.getDisplayName()));
+            } else {
+                selector.append(String.format(" %s    ", option.getDisplayName()));
+            }
+        }
+        selector.append("TAB: switch");
+        windowSelector.setText(selector.toString());
+        windowSelector.reposition(scoreBoard.getX(), scoreBoard.getY() - WINDOW_SELECTOR_GAP);
+    }
+
+    /**
+     * Helper function to format a page of the current window into columns.
+     * @param offset Number of players before the page.
+     * @param limit Highest number of players in the page.
+     * @return Returns one formatted row per player.
+     */
+    private List<String> readLeaderboard(int offset, int limit) {
+        List<PlayerStanding> standings = LeaderboardService.getInstance().page(window, offset, limit);
+
+        List<String> rows = new ArrayList<String>(standings.size());
+        int position = offset + 1;
+        for (PlayerStanding standing : standings) {
+            rows.add(String.format(ROW_FORMAT, position, standing.getName(), standing.getWins()));
+            position++;
+        }
+        return rows;
+    }
+
+    /**
+     * Helper function to show which rows are visible, only when the list has scrolled.
+     */
+    private void updateScrollStatus() {
+        if (scrollStatusRow == scoreBoard.getFirstRow()) {
+            return;
+        }
+        scrollStatusRow = scoreBoard.getFirstRow();
+        int lastRow = Math.min(scoreBoard.getRowCount(), scrollStatusRow + scoreBoard.getVisibleRows());
+        scrollStatus.setText(String.format("%d-%d of %d   UP/DOWN, PAGE UP/DOWN, wheel: scroll",
+                Math.min(scrollStatusRow + 1, lastRow), lastRow, scoreBoard.getRowCount()));
+        scrollStatus.reposition(windowSelector.getX(), windowSelector.getY() - windowSelector.getHeight() - WINDOW_SELECTOR_GAP);
     }
 
     /**
@@ -69,6 +170,32 @@ public class ScoreboardState extends State {
                 handleButtonClick(button);
             }
         }
+
+        // Switch window
+        if (Gdx.input.isKeyJustPressed(Input.Keys.TAB) || Gdx.input.isKeyJustPressed(Input.Keys.RIGHT)) {
+            setWindow(window.next());
+        } else if (Gdx.input.isKeyJustPressed(Input.Keys.LEFT)) {
+            setWindow(window.previous());
+        }
+
+        // Scroll the scoreboard
+        if (Gdx.input.isKeyJustPressed(Input.Keys.DOWN)) {
+            scoreBoard.scrollBy(1);
+        } else if (Gdx.input.isKeyJustPressed(Input.Keys.UP)) {
+            scoreBoard.scrollBy(-1);
+        } else if (Gdx.input.isKeyJustPressed(Input.Keys.PAGE_DOWN)) {
+            scoreBoard.pageDown();
+        } else if (Gdx.input.isKeyJustPressed(Input.Keys.PAGE_UP)) {
+            scoreBoard.pageUp();
+        } else if (Gdx.input.isKeyJustPressed(Input.Keys.HOME)) {
+            scoreBoard.scrollTo(0);
+        } else if (Gdx.input.isKeyJustPressed(Input.Keys.END)) {
+            scoreBoard.scrollTo(scoreBoard.getRowCount());
+        }
+        if (wheelRows != 0) {
+            scoreBoard.scrollBy(wheelRows);
+            wheelRows = 0;
+        }
     }
 
     /**
@@ -91,7 +218,12 @@ public class ScoreboardState extends State {
     @Override
     public void update(float dt) {
         handleInput();
-        scoreBoard.updateTextScroll(dt);
+        if (!storeLoaded && LeaderboardService.getInstance().isReady()) {
+            storeLoaded = true;
+            scoreBoard.refresh();
+            scrollStatusRow = -1;
+        }
+        updateScrollStatus();
 
         // Update btn states
         for (GameButton button : scoreStateButtons) {
@@ -112,6 +244,8 @@ public class ScoreboardState extends State {
 
         sb.begin();
         mainScoreText.draw(sb, Gdx.graphics.getWidth(), Align.center, false);
+        windowSelector.draw(sb);
+        scrollStatus.draw(sb);
 
         // Draw all buttons in menu state
         for(GameButton button : scoreStateButtons) {
@@ -127,6 +261,11 @@ public class ScoreboardState extends State {
     @Override
     public void dispose() {
         mainScoreText.dispose();
+        windowSelector.dispose();
+        scrollStatus.dispose();
+        scoreBoard.dispose();
+        Gdx.input.setInputProcessor(null);
         exitImg.dispose();
+        background.dispose();
     }
 }
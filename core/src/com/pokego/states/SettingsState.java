@@ -9,12 +9,13 @@ import com.pokego.datamodel.GameButton;
 import com.pokego.datamodel.GameCheckbox;
 import com.pokego.datamodel.GameSprite;
 import com.pokego.datamodel.GameText;
+import com.pokego.utility.SoundBank;
 import com.pokego.utility.Utility;
 
 import java.util.ArrayList;
 
 /**
- * The SettingsState displays the settings menu. It contains 2 GameCheckBoxes to control the music volume and sound volume. The music and sound are controlled by the GameAudioManager.
+ * The SettingsState displays the settings menu. It contains 2 GameCheckBoxes to control the music volume and sound volume. The music is controlled by the GameAudioManager, and the sound effects are muted through the SoundBank.
  */
 public class SettingsState extends State {
 
@@ -74,7 +75,7 @@ public class SettingsState extends State {
         musicCheckbox.reposition(BOX_X_POS ,500 - mainSettingsText1.getHeight() - musicCheckbox.getHeight()/3);
 
         // make sound checkbox
-        if (PokeGo.s1.getSoundVolume() == 0){
+        if (SoundBank.getInstance().isMuted()){
             soundCheckbox = new GameCheckbox(ButtonClass.SOUND_CHECKBOX, false);
             soundCheckbox.scale(3f);
             soundCheckbox.reposition(BOX_X_POS ,350 - mainSettingsText2.getHeight() - soundCheckbox.getHeight()/3);
@@ -143,10 +144,10 @@ public class SettingsState extends State {
             case SOUND_CHECKBOX:
                 System.out.println("CLICKED sound CHECKBOX");
                 if (checkbox.isTicked()) {
-                    PokeGo.s1.setSoundVolume(0.1f);
+                    SoundBank.getInstance().setMuted(false);
                     System.out.println("Turn on sound");
                 } else {
-                    PokeGo.s1.setSoundVolume(0);
+                    SoundBank.getInstance().setMuted(true);
                     System.out.println("Mute sound");
                 }
                 break;
@@ -200,5 +201,8 @@ public class SettingsState extends State {
         mainSettingsText1.dispose();
         mainSettingsText2.dispose();
         exitImg.dispose();
+        musicCheckbox.dispose();
+        soundCheckbox.dispose();
+        background.dispose();
     }
 }
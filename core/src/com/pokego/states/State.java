@@ -4,7 +4,7 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 
 /**
- * A State represents a different checkpoint in the game. Each State contains its own renderable objects and logic. The States are controlled by the GameStateManager.
+ * A State represents a different checkpoint in the game. Each State contains its own renderable objects and logic. The States are controlled by the GameStateManager. update() runs once every frame and handles input, while fixedUpdate() runs the game logic at the fixed tick rate of PokeGo.
  */
 public abstract class State {
 
@@ -22,4 +22,21 @@ public abstract class State {
     public abstract void update(float dt); // Update game logic, used by DemoGame's render().
     public abstract void render(SpriteBatch sb, ShapeRenderer sr); // Handle SpriteBatch and ShapeRenderer for that particular State.
     public abstract void dispose(); // Free memory used by SpriteBatch.
+
+    /**
+     * Updates game logic by one fixed step. Function is ran at the tick rate of PokeGo, zero or more times every frame. States without frame rate dependent logic do not need to override it.
+     * @param step Duration of one step in seconds.
+     */
+    public void fixedUpdate(float step) {
+    }
+
+    /**
+     * Renders the current State between the last two fixed steps. States without moving objects do not need to override it.
+     * @param sb SpriteBatch
+     * @param sr ShapeRenderer
+     * @param alpha How far the time is into the next fixed step, between 0 and 1.
+     */
+    public void render(SpriteBatch sb, ShapeRenderer sr, float alpha) {
+        render(sb, sr);
+    }
 }
@@ -117,5 +117,6 @@ public class TitleState extends State {
         // dispose GameSpriteGroup objects
         gameText.dispose();
         titleBackground.dispose();
+        logo.dispose();
     }
 }
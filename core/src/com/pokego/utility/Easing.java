@@ -0,0 +1,51 @@
+package com.pokego.utility;
+
+/**
+ * Defines the easing functions of Tweens. Each function maps the progress of a Tween, from 0 to 1, to how far its value has moved from the start value to the end value.
+ */
+public enum Easing {
+    LINEAR {
+        @Override
+        public float apply(float t) {
+            return t;
+        }
+    },
+    QUAD_IN {
+        @Override
+        public float apply(float t) {
+            return t * t;
+        }
+    },
+    QUAD_OUT {
+        @Override
+        public float apply(float t) {
+            return t * (2 - t);
+        }
+    },
+    QUAD_IN_OUT {
+        @Override
+        public float apply(float t) {
+            return t < 0.5f ? 2 * t * t : -1 + (4 - 2 * t) * t;
+        }
+    },
+    CUBIC_OUT {
+        @Override
+        public float apply(float t) {
+            float u = t - 1;
+            return u * u * u + 1;
+        }
+    },
+    SINE_IN_OUT {
+        @Override
+        public float apply(float t) {
+            return (float) (0.5 - 0.5 * Math.cos(Math.PI * t));
+        }
+    };
+
+    /**
+     * Applies the easing function.
+     * @param t Progress of the Tween, between 0 and 1.
+     * @return Returns the eased progress, 0 at the start and 1 at the end.
+     */
+    public abstract float apply(float t);
+}
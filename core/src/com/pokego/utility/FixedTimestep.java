@@ -0,0 +1,53 @@
+package com.pokego.utility;
+
+/**
+ * The FixedTimestep turns the variable time between rendered frames into a whole number of fixed logic steps. Frame time is added to an accumulator, and one step is taken for every full step duration in it. Game logic then runs at the same tick rate on every monitor, so it behaves the same on every machine. At most maxStepsPerFrame steps are taken per frame, and the time left over beyond that is dropped, so a slow frame cannot make the next frames even slower. The time left in the accumulator, as a fraction of a step, is the alpha used to interpolate between the last two steps when rendering.
+ */
+public class FixedTimestep {
+    private float step;
+    private int maxStepsPerFrame;
+    private float accumulator;
+
+    /**
+     * Constructs the FixedTimestep.
+     * @param tickRate Number of logic steps per second.
+     * @param maxStepsPerFrame Highest number of logic steps taken in one frame.
+     */
+    public FixedTimestep(int tickRate, int maxStepsPerFrame) {
+        step = 1f / Math.max(1, tickRate);
+        this.maxStepsPerFrame = Math.max(1, maxStepsPerFrame);
+    }
+
+    /**
+     * Adds the time of a frame to the accumulator.
+     * @param frameTime Time since the last frame in seconds.
+     * @return Returns the number of logic steps to take this frame.
+     */
+    public int advance(float frameTime) {
+        accumulator += Math.max(0, frameTime);
+        int steps = (int) (accumulator / step);
+        if (steps > maxStepsPerFrame) {
+            // Too far behind, drop the time that cannot be caught up.
+            steps = maxStepsPerFrame;
+            accumulator = step * steps;
+        }
+        accumulator -= step * steps;
+        return steps;
+    }
+
+    /**
+     * Gets the duration of one logic step.
+     * @return Returns the duration of one logic step in seconds.
+     */
+    public float getStep() {
+        return step;
+    }
+
+    /**
+     * Gets how far the accumulator is into the next step, used to interpolate rendering between the last two steps.
+     * @return Returns the interpolation alpha, between 0 and 1.
+     */
+    public float getAlpha() {
+        return Math.min(1f, accumulator / step);
+    }
+}
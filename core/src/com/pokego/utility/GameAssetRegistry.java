@@ -0,0 +1,350 @@
+package com.pokego.utility;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The GameAssetRegistry loads and shares all textures of the game. Images packed into the texture atlas at build time are served as regions of the atlas pages, so that they can be drawn without switching textures. Other images, and all images when no atlas was packed, are loaded as separate textures. It is built on LibGDX's AssetManager, and counts how many objects currently hold each texture. When a texture is no longer held by any object, it stays loaded so that the next State can reuse it, until the unreferenced textures take up more memory than the budget. The least recently used unreferenced textures are then unloaded first.
+ */
+public class GameAssetRegistry {
+    private final static long DEFAULT_UNREFERENCED_BUDGET = 32L * 1024 * 1024; // 32 MB
+    private final static String ATLAS_PATH = "./atlas/game.atlas"; // Packed by the desktop "packTextures" task.
+
+    private static GameAssetRegistry instance;
+
+    private AssetManager assetManager;
+    private long unreferencedBudget;
+
+    private Map<String, Integer> referenceCounts; // Loaded textures and the number of objects holding them.
+    private Map<String, Long> textureBytes; // Estimated memory used by each loaded texture.
+    private LinkedHashMap<String, Long> unreferenced; // Loaded textures held by no object, least recently released first.
+    private Map<String, TextureRegion> atlasRegions; // Atlas regions keyed by lower case region name, loaded on first use.
+    private long residentBytes;
+    private long unreferencedBytes;
+
+    private int hits;
+    private int misses;
+    private int evictions;
+
+    /**
+     * Gets the registry shared by the whole game. It is created on the first call.
+     * @return Returns the registry shared by the whole game.
+     */
+    public static synchronized GameAssetRegistry getInstance() {
+        if (instance == null) {
+            instance = new GameAssetRegistry(DEFAULT_UNREFERENCED_BUDGET);
+        }
+        return instance;
+    }
+
+    /**
+     * Constructs the GameAssetRegistry.
+     * @param unreferencedBudget The number of bytes unreferenced textures may take up before they are unloaded.
+     */
+    public GameAssetRegistry(long unreferencedBudget) {
+        this.unreferencedBudget = unreferencedBudget;
+        assetManager = new AssetManager();
+        referenceCounts = new HashMap<String, Integer>();
+        textureBytes = new HashMap<String, Long>();
+        unreferenced = new LinkedHashMap<String, Long>(16, 0.75f, true);
+    }
+
+    /**
+     * Acquires the texture at a file path, loading it if it is not already loaded. Every call must be matched by a call to release() once the texture is no longer used.
+     * @param filePath File path of the texture.
+     * @return Returns the shared texture at the file path.
+     */
+    public Texture acquireTexture(String filePath) {
+        Integer count = referenceCounts.get(filePath);
+
+        if (count == null) {
+            misses++;
+            assetManager.load(filePath, Texture.class);
+            assetManager.finishLoadingAsset(filePath);
+
+            long bytes = estimateBytes(assetManager.get(filePath, Texture.class));
+            textureBytes.put(filePath, bytes);
+            residentBytes += bytes;
+            count = 0;
+        } else {
+            hits++;
+            // Texture is held again, so it can no longer be evicted.
+            Long bytes = unreferenced.remove(filePath);
+            if (bytes != null) {
+                unreferencedBytes -= bytes;
+            }
+        }
+
+        referenceCounts.put(filePath, count + 1);
+        return assetManager.get(filePath, Texture.class);
+    }
+
+    /**
+     * Acquires the image at a file path as a TextureRegion. If the image was packed into the texture atlas, its atlas region is returned, else the whole texture is loaded. Every call must be matched by a call to release() once the region is no longer used.
+     * @param filePath File path of the image, e.g. "./ui/back_primary.png".
+     * @return Returns the shared region of the image.
+     */
+    public TextureRegion acquireRegion(String filePath) {
+        TextureRegion region = findAtlasRegion(filePath);
+        if (region == null) {
+            return new TextureRegion(acquireTexture(filePath));
+        }
+
+        // Atlas pages stay loaded for the whole game, so the count is kept for the stats only.
+        Integer count = referenceCounts.get(filePath);
+        if (count == null) {
+            misses++;
+            count = 0;
+        } else {
+            hits++;
+        }
+        referenceCounts.put(filePath, count + 1);
+        return region;
+    }
+
+    /**
+     * Finds the atlas region of the image at a file path. The region name is the file path without the leading "./" and the extension, compared ignoring case.
+     * @param filePath File path of the image.
+     * @return Returns the atlas region of the image, null if it was not packed.
+     */
+    public TextureRegion findAtlasRegion(String filePath) {
+        if (atlasRegions == null) {
+            loadAtlas();
+        }
+        return atlasRegions.get(toRegionName(filePath));
+    }
+
+    /**
+     * Helper function to load the texture atlas, if it was packed, and index its regions by name.
+     */
+    private void loadAtlas() {
+        atlasRegions = new HashMap<String, TextureRegion>();
+        if (!Gdx.files.internal(ATLAS_PATH).exists()) {
+            System.out.println("No texture atlas found, loading images as separate textures.");
+            return;
+        }
+
+        assetManager.load(ATLAS_PATH, TextureAtlas.class);
+        assetManager.finishLoadingAsset(ATLAS_PATH);
+        TextureAtlas atlas = assetManager.get(ATLAS_PATH, TextureAtlas.class);
+
+        for (TextureAtlas.AtlasRegion region : atlas.getRegions()) {
+            atlasRegions.put(region.name.toLowerCase(Locale.ROOT), region);
+        }
+        for (Texture page : atlas.getTextures()) {
+            residentBytes += estimateBytes(page);
+        }
+    }
+
+    /**
+     * Helper function to convert a file path into an atlas region name.
+     * @param filePath File path of the image, e.g. "./ui/back_primary.png".
+     * @return Returns the region name, e.g. "ui/back_primary".
+     */
+    private static String toRegionName(String filePath) {
+        String name = filePath.replace('\\', '/');
+        if (name.startsWith("./")) {
+            name = name.substring(2);
+        }
+        int extension = name.lastIndexOf('.');
+        if (extension > name.lastIndexOf('/')) {
+            name = name.substring(0, extension);
+        }
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Releases a texture acquired by acquireTexture() or acquireRegion(). When no object holds a separately loaded texture anymore, it becomes a candidate for eviction.
+     * @param filePath File path of the texture.
+     */
+    public void release(String filePath) {
+        Integer count = referenceCounts.get(filePath);
+        if (count == null || count == 0) {
+            System.out.println("Released texture that is not held: " + filePath);
+            return;
+        }
+
+        count--;
+        referenceCounts.put(filePath, count);
+
+        if (count == 0) {
+            Long bytes = textureBytes.get(filePath);
+            if (bytes == null) {
+                // Atlas region, the atlas page is never evicted.
+                referenceCounts.remove(filePath);
+                return;
+            }
+            unreferenced.put(filePath, bytes);
+            unreferencedBytes += bytes;
+            evict();
+        }
+    }
+
+    /**
+     * Unloads the least recently used unreferenced textures until they fit in the budget.
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, Long>> iterator = unreferenced.entrySet().iterator();
+        while (unreferencedBytes > unreferencedBudget && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            iterator.remove();
+            unload(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    /**
+     * Unloads every texture that is not held by any object.
+     */
+    public void evictUnreferenced() {
+        for (Map.Entry<String, Long> entry : unreferenced.entrySet()) {
+            unload(entry.getKey(), entry.getValue());
+        }
+        unreferenced.clear();
+    }
+
+    /**
+     * Helper function to unload an unreferenced texture from the AssetManager.
+     * @param filePath File path of the texture.
+     * @param bytes Estimated memory used by the texture.
+     */
+    private void unload(String filePath, long bytes) {
+        assetManager.unload(filePath);
+        referenceCounts.remove(filePath);
+        textureBytes.remove(filePath);
+        residentBytes -= bytes;
+        unreferencedBytes -= bytes;
+        evictions++;
+    }
+
+    /**
+     * Helper function to estimate the memory used by a texture.
+     * @param texture Texture to estimate.
+     * @return Returns the estimated number of bytes used by the texture.
+     */
+    private static long estimateBytes(Texture texture) {
+        int bytesPerPixel;
+        Pixmap.Format format = texture.getTextureData().getFormat();
+        switch (format) {
+            case Alpha:
+            case Intensity:
+                bytesPerPixel = 1;
+                break;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                bytesPerPixel = 2;
+                break;
+            case RGB888:
+                bytesPerPixel = 3;
+                break;
+            default:
+                bytesPerPixel = 4;
+                break;
+        }
+        return (long) texture.getWidth() * texture.getHeight() * bytesPerPixel;
+    }
+
+    /**
+     * Gets the number of acquires that reused an already loaded texture.
+     * @return Returns the number of acquires that reused an already loaded texture.
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of acquires that had to load a texture.
+     * @return Returns the number of acquires that had to load a texture.
+     */
+    public int getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gets the number of textures unloaded by the LRU eviction policy.
+     * @return Returns the number of textures unloaded by the LRU eviction policy.
+     */
+    public int getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Gets the fraction of acquires that reused an already loaded texture.
+     * @return Returns the hit rate between 0 and 1, 0 if nothing was acquired yet.
+     */
+    public float getHitRate() {
+        int total = hits + misses;
+        if (total == 0) {
+            return 0f;
+        }
+        return (float) hits / total;
+    }
+
+    /**
+     * Gets the estimated memory used by all loaded textures, referenced or not.
+     * @return Returns the estimated number of bytes used by all loaded textures.
+     */
+    public long getResidentBytes() {
+        return residentBytes;
+    }
+
+    /**
+     * Gets the estimated memory used by loaded textures that no object holds.
+     * @return Returns the estimated number of bytes used by unreferenced textures.
+     */
+    public long getUnreferencedBytes() {
+        return unreferencedBytes;
+    }
+
+    /**
+     * Gets the number of objects currently holding the texture at a file path.
+     * @param filePath File path of the texture.
+     * @return Returns the reference count of the texture, 0 if it is not loaded.
+     */
+    public int getReferenceCount(String filePath) {
+        Integer count = referenceCounts.get(filePath);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Gets the reference counts of all loaded textures.
+     * @return Returns a read-only copy of the reference count of every loaded texture, keyed by file path.
+     */
+    public Map<String, Integer> getReferenceCounts() {
+        return Collections.unmodifiableMap(new HashMap<String, Integer>(referenceCounts));
+    }
+
+    /**
+     * Prints the registry statistics to the console.
+     */
+    public void printStats() {
+        System.out.println("Assets: " + referenceCounts.size() + " loaded, "
+                + residentBytes / 1024 + " KB resident, "
+                + unreferencedBytes / 1024 + " KB unreferenced, hit rate "
+                + Math.round(getHitRate() * 100) + "%, " + evictions + " evicted");
+    }
+
+    /**
+     * Frees up memory by unloading all textures, referenced or not.
+     */
+    public void dispose() {
+        assetManager.dispose();
+        referenceCounts.clear();
+        textureBytes.clear();
+        unreferenced.clear();
+        atlasRegions = null;
+        residentBytes = 0;
+        unreferencedBytes = 0;
+    }
+}
@@ -2,13 +2,9 @@ package com.pokego.utility;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.audio.Music;
-import com.badlogic.gdx.audio.Sound;
-
-import java.util.Random;
-
 
 /**
- * The GameAudioManager manages all music and sound in the game.
+ * The GameAudioManager manages the music in the game. Sound effects are played by the SoundBank.
  */
 public class GameAudioManager {
 
@@ -20,65 +16,7 @@ public class GameAudioManager {
     private float musicVolume;
     private boolean musicPlaying;
 
-    //variable to store current sound settings
-    private float soundVolume = 0.2f;
-    private boolean soundPlaying;
-
     private Music music;
-    private Sound sound;
-
-    /**
-     * Sets the sound object
-     * @param filePath File path to sound.
-     */
-    public void setSound(String filePath) {
-        sound = Gdx.audio.newSound(Gdx.files.internal(filePath));
-    }
-
-    /**
-     * Plays the currently selected sound object.
-     */
-    public void playSound(){
-        long id = sound.play();
-        sound.setVolume(id,soundVolume);
-    }
-
-    /**
-     * Gets the currently selected sound object's volume.
-     * @return
-     */
-    public double getSoundVolume(){
-        return this.soundVolume;
-    }
-
-    /**
-     * Dispose sound object.
-     */
-    public void removeSound(){
-        sound.dispose();
-    }
-
-    /**
-     * Toggle sound to play.
-     */
-    public void playVoice(){
-        System.out.println(this.soundVolume);
-        Random r = new Random();
-        float min = 0.8f, max = 1f;
-        //random to set the pitch for the sound.
-        float random = min + r.nextFloat() * (max - min);
-        long id = sound.play();
-        sound.setPitch(id,random);
-        sound.setVolume(id,this.soundVolume);
-    }
-
-    /**
-     * Set the sound volume.
-     * @param soundVolume Volume of sound.
-     */
-    public void setSoundVolume(float soundVolume){
-        this.soundVolume = soundVolume;
-    }
 
     /**
      * Sets the looping music to play.
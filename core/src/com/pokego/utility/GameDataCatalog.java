@@ -0,0 +1,239 @@
+package com.pokego.utility;
+
+import com.pokego.game.game_data.CharacterDefinition;
+import com.pokego.game.game_data.MoveClass;
+import com.pokego.game.game_data.MoveDefinition;
+import com.pokego.game.game_data.Type;
+import com.pokego.game.game_engine.TypeChart;
+
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The GameDataCatalog holds all Move, Character and Type data of the game. The "./assets/data/moves.csv", "./assets/data/characters.csv" and "./assets/data/typechart.csv" files are parsed once when the catalog is created, and stored in arrays indexed by their IDs so that lookups do not need any file access.
+ */
+public class GameDataCatalog {
+    private final static String DEFAULT_CHARACTERS = "./data/characters.csv";
+    private final static String DEFAULT_MOVES = "./data/moves.csv";
+    private final static String DEFAULT_TYPE_CHART = "./data/typechart.csv";
+
+    private static GameDataCatalog instance;
+
+    // Indexed by ID, index 0 and missing IDs are null.
+    private MoveDefinition[] moves;
+    private CharacterDefinition[] characters;
+
+    // Definitions in ID order, without gaps.
+    private List<MoveDefinition> moveList;
+    private List<CharacterDefinition> characterList;
+
+    private TypeChart typeChart;
+
+    /**
+     * Gets the catalog loaded from the default data files. The files are parsed on the first call only.
+     * @return Returns the catalog loaded from the default data files.
+     */
+    public static synchronized GameDataCatalog getInstance() {
+        if (instance == null) {
+            instance = new GameDataCatalog(DEFAULT_CHARACTERS, DEFAULT_MOVES, DEFAULT_TYPE_CHART);
+        }
+        return instance;
+    }
+
+    /**
+     * Constructs the GameDataCatalog from custom data files.
+     * @param charactersPath The file path containing the Character data.
+     * @param movesPath The file path containing the Move data.
+     * @param typeChartPath The file path containing the Type multipliers.
+     */
+    public GameDataCatalog(String charactersPath, String movesPath, String typeChartPath) {
+        moves = readMoves(movesPath);
+        moveList = compact(moves);
+        characters = readCharacters(charactersPath);
+        characterList = compact(characters);
+        typeChart = new TypeChart(typeChartPath);
+    }
+
+    /**
+     * Gets the MoveDefinition of a specific moveID.
+     * @param moveID MoveID to get MoveDefinition from.
+     * @return MoveDefinition of the specific moveID, null if it does not exist.
+     */
+    public MoveDefinition getMoveDefinition(int moveID) {
+        if (moveID < 0 || moveID >= moves.length) {
+            return null;
+        }
+        return moves[moveID];
+    }
+
+    /**
+     * Gets the CharacterDefinition of a specific characterID.
+     * @param characterID CharacterID to get CharacterDefinition from.
+     * @return CharacterDefinition of the specific characterID, null if it does not exist.
+     */
+    public CharacterDefinition getCharacterDefinition(int characterID) {
+        if (characterID < 0 || characterID >= characters.length) {
+            return null;
+        }
+        return characters[characterID];
+    }
+
+    /**
+     * Gets the total number of Characters available in the game.
+     * @return Returns the total number of Characters available in the game.
+     */
+    public int getCharacterCount() {
+        return characterList.size();
+    }
+
+    /**
+     * Gets the total number of Moves available in the game.
+     * @return Returns the total number of Moves available in the game.
+     */
+    public int getMoveCount() {
+        return moveList.size();
+    }
+
+    /**
+     * Gets all CharacterDefinitions in ID order.
+     * @return Returns a read-only list of all CharacterDefinitions in ID order.
+     */
+    public List<CharacterDefinition> getCharacters() {
+        return characterList;
+    }
+
+    /**
+     * Gets all MoveDefinitions in ID order.
+     * @return Returns a read-only list of all MoveDefinitions in ID order.
+     */
+    public List<MoveDefinition> getMoves() {
+        return moveList;
+    }
+
+    /**
+     * Gets the TypeChart holding the damage multipliers between Types.
+     * @return Returns the TypeChart holding the damage multipliers between Types.
+     */
+    public TypeChart getTypeChart() {
+        return typeChart;
+    }
+
+    /**
+     * Frees up memory by disposing all shared textures loaded by the Move and Character definitions.
+     */
+    public void dispose() {
+        for (MoveDefinition move : moveList) {
+            move.dispose();
+        }
+        for (CharacterDefinition character : characterList) {
+            character.dispose();
+        }
+    }
+
+    /**
+     * Reads the move .csv file into an array indexed by moveID.
+     * @param filePath File path of the move .csv file.
+     * @return Array of MoveDefinitions indexed by moveID.
+     */
+    private MoveDefinition[] readMoves(String filePath) {
+        MoveDefinition[] result = new MoveDefinition[0];
+        try (BufferedReader csvReader = new BufferedReader(new FileReader(filePath))) {
+            String row = csvReader.readLine(); // read header
+            while ((row = csvReader.readLine()) != null) {
+                if (row.trim().isEmpty()) {
+                    continue;
+                }
+                String[] data = row.split(",");
+
+                int moveID = Integer.parseInt(data[0]);
+                MoveDefinition move = new MoveDefinition(
+                        moveID,
+                        data[1],
+                        Type.valueOf(data[2]),
+                        MoveClass.valueOf(data[3]),
+                        data[4],
+                        Integer.parseInt(data[5]),
+                        Integer.parseInt(data[6]),
+                        Integer.parseInt(data[7]),
+                        Integer.parseInt(data[8]),
+                        Float.parseFloat(data[9]));
+
+                result = ensureCapacity(result, moveID);
+                result[moveID] = move;
+            }
+        } catch (IOException e) {
+            // If read file fails.
+            e.printStackTrace();
+        }
+        return result;
+    }
+
+    /**
+     * Reads the character .csv file into an array indexed by characterID. Moves must already be loaded.
+     * @param filePath File path of the character .csv file.
+     * @return Array of CharacterDefinitions indexed by characterID.
+     */
+    private CharacterDefinition[] readCharacters(String filePath) {
+        CharacterDefinition[] result = new CharacterDefinition[0];
+        try (BufferedReader csvReader = new BufferedReader(new FileReader(filePath))) {
+            String row = csvReader.readLine(); // read header
+            while ((row = csvReader.readLine()) != null) {
+                if (row.trim().isEmpty()) {
+                    continue;
+                }
+                String[] data = row.split(",");
+
+                int characterID = Integer.parseInt(data[0]);
+                CharacterDefinition character = new CharacterDefinition(
+                        characterID,
+                        data[1],
+                        Type.valueOf(data[2]),
+                        data[3],
+                        getMoveDefinition(Integer.parseInt(data[4])),
+                        getMoveDefinition(Integer.parseInt(data[5])),
+                        getMoveDefinition(Integer.parseInt(data[6])),
+                        getMoveDefinition(Integer.parseInt(data[7])));
+
+                result = ensureCapacity(result, characterID);
+                result[characterID] = character;
+            }
+        } catch (IOException e) {
+            // If read file fails.
+            e.printStackTrace();
+        }
+        return result;
+    }
+
+    /**
+     * Helper function to grow an ID indexed array so that it can hold the specified ID.
+     * @param array Array to grow.
+     * @param id ID that must fit in the array.
+     * @return Returns the same array if it is large enough, else a larger copy.
+     */
+    private static <T> T[] ensureCapacity(T[] array, int id) {
+        if (id < array.length) {
+            return array;
+        }
+        return Arrays.copyOf(array, Math.max(id + 1, array.length * 2));
+    }
+
+    /**
+     * Helper function to collect the non-null entries of an ID indexed array in ID order.
+     * @param array ID indexed array.
+     * @return Returns a read-only list of the non-null entries.
+     */
+    private static <T> List<T> compact(T[] array) {
+        List<T> list = new ArrayList<T>();
+        for (T item : array) {
+            if (item != null) {
+                list.add(item);
+            }
+        }
+        return Collections.unmodifiableList(list);
+    }
+}
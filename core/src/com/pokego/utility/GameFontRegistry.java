@@ -0,0 +1,85 @@
+package com.pokego.utility;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The GameFontRegistry loads every Font at most once and shares the BitmapFont with all GameText objects. The shared BitmapFonts are kept at a scale of 1 and must never be disposed by their users. Font files are found in the "./assets/fonts" folder.
+ */
+public class GameFontRegistry {
+    private static GameFontRegistry instance;
+
+    private Map<Font, BitmapFont> fonts;
+    private int loadCount;
+
+    /**
+     * Gets the registry shared by the whole game. It is created on the first call.
+     * @return Returns the registry shared by the whole game.
+     */
+    public static synchronized GameFontRegistry getInstance() {
+        if (instance == null) {
+            instance = new GameFontRegistry();
+        }
+        return instance;
+    }
+
+    /**
+     * Constructs the GameFontRegistry. Fonts are loaded on first use.
+     */
+    private GameFontRegistry() {
+        fonts = new EnumMap<Font, BitmapFont>(Font.class);
+    }
+
+    /**
+     * Gets the shared BitmapFont of a Font, loading it on the first call.
+     * @param font Font to get, found in the Font enum.
+     * @return Returns the shared BitmapFont of the Font.
+     */
+    public BitmapFont getFont(Font font) {
+        BitmapFont bmFont = fonts.get(font);
+        if (bmFont == null) {
+            bmFont = loadFont(font);
+            fonts.put(font, bmFont);
+            loadCount++;
+        }
+        return bmFont;
+    }
+
+    /**
+     * Helper function to load the BitmapFont of a Font from its .fnt file.
+     * @param font Font to load.
+     * @return Returns the loaded BitmapFont.
+     */
+    private BitmapFont loadFont(Font font) {
+        switch (font) {
+            case VERDANA:
+                return new BitmapFont(Gdx.files.internal("./fonts/verdana.fnt"));
+            case LUCIDA_SANS:
+                return new BitmapFont(Gdx.files.internal("./fonts/lucida_sans.fnt"));
+            default:
+                // LibGDX's built in font.
+                return new BitmapFont();
+        }
+    }
+
+    /**
+     * Gets the number of fonts loaded by the registry.
+     * @return Returns the number of fonts loaded by the registry.
+     */
+    public int getLoadCount() {
+        return loadCount;
+    }
+
+    /**
+     * Frees up memory by disposing all loaded fonts.
+     */
+    public void dispose() {
+        for (BitmapFont bmFont : fonts.values()) {
+            bmFont.dispose();
+        }
+        fonts.clear();
+    }
+}
@@ -0,0 +1,62 @@
+package com.pokego.utility;
+
+import java.util.Random;
+
+/**
+ * The GameRandom is a fast, seedable random number generator based on SplitMix64. The same seed always gives the same numbers. split() creates an independent generator from the current one, so that every worker thread can get its own generator without locking, and results stay the same for the same seed however the work is scheduled. It is not thread-safe, each thread must use its own GameRandom.
+ */
+public class GameRandom extends Random {
+    private final static long serialVersionUID = 1L;
+    private final static long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    /**
+     * Constructs the GameRandom from a seed.
+     * @param seed Seed of the generator.
+     */
+    public GameRandom(long seed) {
+        super(seed);
+        state = seed;
+    }
+
+    /**
+     * Restarts the generator from a seed.
+     * @param seed Seed of the generator.
+     */
+    @Override
+    public void setSeed(long seed) {
+        super.setSeed(seed);
+        state = seed;
+    }
+
+    /**
+     * Creates a new generator whose numbers are independent of this generator. This generator moves forward by one number.
+     * @return Returns the new generator.
+     */
+    public GameRandom split() {
+        return new GameRandom(nextLong());
+    }
+
+    /**
+     * Generates the next 64 random bits.
+     * @return Returns the next random long.
+     */
+    @Override
+    public long nextLong() {
+        long z = (state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Generates the next random bits, used by all other methods of Random.
+     * @param bits Number of random bits, at most 32.
+     * @return Returns an int holding the random bits in its lowest bits.
+     */
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+}
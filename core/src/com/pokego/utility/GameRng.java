@@ -0,0 +1,72 @@
+package com.pokego.utility;
+
+/**
+ * The GameRng is the only source of randomness of the game. Every match starts from a seed, and every RngStream gets its own GameRandom derived from that seed, so that a match can be reproduced from its seed alone. The streams are only used on the render thread.
+ */
+public class GameRng {
+    private final static long STREAM_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static GameRng instance;
+
+    private long seed;
+    private GameRandom[] streams;
+
+    /**
+     * Gets the GameRng of the game. It starts from a seed based on the current time.
+     * @return Returns the GameRng of the game.
+     */
+    public static synchronized GameRng getInstance() {
+        if (instance == null) {
+            instance = new GameRng(newSeed());
+        }
+        return instance;
+    }
+
+    /**
+     * Constructs the GameRng.
+     * @param seed Seed of all streams.
+     */
+    private GameRng(long seed) {
+        streams = new GameRandom[RngStream.values().length];
+        for (int i = 0; i < streams.length; i++) {
+            streams[i] = new GameRandom(0);
+        }
+        startMatch(seed);
+    }
+
+    /**
+     * Creates a new seed for a match that is not a replay.
+     * @return Returns a seed based on the current time.
+     */
+    public static long newSeed() {
+        return System.nanoTime() ^ System.currentTimeMillis();
+    }
+
+    /**
+     * Restarts every stream from a match seed. Called once before the teams are drafted.
+     * @param seed Seed of the match.
+     */
+    public void startMatch(long seed) {
+        this.seed = seed;
+        for (int i = 0; i < streams.length; i++) {
+            streams[i].setSeed(seed + (i + 1) * STREAM_GAMMA);
+        }
+    }
+
+    /**
+     * Gets the seed of the current match.
+     * @return Returns the seed of the current match.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the generator of a stream.
+     * @param stream Stream to get.
+     * @return Returns the GameRandom of the stream.
+     */
+    public GameRandom get(RngStream stream) {
+        return streams[stream.ordinal()];
+    }
+}
@@ -0,0 +1,10 @@
+package com.pokego.utility;
+
+/**
+ * Defines the independent random number streams handed out by the GameRng. Each stream is seeded from the match seed, so using one stream never changes the numbers of another.
+ */
+public enum RngStream {
+    DRAFT,
+    BOT,
+    AUDIO
+}
@@ -0,0 +1,168 @@
+package com.pokego.utility;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.audio.Sound;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The SoundBank loads every SoundEffect once when the game starts, so playing a sound effect never reads or decodes a file. Each SoundEffect plays at most its maximum number of voices at once: when all its voices are used, the oldest one is stopped to play the new one. The volume and mute of every sound effect are set here. The shared Sounds must never be disposed by their users.
+ */
+public class SoundBank {
+    public final static float DEFAULT_VOLUME = 0.2f;
+    private final static float MIN_VARIED_PITCH = 0.8f;
+    private final static float MAX_VARIED_PITCH = 1f;
+
+    private static SoundBank instance;
+
+    private Map<SoundEffect, Sound> sounds;
+    private Map<SoundEffect, long[]> voices; // Sound IDs of the latest voices of each SoundEffect, used as a ring.
+    private Map<SoundEffect, Integer> nextVoice; // Index of the voice to replace next in each ring.
+
+    private float volume;
+    private boolean muted;
+
+    /**
+     * Gets the bank shared by the whole game. It is created on the first call.
+     * @return Returns the bank shared by the whole game.
+     */
+    public static synchronized SoundBank getInstance() {
+        if (instance == null) {
+            instance = new SoundBank();
+        }
+        return instance;
+    }
+
+    /**
+     * Constructs the SoundBank. Sound effects are loaded by load().
+     */
+    private SoundBank() {
+        sounds = new EnumMap<SoundEffect, Sound>(SoundEffect.class);
+        voices = new EnumMap<SoundEffect, long[]>(SoundEffect.class);
+        nextVoice = new EnumMap<SoundEffect, Integer>(SoundEffect.class);
+        volume = DEFAULT_VOLUME;
+    }
+
+    /**
+     * Loads every SoundEffect that is not loaded yet. Called once when the game starts.
+     */
+    public void load() {
+        for (SoundEffect effect : SoundEffect.values()) {
+            if (sounds.containsKey(effect)) {
+                continue;
+            }
+            sounds.put(effect, Gdx.audio.newSound(Gdx.files.internal(effect.getFilePath())));
+            long[] effectVoices = new long[effect.getMaxVoices()];
+            for (int i = 0; i < effectVoices.length; i++) {
+                effectVoices[i] = -1;
+            }
+            voices.put(effect, effectVoices);
+            nextVoice.put(effect, 0);
+        }
+        System.out.println("Loaded " + sounds.size() + " sound effects.");
+    }
+
+    /**
+     * Plays a sound effect at the current volume.
+     * @param effect SoundEffect to play.
+     * @return Returns the ID of the voice, -1 if the sound is muted or the sound effect could not be played.
+     */
+    public long play(SoundEffect effect) {
+        return play(effect, 1f);
+    }
+
+    /**
+     * Plays a sound effect at the current volume, with a random pitch so that repeated sounds do not sound the same. The pitch is drawn from its own RngStream, so that sounds never change the match.
+     * @param effect SoundEffect to play.
+     * @return Returns the ID of the voice, -1 if the sound is muted or the sound effect could not be played.
+     */
+    public long playVaried(SoundEffect effect) {
+        float pitch = MIN_VARIED_PITCH + GameRng.getInstance().get(RngStream.AUDIO).nextFloat() * (MAX_VARIED_PITCH - MIN_VARIED_PITCH);
+        return play(effect, pitch);
+    }
+
+    /**
+     * Helper function to play a sound effect on one of its voices, stopping its oldest voice if all of them are used.
+     * @param effect SoundEffect to play.
+     * @param pitch Pitch of the voice, 1 for the normal pitch.
+     * @return Returns the ID of the voice, -1 if the sound is muted or the sound effect could not be played.
+     */
+    private long play(SoundEffect effect, float pitch) {
+        Sound sound = sounds.get(effect);
+        if (sound == null || muted || volume <= 0) {
+            return -1;
+        }
+
+        long[] effectVoices = voices.get(effect);
+        int voice = nextVoice.get(effect);
+        if (effectVoices[voice] != -1) {
+            sound.stop(effectVoices[voice]);
+        }
+
+        long id = sound.play(volume, pitch, 0);
+        effectVoices[voice] = id;
+        nextVoice.put(effect, (voice + 1) % effectVoices.length);
+        return id;
+    }
+
+    /**
+     * Stops every voice of every sound effect.
+     */
+    public void stopAll() {
+        for (Map.Entry<SoundEffect, Sound> entry : sounds.entrySet()) {
+            entry.getValue().stop();
+            long[] effectVoices = voices.get(entry.getKey());
+            for (int i = 0; i < effectVoices.length; i++) {
+                effectVoices[i] = -1;
+            }
+        }
+    }
+
+    /**
+     * Gets the volume of the sound effects.
+     * @return Returns the volume of the sound effects, from 0 to 1.
+     */
+    public float getVolume() {
+        return volume;
+    }
+
+    /**
+     * Sets the volume of the sound effects played from now on.
+     * @param volume Volume of the sound effects, from 0 to 1.
+     */
+    public void setVolume(float volume) {
+        this.volume = Math.max(0, Math.min(1, volume));
+    }
+
+    /**
+     * Returns true if the sound effects are muted. False otherwise.
+     * @return Returns true if the sound effects are muted. False otherwise.
+     */
+    public boolean isMuted() {
+        return muted;
+    }
+
+    /**
+     * Mutes or unmutes the sound effects. Muting also stops the sound effects that are playing.
+     * @param muted True to mute the sound effects, False otherwise.
+     */
+    public void setMuted(boolean muted) {
+        this.muted = muted;
+        if (muted) {
+            stopAll();
+        }
+    }
+
+    /**
+     * Frees up memory by disposing all loaded sound effects.
+     */
+    public void dispose() {
+        for (Sound sound : sounds.values()) {
+            sound.dispose();
+        }
+        sounds.clear();
+        voices.clear();
+        nextVoice.clear();
+    }
+}
@@ -0,0 +1,39 @@
+package com.pokego.utility;
+
+/**
+ * Defines the sound effects in the game, each with its file and the highest number of voices of it that play at once. To add a sound effect, add the .wav file to the "./assets/audio" folder and add the respective enum in. The SoundBank preloads every sound effect.
+ */
+public enum SoundEffect {
+    HOVER("./audio/hover.wav", 2),
+    CLICK("./audio/click.wav", 3),
+    FIREBALL("./audio/Fireball.wav", 4);
+
+    private String filePath;
+    private int maxVoices;
+
+    /**
+     * Constructs the SoundEffect.
+     * @param filePath File path of the sound effect.
+     * @param maxVoices Highest number of voices of the sound effect that play at once.
+     */
+    SoundEffect(String filePath, int maxVoices) {
+        this.filePath = filePath;
+        this.maxVoices = maxVoices;
+    }
+
+    /**
+     * Gets the file path of the sound effect.
+     * @return Returns the file path of the sound effect.
+     */
+    public String getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Gets the highest number of voices of the sound effect that play at once.
+     * @return Returns the highest number of voices of the sound effect that play at once.
+     */
+    public int getMaxVoices() {
+        return maxVoices;
+    }
+}
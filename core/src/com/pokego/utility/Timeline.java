@@ -0,0 +1,158 @@
+package com.pokego.utility;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * A Timeline schedules Tweens, delays and callbacks one after another, e.g. "scroll the text, wait 0.5s, drain the HP bars over 0.8s, then change Phase". Steps are added with tween(), alongside(), delay() and call(), then the Timeline is played by the TweenManager, which updates it every step. Tweens come from the TweenManager's pool, and clear() returns them, so a Timeline can be rebuilt every round without allocating.
+ */
+public class Timeline {
+    private Pool<Tween> pool;
+    private Array<Tween> steps;
+
+    private float time;
+    private float duration; // End time of the last step.
+    private float lastStart; // Start time of the last step, used by alongside().
+    private int unfinished;
+    private int generation; // Changed by clear() and restart(), so that update() stops if a callback rebuilds the Timeline.
+
+    /**
+     * Constructs an empty Timeline. Timelines are created by the TweenManager.
+     * @param pool Pool of Tweens shared by all Timelines of the TweenManager.
+     */
+    Timeline(Pool<Tween> pool) {
+        this.pool = pool;
+        steps = new Array<Tween>(false, 8);
+    }
+
+    /**
+     * Adds a Tween that starts after all previous steps.
+     * @param target TweenTarget to animate.
+     * @param from Start value.
+     * @param to End value.
+     * @param duration Duration in seconds.
+     * @param easing Easing function.
+     * @return Returns this Timeline, to chain steps.
+     */
+    public Timeline tween(TweenTarget target, float from, float to, float duration, Easing easing) {
+        return addStep(this.duration, duration, target, from, to, easing, null, 0);
+    }
+
+    /**
+     * Adds a Tween that starts at the same time as the previous step.
+     * @param target TweenTarget to animate.
+     * @param from Start value.
+     * @param to End value.
+     * @param duration Duration in seconds.
+     * @param easing Easing function.
+     * @return Returns this Timeline, to chain steps.
+     */
+    public Timeline alongside(TweenTarget target, float from, float to, float duration, Easing easing) {
+        return addStep(lastStart, duration, target, from, to, easing, null, 0);
+    }
+
+    /**
+     * Waits before the next step.
+     * @param duration Time to wait in seconds.
+     * @return Returns this Timeline, to chain steps.
+     */
+    public Timeline delay(float duration) {
+        lastStart = this.duration;
+        this.duration += Math.max(0, duration);
+        return this;
+    }
+
+    /**
+     * Adds a callback that is called after all previous steps.
+     * @param callback TweenCallback to call.
+     * @param event Event number passed to the callback.
+     * @return Returns this Timeline, to chain steps.
+     */
+    public Timeline call(TweenCallback callback, int event) {
+        return addStep(this.duration, 0, null, 0, 0, Easing.LINEAR, callback, event);
+    }
+
+    /**
+     * Helper function to add a step from the pool.
+     * @param start Start time of the step in seconds.
+     * @param duration Duration of the step in seconds.
+     * @param target TweenTarget to animate, null for none.
+     * @param from Start value.
+     * @param to End value.
+     * @param easing Easing function.
+     * @param callback TweenCallback to call when the step finishes, null for none.
+     * @param event Event number passed to the callback.
+     * @return Returns this Timeline, to chain steps.
+     */
+    private Timeline addStep(float start, float duration, TweenTarget target, float from, float to, Easing easing, TweenCallback callback, int event) {
+        Tween step = pool.obtain();
+        duration = Math.max(0, duration);
+        step.set(start, duration, target, from, to, easing, callback, event);
+        steps.add(step);
+        unfinished++;
+
+        lastStart = start;
+        this.duration = Math.max(this.duration, start + duration);
+        return this;
+    }
+
+    /**
+     * Removes all steps and returns their Tweens to the pool.
+     */
+    public void clear() {
+        pool.freeAll(steps);
+        steps.clear();
+        time = 0;
+        duration = 0;
+        lastStart = 0;
+        unfinished = 0;
+        generation++;
+    }
+
+    /**
+     * Starts the Timeline again from the beginning, keeping its steps.
+     */
+    void restart() {
+        time = 0;
+        for (int i = 0; i < steps.size; i++) {
+            steps.get(i).restart();
+        }
+        unfinished = steps.size;
+        generation++;
+    }
+
+    /**
+     * Moves the Timeline forward, updating every running step in the order they were added.
+     * @param dt Time to move forward in seconds.
+     */
+    void update(float dt) {
+        time += dt;
+        int currentGeneration = generation;
+        for (int i = 0; i < steps.size; i++) {
+            Tween step = steps.get(i);
+            if (step.update(time)) {
+                unfinished--;
+                step.notifyCallback();
+                if (generation != currentGeneration) {
+                    return; // The callback rebuilt or restarted the Timeline.
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true if every step has finished. False otherwise.
+     * @return Returns true if every step has finished. False otherwise.
+     */
+    public boolean isFinished() {
+        return unfinished == 0 && time >= duration;
+    }
+
+    /**
+     * Gets the total duration of the Timeline.
+     * @return Returns the end time of the last step in seconds.
+     */
+    public float getDuration() {
+        return duration;
+    }
+}
@@ -0,0 +1,90 @@
+package com.pokego.utility;
+
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * A Tween is one step of a Timeline. It moves the value of a TweenTarget from a start value to an end value over a duration with an Easing function, and can call a TweenCallback when it finishes. Tweens are pooled by the TweenManager and reused by every Timeline, so scheduling steps does not allocate once the pool is warm.
+ */
+class Tween implements Pool.Poolable {
+    private float start;
+    private float duration;
+    private float from;
+    private float to;
+    private Easing easing;
+    private TweenTarget target;
+    private TweenCallback callback;
+    private int event;
+    private boolean finished;
+
+    /**
+     * Sets up the Tween.
+     * @param start Time on the Timeline at which the Tween starts, in seconds.
+     * @param duration Duration of the Tween in seconds, 0 to jump to the end value.
+     * @param target TweenTarget to animate, null for none.
+     * @param from Start value.
+     * @param to End value.
+     * @param easing Easing function.
+     * @param callback TweenCallback to call when the Tween finishes, null for none.
+     * @param event Event number passed to the callback.
+     */
+    void set(float start, float duration, TweenTarget target, float from, float to, Easing easing, TweenCallback callback, int event) {
+        this.start = start;
+        this.duration = duration;
+        this.target = target;
+        this.from = from;
+        this.to = to;
+        this.easing = easing;
+        this.callback = callback;
+        this.event = event;
+        finished = false;
+    }
+
+    /**
+     * Updates the target to a time on the Timeline. The Timeline calls notifyCallback() once the Tween finishes.
+     * @param time Time on the Timeline in seconds.
+     * @return Returns true if the Tween finished during this update. False otherwise.
+     */
+    boolean update(float time) {
+        if (finished || time < start) {
+            return false;
+        }
+
+        float progress = duration <= 0 ? 1 : Math.min(1, (time - start) / duration);
+        if (target != null) {
+            target.onTweenUpdate(from + (to - from) * easing.apply(progress));
+        }
+        if (progress < 1) {
+            return false;
+        }
+
+        finished = true;
+        return true;
+    }
+
+    /**
+     * Calls the callback of the Tween, if it has one.
+     */
+    void notifyCallback() {
+        if (callback != null) {
+            callback.onTimelineEvent(event);
+        }
+    }
+
+    /**
+     * Restarts the Tween, so that the Timeline can be played again.
+     */
+    void restart() {
+        finished = false;
+    }
+
+    /**
+     * Clears the Tween before it is returned to the pool.
+     */
+    @Override
+    public void reset() {
+        target = null;
+        callback = null;
+        easing = null;
+        finished = false;
+    }
+}
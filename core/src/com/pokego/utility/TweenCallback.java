@@ -0,0 +1,13 @@
+package com.pokego.utility;
+
+/**
+ * A TweenCallback is called by a Timeline when it reaches a call() step, for example to change to the next Phase.
+ */
+public interface TweenCallback {
+
+    /**
+     * Called when the Timeline reaches the step.
+     * @param event Event number given to call(), so that one callback can handle several steps.
+     */
+    void onTimelineEvent(int event);
+}
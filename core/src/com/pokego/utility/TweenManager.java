@@ -0,0 +1,75 @@
+package com.pokego.utility;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * The TweenManager updates every playing Timeline once per step, and owns the pool of Tweens shared by its Timelines. Finished Timelines stop being updated until they are played again.
+ */
+public class TweenManager {
+    private Pool<Tween> pool;
+    private Array<Timeline> playing;
+
+    /**
+     * Constructs the TweenManager.
+     */
+    public TweenManager() {
+        pool = new Pool<Tween>() {
+            @Override
+            protected Tween newObject() {
+                return new Tween();
+            }
+        };
+        playing = new Array<Timeline>(false, 8);
+    }
+
+    /**
+     * Creates an empty Timeline using the pool of this TweenManager. Timelines are meant to be created once and rebuilt with clear().
+     * @return Returns the new Timeline.
+     */
+    public Timeline createTimeline() {
+        return new Timeline(pool);
+    }
+
+    /**
+     * Plays a Timeline from the beginning.
+     * @param timeline Timeline to play.
+     */
+    public void play(Timeline timeline) {
+        timeline.restart();
+        if (!playing.contains(timeline, true)) {
+            playing.add(timeline);
+        }
+    }
+
+    /**
+     * Stops updating a Timeline.
+     * @param timeline Timeline to stop.
+     */
+    public void stop(Timeline timeline) {
+        playing.removeValue(timeline, true);
+    }
+
+    /**
+     * Moves every playing Timeline forward. Timelines played by a callback during the update start moving on the next update.
+     * @param dt Time to move forward in seconds.
+     */
+    public void update(float dt) {
+        int count = playing.size;
+        for (int i = 0; i < count && i < playing.size; i++) {
+            playing.get(i).update(dt);
+        }
+        for (int i = playing.size - 1; i >= 0; i--) {
+            if (playing.get(i).isFinished()) {
+                playing.removeIndex(i);
+            }
+        }
+    }
+
+    /**
+     * Stops every Timeline.
+     */
+    public void clear() {
+        playing.clear();
+    }
+}
@@ -0,0 +1,13 @@
+package com.pokego.utility;
+
+/**
+ * A TweenTarget is an object whose value can be animated by a Timeline, for example the scroll progress of a GameTextWidget or the health shown by a PlayerUI.
+ */
+public interface TweenTarget {
+
+    /**
+     * Called every step while a Tween on the target runs, and once with the end value when it finishes.
+     * @param value Current value of the Tween.
+     */
+    void onTweenUpdate(float value);
+}
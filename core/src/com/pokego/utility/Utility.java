@@ -3,6 +3,7 @@ package com.pokego.utility;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.pokego.datamodel.GameSprite;
 
 /**
@@ -32,6 +33,24 @@ public class Utility {
         Gdx.gl.glDisable(GL20.GL_BLEND);
     }
 
+    /**
+     * Begins a single filled ShapeRenderer pass with blending, for drawing many GameShapeGroups at once.
+     * @param sr ShapeRenderer
+     */
+    public static void beginShapes(ShapeRenderer sr) {
+        enableShapeRendererBlend();
+        sr.begin(ShapeRenderer.ShapeType.Filled);
+    }
+
+    /**
+     * Ends the ShapeRenderer pass started by beginShapes().
+     * @param sr ShapeRenderer
+     */
+    public static void endShapes(ShapeRenderer sr) {
+        sr.end();
+        disableShapeRendererBlend();
+    }
+
     /**
      * Draw currently selected background GameSprite.
      * @param sb SpriteBatch
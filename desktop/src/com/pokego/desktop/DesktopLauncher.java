@@ -6,6 +6,7 @@ import com.pokego.PokeGo;
 
 /**
  * DesktopLauncher to launch PokeGo
+ * Argument: game logic steps per second, PokeGo.DEFAULT_TICK_RATE if not given.
  */
 public class DesktopLauncher {
 	public static void main (String[] arg) {
@@ -16,6 +17,7 @@ public class DesktopLauncher {
 		config.height = PokeGo.HEIGHT;
 		config.title = PokeGo.TITLE;
 
-		new LwjglApplication(new PokeGo(), config);
+		int tickRate = arg.length > 0 ? Integer.parseInt(arg[0]) : PokeGo.DEFAULT_TICK_RATE;
+		new LwjglApplication(new PokeGo(tickRate), config);
 	}
 }
@@ -0,0 +1,49 @@
+package com.pokego.desktop;
+
+import com.pokego.game.game_data.CharacterDefinition;
+import com.pokego.game.game_engine.MatchupSolver;
+import com.pokego.game.game_engine.MatchupTable;
+import com.pokego.utility.GameDataCatalog;
+
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * MatchupSolverLauncher to solve every 1 vs 1 matchup and write the MatchupTable file. Run with the desktop "solveMatchups" task after changing the Character, Move or type chart data.
+ * Arguments: output file path, "./data/matchups.bin" by default.
+ */
+public class MatchupSolverLauncher {
+	public static void main (String[] arg) {
+		String filePath = arg.length > 0 ? arg[0] : MatchupTable.DEFAULT_PATH;
+
+		GameDataCatalog catalog = GameDataCatalog.getInstance();
+		MatchupSolver solver = new MatchupSolver(catalog.getTypeChart(), catalog.getCharacters());
+		ForkJoinPool pool = new ForkJoinPool();
+
+		long start = System.nanoTime();
+		solver.solveAll(pool);
+		long elapsed = System.nanoTime() - start;
+		pool.shutdown();
+
+		try {
+			solver.write(filePath);
+		} catch (IOException e) {
+			// If write file fails.
+			e.printStackTrace();
+			return;
+		}
+
+		// Print the average value of every Character against all Characters at full health.
+		CharacterDefinition[] characters = solver.getCharacters();
+		for (int first = 0; first < characters.length; first++) {
+			float total = 0;
+			for (int second = 0; second < characters.length; second++) {
+				total += solver.getValue(first, second);
+			}
+			System.out.println(String.format("  %3d %-16s %-6s average value %+.3f", characters[first].getCharacterID(), characters[first].getName(),
+					characters[first].getCharacterType(), total / characters.length));
+		}
+		System.out.println(String.format("Solved %d matchups over %d HP levels in %.1f ms on %d workers, written to %s",
+				characters.length * characters.length, solver.getHpLevelCount(), elapsed / 1e6, pool.getParallelism(), filePath));
+	}
+}
@@ -0,0 +1,76 @@
+package com.pokego.desktop;
+
+import com.pokego.game.game_data.CharacterDefinition;
+import com.pokego.game.game_engine.BattleEngine;
+import com.pokego.game.game_engine.MatchRecord;
+import com.pokego.game.game_engine.ReplayReader;
+import com.pokego.game.game_engine.RoundResult;
+import com.pokego.game.game_phase.PlayerWinner;
+import com.pokego.utility.GameDataCatalog;
+
+import java.io.IOException;
+
+/**
+ * ReplayLauncher to replay a recorded match headless at full speed. Run with the desktop "replay" task, e.g.
+ * gradlew desktop:replay -Pfile=./replays/last_match.replay -Pround=10
+ * Arguments: file path of the replay, relative to the assets folder, and the first round to print. The replay is streamed with the ReplayReader into a BattleEngine, and every HP delta and the winner are checked against the recording, so that changes to the engine can be regression tested on recorded matches. To watch a match in real time instead, press F5 in the game's name entry screen.
+ */
+public class ReplayLauncher {
+	public static void main (String[] arg) throws IOException {
+		String filePath = arg.length > 0 ? arg[0] : MatchRecord.DEFAULT_PATH;
+		int firstPrintedRound = arg.length > 1 ? Integer.parseInt(arg[1]) : 1;
+		GameDataCatalog catalog = GameDataCatalog.getInstance();
+
+		try (ReplayReader reader = new ReplayReader(filePath)) {
+			BattleEngine engine = new BattleEngine(getTeam(catalog, reader, BattleEngine.PLAYER_ONE), getTeam(catalog, reader, BattleEngine.PLAYER_TWO));
+			System.out.println(String.format("Replaying %s, seed %d: %s vs %s, %d rounds", filePath, reader.getSeed(),
+					reader.getName(BattleEngine.PLAYER_ONE), reader.getName(BattleEngine.PLAYER_TWO), reader.getRounds()));
+
+			// Check every round against the engine
+			int mismatches = 0;
+			long start = System.nanoTime();
+			while (reader.nextRound()) {
+				int playerOneHealth = engine.getCurrentHealth(BattleEngine.PLAYER_ONE);
+				int playerTwoHealth = engine.getCurrentHealth(BattleEngine.PLAYER_TWO);
+				RoundResult result = engine.resolveRound(reader.getMove(BattleEngine.PLAYER_ONE), reader.getMove(BattleEngine.PLAYER_TWO));
+				if (playerOneHealth - result.getPlayerOneHealth() != reader.getHpDelta(BattleEngine.PLAYER_ONE)
+						|| playerTwoHealth - result.getPlayerTwoHealth() != reader.getHpDelta(BattleEngine.PLAYER_TWO)) {
+					mismatches++;
+				}
+			}
+			long elapsed = System.nanoTime() - start;
+			PlayerWinner winner = engine.getWinner();
+
+			// Print the log from the chosen round, jumping there through the index
+			reader.seek(firstPrintedRound);
+			while (reader.nextRound()) {
+				System.out.println(String.format("Round %d: moves %d and %d, player 1 lost %d HP, player 2 lost %d HP", reader.getRound(),
+						reader.getMove(BattleEngine.PLAYER_ONE), reader.getMove(BattleEngine.PLAYER_TWO),
+						reader.getHpDelta(BattleEngine.PLAYER_ONE), reader.getHpDelta(BattleEngine.PLAYER_TWO)));
+			}
+
+			System.out.println(String.format("%d rounds in %.2f us, winner: %s, recorded winner: %s, %d mismatched rounds",
+					engine.getRound(), elapsed / 1000.0, winner, reader.getWinner(), mismatches));
+			if (winner != reader.getWinner() || mismatches > 0) {
+				System.out.println("Replay does not match the recording!");
+				System.exit(1);
+			}
+		}
+	}
+
+	/**
+	 * Helper function to get the CharacterDefinitions of a recorded team.
+	 * @param catalog GameDataCatalog holding all Characters.
+	 * @param reader ReplayReader holding the team.
+	 * @param player BattleEngine.PLAYER_ONE or PLAYER_TWO.
+	 * @return Returns the CharacterDefinitions of the team.
+	 */
+	private static CharacterDefinition[] getTeam(GameDataCatalog catalog, ReplayReader reader, int player) {
+		int[] characterIDs = reader.getTeam(player);
+		CharacterDefinition[] team = new CharacterDefinition[characterIDs.length];
+		for (int i = 0; i < team.length; i++) {
+			team[i] = catalog.getCharacterDefinition(characterIDs[i]);
+		}
+		return team;
+	}
+}
@@ -0,0 +1,92 @@
+package com.pokego.desktop;
+
+import com.pokego.game.game_data.CharacterDefinition;
+import com.pokego.game.game_data.Player;
+import com.pokego.game.game_engine.BattleEngine;
+import com.pokego.game.game_engine.GreedyMoveStrategy;
+import com.pokego.game.game_engine.MatchSimulator;
+import com.pokego.game.game_engine.MoveStrategy;
+import com.pokego.game.game_engine.RandomMoveStrategy;
+import com.pokego.game.game_engine.TeamDrafter;
+import com.pokego.game.game_phase.PlayerWinner;
+import com.pokego.utility.GameDataCatalog;
+
+import java.util.Random;
+
+/**
+ * SimulatorLauncher to run headless matches with the MatchSimulator. Run with the desktop "simulate" task, e.g.
+ * gradlew desktop:simulate -Pmatches=10000 -Pseed=42 -PplayerOne=greedy -PplayerTwo=random
+ * Arguments: number of matches, seed, player 1 strategy, player 2 strategy. Strategies are "random" or "greedy".
+ */
+public class SimulatorLauncher {
+	public static void main (String[] arg) {
+		int matches = arg.length > 0 ? Integer.parseInt(arg[0]) : 1;
+		long seed = arg.length > 1 ? Long.parseLong(arg[1]) : System.nanoTime();
+		String playerOneName = arg.length > 2 ? arg[2] : "random";
+		String playerTwoName = arg.length > 3 ? arg[3] : "random";
+
+		Random random = new Random(seed);
+		MoveStrategy playerOneStrategy = createStrategy(playerOneName, random);
+		MoveStrategy playerTwoStrategy = createStrategy(playerTwoName, random);
+		GameDataCatalog catalog = GameDataCatalog.getInstance();
+
+		int playerOneWins = 0;
+		int playerTwoWins = 0;
+		int draws = 0;
+		long totalRounds = 0;
+		MatchSimulator simulator = null;
+
+		long start = System.nanoTime();
+		for (int match = 0; match < matches; match++) {
+			BattleEngine engine = new BattleEngine(draftTeam(catalog, random), draftTeam(catalog, random));
+			simulator = new MatchSimulator(engine, playerOneStrategy, playerTwoStrategy);
+
+			PlayerWinner winner = simulator.run();
+			totalRounds += simulator.getRounds();
+			if (winner == PlayerWinner.PLAYER_ONE) {
+				playerOneWins++;
+			} else if (winner == PlayerWinner.PLAYER_TWO) {
+				playerTwoWins++;
+			} else {
+				draws++;
+			}
+		}
+		long elapsed = System.nanoTime() - start;
+
+		if (matches == 1) {
+			simulator.printLog();
+		}
+		System.out.println(String.format("%d matches, seed %d, %s vs %s", matches, seed, playerOneName, playerTwoName));
+		System.out.println(String.format("Player 1 wins: %d, player 2 wins: %d, draws or unfinished: %d", playerOneWins, playerTwoWins, draws));
+		System.out.println(String.format("Average rounds: %.2f, %.2f us per match", (double) totalRounds / Math.max(1, matches), elapsed / 1000.0 / Math.max(1, matches)));
+	}
+
+	/**
+	 * Helper function to create a MoveStrategy from its name.
+	 * @param name "random" or "greedy".
+	 * @param random Random used by the strategy.
+	 * @return Returns the MoveStrategy, a RandomMoveStrategy for unknown names.
+	 */
+	private static MoveStrategy createStrategy(String name, Random random) {
+		if (name.equals("greedy")) {
+			return new GreedyMoveStrategy();
+		}
+		return new RandomMoveStrategy(random);
+	}
+
+	/**
+	 * Helper function to draft a team like the GameStartState does, with the TeamDrafter.
+	 * @param catalog GameDataCatalog holding all Characters.
+	 * @param random Random used to choose the Characters.
+	 * @return Returns the CharacterDefinitions of the team.
+	 */
+	private static CharacterDefinition[] draftTeam(GameDataCatalog catalog, Random random) {
+		int[] numbersGenerated = TeamDrafter.draft(random, catalog.getCharacterCount(), new int[Player.DEFAULT_NO_CHARACTERS]);
+
+		CharacterDefinition[] team = new CharacterDefinition[numbersGenerated.length];
+		for (int i = 0; i < team.length; i++) {
+			team[i] = catalog.getCharacterDefinition(numbersGenerated[i]);
+		}
+		return team;
+	}
+}
@@ -0,0 +1,40 @@
+package com.pokego.desktop;
+
+import com.pokego.game.game_data.CharacterDefinition;
+import com.pokego.game.game_data.Type;
+import com.pokego.game.game_engine.TournamentRunner;
+import com.pokego.game.game_engine.TournamentStats;
+import com.pokego.utility.GameDataCatalog;
+
+/**
+ * TournamentLauncher to play a tournament of randomly drafted matches on all cores. Run with the desktop "tournament" task, e.g.
+ * gradlew desktop:tournament -Pmatches=1000000 -Pseed=42
+ * Arguments: number of matches, seed.
+ */
+public class TournamentLauncher {
+	public static void main (String[] arg) {
+		long matches = arg.length > 0 ? Long.parseLong(arg[0]) : 1000000;
+		long seed = arg.length > 1 ? Long.parseLong(arg[1]) : System.nanoTime();
+
+		GameDataCatalog catalog = GameDataCatalog.getInstance();
+		TournamentRunner runner = new TournamentRunner(catalog);
+		TournamentStats stats = runner.run(matches, seed);
+
+		System.out.println("Character win rates:");
+		for (CharacterDefinition character : catalog.getCharacters()) {
+			int characterID = character.getCharacterID();
+			System.out.println(String.format("  %3d %-16s %-6s %6.2f%% of %d matches", characterID, character.getName(), character.getCharacterType(),
+					stats.getCharacterWinRate(characterID) * 100, stats.getCharacterGames(characterID)));
+		}
+
+		System.out.println("Type win rates:");
+		for (Type type : Type.values()) {
+			System.out.println(String.format("  %-6s %6.2f%%", type, stats.getTypeWinRate(type) * 100));
+		}
+
+		System.out.println(String.format("%d matches, seed %d, %d draws or unfinished", stats.getMatches(), seed, stats.getDraws()));
+		System.out.println(String.format("Average rounds: %.2f", stats.getAverageRounds()));
+		System.out.println(String.format("%.0f matches/s on %d workers", runner.getMatchesPerSecond(stats), runner.getParallelism()));
+		runner.dispose();
+	}
+}